@@ -50,6 +50,32 @@ public interface AdvancedMessage<E> extends Message<E> {
         return ClientMessage.createAdvancedMessage();
     }
 
+    /**
+     * Creates a new {@link AdvancedMessage} instance from an encoded AMQP message, such as the
+     * payload of a received delivery or one read back from storage, using the library default
+     * implementation.  Sections are decoded only when they are accessed and any section that is
+     * not modified or replaced is sent exactly as it was encoded, if nothing is modified the
+     * encoded message is sent without being copied.  Any {@link DeliveryAnnotations} in the
+     * encoding are not part of the created message and are never sent.
+     * <p>
+     * The created message takes ownership of the given buffer, which the caller must not modify,
+     * close or otherwise use once this method returns.  The message reads its sections from the
+     * buffer for as long as it is in use, unless the sections are not laid out as the specification
+     * requires, in which case they are decoded immediately and the message closes the buffer.
+     *
+     * @param <V> The type to use when specifying the body section value type.
+     *
+     * @param encoded
+     *      The encoded message sections to create the message from.
+     *
+     * @return a new {@link AdvancedMessage} instance backed by the encoded message.
+     *
+     * @throws ClientException if an error occurs while scanning the encoded message.
+     */
+    static <V> AdvancedMessage<V> fromRaw(ProtonBuffer encoded) throws ClientException {
+        return ClientMessage.createFromEncoded(encoded);
+    }
+
     /**
      * Return the current {@link Header} assigned to this message, if none was assigned yet
      * then this method returns <code>null</code>.
@@ -21,8 +21,20 @@ package org.apache.qpid.protonj2.client;
  */
 public class ClientOptions implements Cloneable {
 
+    /**
+     * The default value for using a shared IO context for all connections created by the client.
+     */
+    public static final boolean DEFAULT_SHARED_IO = true;
+
+    /**
+     * The default number of IO threads a shared IO context will use for client connections.
+     */
+    public static final int DEFAULT_SHARED_IO_THREADS = Runtime.getRuntime().availableProcessors();
+
     private String id;
     private String futureType;
+    private boolean sharedIO = DEFAULT_SHARED_IO;
+    private int sharedIOThreads = DEFAULT_SHARED_IO_THREADS;
 
     /**
      * Create a new ClientOptions instance with defaults set for all options.
@@ -83,6 +95,55 @@ public class ClientOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * @return true if the connections created by the client share a common pool of IO threads.
+     */
+    public boolean sharedIO() {
+        return sharedIO;
+    }
+
+    /**
+     * Controls if the connections created by the client share a common IO context whose threads
+     * service the IO of many connections or if each connection creates its own IO thread. When
+     * enabled each new connection is assigned one of the shared IO threads and all of its work
+     * will be performed on that thread for the life of the connection.
+     *
+     * @param sharedIO
+     *      should connections use a shared IO context (default is true).
+     *
+     * @return this options object for chaining.
+     */
+    public ClientOptions sharedIO(boolean sharedIO) {
+        this.sharedIO = sharedIO;
+        return this;
+    }
+
+    /**
+     * @return the number of IO threads that the shared IO context can create.
+     */
+    public int sharedIOThreads() {
+        return sharedIOThreads;
+    }
+
+    /**
+     * Sets the number of IO threads that the client shared IO context can create to service
+     * the connections created by the client, connections are spread across the threads as they
+     * are created.  This value has no effect when shared IO is disabled.
+     *
+     * @param sharedIOThreads
+     *      the number of IO threads the shared IO context can use (defaults to available processors).
+     *
+     * @return this options object for chaining.
+     */
+    public ClientOptions sharedIOThreads(int sharedIOThreads) {
+        if (sharedIOThreads <= 0) {
+            throw new IllegalArgumentException("The number of shared IO threads must be greater than zero");
+        }
+
+        this.sharedIOThreads = sharedIOThreads;
+        return this;
+    }
+
     @Override
     public ClientOptions clone() {
         return copyInto(new ClientOptions());
@@ -100,6 +161,8 @@ public class ClientOptions implements Cloneable {
     protected ClientOptions copyInto(ClientOptions other) {
         other.id(id);
         other.futureType(futureType);
+        other.sharedIO(sharedIO);
+        other.sharedIOThreads(sharedIOThreads);
 
         return other;
     }
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.exceptions.ClientSendTimedOutException;
 import org.apache.qpid.protonj2.types.transport.Open;
@@ -50,6 +51,7 @@ public class ConnectionOptions implements Cloneable {
     public static final long DEFAULT_DRAIN_TIMEOUT = 60000;
     public static final int DEFAULT_CHANNEL_MAX = 65535;
     public static final int DEFAULT_MAX_FRAME_SIZE = 65536;
+    public static final int DEFAULT_OUTPUT_BATCH_SIZE = 65536;
     public static final NextReceiverPolicy DEFAULT_NEXT_RECEIVER_POLICY = NextReceiverPolicy.ROUND_ROBIN;
 
     private long sendTimeout = DEFAULT_SEND_TIMEOUT;
@@ -68,6 +70,8 @@ public class ConnectionOptions implements Cloneable {
     private String password;
     private int channelMax = DEFAULT_CHANNEL_MAX;
     private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+    private int outputBatchSize = DEFAULT_OUTPUT_BATCH_SIZE;
+    private ProtonBufferAllocator bufferAllocator;
     private String[] offeredCapabilities;
     private String[] desiredCapabilities = DEFAULT_DESIRED_CAPABILITIES_ARRAY;
     private Map<String, Object> properties;
@@ -122,6 +126,8 @@ public class ConnectionOptions implements Cloneable {
         other.drainTimeout(drainTimeout);
         other.channelMax(channelMax);
         other.maxFrameSize(maxFrameSize);
+        other.outputBatchSize(outputBatchSize);
+        other.bufferAllocator(bufferAllocator);
         other.user(user);
         other.password(password);
         other.traceFrames(traceFrames);
@@ -626,6 +632,61 @@ public class ConnectionOptions implements Cloneable {
         return this.traceFrames;
     }
 
+    /**
+     * Configures the maximum number of bytes of encoded AMQP frames that the connection will aggregate
+     * into a single write to the IO layer.  Frames produced while processing a single batch of incoming
+     * bytes or while running a single connection task are combined into as few writes as possible and
+     * the IO layer is flushed once at the end.  Output batching is enabled by default with a limit of
+     * {@value #DEFAULT_OUTPUT_BATCH_SIZE} bytes, setting the value to zero disables it and each frame is
+     * then written individually as it is produced.
+     *
+     * @param outputBatchSize
+     *      The maximum number of bytes to aggregate into one write or zero to disable batching.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions outputBatchSize(int outputBatchSize) {
+        if (outputBatchSize < 0) {
+            throw new IllegalArgumentException("Output batch size cannot be negative");
+        }
+
+        this.outputBatchSize = outputBatchSize;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of bytes the connection will aggregate into one write, zero if disabled.
+     */
+    public int outputBatchSize() {
+        return outputBatchSize;
+    }
+
+    /**
+     * Configures the {@link ProtonBufferAllocator} that the connection's AMQP engine uses when
+     * allocating buffers for encoding outgoing frames, and that {@link org.apache.qpid.protonj2.client.Sender}
+     * instances use when encoding the payloads of the messages they send.  Streamed message
+     * payloads are not allocated from it.  When not set the engine uses the allocator provided
+     * by the IO transport and senders use the default heap allocator.  A pooling allocator such as the
+     * {@link org.apache.qpid.protonj2.buffer.impl.ProtonPooledBufferAllocator} can be supplied
+     * here to reduce allocation and garbage collection overhead on high throughput connections.
+     *
+     * @param bufferAllocator
+     *      The buffer allocator to use or null to use the transport provided allocator.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions bufferAllocator(ProtonBufferAllocator bufferAllocator) {
+        this.bufferAllocator = bufferAllocator;
+        return this;
+    }
+
+    /**
+     * @return the configured buffer allocator or null if the transport provided allocator is used.
+     */
+    public ProtonBufferAllocator bufferAllocator() {
+        return bufferAllocator;
+    }
+
     /**
      * @return true if SSL support has been enabled for this connection.
      */
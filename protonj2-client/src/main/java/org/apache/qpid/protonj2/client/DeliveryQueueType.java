@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+/**
+ * Selects the queue implementation a {@link Receiver} uses to hold deliveries that
+ * have arrived from the remote until the application receives them.
+ */
+public enum DeliveryQueueType {
+
+    /**
+     * A first in / first out queue guarded by a monitor lock, suited to receivers that
+     * are consumed by a single application thread at modest message rates.
+     */
+    FIFO,
+
+    /**
+     * A bounded lock-free queue whose waiting consumers are parked and unparked directly,
+     * which avoids contention between the connection IO thread and consuming threads.
+     */
+    LOCK_FREE
+
+}
@@ -16,8 +16,11 @@
  */
 package org.apache.qpid.protonj2.client;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 
@@ -96,6 +99,61 @@ public interface Receiver extends Link<Receiver> {
      */
     Delivery tryReceive() throws ClientException;
 
+    /**
+     * Non-blocking receive method that returns a {@link CompletionStage} which is completed with
+     * the next {@link Delivery} that arrives from the remote, or immediately if one is already
+     * available locally. The stage is failed if the {@link Receiver} is closed or fails before a
+     * {@link Delivery} arrives. Multiple calls to this method are completed in the order they were
+     * made and ahead of any {@link #receive()} call that is waiting for a new {@link Delivery}.
+     * <p>
+     * The returned stage is completed from the connection IO thread and any non-async dependent
+     * stages will also run on that thread, such stages must not perform blocking client operations.
+     * As with the blocking receive methods this method does not grant credit unless a credit window
+     * has been configured in the {@link ReceiverOptions}.
+     *
+     * @return a {@link CompletionStage} that is completed with the next {@link Delivery} from the remote.
+     */
+    CompletionStage<Delivery> receiveAsync();
+
+    /**
+     * Sets a listener that is handed each {@link Delivery} as it arrives instead of the delivery being
+     * queued for a receive call, any deliveries already queued locally are handed to the listener
+     * once it has been set. Setting the listener to null restores queuing of incoming deliveries for
+     * the receive methods. While a listener is set any calls to the receive methods will fail.
+     * <p>
+     * The listener is invoked from the connection IO thread and must not block or perform blocking
+     * client operations. The auto accept setting in the {@link ReceiverOptions} is applied before the
+     * delivery is handed to the listener, exceptions thrown from the listener are logged and otherwise
+     * ignored.
+     *
+     * @param listener
+     *      The listener that will be handed each incoming {@link Delivery} or null to clear it.
+     *
+     * @return this {@link Receiver} instance.
+     *
+     * @throws ClientException if the {@link Receiver} or its parent is closed when the listener is set.
+     */
+    Receiver deliveryListener(Consumer<Delivery> listener) throws ClientException;
+
+    /**
+     * Returns a {@link Flow.Publisher} view of this {@link Receiver} whose subscriber demand is mapped
+     * directly onto link credit, each {@link Flow.Subscription#request(long)} call grants the requested
+     * amount of credit to the remote so that no more deliveries arrive than the subscriber asked for.
+     * Only one subscriber may be attached at a time and the {@link Receiver} must have been created
+     * without a credit window, otherwise the subscriber is signalled an error. While a subscriber is
+     * attached the receive methods will fail.
+     * <p>
+     * Subscriber signals are issued from the connection IO thread and must not block or perform blocking
+     * client operations. The auto accept setting in the {@link ReceiverOptions} is applied before each
+     * {@link Delivery} is handed to the subscriber. The subscriber is completed when the {@link Receiver}
+     * is closed and signalled an error if the {@link Receiver} fails or is remotely closed with an error.
+     * Cancelling the subscription leaves any unused credit in place and deliveries that subsequently
+     * arrive are queued for the receive methods.
+     *
+     * @return a {@link Flow.Publisher} that publishes the deliveries that arrive on this {@link Receiver}.
+     */
+    Flow.Publisher<Delivery> asPublisher();
+
     /**
      * Requests the remote to drain previously granted credit for this {@link Receiver} link.
      *
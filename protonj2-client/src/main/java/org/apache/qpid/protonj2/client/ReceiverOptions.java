@@ -23,9 +23,17 @@ import java.util.concurrent.TimeUnit;
  */
 public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Cloneable {
 
+    public static final int DEFAULT_DISPOSITION_COALESCING_LIMIT = 0;
+    public static final long DEFAULT_DISPOSITION_COALESCING_DELAY = 5;
+    public static final DeliveryQueueType DEFAULT_DELIVERY_QUEUE_TYPE = DeliveryQueueType.FIFO;
+
     private long drainTimeout = ConnectionOptions.DEFAULT_DRAIN_TIMEOUT;
     private boolean autoAccept = true;
     private int creditWindow = 10;
+    private int dispositionCoalescingLimit = DEFAULT_DISPOSITION_COALESCING_LIMIT;
+    private long dispositionCoalescingDelay = DEFAULT_DISPOSITION_COALESCING_DELAY;
+    private DeliveryQueueType deliveryQueueType = DEFAULT_DELIVERY_QUEUE_TYPE;
+    private boolean lazyMessageDecoding;
 
     /**
      * Create a new ReceiverOptions instance with defaults set for all options.
@@ -128,6 +136,116 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
         return this;
     }
 
+    /**
+     * Configures the maximum number of deliveries whose dispositions (accept, reject, release etc.)
+     * the {@link Receiver} can combine into a single ranged disposition frame.  When enabled the
+     * dispositions applied to consecutive deliveries with the same outcome and settlement state are
+     * held and written together once the limit is reached, the coalescing delay expires or an outcome
+     * that cannot be combined is applied.  A value of zero or one disables coalescing (the default).
+     *
+     * @param dispositionCoalescingLimit
+     *      The maximum number of deliveries whose dispositions can be combined into one frame.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions dispositionCoalescingLimit(int dispositionCoalescingLimit) {
+        if (dispositionCoalescingLimit < 0) {
+            throw new IllegalArgumentException("Disposition coalescing limit cannot be negative");
+        }
+
+        this.dispositionCoalescingLimit = dispositionCoalescingLimit;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of deliveries whose dispositions can be combined into one frame.
+     */
+    public int dispositionCoalescingLimit() {
+        return dispositionCoalescingLimit;
+    }
+
+    /**
+     * Configures the time that dispositions held for coalescing can wait for dispositions applied to
+     * later deliveries before being written, only used when the disposition coalescing limit enables
+     * coalescing.  A value of zero limits coalescing to dispositions applied within a single batch of
+     * connection work such as a bulk settlement.
+     *
+     * @param delay
+     *      The time that a held disposition can wait before being written.
+     * @param units
+     *      The {@link TimeUnit} that defines the delay span.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions dispositionCoalescingDelay(long delay, TimeUnit units) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Disposition coalescing delay cannot be negative");
+        }
+
+        this.dispositionCoalescingDelay = units.toMillis(delay);
+        return this;
+    }
+
+    /**
+     * @return the time in milliseconds that a held disposition can wait before being written.
+     */
+    public long dispositionCoalescingDelay() {
+        return dispositionCoalescingDelay;
+    }
+
+    /**
+     * Configures the type of queue the {@link Receiver} uses to hold incoming deliveries until they
+     * are received by the application, the default is a {@link DeliveryQueueType#FIFO} queue.  Receivers
+     * that are consumed at high rates or from several threads can select {@link DeliveryQueueType#LOCK_FREE}
+     * to avoid contention between the connection IO thread and the receiving threads.
+     *
+     * @param deliveryQueueType
+     *      The type of delivery queue that the {@link Receiver} should use.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions deliveryQueueType(DeliveryQueueType deliveryQueueType) {
+        if (deliveryQueueType == null) {
+            throw new IllegalArgumentException("Delivery queue type cannot be null");
+        }
+
+        this.deliveryQueueType = deliveryQueueType;
+        return this;
+    }
+
+    /**
+     * @return the type of delivery queue that the {@link Receiver} will use.
+     */
+    public DeliveryQueueType deliveryQueueType() {
+        return deliveryQueueType;
+    }
+
+    /**
+     * Controls if the {@link Message} returned from {@link Delivery#message()} decodes the sections of
+     * the received message only when they are first accessed (default is <code>false</code>).  When
+     * enabled the delivery payload is scanned once to find where each section is encoded, a single
+     * application property or message annotation can then be read without decoding the rest of its
+     * section and any section that is not modified is sent exactly as it was received if the message
+     * is forwarded with a {@link Sender}.  Errors in the encoding of a section are not reported until
+     * that section is accessed.
+     *
+     * @param lazyMessageDecoding
+     *      Should received messages be decoded on demand.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions lazyMessageDecoding(boolean lazyMessageDecoding) {
+        this.lazyMessageDecoding = lazyMessageDecoding;
+        return this;
+    }
+
+    /**
+     * @return true if the {@link Receiver} decodes the sections of received messages on demand.
+     */
+    public boolean lazyMessageDecoding() {
+        return lazyMessageDecoding;
+    }
+
     @Override
     public ReceiverOptions clone() {
         return copyInto(new ReceiverOptions());
@@ -148,6 +266,10 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
         other.autoAccept(autoAccept);
         other.creditWindow(creditWindow);
         other.drainTimeout(drainTimeout);
+        other.dispositionCoalescingLimit(dispositionCoalescingLimit);
+        other.dispositionCoalescingDelay(dispositionCoalescingDelay, TimeUnit.MILLISECONDS);
+        other.deliveryQueueType(deliveryQueueType);
+        other.lazyMessageDecoding(lazyMessageDecoding);
 
         return other;
     }
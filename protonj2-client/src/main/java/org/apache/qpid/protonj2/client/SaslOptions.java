@@ -21,6 +21,8 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import org.apache.qpid.protonj2.engine.sasl.client.ScramCredentialsCache;
+
 /**
  * Connection options that are applied to the SASL layer.
  */
@@ -33,6 +35,7 @@ public class SaslOptions {
 
     private boolean saslEnabled = DEFAULT_SASL_ENABLED;
     private final Set<String> saslAllowedMechs = new LinkedHashSet<>();
+    private ScramCredentialsCache scramCredentialsCache;
 
     /**
      * Create a new {@link SaslOptions} instance configured with default configuration settings.
@@ -86,6 +89,31 @@ public class SaslOptions {
         return Collections.unmodifiableSet(saslAllowedMechs);
     }
 
+    /**
+     * @return the {@link ScramCredentialsCache} used by the SCRAM-SHA mechanisms or null if none is configured.
+     */
+    public ScramCredentialsCache scramCredentialsCache() {
+        return scramCredentialsCache;
+    }
+
+    /**
+     * Configures a cache of the keys that the SCRAM-SHA mechanisms derive from the user credentials.
+     * Computing these keys requires the number of hashing rounds the server requests, which can be
+     * thousands, for every authentication.  When many connections authenticate with the same
+     * credentials, such as during a reconnect of many connections to a broker, sharing one cache
+     * between their options means only the first authentication performs that computation.  By
+     * default no cache is used.
+     *
+     * @param scramCredentialsCache
+     * 		The {@link ScramCredentialsCache} that the SCRAM-SHA mechanisms should use (or null to disable).
+     *
+     * @return this options object for chaining.
+     */
+    public SaslOptions scramCredentialsCache(ScramCredentialsCache scramCredentialsCache) {
+        this.scramCredentialsCache = scramCredentialsCache;
+        return this;
+    }
+
     /**
      * Copy all configuration into the given {@link SaslOptions} from this instance.
      *
@@ -97,6 +125,7 @@ public class SaslOptions {
     public SaslOptions copyInto(SaslOptions other) {
         other.saslEnabled(saslEnabled());
         other.saslAllowedMechs.addAll(saslAllowedMechs);
+        other.scramCredentialsCache(scramCredentialsCache());
 
         return other;
     }
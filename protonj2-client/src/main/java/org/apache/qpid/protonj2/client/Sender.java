@@ -17,6 +17,8 @@
 package org.apache.qpid.protonj2.client;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 
@@ -105,4 +107,53 @@ public interface Sender extends Link<Sender> {
      */
     Tracker trySend(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException;
 
+    /**
+     * Send the given message without blocking the calling thread, the returned {@link CompletionStage}
+     * is completed once the message has been written or is failed if the send cannot be performed.
+     * If the link currently has no credit the send is held until credit is granted or the configured
+     * send timeout expires, in which case the stage is failed with a send timed out exception.
+     * <p>
+     * The returned stage is completed from the connection IO thread and any non-async dependent
+     * stages will also run on that thread, such stages must not perform blocking client operations.
+     *
+     * @param message
+     *      the {@link Message} to send.
+     *
+     * @return a {@link CompletionStage} that provides the {@link Tracker} for the message delivery.
+     */
+    CompletionStage<Tracker> sendAsync(Message<?> message);
+
+    /**
+     * Send the given message along with the provided delivery annotations without blocking the calling
+     * thread, the returned {@link CompletionStage} is completed once the message has been written or is
+     * failed if the send cannot be performed. If the link currently has no credit the send is held until
+     * credit is granted or the configured send timeout expires, in which case the stage is failed with a
+     * send timed out exception.
+     * <p>
+     * The returned stage is completed from the connection IO thread and any non-async dependent
+     * stages will also run on that thread, such stages must not perform blocking client operations.
+     *
+     * @param message
+     *      the {@link Message} to send.
+     * @param deliveryAnnotations
+     *      the delivery annotations that should be included in the sent {@link Message}.
+     *
+     * @return a {@link CompletionStage} that provides the {@link Tracker} for the message delivery.
+     */
+    CompletionStage<Tracker> sendAsync(Message<?> message, Map<String, Object> deliveryAnnotations);
+
+    /**
+     * Returns a {@link Flow.Subscriber} that sends each {@link Message} it is handed on this {@link Sender}
+     * and whose demand follows the link credit, the upstream publisher is only asked for as many messages
+     * as the remote has granted credit for and further demand is signalled as new credit arrives. Only one
+     * subscriber may be active on the {@link Sender} at a time, any other subscription is cancelled.
+     * <p>
+     * The upstream subscription is cancelled if a send fails or the {@link Sender} is closed, completion
+     * or failure of the upstream publisher leaves the {@link Sender} open for the application to close.
+     * Demand is requested from the connection IO thread.
+     *
+     * @return a {@link Flow.Subscriber} that sends the messages it is handed on this {@link Sender}.
+     */
+    Flow.Subscriber<Message<?>> asSubscriber();
+
 }
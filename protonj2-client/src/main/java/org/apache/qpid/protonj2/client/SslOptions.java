@@ -34,6 +34,7 @@ public class SslOptions implements Cloneable {
     public static final List<String> DEFAULT_DISABLED_PROTOCOLS = Collections.unmodifiableList(Arrays.asList(new String[]{"SSLv2Hello", "SSLv3"}));
     public static final int DEFAULT_SSL_PORT = 5671;
     public static final boolean DEFAULT_ALLOW_NATIVE_SSL = false;
+    public static final boolean DEFAULT_CACHE_SSL_CONTEXT = true;
 
     private static final String JAVAX_NET_SSL_KEY_STORE = "javax.net.ssl.keyStore";
     private static final String JAVAX_NET_SSL_KEY_STORE_TYPE = "javax.net.ssl.keyStoreType";
@@ -61,6 +62,7 @@ public class SslOptions implements Cloneable {
     private SSLContext sslContextOverride;
     private boolean sslEnabled;
     private boolean allowNativeSSL = DEFAULT_ALLOW_NATIVE_SSL;
+    private boolean cacheSslContext = DEFAULT_CACHE_SSL_CONTEXT;
 
     public SslOptions() {
         keyStoreLocation(System.getProperty(JAVAX_NET_SSL_KEY_STORE));
@@ -417,6 +419,29 @@ public class SslOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * @return true if the SSL context created from these options is cached and shared with other connections.
+     */
+    public boolean cacheSslContext() {
+        return cacheSslContext;
+    }
+
+    /**
+     * Controls if the SSL context created from these options is cached and shared by all connections
+     * created with the same SSL configuration.  Sharing the context avoids reloading the key and trust
+     * stores on each connect and allows reconnects to the same host and port to resume their earlier
+     * TLS session with an abbreviated handshake.
+     *
+     * @param cacheSslContext
+     * 		Configure if the SSL context should be cached and shared between connections.
+     *
+     * @return this options object.
+     */
+    public SslOptions cacheSslContext(boolean cacheSslContext) {
+        this.cacheSslContext = cacheSslContext;
+        return this;
+    }
+
     /**
      * Copy all configuration into the given {@link SslOptions} from this instance.
      *
@@ -444,6 +469,7 @@ public class SslOptions implements Cloneable {
         other.defaultSslPort(defaultSslPort());
         other.sslContextOverride(sslContextOverride());
         other.allowNativeSSL(allowNativeSSL());
+        other.cacheSslContext(cacheSslContext());
 
         return other;
     }
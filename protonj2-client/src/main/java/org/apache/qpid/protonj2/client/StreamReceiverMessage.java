@@ -17,7 +17,14 @@
 package org.apache.qpid.protonj2.client;
 
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Footer;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
@@ -54,4 +61,41 @@ public interface StreamReceiverMessage extends AdvancedMessage<InputStream> {
      */
     boolean completed();
 
+    /**
+     * Reads the next chunk of the message body as a read-only {@link ProtonBuffer} that shares the
+     * memory of the received {@link Transfer} payloads, blocking until more of the delivery arrives
+     * if none of the body is currently available.  Each chunk covers the body bytes that have arrived
+     * so far up to the end of the current AMQP {@link Data} section and never spans two sections.
+     * <p>
+     * The caller must close each returned buffer once it has been consumed so that the payload it
+     * covers can be released.  Once the end of the body is reached this method returns null and the
+     * remainder of the message, such as any {@link Footer}, is decoded.  The body bytes read through
+     * this method are not available from the {@link InputStream} returned from {@link #body()} and
+     * the reverse is also true, both consume the same body.
+     *
+     * @return a read-only buffer holding the next chunk of the message body or null if no bytes remain.
+     *
+     * @throws ClientIllegalStateException if the body has already been fully read.
+     * @throws ClientException if the body is not comprised of {@link Data} sections or an error occurs while reading.
+     */
+    ProtonBuffer readBodyChunk() throws ClientException;
+
+    /**
+     * Writes the remaining bytes of the message body to the given {@link WritableByteChannel},
+     * blocking until the remainder of the delivery has arrived and been written.  The received
+     * {@link Transfer} payloads are written from the buffers they were read into, using gathering
+     * writes when the channel supports them such as with a {@link FileChannel}, and released as
+     * soon as they are written.  On return the remainder of the message, such as any {@link Footer},
+     * has been decoded.
+     *
+     * @param channel
+     *      The {@link WritableByteChannel} that the message body is written to.
+     *
+     * @return the number of body bytes that were written to the channel.
+     *
+     * @throws ClientIllegalStateException if the body has already been fully read.
+     * @throws ClientException if the body is not comprised of {@link Data} sections or an error occurs while writing.
+     */
+    long transferTo(WritableByteChannel channel) throws ClientException;
+
 }
@@ -17,6 +17,8 @@
 package org.apache.qpid.protonj2.client;
 
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
@@ -135,4 +137,50 @@ public interface StreamSenderMessage extends AdvancedMessage<OutputStream> {
      */
     OutputStream rawOutputStream() throws ClientException;
 
+    /**
+     * Writes the given region of a {@link FileChannel} as the payload of the message body, the bytes
+     * are encoded in a single AMQP {@link Data} section unless the length exceeds the maximum size of
+     * one section in which case as many sections as needed are written.
+     * <p>
+     * The file contents are read directly into the buffers that the connection transport writes from
+     * so the bytes are not staged in intermediate heap arrays as they are when written through an
+     * {@link OutputStream}.  Each chunk read from the file is sent before the next is read and so the
+     * method blocks, as the {@link OutputStream} writes do, while the session window or link credit
+     * does not allow more of the message to be sent.  The message is not completed once the region
+     * has been written, additional body sections can be written or the message completed by calling
+     * {@link #complete()}.  The position of the channel is not modified.
+     *
+     * @param channel
+     *      The {@link FileChannel} to read the message body from.
+     * @param position
+     *      The position in the file of the first byte of the message body.
+     * @param length
+     *      The number of bytes of the file to write as the message body.
+     *
+     * @return this {@link StreamSenderMessage} instance.
+     *
+     * @throws ClientException if an error occurs while reading from the file or sending the message body.
+     */
+    StreamSenderMessage body(FileChannel channel, long position, long length) throws ClientException;
+
+    /**
+     * Writes all the bytes that can be read from the given {@link ReadableByteChannel} until it reaches
+     * the end of stream as the payload of the message body.  As the length of the body is not known
+     * ahead of time each chunk read from the channel is written as its own AMQP {@link Data} section.
+     * <p>
+     * The bytes are read directly into the buffers that the connection transport writes from and each
+     * chunk is sent before the next is read, the method blocks while the session window or link credit
+     * does not allow more of the message to be sent.  The channel is expected to be in blocking mode.
+     * The message is not completed once the end of stream is reached, additional body sections can
+     * be written or the message completed by calling {@link #complete()}.
+     *
+     * @param channel
+     *      The {@link ReadableByteChannel} to read the message body from.
+     *
+     * @return this {@link StreamSenderMessage} instance.
+     *
+     * @throws ClientException if an error occurs while reading from the channel or sending the message body.
+     */
+    StreamSenderMessage body(ReadableByteChannel channel) throws ClientException;
+
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.futures;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+
+/**
+ * {@link AsyncResult} implementation that completes a {@link CompletionStage} instead of
+ * blocking a waiting thread. The result is completed from whichever thread completes the
+ * operation, which for client resources is normally the connection IO thread, and any
+ * dependent stages that were not registered as async will run on that thread as well.
+ *
+ * @param <V> Type used to complete the stage.
+ */
+public final class CompletableAsyncResult<V> implements AsyncResult<V> {
+
+    private final CompletableFuture<V> future = new CompletableFuture<>();
+
+    @Override
+    public void failed(ClientException result) {
+        future.completeExceptionally(result);
+    }
+
+    @Override
+    public void complete(V result) {
+        future.complete(result);
+    }
+
+    @Override
+    public boolean isComplete() {
+        return future.isDone();
+    }
+
+    /**
+     * Returns a {@link CompletionStage} view of this result which cannot be used to complete
+     * the underlying operation result.
+     *
+     * @return a {@link CompletionStage} that is completed when this result completes.
+     */
+    public CompletionStage<V> stage() {
+        return future.minimalCompletionStage();
+    }
+}
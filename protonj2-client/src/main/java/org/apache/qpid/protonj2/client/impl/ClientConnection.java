@@ -21,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.security.Principal;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -69,6 +70,7 @@ import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EngineFactory;
 import org.apache.qpid.protonj2.engine.Scheduler;
+import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslAuthenticator;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslCredentialsProvider;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslMechanismSelector;
@@ -138,9 +140,9 @@ public final class ClientConnection implements Connection {
         this.openFuture = futureFactory.createFuture();
         this.closeFuture = futureFactory.createFuture();
         this.sessionBuilder = new ClientSessionBuilder(this);
-        this.ioContext = IOContext.create(options.transportOptions(), options.sslOptions(),
-                                          "ClientConnection :(" + connectionId + "): I/O Thread");
-        this.executor = ioContext.ioScheduler();
+        this.ioContext = client.createIOContext(options, connectionId);
+        this.executor = options.outputBatchSize() > 0 ?
+            new OutputBatchingScheduler(ioContext.ioScheduler()) : ioContext.ioScheduler();
 
         // This executor can be used for dispatching asynchronous tasks that might block or result
         // in reentrant calls to this Connection that could block.
@@ -831,7 +833,8 @@ public final class ClientConnection implements Connection {
     private Engine configureEngineSaslSupport() {
         if (options.saslOptions().saslEnabled()) {
             SaslMechanismSelector mechSelector =
-                new SaslMechanismSelector(ClientConversionSupport.toSymbolSet(options.saslOptions().allowedMechanisms()));
+                new SaslMechanismSelector(ClientConversionSupport.toSymbolSet(options.saslOptions().allowedMechanisms()),
+                                          options.saslOptions().scramCredentialsCache());
 
             engine.saslDriver().client().setListener(new SaslAuthenticator(mechSelector, new SaslCredentialsProvider() {
 
@@ -874,6 +877,7 @@ public final class ClientConnection implements Connection {
             }
         }
 
+        engine.configuration().setOutputBatchSize(options.outputBatchSize());
         engine.outputHandler(this::handleEngineOutput)
               .shutdownHandler(this::handleEngineShutdown)
               .errorHandler(this::handleEngineFailure);
@@ -1069,4 +1073,100 @@ public final class ClientConnection implements Connection {
 
         return nextReconnectDelay;
     }
+
+    //----- Connection scheduler that batches engine output per task
+
+    /*
+     * Corks the current engine around each task run on the connection's IO scheduler so
+     * that all frames a task produces are aggregated and written (and flushed) once when
+     * the task completes.  Output produced while processing incoming bytes is batched by
+     * the engine itself.
+     */
+    private final class OutputBatchingScheduler implements Scheduler {
+
+        private final Scheduler delegate;
+
+        public OutputBatchingScheduler(Scheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(corked(command));
+        }
+
+        @Override
+        public Future<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return delegate.schedule(corked(command), delay, unit);
+        }
+
+        @Override
+        public <V> Future<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
+            return delegate.schedule(corked(task), delay, unit);
+        }
+
+        @Override
+        public Future<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            return delegate.scheduleAtFixedRate(corked(command), initialDelay, period, unit);
+        }
+
+        @Override
+        public Future<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            return delegate.scheduleWithFixedDelay(corked(command), initialDelay, delay, unit);
+        }
+
+        private Runnable corked(Runnable command) {
+            Objects.requireNonNull(command, "Cannot schedule a null task");
+
+            return () -> {
+                // The engine can be replaced by a task (reconnect) so the one corked is uncorked
+                final Engine current = cork();
+
+                try {
+                    command.run();
+                } finally {
+                    uncork(current);
+                }
+            };
+        }
+
+        private <V> Callable<V> corked(Callable<V> task) {
+            Objects.requireNonNull(task, "Cannot schedule a null task");
+
+            return () -> {
+                final Engine current = cork();
+
+                try {
+                    return task.call();
+                } finally {
+                    uncork(current);
+                }
+            };
+        }
+
+        private Engine cork() {
+            final Engine current = engine;
+
+            if (current != null) {
+                current.cork();
+            }
+
+            return current;
+        }
+
+        private void uncork(Engine current) {
+            if (current != null) {
+                try {
+                    current.uncork();
+                } catch (EngineStateException ignored) {
+                    // Engine handlers will ensure we close down if not already locally closed.
+                }
+            }
+        }
+    }
 }
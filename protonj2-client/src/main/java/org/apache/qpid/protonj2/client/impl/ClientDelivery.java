@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
 import org.apache.qpid.protonj2.client.Delivery;
 import org.apache.qpid.protonj2.client.Message;
@@ -35,7 +36,7 @@ import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
  */
 public final class ClientDelivery extends ClientDeliverable<ClientDelivery, ClientReceiver> implements Delivery {
 
-    private final ProtonBuffer payload;
+    private ProtonBuffer payload;
 
     private DeliveryAnnotations deliveryAnnotations;
     private Message<?> cachedMessage;
@@ -74,9 +75,19 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
         }
 
         Message<E> message = (Message<E>) cachedMessage;
-        if (message == null && payload.isReadable()) {
-            try (payload) {
-                message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessage(payload, this::deliveryAnnotations));
+        if (message == null && payload != null && payload.isReadable() && receiver.receiverOptions().lazyMessageDecoding()) {
+            // The message keeps the payload to decode its sections on demand so it is given a heap
+            // copy rather than the retained IO layer view which would otherwise never be released.
+            try (ProtonBuffer encoded = payload) {
+                payload = null;
+                message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessageLazily(
+                    ProtonBufferAllocator.defaultAllocator().allocateHeapBuffer(encoded.getReadableBytes()).writeBytes(encoded),
+                    this::deliveryAnnotations));
+            }
+        } else if (message == null && payload != null && payload.isReadable()) {
+            try (ProtonBuffer encoded = payload) {
+                payload = null;
+                message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessage(encoded, this::deliveryAnnotations));
             }
         }
 
@@ -90,8 +101,9 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
         }
 
         if (rawInputStream == null) {
-            try (payload) {
-                rawInputStream = new ProtonBufferInputStream(payload);
+            try (ProtonBuffer encoded = payload) {
+                payload = null;
+                rawInputStream = new ProtonBufferInputStream(encoded);
             }
         }
 
@@ -111,6 +123,20 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
 
     //----- Internal API not meant to be used from outside the client package.
 
+    /*
+     * Called when a delivery is dropped without having been handed to the application, the payload
+     * may be a retained view of IO layer memory which is released here as it will never be read.
+     */
+    void discard() {
+        if (payload != null) {
+            try {
+                payload.close();
+            } finally {
+                payload = null;
+            }
+        }
+    }
+
     void deliveryAnnotations(DeliveryAnnotations deliveryAnnotations) {
         this.deliveryAnnotations = deliveryAnnotations;
     }
@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.messaging.ApplicationPropertiesTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.messaging.MessageAnnotationsTypeDecoder;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+
+/**
+ * Index of the encoded sections of a received message payload which allows a {@link ClientMessage}
+ * to decode each section only when it is first accessed.  The index is built with a single pass over
+ * the payload that skips each section value and records where its encoding starts and ends, the body
+ * sections are tracked as one contiguous range as the specification requires them to be adjacent.
+ * <p>
+ * A section that has not been discarded can be written to an outgoing message exactly as it was
+ * received, once the message hands out a mutable view of a section or replaces it the section is
+ * discarded from the index and the message encodes its own copy instead.  While nothing has been
+ * discarded and the payload carried no delivery annotations the whole payload can be sent as is.
+ */
+final class ClientEncodedSections {
+
+    static final int HEADER = 0;
+    static final int MESSAGE_ANNOTATIONS = 1;
+    static final int PROPERTIES = 2;
+    static final int APPLICATION_PROPERTIES = 3;
+    static final int BODY = 4;
+    static final int FOOTER = 5;
+
+    private static final int SECTION_COUNT = 6;
+
+    private static final Decoder DECODER = CodecFactory.getDefaultDecoder();
+
+    private static final ThreadLocal<DecoderState> THREAD_LOCAL_DECODER_STATE =
+        ThreadLocal.withInitial(() -> DECODER.newDecoderState());
+
+    private final ProtonBuffer payload;
+    private final int[] offsets = new int[SECTION_COUNT];
+    private final int[] lengths = new int[SECTION_COUNT];
+
+    private int payloadOffset;
+    private int payloadLength;
+    private boolean modified;
+
+    private ClientEncodedSections(ProtonBuffer payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Scans the given payload and creates an index of the encoded sections it contains, any
+     * {@link DeliveryAnnotations} found are decoded and handed to the given consumer.  If the
+     * sections are not laid out in the order defined by the specification, or the body sections
+     * cannot be combined into one message, no index is created and the caller should fall back
+     * to decoding the full message.
+     *
+     * @param payload
+     *      The encoded message payload which is retained by the returned index.
+     * @param daConsumer
+     *      A consumer of any {@link DeliveryAnnotations} in the payload (can be null).
+     *
+     * @return an index of the encoded sections or null if the payload cannot be indexed.
+     *
+     * @throws ClientException if an error occurs while scanning the encoded sections.
+     */
+    static ClientEncodedSections index(ProtonBuffer payload, Consumer<DeliveryAnnotations> daConsumer) throws ClientException {
+        final ClientEncodedSections sections = new ClientEncodedSections(payload.convertToReadOnly());
+        final DecoderState state = THREAD_LOCAL_DECODER_STATE.get();
+
+        int lastSection = -1;
+        Class<?> bodyType = null;
+
+        sections.payloadOffset = payload.getReadOffset();
+
+        try {
+            while (payload.isReadable()) {
+                final int sectionStart = payload.getReadOffset();
+                final TypeDecoder<?> decoder = DECODER.readNextTypeDecoder(payload, state);
+                final Class<?> sectionType = decoder.getTypeClass();
+
+                if (sectionType == DeliveryAnnotations.class) {
+                    if (lastSection > HEADER) {
+                        return null;
+                    }
+
+                    final DeliveryAnnotations annotations = (DeliveryAnnotations) decoder.readValue(payload, state);
+                    if (daConsumer != null) {
+                        daConsumer.accept(annotations);
+                    }
+
+                    // The annotations belong to the received delivery and are never sent on
+                    sections.modified = true;
+
+                    continue;
+                }
+
+                final int section = sectionIndex(sectionType);
+
+                if (section < 0 || section < lastSection || (section == lastSection && section != BODY)) {
+                    return null;
+                } else if (section == BODY) {
+                    // Mixed body types or multiple values are rejected by the eager decode
+                    if (bodyType != null && (bodyType != sectionType || sectionType == AmqpValue.class)) {
+                        return null;
+                    }
+
+                    bodyType = sectionType;
+                }
+
+                decoder.skipValue(payload, state);
+
+                if (section != lastSection) {
+                    sections.offsets[section] = sectionStart;
+                }
+
+                sections.lengths[section] = payload.getReadOffset() - sections.offsets[section];
+                lastSection = section;
+            }
+        } catch (Exception e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        }
+
+        sections.payloadLength = payload.getReadOffset() - sections.payloadOffset;
+
+        return sections;
+    }
+
+    /**
+     * @param section
+     *      The index of the section to check.
+     *
+     * @return true if the section is present in the encoded payload and has not been discarded.
+     */
+    boolean contains(int section) {
+        return lengths[section] > 0;
+    }
+
+    /**
+     * Discards the encoding of the given section, after which the message is responsible for
+     * encoding its own copy of the section if it has one.
+     *
+     * @param section
+     *      The index of the section to discard.
+     */
+    void discard(int section) {
+        lengths[section] = 0;
+        modified = true;
+    }
+
+    /**
+     * @return true if no section has been discarded and the payload holds only the message sections.
+     */
+    boolean isUnmodified() {
+        return !modified;
+    }
+
+    /**
+     * Returns a read-only view of the full encoded payload that shares the memory of the payload
+     * where the buffer implementation allows, only valid while the index is unmodified.
+     *
+     * @return a read-only view of the indexed message payload.
+     */
+    ProtonBuffer encodedPayload() {
+        return payload.copy(payloadOffset, payloadLength, true);
+    }
+
+    /**
+     * @param section
+     *      The index of the section whose encoded size is requested.
+     *
+     * @return the number of bytes the section occupies in the encoded payload.
+     */
+    int getEncodedSize(int section) {
+        return lengths[section];
+    }
+
+    /**
+     * Writes the section exactly as it was encoded in the received payload.
+     *
+     * @param section
+     *      The index of the section to write.
+     * @param buffer
+     *      The buffer to write the encoded section into.
+     */
+    void writeTo(int section, ProtonBuffer buffer) {
+        try (ProtonBuffer encoded = encodedView(section)) {
+            buffer.writeBytes(encoded);
+        }
+    }
+
+    /**
+     * Decodes a single section, the encoding remains in the index until discarded.
+     *
+     * @param <T> The type of the section being decoded.
+     *
+     * @param section
+     *      The index of the section to decode.
+     * @param sectionType
+     *      The type of the section being decoded.
+     *
+     * @return the decoded section or null if it is not present.
+     *
+     * @throws DecodeException if an error occurs while decoding the section.
+     */
+    <T extends Section<?>> T decode(int section, Class<T> sectionType) throws DecodeException {
+        if (!contains(section)) {
+            return null;
+        }
+
+        try (ProtonBuffer encoded = encodedView(section)) {
+            return DECODER.readObject(encoded, THREAD_LOCAL_DECODER_STATE.get(), sectionType);
+        }
+    }
+
+    /**
+     * Decodes each body section in turn and hands it to the given consumer.
+     *
+     * @param consumer
+     *      The consumer of the decoded body sections.
+     *
+     * @throws DecodeException if an error occurs while decoding the sections.
+     */
+    void decodeBody(Consumer<Section<?>> consumer) throws DecodeException {
+        if (contains(BODY)) {
+            final DecoderState state = THREAD_LOCAL_DECODER_STATE.get();
+
+            try (ProtonBuffer encoded = encodedView(BODY)) {
+                while (encoded.isReadable()) {
+                    consumer.accept((Section<?>) DECODER.readObject(encoded, state));
+                }
+            }
+        }
+    }
+
+    /**
+     * Scans the encoded {@link ApplicationProperties} for the given key without decoding the other
+     * entries of the map, the consumer is called with the value if the key is present.
+     *
+     * @param key
+     *      The application property key to look for.
+     * @param matchConsumer
+     *      The consumer of the key and value if the key is present.
+     *
+     * @throws DecodeException if an error occurs while scanning the section.
+     */
+    void scanApplicationProperty(String key, BiConsumer<String, Object> matchConsumer) throws DecodeException {
+        if (contains(APPLICATION_PROPERTIES)) {
+            final DecoderState state = THREAD_LOCAL_DECODER_STATE.get();
+
+            try (ProtonBuffer encoded = encodedView(APPLICATION_PROPERTIES)) {
+                final ApplicationPropertiesTypeDecoder decoder =
+                    (ApplicationPropertiesTypeDecoder) DECODER.readNextTypeDecoder(encoded, state);
+
+                decoder.scanProperties(encoded, state, ApplicationPropertiesTypeDecoder.createScanContext(key), matchConsumer);
+            }
+        }
+    }
+
+    /**
+     * Scans the encoded {@link MessageAnnotations} for the given key without decoding the other
+     * entries of the map, the consumer is called with the value if the key is present.
+     *
+     * @param key
+     *      The message annotation key to look for.
+     * @param matchConsumer
+     *      The consumer of the key and value if the key is present.
+     *
+     * @throws DecodeException if an error occurs while scanning the section.
+     */
+    void scanMessageAnnotation(String key, BiConsumer<Symbol, Object> matchConsumer) throws DecodeException {
+        if (contains(MESSAGE_ANNOTATIONS)) {
+            final DecoderState state = THREAD_LOCAL_DECODER_STATE.get();
+
+            try (ProtonBuffer encoded = encodedView(MESSAGE_ANNOTATIONS)) {
+                final MessageAnnotationsTypeDecoder decoder =
+                    (MessageAnnotationsTypeDecoder) DECODER.readNextTypeDecoder(encoded, state);
+
+                decoder.scanAnnotations(encoded, state, MessageAnnotationsTypeDecoder.createScanContext(Symbol.valueOf(key)), matchConsumer);
+            }
+        }
+    }
+
+    //----- Internal implementation
+
+    private ProtonBuffer encodedView(int section) {
+        return payload.copy(offsets[section], lengths[section], true);
+    }
+
+    private static int sectionIndex(Class<?> sectionType) {
+        if (sectionType == Header.class) {
+            return HEADER;
+        } else if (sectionType == MessageAnnotations.class) {
+            return MESSAGE_ANNOTATIONS;
+        } else if (sectionType == Properties.class) {
+            return PROPERTIES;
+        } else if (sectionType == ApplicationProperties.class) {
+            return APPLICATION_PROPERTIES;
+        } else if (sectionType == Data.class || sectionType == AmqpSequence.class || sectionType == AmqpValue.class) {
+            return BODY;
+        } else if (sectionType == Footer.class) {
+            return FOOTER;
+        } else {
+            return -1;
+        }
+    }
+}
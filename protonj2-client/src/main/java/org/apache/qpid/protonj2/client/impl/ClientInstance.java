@@ -34,6 +34,8 @@ import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.client.futures.ClientFutureFactory;
+import org.apache.qpid.protonj2.client.transport.IOContext;
+import org.apache.qpid.protonj2.client.transport.SharedIOContext;
 import org.apache.qpid.protonj2.client.util.IdGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +60,8 @@ public final class ClientInstance implements Client {
     private final String clientUniqueId = CONTAINER_ID_GENERATOR.generateId();
     private final ClientFuture<Client> closedFuture = FUTURES.createFuture();
 
+    private SharedIOContext sharedIOContext;
+
     private volatile int closed;
 
     /**
@@ -141,6 +145,7 @@ public final class ClientInstance implements Client {
     public synchronized Future<Client> closeAsync() {
         if (CLOSED_UPDATER.compareAndSet(this, 0, 1)) {
             if (connections.isEmpty()) {
+                shutdownSharedIOContext();
                 closedFuture.complete(this);
             } else {
                 // Make a copy as the connection close will modify the connections
@@ -171,10 +176,31 @@ public final class ClientInstance implements Client {
         }
     }
 
+    synchronized IOContext createIOContext(ConnectionOptions connectionOptions, String connectionId) {
+        if (options.sharedIO()) {
+            if (sharedIOContext == null) {
+                sharedIOContext = SharedIOContext.create(
+                    options.sharedIOThreads(), "protonj2 Client :(" + clientUniqueId + "): I/O Thread");
+            }
+
+            return sharedIOContext.newIOContext(connectionOptions.transportOptions(), connectionOptions.sslOptions());
+        } else {
+            return IOContext.create(connectionOptions.transportOptions(), connectionOptions.sslOptions(),
+                                    "ClientConnection :(" + connectionId + "): I/O Thread");
+        }
+    }
+
     String nextConnectionId() {
         return getClientUniqueId() + ":" + CONNECTION_COUNTER.incrementAndGet();
     }
 
+    private void shutdownSharedIOContext() {
+        if (sharedIOContext != null) {
+            // Connections unregister from within their IO thread so the async variant is used.
+            sharedIOContext.shutdownAsync();
+        }
+    }
+
     private synchronized ClientConnection addConnection(ClientConnection connection) {
         connections.put(connection.getId(), connection);
         return connection;
@@ -183,6 +209,7 @@ public final class ClientInstance implements Client {
     synchronized void unregisterConnection(ClientConnection connection) {
         connections.remove(connection.getId());
         if (isClosed() && connections.isEmpty()) {
+            shutdownSharedIOContext();
             closedFuture.complete(this);
         }
     }
@@ -35,6 +35,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedException;
+import org.apache.qpid.protonj2.client.futures.AsyncResult;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.Engine;
@@ -460,11 +461,11 @@ public abstract class ClientLinkType<LinkType extends Link<LinkType>,
 
     //----- Internal API for link implementations
 
-    protected boolean notClosedOrFailed(ClientFuture<?> request) {
+    protected boolean notClosedOrFailed(AsyncResult<?> request) {
         return notClosedOrFailed(request, protonLink());
     }
 
-    protected boolean notClosedOrFailed(ClientFuture<?> request, ProtonType protonLink) {
+    protected boolean notClosedOrFailed(AsyncResult<?> request, ProtonType protonLink) {
         if (isClosed()) {
             request.failed(new ClientIllegalStateException(
                 String.format("The %s was explicitly closed", protonLink().isReceiver() ? "Receiver" : "Sender"), failureCause));
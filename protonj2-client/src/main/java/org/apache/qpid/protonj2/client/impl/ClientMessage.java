@@ -45,7 +45,8 @@ import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
 /**
  * Client provided {@link AdvancedMessage} implementation that is used when sending messages
  * from a {@link ClientSender} or when decoding an AMQP Transfer for which all frames have
- * arrived.
+ * arrived.  A message decoded on demand keeps an index of the encoded sections of the received
+ * payload and decodes each section the first time it is read.
  *
  * @param <E> the body type that the {@link Message} carries
  */
@@ -61,6 +62,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     private int messageFormat;
 
+    // Encoded sections of a received message that have not yet been decoded or modified
+    private ClientEncodedSections encoded;
+
     /**
      * Create a new {@link ClientMessage} instance with no default body section.
      */
@@ -122,11 +126,29 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
         return new ClientMessage<V>();
     }
 
+    /**
+     * Creates an {@link ClientMessage} instance from the given encoded message which decodes
+     * each section on demand and writes the sections that are not modified as they were encoded.
+     *
+     * @param <V> The type of the body value carried in this message.
+     *
+     * @param encoded
+     *      The encoded message sections which the created message takes ownership of.
+     *
+     * @return a new {@link ClientMessage} instance backed by the given encoding.
+     *
+     * @throws ClientException if an error occurs while scanning the encoded message sections.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ClientMessage<V> createFromEncoded(ProtonBuffer encoded) throws ClientException {
+        return (ClientMessage<V>) ClientMessageSupport.decodeMessageLazily(encoded, null);
+    }
+
     //----- Message Header API
 
     @Override
     public boolean durable() {
-        return header == null ? Header.DEFAULT_DURABILITY : header.isDurable();
+        return peekHeader() == null ? Header.DEFAULT_DURABILITY : header.isDurable();
     }
 
     @Override
@@ -137,7 +159,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public byte priority() {
-        return header == null ? Header.DEFAULT_PRIORITY : header.getPriority();
+        return peekHeader() == null ? Header.DEFAULT_PRIORITY : header.getPriority();
     }
 
     @Override
@@ -148,7 +170,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public long timeToLive() {
-        return header == null ? Header.DEFAULT_TIME_TO_LIVE : header.getTimeToLive();
+        return peekHeader() == null ? Header.DEFAULT_TIME_TO_LIVE : header.getTimeToLive();
     }
 
     @Override
@@ -159,7 +181,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public boolean firstAcquirer() {
-        return header == null ? Header.DEFAULT_FIRST_ACQUIRER : header.isFirstAcquirer();
+        return peekHeader() == null ? Header.DEFAULT_FIRST_ACQUIRER : header.isFirstAcquirer();
     }
 
     @Override
@@ -170,7 +192,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public long deliveryCount() {
-        return header == null ? Header.DEFAULT_DELIVERY_COUNT : header.getDeliveryCount();
+        return peekHeader() == null ? Header.DEFAULT_DELIVERY_COUNT : header.getDeliveryCount();
     }
 
     @Override
@@ -183,7 +205,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public Object messageId() {
-        return properties != null ? properties.getMessageId() : null;
+        return peekProperties() != null ? properties.getMessageId() : null;
     }
 
     @Override
@@ -195,7 +217,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public byte[] userId() {
         byte[] copyOfUserId = null;
-        if (properties != null && properties.getUserId() != null) {
+        if (peekProperties() != null && properties.getUserId() != null) {
             copyOfUserId = properties.getUserId().asByteArray();
         }
 
@@ -210,7 +232,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public String to() {
-        return properties != null ? properties.getTo() : null;
+        return peekProperties() != null ? properties.getTo() : null;
     }
 
     @Override
@@ -221,7 +243,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public String subject() {
-        return properties != null ? properties.getSubject() : null;
+        return peekProperties() != null ? properties.getSubject() : null;
     }
 
     @Override
@@ -232,7 +254,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public String replyTo() {
-        return properties != null ? properties.getReplyTo() : null;
+        return peekProperties() != null ? properties.getReplyTo() : null;
     }
 
     @Override
@@ -243,7 +265,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public Object correlationId() {
-        return properties != null ? properties.getCorrelationId() : null;
+        return peekProperties() != null ? properties.getCorrelationId() : null;
     }
 
     @Override
@@ -254,7 +276,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public String contentType() {
-        return properties != null ? properties.getContentType() : null;
+        return peekProperties() != null ? properties.getContentType() : null;
     }
 
     @Override
@@ -265,7 +287,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public String contentEncoding() {
-        return properties != null ? properties.getContentEncoding() : null;
+        return peekProperties() != null ? properties.getContentEncoding() : null;
     }
 
     @Override
@@ -276,7 +298,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public long absoluteExpiryTime() {
-        return properties != null ? properties.getAbsoluteExpiryTime() : 0;
+        return peekProperties() != null ? properties.getAbsoluteExpiryTime() : 0;
     }
 
     @Override
@@ -287,7 +309,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public long creationTime() {
-        return properties != null ? properties.getCreationTime() : 0;
+        return peekProperties() != null ? properties.getCreationTime() : 0;
     }
 
     @Override
@@ -298,7 +320,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public String groupId() {
-        return properties != null ? properties.getGroupId() : null;
+        return peekProperties() != null ? properties.getGroupId() : null;
     }
 
     @Override
@@ -309,7 +331,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public int groupSequence() {
-        return properties != null ? (int) properties.getGroupSequence() : 0;
+        return peekProperties() != null ? (int) properties.getGroupSequence() : 0;
     }
 
     @Override
@@ -320,7 +342,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public String replyToGroupId() {
-        return properties != null ? properties.getReplyToGroupId() : null;
+        return peekProperties() != null ? properties.getReplyToGroupId() : null;
     }
 
     @Override
@@ -333,7 +355,11 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public Object annotation(String key) {
-        if (hasAnnotations()) {
+        if (messageAnnotations == null && isEncoded(ClientEncodedSections.MESSAGE_ANNOTATIONS)) {
+            final Object[] result = new Object[1];
+            encoded.scanMessageAnnotation(key, (symbol, value) -> result[0] = value);
+            return result[0];
+        } else if (hasAnnotations()) {
             return messageAnnotations.getValue().get(Symbol.valueOf(key));
         } else {
             return null;
@@ -342,7 +368,11 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public boolean hasAnnotation(String key) {
-        if (hasAnnotations()) {
+        if (messageAnnotations == null && isEncoded(ClientEncodedSections.MESSAGE_ANNOTATIONS)) {
+            final boolean[] result = new boolean[1];
+            encoded.scanMessageAnnotation(key, (symbol, value) -> result[0] = true);
+            return result[0];
+        } else if (hasAnnotations()) {
             return messageAnnotations.getValue().containsKey(Symbol.valueOf(key));
         } else {
             return false;
@@ -351,7 +381,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public boolean hasAnnotations() {
-        return messageAnnotations != null &&
+        return peekAnnotations() != null &&
                messageAnnotations.getValue() != null &&
                messageAnnotations.getValue().size() > 0;
     }
@@ -359,6 +389,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeAnnotation(String key) {
         if (hasAnnotations()) {
+            discardEncoding(ClientEncodedSections.MESSAGE_ANNOTATIONS);
             return messageAnnotations.getValue().remove(Symbol.valueOf(key));
         } else {
             return null;
@@ -386,7 +417,11 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public Object property(String key) {
-        if (hasProperties()) {
+        if (applicationProperties == null && isEncoded(ClientEncodedSections.APPLICATION_PROPERTIES)) {
+            final Object[] result = new Object[1];
+            encoded.scanApplicationProperty(key, (name, value) -> result[0] = value);
+            return result[0];
+        } else if (hasProperties()) {
             return applicationProperties.getValue().get(key);
         } else {
             return null;
@@ -395,7 +430,11 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public boolean hasProperty(String key) {
-        if (hasProperties()) {
+        if (applicationProperties == null && isEncoded(ClientEncodedSections.APPLICATION_PROPERTIES)) {
+            final boolean[] result = new boolean[1];
+            encoded.scanApplicationProperty(key, (name, value) -> result[0] = true);
+            return result[0];
+        } else if (hasProperties()) {
             return applicationProperties.getValue().containsKey(key);
         } else {
             return false;
@@ -404,7 +443,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public boolean hasProperties() {
-        return applicationProperties != null &&
+        return peekApplicationProperties() != null &&
                applicationProperties.getValue() != null &&
                applicationProperties.getValue().size() > 0;
     }
@@ -412,6 +451,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeProperty(String key) {
         if (hasProperties()) {
+            discardEncoding(ClientEncodedSections.APPLICATION_PROPERTIES);
             return applicationProperties.getValue().remove(key);
         } else {
             return null;
@@ -455,7 +495,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public boolean hasFooters() {
-        return footer != null &&
+        return peekFooter() != null &&
                footer.getValue() != null &&
                footer.getValue().size() > 0;
     }
@@ -463,6 +503,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeFooter(String key) {
         if (hasFooters()) {
+            discardEncoding(ClientEncodedSections.FOOTER);
             return footer.getValue().remove(Symbol.valueOf(key));
         } else {
             return null;
@@ -491,6 +532,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @SuppressWarnings("unchecked")
     @Override
     public E body() {
+        decodeBody();
+
         Section<E> section = body;
 
         if (bodySections != null) {
@@ -510,7 +553,85 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     //----- Internal API
 
+    ClientEncodedSections encodedSections() {
+        return encoded;
+    }
+
+    ClientMessage<E> encodedSections(ClientEncodedSections encoded) {
+        this.encoded = encoded;
+        return this;
+    }
+
+    private boolean isEncoded(int section) {
+        return encoded != null && encoded.contains(section);
+    }
+
+    private void discardEncoding(int section) {
+        if (encoded != null) {
+            encoded.discard(section);
+        }
+    }
+
+    private Header peekHeader() {
+        if (header == null && isEncoded(ClientEncodedSections.HEADER)) {
+            header = encoded.decode(ClientEncodedSections.HEADER, Header.class);
+        }
+
+        return header;
+    }
+
+    private Properties peekProperties() {
+        if (properties == null && isEncoded(ClientEncodedSections.PROPERTIES)) {
+            properties = encoded.decode(ClientEncodedSections.PROPERTIES, Properties.class);
+        }
+
+        return properties;
+    }
+
+    private ApplicationProperties peekApplicationProperties() {
+        if (applicationProperties == null && isEncoded(ClientEncodedSections.APPLICATION_PROPERTIES)) {
+            applicationProperties = encoded.decode(ClientEncodedSections.APPLICATION_PROPERTIES, ApplicationProperties.class);
+        }
+
+        return applicationProperties;
+    }
+
+    private MessageAnnotations peekAnnotations() {
+        if (messageAnnotations == null && isEncoded(ClientEncodedSections.MESSAGE_ANNOTATIONS)) {
+            messageAnnotations = encoded.decode(ClientEncodedSections.MESSAGE_ANNOTATIONS, MessageAnnotations.class);
+        }
+
+        return messageAnnotations;
+    }
+
+    private Footer peekFooter() {
+        if (footer == null && isEncoded(ClientEncodedSections.FOOTER)) {
+            footer = encoded.decode(ClientEncodedSections.FOOTER, Footer.class);
+        }
+
+        return footer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void decodeBody() {
+        if (isEncoded(ClientEncodedSections.BODY)) {
+            final List<Section<?>> sections = new ArrayList<>();
+
+            encoded.decodeBody(sections::add);
+            encoded.discard(ClientEncodedSections.BODY);
+
+            if (sections.size() == 1) {
+                body = (Section<E>) sections.get(0);
+            } else {
+                bodySections = sections;
+            }
+        }
+    }
+
     private Header lazyCreateHeader() {
+        peekHeader();
+        discardEncoding(ClientEncodedSections.HEADER);
+
         if (header == null) {
             header = new Header();
         }
@@ -519,6 +640,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     }
 
     private Properties lazyCreateProperties() {
+        peekProperties();
+        discardEncoding(ClientEncodedSections.PROPERTIES);
+
         if (properties == null) {
             properties = new Properties();
         }
@@ -527,6 +651,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     }
 
     private ApplicationProperties lazyCreateApplicationProperties() {
+        peekApplicationProperties();
+        discardEncoding(ClientEncodedSections.APPLICATION_PROPERTIES);
+
         if (applicationProperties == null) {
             applicationProperties = new ApplicationProperties(new LinkedHashMap<>());
         }
@@ -535,6 +662,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     }
 
     private MessageAnnotations lazyCreateMessageAnnotations() {
+        peekAnnotations();
+        discardEncoding(ClientEncodedSections.MESSAGE_ANNOTATIONS);
+
         if (messageAnnotations == null) {
             messageAnnotations = new MessageAnnotations(new LinkedHashMap<>());
         }
@@ -543,6 +673,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     }
 
     private Footer lazyCreateFooter() {
+        peekFooter();
+        discardEncoding(ClientEncodedSections.FOOTER);
+
         if (footer == null) {
             footer = new Footer(new LinkedHashMap<>());
         }
@@ -554,55 +687,70 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public Header header() {
+        peekHeader();
+        discardEncoding(ClientEncodedSections.HEADER);
         return header;
     }
 
     @Override
     public ClientMessage<E> header(Header header) {
+        discardEncoding(ClientEncodedSections.HEADER);
         this.header = header;
         return this;
     }
 
     @Override
     public MessageAnnotations annotations() {
+        peekAnnotations();
+        discardEncoding(ClientEncodedSections.MESSAGE_ANNOTATIONS);
         return messageAnnotations;
     }
 
     @Override
     public ClientMessage<E> annotations(MessageAnnotations messageAnnotations) {
+        discardEncoding(ClientEncodedSections.MESSAGE_ANNOTATIONS);
         this.messageAnnotations = messageAnnotations;
         return this;
     }
 
     @Override
     public Properties properties() {
+        peekProperties();
+        discardEncoding(ClientEncodedSections.PROPERTIES);
         return properties;
     }
 
     @Override
     public ClientMessage<E> properties(Properties properties) {
+        discardEncoding(ClientEncodedSections.PROPERTIES);
         this.properties = properties;
         return this;
     }
 
     @Override
     public ApplicationProperties applicationProperties() {
+        peekApplicationProperties();
+        discardEncoding(ClientEncodedSections.APPLICATION_PROPERTIES);
         return applicationProperties;
     }
 
     @Override
     public ClientMessage<E> applicationProperties(ApplicationProperties applicationProperties) {
+        discardEncoding(ClientEncodedSections.APPLICATION_PROPERTIES);
         this.applicationProperties = applicationProperties;
         return this;
     }
 
     @Override
     public Footer footer() {
+        peekFooter();
+        discardEncoding(ClientEncodedSections.FOOTER);
         return footer;
     }
 
     @Override
     public ClientMessage<E> footer(Footer footer) {
+        discardEncoding(ClientEncodedSections.FOOTER);
         this.footer = footer;
         return this;
     }
@@ -628,6 +776,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     public ClientMessage<E> addBodySection(Section<?> bodySection) {
         Objects.requireNonNull(bodySection, "Additional Body Section cannot be null");
 
+        decodeBody();
+
         if (body == null && bodySections == null) {
             body = (Section<E>) bodySection;
         } else {
@@ -649,6 +799,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public ClientMessage<E> bodySections(Collection<Section<?>> sections) {
+        discardEncoding(ClientEncodedSections.BODY);
+
         if (sections == null || sections.isEmpty()) {
             bodySections = null;
         } else {
@@ -665,6 +817,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @SuppressWarnings("unchecked")
     @Override
     public Collection<Section<?>> bodySections() {
+        decodeBody();
+
         if (bodySections == null && body == null) {
             return Collections.EMPTY_LIST;
         } else if (body != null) {
@@ -678,6 +832,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public ClientMessage<E> forEachBodySection(Consumer<Section<?>> consumer) {
+        decodeBody();
+
         if (bodySections != null) {
             bodySections.forEach(section -> {
                 consumer.accept(section);
@@ -694,6 +850,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     @Override
     public ClientMessage<E> clearBodySections() {
+        discardEncoding(ClientEncodedSections.BODY);
+
         bodySections = null;
         body = null;
 
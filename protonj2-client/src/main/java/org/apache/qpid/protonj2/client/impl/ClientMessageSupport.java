@@ -56,8 +56,6 @@ public abstract class ClientMessageSupport {
 
     private static final SectionEncoder SECTION_ENCODER = new SectionEncoder(DEFAULT_ENCODER);
 
-    private static final int DEFAULT_BUFFER_ALLOCATION = 256;
-
     private static final ThreadLocal<EncoderState> THREAD_LOCAL_ENCODER_STATE =
         ThreadLocal.withInitial(() -> DEFAULT_ENCODER.newEncoderState());
     private static final ThreadLocal<DecoderState> THREAD_LOCAL_DECODER_STATE =
@@ -113,37 +111,78 @@ public abstract class ClientMessageSupport {
     }
 
     public static ProtonBuffer encodeMessage(Encoder encoder, EncoderState encoderState, ProtonBufferAllocator allocator, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
-        ProtonBuffer buffer = allocator.outputBuffer(DEFAULT_BUFFER_ALLOCATION);
-
-        Header header = message.header();
-        MessageAnnotations messageAnnotations = message.annotations();
-        Properties properties = message.properties();
-        ApplicationProperties applicationProperties = message.applicationProperties();
-        Footer footer = message.footer();
+        // Sections of a received message that were never decoded or modified are copied as is
+        final ClientEncodedSections encoded = message instanceof ClientMessage ?
+            ((ClientMessage<?>) message).encodedSections() : null;
 
-        if (header != null) {
-            SECTION_ENCODER.write(buffer, header);
+        if (encoded != null && encoded.isUnmodified() && deliveryAnnotations == null) {
+            return encoded.encodedPayload();
         }
-        if (deliveryAnnotations != null) {
-            SECTION_ENCODER.write(buffer, new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)));
-        }
-        if (messageAnnotations != null) {
-            SECTION_ENCODER.write(buffer, messageAnnotations);
+
+        final Header header = isEncoded(encoded, ClientEncodedSections.HEADER) ? null : message.header();
+        final DeliveryAnnotations annotations = deliveryAnnotations != null ?
+            new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)) : null;
+        final MessageAnnotations messageAnnotations =
+            isEncoded(encoded, ClientEncodedSections.MESSAGE_ANNOTATIONS) ? null : message.annotations();
+        final Properties properties = isEncoded(encoded, ClientEncodedSections.PROPERTIES) ? null : message.properties();
+        final ApplicationProperties applicationProperties =
+            isEncoded(encoded, ClientEncodedSections.APPLICATION_PROPERTIES) ? null : message.applicationProperties();
+        final Footer footer = isEncoded(encoded, ClientEncodedSections.FOOTER) ? null : message.footer();
+
+        // Size all sections first so the buffer is allocated once at exactly the size needed
+        final int encodedSize = getEncodedSize(encoded, ClientEncodedSections.HEADER, header) +
+                                getEncodedSize(annotations) +
+                                getEncodedSize(encoded, ClientEncodedSections.MESSAGE_ANNOTATIONS, messageAnnotations) +
+                                getEncodedSize(encoded, ClientEncodedSections.PROPERTIES, properties) +
+                                getEncodedSize(encoded, ClientEncodedSections.APPLICATION_PROPERTIES, applicationProperties) +
+                                getEncodedSize(encoded, ClientEncodedSections.FOOTER, footer);
+        final int[] bodySize = new int[1];
+
+        if (isEncoded(encoded, ClientEncodedSections.BODY)) {
+            bodySize[0] = encoded.getEncodedSize(ClientEncodedSections.BODY);
+        } else {
+            message.forEachBodySection(section -> bodySize[0] += SECTION_ENCODER.getEncodedSize(section));
         }
-        if (properties != null) {
-            SECTION_ENCODER.write(buffer, properties);
+
+        final ProtonBuffer buffer = allocator.outputBuffer(encodedSize + bodySize[0]);
+
+        writeSection(buffer, encoded, ClientEncodedSections.HEADER, header);
+        if (annotations != null) {
+            SECTION_ENCODER.write(buffer, annotations);
         }
-        if (applicationProperties != null) {
-            SECTION_ENCODER.write(buffer, applicationProperties);
+        writeSection(buffer, encoded, ClientEncodedSections.MESSAGE_ANNOTATIONS, messageAnnotations);
+        writeSection(buffer, encoded, ClientEncodedSections.PROPERTIES, properties);
+        writeSection(buffer, encoded, ClientEncodedSections.APPLICATION_PROPERTIES, applicationProperties);
+
+        if (isEncoded(encoded, ClientEncodedSections.BODY)) {
+            encoded.writeTo(ClientEncodedSections.BODY, buffer);
+        } else {
+            message.forEachBodySection(section -> SECTION_ENCODER.write(buffer, section));
         }
 
-        message.forEachBodySection(section -> SECTION_ENCODER.write(buffer, section));
+        writeSection(buffer, encoded, ClientEncodedSections.FOOTER, footer);
+
+        return buffer.convertToReadOnly();
+    }
+
+    private static int getEncodedSize(Section<?> section) {
+        return section != null ? SECTION_ENCODER.getEncodedSize(section) : 0;
+    }
+
+    private static int getEncodedSize(ClientEncodedSections encoded, int index, Section<?> section) {
+        return isEncoded(encoded, index) ? encoded.getEncodedSize(index) : getEncodedSize(section);
+    }
 
-        if (footer != null) {
-            SECTION_ENCODER.write(buffer, footer);
+    private static void writeSection(ProtonBuffer buffer, ClientEncodedSections encoded, int index, Section<?> section) {
+        if (isEncoded(encoded, index)) {
+            encoded.writeTo(index, buffer);
+        } else if (section != null) {
+            SECTION_ENCODER.write(buffer, section);
         }
+    }
 
-        return buffer.convertToReadOnly();
+    private static boolean isEncoded(ClientEncodedSections encoded, int index) {
+        return encoded != null && encoded.contains(index);
     }
 
     //----- Message Decoding
@@ -204,6 +243,38 @@ public abstract class ClientMessageSupport {
         return message;
     }
 
+    /**
+     * Creates a {@link Message} view of the encoded payload that decodes each section only when it
+     * is first accessed, application properties and message annotations are looked up by key with
+     * a scan of the encoded map and sections that are never decoded or modified are written as they
+     * were received if the message is sent on.  The returned message takes ownership of the given
+     * buffer which must not be closed while the message is in use.  Payloads whose sections are not
+     * laid out as the specification requires are decoded fully as {@link #decodeMessage(ProtonBuffer, Consumer)}
+     * would and the buffer is closed once decoded.
+     *
+     * @param buffer
+     *      The encoded message payload.
+     * @param daConsumer
+     *      A consumer of any {@link DeliveryAnnotations} in the payload (can be null).
+     *
+     * @return a {@link Message} that decodes the given payload on demand.
+     *
+     * @throws ClientException if an error occurs while scanning the encoded sections.
+     */
+    public static Message<?> decodeMessageLazily(ProtonBuffer buffer, Consumer<DeliveryAnnotations> daConsumer) throws ClientException {
+        final int readOffset = buffer.getReadOffset();
+        final ClientEncodedSections sections = ClientEncodedSections.index(buffer, daConsumer);
+
+        if (sections == null) {
+            try (buffer) {
+                buffer.setReadOffset(readOffset);
+                return decodeMessage(buffer, daConsumer);
+            }
+        }
+
+        return new ClientMessage<>().encodedSections(sections);
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <E> Section<E> createSectionFromValue(E body) {
         if (body == null) {
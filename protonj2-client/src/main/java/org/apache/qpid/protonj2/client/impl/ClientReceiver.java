@@ -17,17 +17,28 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.DeliveryQueueType;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
+import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
+import org.apache.qpid.protonj2.client.futures.CompletableAsyncResult;
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
 import org.apache.qpid.protonj2.client.util.FifoDeliveryQueue;
+import org.apache.qpid.protonj2.client.util.LockFreeDeliveryQueue;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.messaging.Released;
@@ -42,18 +53,30 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
     private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     private final ReceiverOptions options;
-    private final FifoDeliveryQueue deliveryQueue;
+    private final DeliveryQueue deliveryQueue;
+    private final Deque<CompletableAsyncResult<Delivery>> asyncReceives = new ArrayDeque<>();
+
+    private volatile Consumer<Delivery> deliveryListener;
+    private volatile ClientDeliverySubscription deliverySubscription;
 
     ClientReceiver(ClientSession session, ReceiverOptions options, String receiverId, org.apache.qpid.protonj2.engine.Receiver receiver) {
         super(session, receiverId, options, receiver);
 
         this.options = options;
 
+        protonReceiver.setDispositionCoalescingLimit(options.dispositionCoalescingLimit());
+        protonReceiver.setDispositionCoalescingDelay(options.dispositionCoalescingDelay());
+
         if (options.creditWindow() > 0) {
             protonReceiver.addCredit(options.creditWindow());
         }
 
-        deliveryQueue = new FifoDeliveryQueue(options.creditWindow());
+        if (options.deliveryQueueType() == DeliveryQueueType.LOCK_FREE) {
+            deliveryQueue = new LockFreeDeliveryQueue(options.creditWindow());
+        } else {
+            deliveryQueue = new FifoDeliveryQueue(options.creditWindow());
+        }
+
         deliveryQueue.start();
     }
 
@@ -65,6 +88,7 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
     @Override
     public Delivery receive(long timeout, TimeUnit units) throws ClientException {
         checkClosedOrFailed();
+        checkNoDeliveryListener();
 
         try {
             ClientDelivery delivery = deliveryQueue.dequeue(Math.max(-1, units.toMillis(timeout)));
@@ -90,6 +114,7 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
     @Override
     public Delivery tryReceive() throws ClientException {
         checkClosedOrFailed();
+        checkNoDeliveryListener();
 
         Delivery delivery = deliveryQueue.dequeueNoWait();
         if (delivery != null) {
@@ -105,6 +130,69 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
         return delivery;
     }
 
+    @Override
+    public CompletionStage<Delivery> receiveAsync() {
+        final CompletableAsyncResult<Delivery> request = new CompletableAsyncResult<>();
+
+        try {
+            checkClosedOrFailed();
+            checkNoDeliveryListener();
+
+            executor.execute(() -> {
+                if (notClosedOrFailed(request)) {
+                    final ClientDelivery delivery = deliveryQueue.dequeueNoWait();
+
+                    if (deliveryListener != null || deliverySubscription != null) {
+                        request.failed(new ClientIllegalStateException("Cannot receive while a delivery listener or subscriber is set"));
+                    } else if (delivery != null) {
+                        completeAsyncReceive(request, delivery);
+                    } else {
+                        asyncReceives.addLast(request);
+                    }
+                }
+            });
+        } catch (Exception error) {
+            request.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+        }
+
+        return request.stage();
+    }
+
+    @Override
+    public Receiver deliveryListener(Consumer<Delivery> listener) throws ClientException {
+        checkClosedOrFailed();
+        final ClientFuture<Receiver> listenerSet = session.getFutureFactory().createFuture();
+
+        executor.execute(() -> {
+            if (notClosedOrFailed(listenerSet)) {
+                if (deliverySubscription != null) {
+                    listenerSet.failed(new ClientIllegalStateException("Cannot set a delivery listener while a subscriber is attached"));
+                    return;
+                }
+
+                deliveryListener = listener;
+
+                if (listener != null) {
+                    failPendingAsyncReceives(new ClientIllegalStateException("A delivery listener was set on the Receiver"));
+
+                    ClientDelivery delivery;
+                    while ((delivery = deliveryQueue.dequeueNoWait()) != null) {
+                        dispatchToDeliveryListener(listener, delivery);
+                    }
+                }
+
+                listenerSet.complete(this);
+            }
+        });
+
+        return session.request(this, listenerSet);
+    }
+
+    @Override
+    public Flow.Publisher<Delivery> asPublisher() {
+        return this::subscribe;
+    }
+
     @Override
     public long queuedDeliveries() {
         return deliveryQueue.size();
@@ -171,6 +259,10 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
         return this;
     }
 
+    ReceiverOptions receiverOptions() {
+        return options;
+    }
+
     //----- Handlers for proton receiver events
 
     @Override
@@ -183,7 +275,19 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
 
         if (!delivery.isPartial()) {
             LOG.trace("{} has incoming Message(s).", this);
-            deliveryQueue.enqueue(new ClientDelivery(this, delivery));
+
+            final ClientDelivery incoming = new ClientDelivery(this, delivery);
+            final Consumer<Delivery> listener = deliveryListener;
+
+            if (deliverySubscription != null) {
+                deliverySubscription.handleDelivery(incoming);
+            } else if (listener != null) {
+                dispatchToDeliveryListener(listener, incoming);
+            } else if (!asyncReceives.isEmpty()) {
+                completeAsyncReceive(asyncReceives.poll(), incoming);
+            } else {
+                deliveryQueue.enqueue(incoming);
+            }
         } else {
             delivery.claimAvailableBytes();
         }
@@ -191,6 +295,62 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
 
     //----- Private implementation details
 
+    private void checkNoDeliveryListener() throws ClientIllegalStateException {
+        if (deliveryListener != null || deliverySubscription != null) {
+            throw new ClientIllegalStateException("Cannot receive while a delivery listener or subscriber is set");
+        }
+    }
+
+    private void subscribe(Flow.Subscriber<? super Delivery> subscriber) {
+        Objects.requireNonNull(subscriber, "The subscriber cannot be null");
+
+        final ClientDeliverySubscription subscription = new ClientDeliverySubscription(subscriber);
+
+        try {
+            checkClosedOrFailed();
+            executor.execute(subscription::start);
+        } catch (Exception error) {
+            subscription.reject(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+        }
+    }
+
+    private void discardQueuedDeliveries() {
+        ClientDelivery delivery;
+        while ((delivery = deliveryQueue.dequeueNoWait()) != null) {
+            delivery.discard();
+        }
+    }
+
+    private void handleDeliveryConsumed(ClientDelivery delivery) {
+        if (options.autoAccept()) {
+            session.getTransactionContext().disposition(delivery.protonDelivery(), Accepted.getInstance(), options.autoSettle());
+        }
+
+        replenishCreditIfNeeded();
+    }
+
+    private void completeAsyncReceive(CompletableAsyncResult<Delivery> request, ClientDelivery delivery) {
+        handleDeliveryConsumed(delivery);
+        request.complete(delivery);
+    }
+
+    private void dispatchToDeliveryListener(Consumer<Delivery> listener, ClientDelivery delivery) {
+        handleDeliveryConsumed(delivery);
+
+        try {
+            listener.accept(delivery);
+        } catch (Throwable error) {
+            LOG.warn("Delivery listener of {} threw an error handling delivery: {}", this, delivery, error);
+        }
+    }
+
+    private void failPendingAsyncReceives(ClientException cause) {
+        CompletableAsyncResult<Delivery> request;
+        while ((request = asyncReceives.poll()) != null) {
+            request.failed(cause);
+        }
+    }
+
     @Override
     protected void replenishCreditIfNeeded() {
         int creditWindow = options.creditWindow();
@@ -215,15 +375,36 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
 
     @Override
     protected void linkSpecificLocalCloseHandler() {
+        discardQueuedDeliveries();
         deliveryQueue.stop();  // Ensure blocked receivers are all unblocked.
         deliveryQueue.clear();
+
+        failPendingAsyncReceives(failureCause != null ? failureCause :
+            new ClientIllegalStateException("The Receiver was explicitly closed"));
+
+        if (deliverySubscription != null) {
+            deliverySubscription.terminate(failureCause);
+        }
+    }
+
+    @Override
+    protected void linkSpecificCleanupHandler(ClientException failureCause) {
+        super.linkSpecificCleanupHandler(failureCause);
+
+        failPendingAsyncReceives(failureCause != null ? failureCause :
+            new ClientResourceRemotelyClosedException("The Receiver has been closed"));
+
+        if (deliverySubscription != null) {
+            deliverySubscription.terminate(failureCause);
+        }
     }
 
     @Override
     protected void recreateLinkForReconnect() {
         int previousCredit = protonReceiver.getCredit() + deliveryQueue.size();
 
-        deliveryQueue.clear();  // Prefetched messages should be discarded.
+        discardQueuedDeliveries();  // Prefetched messages should be discarded.
+        deliveryQueue.clear();
 
         if (drainingFuture != null) {
             drainingFuture.complete(this);
@@ -240,4 +421,171 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
         protonReceiver.setLinkedResource(this);
         protonReceiver.addCredit(previousCredit);
     }
+
+    //----- Flow Subscription that maps subscriber demand onto link credit
+
+    private final class ClientDeliverySubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Delivery> subscriber;
+        private final Deque<ClientDelivery> buffered = new ArrayDeque<>();
+
+        private long demand;
+        private boolean terminated;
+
+        ClientDeliverySubscription(Flow.Subscriber<? super Delivery> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            executor.execute(() -> {
+                if (terminated) {
+                    return;
+                }
+
+                if (n <= 0) {
+                    terminate(new IllegalArgumentException("Subscriber requested a non-positive number of deliveries: " + n));
+                    return;
+                }
+
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+
+                dispatchBuffered();
+                grantCredit(false);
+            });
+        }
+
+        @Override
+        public void cancel() {
+            executor.execute(() -> {
+                if (!terminated) {
+                    terminated = true;
+                    deliverySubscription = null;
+
+                    // Anything not yet handed to the subscriber remains available to the receive methods.
+                    buffered.forEach(deliveryQueue::enqueue);
+                    buffered.clear();
+                }
+            });
+        }
+
+        void start() {
+            final ClientException failure;
+
+            if (isClosed() || failureCause != null) {
+                failure = failureCause != null ? failureCause : new ClientIllegalStateException("The Receiver was explicitly closed");
+            } else if (deliveryListener != null || deliverySubscription != null) {
+                failure = new ClientIllegalStateException("The Receiver already has a delivery listener or subscriber");
+            } else if (options.creditWindow() != 0) {
+                failure = new ClientIllegalStateException("Cannot subscribe to a Receiver that is configured with a credit window");
+            } else {
+                failure = null;
+            }
+
+            if (failure != null) {
+                reject(failure);
+                return;
+            }
+
+            deliverySubscription = this;
+            failPendingAsyncReceives(new ClientIllegalStateException("A subscriber was attached to the Receiver"));
+
+            ClientDelivery delivery;
+            while ((delivery = deliveryQueue.dequeueNoWait()) != null) {
+                buffered.addLast(delivery);
+            }
+
+            try {
+                subscriber.onSubscribe(this);
+            } catch (Throwable error) {
+                LOG.warn("Subscriber of {} threw an error from onSubscribe", ClientReceiver.this, error);
+                cancel();
+            }
+        }
+
+        void reject(ClientException cause) {
+            terminated = true;
+
+            try {
+                subscriber.onSubscribe(new Flow.Subscription() {
+
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+            } finally {
+                subscriber.onError(cause);
+            }
+        }
+
+        void handleDelivery(ClientDelivery delivery) {
+            if (demand > 0 && buffered.isEmpty()) {
+                demand--;
+                deliver(delivery);
+                grantCredit(true);
+            } else {
+                buffered.addLast(delivery);
+            }
+        }
+
+        void terminate(Throwable cause) {
+            if (!terminated) {
+                terminated = true;
+                deliverySubscription = null;
+                buffered.forEach(ClientDelivery::discard);
+                buffered.clear();
+
+                try {
+                    if (cause != null) {
+                        subscriber.onError(cause);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                } catch (Throwable error) {
+                    LOG.debug("Subscriber of {} threw an error from a terminal signal", ClientReceiver.this, error);
+                }
+            }
+        }
+
+        private void dispatchBuffered() {
+            while (!terminated && demand > 0 && !buffered.isEmpty()) {
+                demand--;
+                deliver(buffered.poll());
+            }
+        }
+
+        private void deliver(ClientDelivery delivery) {
+            handleDeliveryConsumed(delivery);
+
+            try {
+                subscriber.onNext(delivery);
+            } catch (Throwable error) {
+                LOG.warn("Subscriber of {} threw an error handling delivery: {}", ClientReceiver.this, delivery, error);
+                cancel();
+            }
+        }
+
+        private void grantCredit(boolean onlyWhenLow) {
+            if (terminated || !protonReceiver.isLocallyOpen() || protonReceiver.isDraining()) {
+                return;
+            }
+
+            // Link credit tracks outstanding demand exactly, an unbounded demand is capped at the
+            // largest credit value and only topped up once half of it has been consumed.
+            final int target = (int) Math.min(demand, Integer.MAX_VALUE);
+            final int credit = protonReceiver.getCredit();
+
+            if (target > credit && (!onlyWhenLow || credit <= target / 2)) {
+                try {
+                    protonReceiver.addCredit(target - credit);
+                } catch (Exception ex) {
+                    LOG.debug("Error caught while granting subscriber credit", ex);
+                }
+            }
+        }
+    }
 }
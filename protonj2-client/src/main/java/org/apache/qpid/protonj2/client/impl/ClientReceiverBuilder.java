@@ -122,6 +122,8 @@ final class ClientReceiverBuilder {
         protonReceiver.setDesiredCapabilities(ClientConversionSupport.toSymbolArray(options.desiredCapabilities()));
         protonReceiver.setProperties(ClientConversionSupport.toSymbolKeyedMap(options.properties()));
         protonReceiver.setDefaultDeliveryState(Released.getInstance());
+        protonReceiver.setDispositionCoalescingLimit(previousReceiver.getDispositionCoalescingLimit());
+        protonReceiver.setDispositionCoalescingDelay(previousReceiver.getDispositionCoalescingDelay());
 
         return protonReceiver;
     }
@@ -19,6 +19,9 @@ package org.apache.qpid.protonj2.client.impl;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -33,7 +36,9 @@ import org.apache.qpid.protonj2.client.exceptions.ClientConnectionRemotelyClosed
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientSendTimedOutException;
+import org.apache.qpid.protonj2.client.futures.AsyncResult;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
+import org.apache.qpid.protonj2.client.futures.CompletableAsyncResult;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
@@ -49,11 +54,16 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     private final Deque<ClientOutgoingEnvelope> blocked = new ArrayDeque<>();
     private final SenderOptions options;
+    private final ProtonBufferAllocator payloadAllocator;
+
+    private ClientMessageSubscriber messageSubscriber;
 
     ClientSender(ClientSession session, SenderOptions options, String senderId, org.apache.qpid.protonj2.engine.Sender protonSender) {
         super(session, senderId, options, protonSender);
 
         this.options = new SenderOptions(options);
+        this.payloadAllocator = connection().getOptions().bufferAllocator() != null ?
+            connection().getOptions().bufferAllocator() : ProtonBufferAllocator.defaultAllocator();
     }
 
     @Override
@@ -80,6 +90,21 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         return sendMessage(ClientMessageSupport.convertMessage(message), deliveryAnnotations, false);
     }
 
+    @Override
+    public CompletionStage<Tracker> sendAsync(Message<?> message) {
+        return sendMessageAsync(message, null);
+    }
+
+    @Override
+    public CompletionStage<Tracker> sendAsync(Message<?> message, Map<String, Object> deliveryAnnotations) {
+        return sendMessageAsync(message, deliveryAnnotations);
+    }
+
+    @Override
+    public Flow.Subscriber<Message<?>> asSubscriber() {
+        return new ClientMessageSubscriber();
+    }
+
     //----- Internal API
 
     SenderOptions options() {
@@ -121,6 +146,10 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         if (sender.isDraining() && sender.current() == null && blocked.isEmpty()) {
             sender.drained();
         }
+
+        if (messageSubscriber != null) {
+            messageSubscriber.requestCreditDemand();
+        }
     }
 
     //----- Internal class implementation details
@@ -152,7 +181,27 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     private Tracker sendMessage(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit) throws ClientException {
         final ClientFuture<Tracker> operation = session.getFutureFactory().createFuture();
-        final ProtonBuffer buffer = message.encode(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator());
+
+        dispatchSend(message, deliveryAnnotations, waitForCredit, operation);
+
+        return session.request(this, operation);
+    }
+
+    private CompletionStage<Tracker> sendMessageAsync(Message<?> message, Map<String, Object> deliveryAnnotations) {
+        final CompletableAsyncResult<Tracker> operation = new CompletableAsyncResult<>();
+
+        try {
+            checkClosedOrFailed();
+            dispatchSend(ClientMessageSupport.convertMessage(message), deliveryAnnotations, true, operation);
+        } catch (Exception error) {
+            operation.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+        }
+
+        return operation.stage();
+    }
+
+    private void dispatchSend(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit, AsyncResult<Tracker> operation) throws ClientException {
+        final ProtonBuffer buffer = message.encode(deliveryAnnotations, payloadAllocator);
 
         executor.execute(() -> {
             if (notClosedOrFailed(operation)) {
@@ -171,8 +220,6 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
                 }
             }
         });
-
-        return session.request(this, operation);
     }
 
     private Tracker createTracker(OutgoingDelivery delivery) {
@@ -203,6 +250,8 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     @Override
     protected void linkSpecificCleanupHandler(ClientException failureCause) {
+        cancelMessageSubscriber();
+
         if (failureCause != null) {
             failPendingUnsettledAndBlockedSends(failureCause);
         } else {
@@ -210,6 +259,12 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         }
     }
 
+    private void cancelMessageSubscriber() {
+        if (messageSubscriber != null) {
+            messageSubscriber.cancelSubscription();
+        }
+    }
+
     private void failPendingUnsettledAndBlockedSends(ClientException cause) {
         // Cancel all settlement futures for in-flight sends passing an appropriate error to the future
         protonSender.unsettled().forEach((delivery) -> {
@@ -228,7 +283,7 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     @Override
     protected void linkSpecificLocalCloseHandler() {
-        // Nothing needed for sender handling
+        cancelMessageSubscriber();
     }
 
     @Override
@@ -241,12 +296,117 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         // Nothing needed for sender handling
     }
 
+    //----- Flow Subscriber whose demand follows the link credit
+
+    /*
+     * The subscriber serves as the result of the sends it dispatches so that each completed
+     * send can retire its outstanding demand without allocating a request per message.
+     */
+    private final class ClientMessageSubscriber implements Flow.Subscriber<Message<?>>, AsyncResult<Tracker> {
+
+        private Flow.Subscription subscription;
+        private long outstanding;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            Objects.requireNonNull(subscription, "The subscription cannot be null");
+
+            try {
+                executor.execute(() -> {
+                    if (this.subscription != null || messageSubscriber != null || isClosed() ||
+                        failureCause != null || protonSender.isLocallyClosedOrDetached()) {
+
+                        subscription.cancel();
+                    } else {
+                        this.subscription = subscription;
+                        messageSubscriber = this;
+                        requestCreditDemand();
+                    }
+                });
+            } catch (Exception error) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(Message<?> message) {
+            Objects.requireNonNull(message, "The message cannot be null");
+
+            try {
+                dispatchSend(ClientMessageSupport.convertMessage(message), null, true, this);
+            } catch (Exception error) {
+                LOG.debug("Subscriber of {} failed to dispatch send: {}", ClientSender.this, error.getMessage());
+                executor.execute(this::cancelSubscription);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            LOG.debug("Publisher to {} signalled an error: {}", ClientSender.this, throwable.getMessage());
+            executor.execute(this::detach);
+        }
+
+        @Override
+        public void onComplete() {
+            executor.execute(this::detach);
+        }
+
+        @Override
+        public void complete(Tracker result) {
+            outstanding--;
+            requestCreditDemand();
+        }
+
+        @Override
+        public void failed(ClientException result) {
+            outstanding--;
+            LOG.debug("Send from subscriber of {} failed: {}", ClientSender.this, result.getMessage());
+            cancelSubscription();
+        }
+
+        @Override
+        public boolean isComplete() {
+            return false;
+        }
+
+        void requestCreditDemand() {
+            if (subscription == null || protonSender.isDraining()) {
+                return;
+            }
+
+            // Demand is only ever requested for credit that is not already spoken for by sends
+            // that are pending or were requested from the publisher and have not yet arrived,
+            // sends from this subscriber that are blocked awaiting credit remain outstanding.
+            final long available = (long) protonSender.getCredit() - outstanding;
+
+            if (available > 0) {
+                outstanding += available;
+                subscription.request(available);
+            }
+        }
+
+        void cancelSubscription() {
+            if (subscription != null) {
+                final Flow.Subscription cancelled = subscription;
+                detach();
+                cancelled.cancel();
+            }
+        }
+
+        private void detach() {
+            subscription = null;
+            if (messageSubscriber == this) {
+                messageSubscriber = null;
+            }
+        }
+    }
+
     //----- Internal envelope for deliveries to track potential partial sends etc.
 
     private final static class ClientOutgoingEnvelope implements ClientTransactionContext.Sendable {
 
         private final ProtonBuffer payload;
-        private final ClientFuture<Tracker> request;
+        private final AsyncResult<Tracker> request;
         private final ClientSender sender;
         private final int messageFormat;
 
@@ -266,7 +426,7 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
          * @param request
          *      The requesting operation that initiated this send.
          */
-        ClientOutgoingEnvelope(ClientSender sender, int messageFormat, ProtonBuffer payload, ClientFuture<Tracker> request) {
+        ClientOutgoingEnvelope(ClientSender sender, int messageFormat, ProtonBuffer payload, AsyncResult<Tracker> request) {
             this.messageFormat = messageFormat;
             this.payload = payload;
             this.request = request;
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.client.StreamDelivery;
 import org.apache.qpid.protonj2.client.exceptions.ClientDeliveryAbortedException;
@@ -166,7 +167,7 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
 
     //----- Raw InputStream Implementation
 
-    private class RawDeliveryInputStream extends InputStream {
+    final class RawDeliveryInputStream extends InputStream {
 
         private final int INVALID_MARK = -1;
 
@@ -202,8 +203,7 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
                         // bytes locally we need to discard those to aid in retention avoidance.
                         // and to potentially open the session window to allow for fully reading
                         // and discarding any inbound bytes that remain.
-                        try {
-                            protonDelivery.readAll();
+                        try (ProtonBuffer discard = protonDelivery.readAll()) {
                         } catch (EngineFailedException efe) {
                             // Ignore as engine is down and we cannot read any more
                         }
@@ -366,6 +366,37 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
             return amount - remaining;
         }
 
+        /**
+         * Reads up to the given number of bytes from the stream as a read-only view that shares
+         * the memory of the received transfer payloads, waiting for more of the delivery to
+         * arrive if no bytes are currently buffered.  The caller must close the returned buffer
+         * once done with it so that the payload it covers can be released.
+         *
+         * @param maxLength
+         *      The maximum number of bytes that the returned buffer can cover.
+         *
+         * @return a read-only view of the next bytes of the delivery or null if no bytes remain.
+         *
+         * @throws IOException if an error occurs while waiting for more of the delivery to arrive.
+         */
+        ProtonBuffer readBuffer(int maxLength) throws IOException {
+            checkStreamStateIsValid();
+
+            while (true) {
+                if (buffer.isReadable()) {
+                    final int length = Math.min(maxLength, buffer.getReadableBytes());
+                    final ProtonBuffer view = buffer.copy(buffer.getReadOffset(), length, true);
+
+                    buffer.advanceReadOffset(length);
+                    tryReleaseReadBuffers();
+
+                    return view;
+                } else if (requestMoreData() < 0) {
+                    return null;
+                }
+            }
+        }
+
         @Override
         public long transferTo(OutputStream target) throws IOException {
             checkStreamStateIsValid();
@@ -391,7 +422,8 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
         private void handleDeliveryRead(IncomingDelivery delivery) {
             if (closed.get()) {
                 // Clear any pending data to expand session window if not yet complete
-                delivery.readAll();
+                try (ProtonBuffer discard = delivery.readAll()) {
+                }
             } else {
                 // An input stream is awaiting some more incoming bytes, check to see if
                 // the delivery had a non-empty transfer frame and provide them.
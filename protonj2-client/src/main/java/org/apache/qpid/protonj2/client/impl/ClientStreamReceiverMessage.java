@@ -16,12 +16,15 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.io.EOFException;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -80,7 +83,7 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
     private final ClientStreamReceiver receiver;
     private final ClientStreamDelivery delivery;
-    private final InputStream deliveryStream;
+    private final ClientStreamDelivery.RawDeliveryInputStream deliveryStream;
     private final IncomingDelivery protonDelivery;
     private final StreamDecoder protonDecoder = ProtonStreamDecoderFactory.create();
     private final StreamDecoderState decoderState = protonDecoder.newDecoderState();
@@ -95,7 +98,7 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
     private StreamState currentState = StreamState.IDLE;
     private MessageBodyInputStream bodyStream;
 
-    ClientStreamReceiverMessage(ClientStreamReceiver receiver, ClientStreamDelivery delivery, InputStream deliveryStream) {
+    ClientStreamReceiverMessage(ClientStreamReceiver receiver, ClientStreamDelivery delivery, ClientStreamDelivery.RawDeliveryInputStream deliveryStream) {
         this.receiver = receiver;
         this.delivery = delivery;
         this.deliveryStream = deliveryStream;
@@ -650,6 +653,47 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
         throw new ClientUnsupportedOperationException("Cannot encode from an StreamReceiverMessage instance.");
     }
 
+    @Override
+    public ProtonBuffer readBodyChunk() throws ClientException {
+        if (bodyStream == null || bodyStream.closed) {
+            body();
+        }
+
+        if (bodyStream == null) {
+            return null;
+        }
+
+        try {
+            final ProtonBuffer chunk = bodyStream.readChunk();
+            if (chunk == null) {
+                bodyStream.close();
+            }
+
+            return chunk;
+        } catch (IOException e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        }
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel channel) throws ClientException {
+        Objects.requireNonNull(channel, "The channel to write the message body to cannot be null");
+
+        long bytesWritten = 0;
+
+        for (ProtonBuffer next = readBodyChunk(); next != null; next = readBodyChunk()) {
+            try (ProtonBuffer chunk = next) {
+                while (chunk.isReadable()) {
+                    bytesWritten += chunk.transferTo(channel, chunk.getReadableBytes());
+                }
+            } catch (IOException e) {
+                throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+            }
+        }
+
+        return bytesWritten;
+    }
+
     //----- AdvancedMessage encoding API implementation.
 
     @Override
@@ -835,6 +879,26 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
             return bytesSkipped;
         }
 
+        public ProtonBuffer readChunk() throws IOException {
+            checkClosed();
+
+            while (remainingSectionBytes == 0) {
+                if (!tryMoveToNextBodySection()) {
+                    return null; // We are at the end of the body sections
+                }
+            }
+
+            final ProtonBuffer chunk = deliveryStream.readBuffer((int) Math.min(remainingSectionBytes, Integer.MAX_VALUE));
+
+            if (chunk == null) {
+                throw new EOFException("Message payload ended before the end of the current body section");
+            }
+
+            remainingSectionBytes -= chunk.getReadableBytes();
+
+            return chunk;
+        }
+
         public abstract Class<?> getBodyTypeClass();
 
         protected abstract void validateAndScanNextSection() throws ClientException;
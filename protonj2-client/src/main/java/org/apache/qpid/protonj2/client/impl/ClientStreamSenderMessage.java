@@ -18,6 +18,8 @@ package org.apache.qpid.protonj2.client.impl;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -60,6 +62,9 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
     private static final int DATA_SECTION_HEADER_ENCODING_SIZE = 8;
 
+    // Largest Data section written from a channel, kept within the signed size the decoders accept
+    private static final long MAX_DATA_SECTION_SIZE = Integer.MAX_VALUE;
+
     // Standard encoding data for a Data Section (Requires four byte size written before writing the actual data)
     private static final byte[] DATA_SECTION_PREAMBLE = { EncodingCodes.DESCRIBED_TYPE_INDICATOR,
                                                           EncodingCodes.SMALLULONG,
@@ -317,6 +322,90 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             ProtonBufferAllocator.defaultAllocator().allocate(writeBufferSize).implicitGrowthLimit(writeBufferSize));
     }
 
+    @Override
+    public StreamSenderMessage body(FileChannel channel, long position, long length) throws ClientException {
+        Objects.requireNonNull(channel, "Cannot write a body from a null FileChannel");
+
+        if (position < 0) {
+            throw new IllegalArgumentException("File position cannot be negative: " + position);
+        }
+
+        if (length < 0) {
+            throw new IllegalArgumentException("Body length cannot be negative: " + length);
+        }
+
+        checkBodyChannelWritable();
+        transitionToWritableState();
+
+        long remaining = length;
+        long filePosition = position;
+
+        do {
+            final int sectionLength = (int) Math.min(remaining, MAX_DATA_SECTION_SIZE);
+
+            appendDataSectionPreamble(sectionLength);
+
+            for (int sectionRemaining = sectionLength; sectionRemaining > 0; ) {
+                final ProtonBuffer chunk = allocateBodyChunk(sectionRemaining);
+
+                try {
+                    while (chunk.isWritable()) {
+                        final int bytesRead = chunk.transferFrom(channel, filePosition, chunk.getWritableBytes());
+                        if (bytesRead < 0) {
+                            throw new IOException("End of file reached before the requested body length was read");
+                        }
+
+                        filePosition += bytesRead;
+                    }
+                } catch (IOException e) {
+                    chunk.close();
+                    throw abortAfterBodyReadFailure(
+                        new ClientException("Failed to read message body from file: " + e.getMessage(), e));
+                }
+
+                sectionRemaining -= chunk.getReadableBytes();
+                appendDataToBuffer(chunk);
+            }
+
+            remaining -= sectionLength;
+        } while (remaining > 0);
+
+        return this;
+    }
+
+    @Override
+    public StreamSenderMessage body(ReadableByteChannel channel) throws ClientException {
+        Objects.requireNonNull(channel, "Cannot write a body from a null ReadableByteChannel");
+
+        checkBodyChannelWritable();
+        transitionToWritableState();
+
+        boolean endOfStream = false;
+
+        while (!endOfStream) {
+            final ProtonBuffer chunk = allocateBodyChunk(writeBufferSize - DATA_SECTION_HEADER_ENCODING_SIZE);
+
+            try {
+                while (chunk.isWritable() && !endOfStream) {
+                    endOfStream = chunk.transferFrom(channel, chunk.getWritableBytes()) < 0;
+                }
+            } catch (IOException e) {
+                chunk.close();
+                throw abortAfterBodyReadFailure(
+                    new ClientException("Failed to read message body from channel: " + e.getMessage(), e));
+            }
+
+            if (chunk.isReadable()) {
+                appendDataSectionPreamble(chunk.getReadableBytes());
+                appendDataToBuffer(chunk);
+            } else {
+                chunk.close();
+            }
+        }
+
+        return this;
+    }
+
     //----- OutputStream implementation for the Send Context
 
     private abstract class StreamMessageOutputStream extends OutputStream {
@@ -972,6 +1061,50 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         }
     }
 
+    private void checkBodyChannelWritable() throws ClientException {
+        if (completed()) {
+            throw new ClientIllegalStateException("Cannot write a channel body to a completed send context");
+        }
+
+        if (aborted()) {
+            throw new ClientIllegalStateException("Cannot write a channel body to an aborted send context");
+        }
+
+        if (currentState == StreamState.BODY_WRITTING) {
+            throw new ClientIllegalStateException("Cannot write a channel body while an OutputStream is active");
+        }
+    }
+
+    private void appendDataSectionPreamble(int sectionLength) throws ClientException {
+        ProtonBuffer preamble = ProtonBufferAllocator.defaultAllocator().allocate(DATA_SECTION_HEADER_ENCODING_SIZE)
+                                                                        .implicitGrowthLimit(DATA_SECTION_HEADER_ENCODING_SIZE);
+
+        preamble.writeBytes(DATA_SECTION_PREAMBLE);
+        preamble.writeInt(sectionLength);
+
+        try (preamble) {
+            appendDataToBuffer(preamble);
+        }
+    }
+
+    private ProtonBuffer allocateBodyChunk(int maximumSize) {
+        // Channel reads go directly into buffers from the transport allocator which the IO layer
+        // can write from as is since the payload handed to the sender is a read-only view.
+        return sender.session().connection().getEngine().configuration()
+                                                        .getBufferAllocator()
+                                                        .allocate(Math.min(maximumSize, writeBufferSize));
+    }
+
+    private ClientException abortAfterBodyReadFailure(ClientException failure) {
+        try {
+            abort();
+        } catch (ClientException abortFailure) {
+            failure.addSuppressed(abortFailure);
+        }
+
+        return failure;
+    }
+
     private void transitionToWritableState() throws ClientException {
         if (currentState == StreamState.PREAMBLE) {
 
@@ -43,7 +43,11 @@ final class ClientTransportListener implements TransportListener {
 
     @Override
     public void transportInitialized(Transport transport) {
-        engine.configuration().setBufferAllocator(transport.getBufferAllocator());
+        if (connection.getOptions().bufferAllocator() != null) {
+            engine.configuration().setBufferAllocator(connection.getOptions().bufferAllocator());
+        } else {
+            engine.configuration().setBufferAllocator(transport.getBufferAllocator());
+        }
     }
 
     @Override
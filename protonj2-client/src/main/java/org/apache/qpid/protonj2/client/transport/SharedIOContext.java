@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.qpid.protonj2.client.transport;
+
+import org.apache.qpid.protonj2.client.SslOptions;
+import org.apache.qpid.protonj2.client.TransportOptions;
+import org.apache.qpid.protonj2.client.transport.netty4.Netty4SharedIOContext;
+import org.apache.qpid.protonj2.client.transport.netty4.Netty4Support;
+import org.apache.qpid.protonj2.client.transport.netty5.Netty5SharedIOContext;
+import org.apache.qpid.protonj2.client.transport.netty5.Netty5Support;
+
+/**
+ * An I/O context that owns a pool of IO threads which are shared amongst the {@link IOContext}
+ * instances it creates.  Each {@link IOContext} created from the shared context is bound to a
+ * single IO thread from the pool for its lifetime with new contexts being spread across the
+ * available threads.
+ */
+public interface SharedIOContext {
+
+    /**
+     * Creates a new {@link IOContext} whose IO work is bound to one of the threads owned by this
+     * shared context.  Shutting down the returned {@link IOContext} does not shutdown the thread
+     * it was assigned, only the shared context owns the lifetime of its threads.
+     *
+     * @param options
+     * 		The {@link TransportOptions} that configure the IO Transport the context creates.
+     * @param sslOptions
+     * 		The {@link SslOptions} that configure the SSL layer of the IO Transport the context creates.
+     *
+     * @return a new {@link IOContext} bound to a thread from this shared context.
+     */
+    IOContext newIOContext(TransportOptions options, SslOptions sslOptions);
+
+    /**
+     * Shutdown the shared event loops synchronously with a grace period for work that might be
+     * in-bound at the time of termination.  This is not safe to call from inside one of the event
+     * loops as it blocks until the shutdown has completed.
+     */
+    void shutdown();
+
+    /**
+     * Shutdown the shared event loops asynchronously with a grace period for work that might be
+     * in-bound at the time of termination.  This is safe to call from inside an event loop where
+     * the standard blocking shutdown API is not.
+     */
+    void shutdownAsync();
+
+    /**
+     * Create a SharedIOContext using the available IO library.
+     *
+     * @param ioThreads
+     * 		The number of IO threads that the shared context can create.
+     * @param ioThreadName
+     * 		The name to given the IO Threads the context creates.
+     *
+     * @return a new {@link SharedIOContext} from available options.
+     */
+    static SharedIOContext create(int ioThreads, String ioThreadName) {
+        if (Netty4Support.isAvailable()) {
+            return new Netty4SharedIOContext(ioThreads, ioThreadName);
+        } else if (Netty5Support.isAvailable()) {
+            return new Netty5SharedIOContext(ioThreads, ioThreadName);
+        }
+
+        throw new UnsupportedOperationException("Netty not available on the class path");
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.transport;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSession;
+
+import org.apache.qpid.protonj2.client.SslOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client wide cache of the SSL contexts created from {@link SslOptions} so that connections and
+ * reconnects that share the same SSL configuration also share one context.  Reusing the context
+ * avoids loading the key and trust stores again for each transport and, because the engines are
+ * created for the remote host and port, lets the TLS session cache of the context resume earlier
+ * sessions with that peer using an abbreviated handshake.
+ * <p>
+ * Contexts are keyed by the options that are used to build the context along with the size and
+ * last modification time of the configured store files, an updated store therefore results in a
+ * new context being created on the next connect.  The options applied to each engine, such as the
+ * enabled protocols and cipher suites, are not part of the key.
+ */
+public final class SslContextCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SslContextCache.class);
+
+    private static final ConcurrentHashMap<List<Object>, CompletableFuture<Object>> CONTEXTS = new ConcurrentHashMap<>();
+
+    private static final LongAdder contextsCreated = new LongAdder();
+    private static final LongAdder contextCacheHits = new LongAdder();
+    private static final LongAdder handshakesCompleted = new LongAdder();
+    private static final LongAdder handshakesResumed = new LongAdder();
+
+    private SslContextCache() {
+    }
+
+    /**
+     * Factory of the SSL context type of a given transport implementation.
+     *
+     * @param <T> The type of SSL context that is created.
+     */
+    @FunctionalInterface
+    public interface SslContextFactory<T> {
+
+        /**
+         * @param options
+         *      The {@link SslOptions} that the new context should be configured from.
+         *
+         * @return a new SSL context created from the given options.
+         *
+         * @throws Exception if an error occurs while creating the context.
+         */
+        T create(SslOptions options) throws Exception;
+
+    }
+
+    /**
+     * Returns the cached SSL context for the given options creating it with the provided factory if
+     * none has been created yet.  Concurrent callers with the same options wait for the first of
+     * them to create the context, a context that fails to be created is not cached.
+     *
+     * @param <T> The type of SSL context that is returned.
+     *
+     * @param provider
+     *      A name for the SSL implementation that creates the context type.
+     * @param options
+     *      The {@link SslOptions} that the context is created from.
+     * @param factory
+     *      The factory used to create the context when it is not yet cached.
+     *
+     * @return the cached or newly created SSL context.
+     *
+     * @throws Exception if an error occurs while creating the context.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrCreate(String provider, SslOptions options, SslContextFactory<T> factory) throws Exception {
+        final List<Object> key = createKey(provider, options);
+        final CompletableFuture<Object> created = new CompletableFuture<>();
+        final CompletableFuture<Object> cached = CONTEXTS.putIfAbsent(key, created);
+
+        if (cached == null) {
+            try {
+                final T context = factory.create(options);
+                contextsCreated.increment();
+                created.complete(context);
+                return context;
+            } catch (Exception e) {
+                CONTEXTS.remove(key, created);
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        contextCacheHits.increment();
+
+        try {
+            return (T) cached.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Records the completion of a TLS handshake, the handshake is counted as a resumption if the
+     * negotiated session was created before the handshake started.
+     *
+     * @param engine
+     *      The {@link SSLEngine} that completed the handshake.
+     * @param handshakeStartTime
+     *      The time in milliseconds since the epoch at which the handshake was started.
+     */
+    public static void handshakeCompleted(SSLEngine engine, long handshakeStartTime) {
+        final SSLSession session = engine.getSession();
+
+        handshakesCompleted.increment();
+
+        if (session != null && session.getCreationTime() < handshakeStartTime) {
+            handshakesResumed.increment();
+            LOG.trace("TLS session resumed with {}:{}", session.getPeerHost(), session.getPeerPort());
+        }
+    }
+
+    /**
+     * @return the number of SSL contexts that have been created and cached.
+     */
+    public static long getContextsCreated() {
+        return contextsCreated.sum();
+    }
+
+    /**
+     * @return the number of times a cached SSL context was returned instead of creating one.
+     */
+    public static long getContextCacheHits() {
+        return contextCacheHits.sum();
+    }
+
+    /**
+     * @return the number of TLS handshakes that have completed successfully.
+     */
+    public static long getHandshakesCompleted() {
+        return handshakesCompleted.sum();
+    }
+
+    /**
+     * @return the number of completed TLS handshakes that resumed an earlier session.
+     */
+    public static long getHandshakesResumed() {
+        return handshakesResumed.sum();
+    }
+
+    /**
+     * Removes all cached SSL contexts, new connections create new contexts and cannot resume the
+     * sessions negotiated using the removed contexts.
+     */
+    public static void clear() {
+        CONTEXTS.clear();
+    }
+
+    private static List<Object> createKey(String provider, SslOptions options) {
+        return Arrays.asList(provider,
+                             options.contextProtocol(),
+                             options.trustAll(),
+                             options.keyAlias(),
+                             options.keyStoreLocation(),
+                             options.keyStoreType(),
+                             options.keyStorePassword(),
+                             fileStamp(options.keyStoreLocation()),
+                             options.trustStoreLocation(),
+                             options.trustStoreType(),
+                             options.trustStorePassword(),
+                             fileStamp(options.trustStoreLocation()));
+    }
+
+    private static List<Long> fileStamp(String location) {
+        if (location == null) {
+            return null;
+        }
+
+        final File file = new File(location);
+
+        return Arrays.asList(file.lastModified(), file.length());
+    }
+}
@@ -17,7 +17,9 @@
 package org.apache.qpid.protonj2.client.transport.netty4;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -27,11 +29,13 @@ import org.apache.qpid.protonj2.client.TransportOptions;
 import org.apache.qpid.protonj2.client.transport.IOContext;
 import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
 import org.apache.qpid.protonj2.engine.Scheduler;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -48,69 +52,58 @@ public final class Netty4IOContext implements IOContext {
     private static final int ASYNC_SHUTDOWN_TIMEOUT = 100;
     private static final int ASYNC_SHUTDOWN_QUIET_PERIOD = 10;
 
+    static final String NIO = "NIO";
+
     private final EventLoopGroup group;
     private final NettyIOScheduler scheduler = new NettyIOScheduler();
+    private final Scheduler timerScheduler;
     private final Class<? extends Channel> channelClass;
     private final TransportOptions options;
     private final SslOptions sslOptions;
     private final ThreadFactory threadFactory;
+    private final boolean shared;
+    private final Set<java.util.concurrent.Future<?>> periodicTasks = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
 
     public Netty4IOContext(TransportOptions options, SslOptions ssl, String ioThreadName) {
         Objects.requireNonNull(options, "Transport Options cannot be null");
         Objects.requireNonNull(ssl, "Transport SSL Options cannot be null");
 
+        final String ioType = selectIOType(options);
+
         this.options = options;
         this.sslOptions = ssl;
         this.threadFactory = new TrackableThreadFactory(ioThreadName, true);
+        this.group = createGroup(ioType, 1, threadFactory);
+        this.channelClass = selectChannelClass(ioType);
+        this.timerScheduler = null;
+        this.shared = false;
+    }
 
-        final String[] nativeIOPreference = options.nativeIOPreference();
-
-        EventLoopGroup selectedGroup = null;
-        Class<? extends Channel> selectedChannelClass = null;
-
-        if (options.allowNativeIO()) {
-            for (String nativeID : nativeIOPreference) {
-                if (EpollSupport.NAME.equalsIgnoreCase(nativeID)) {
-                    if (EpollSupport.isAvailable(options)) {
-                        LOG.trace("Netty Transports will be using Epoll mode");
-                        selectedGroup = EpollSupport.createGroup(1, threadFactory);
-                        selectedChannelClass = EpollSupport.getChannelClass();
-                        break;
-                    }
-                } else if (IOUringSupport.NAME.equalsIgnoreCase(nativeID)) {
-                    if (IOUringSupport.isAvailable(options)) {
-                        LOG.trace("Netty Transports will be using IO-Uring mode");
-                        selectedGroup = IOUringSupport.createGroup(1, threadFactory);
-                        selectedChannelClass = IOUringSupport.getChannelClass();
-                        break;
-                    }
-                } else if (KQueueSupport.NAME.equalsIgnoreCase(nativeID)) {
-                    if (KQueueSupport.isAvailable(options)) {
-                        LOG.trace("Netty Transports will be using KQueue mode");
-                        selectedGroup = KQueueSupport.createGroup(1, threadFactory);
-                        selectedChannelClass = KQueueSupport.getChannelClass();
-                        break;
-                    }
-                } else {
-                    throw new IllegalArgumentException(
-                        String.format("Provided preferred native transport type name: %s, is not supported.", nativeID));
-                }
-            }
-        }
-
-        if (selectedGroup == null) {
-            LOG.trace("Netty Transports will be using NIO mode");
-            selectedGroup = new NioEventLoopGroup(1, threadFactory);
-            selectedChannelClass = NioSocketChannel.class;
-        }
+    /*
+     * Creates an IO context whose work is bound to a single event loop that is owned by a
+     * shared IO context, the event loop is not shutdown when this context is shutdown.  Timed
+     * work is tracked on the timer of the shared context and run on the event loop when due.
+     */
+    Netty4IOContext(TransportOptions options, SslOptions ssl, EventLoop eventLoop, Class<? extends Channel> channelClass, HashedWheelTimer timer) {
+        Objects.requireNonNull(options, "Transport Options cannot be null");
+        Objects.requireNonNull(ssl, "Transport SSL Options cannot be null");
 
-        this.group = selectedGroup;
-        this.channelClass = selectedChannelClass;
+        this.options = options;
+        this.sslOptions = ssl;
+        this.threadFactory = null;
+        this.group = eventLoop;
+        this.channelClass = channelClass;
+        this.timerScheduler = timer.newScheduler(eventLoop);
+        this.shared = true;
     }
 
     @Override
     public void shutdown() {
-        if (!group.isShutdown()) {
+        if (shared) {
+            shutdownShared();
+        } else if (!group.isShutdown()) {
             group.shutdownGracefully(0, SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
             try {
                 if (!group.awaitTermination(2 * SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
@@ -124,7 +117,9 @@ public final class Netty4IOContext implements IOContext {
 
     @Override
     public void shutdownAsync() {
-        if (!group.isShutdown()) {
+        if (shared) {
+            shutdownShared();
+        } else if (!group.isShutdown()) {
             group.shutdownGracefully(ASYNC_SHUTDOWN_QUIET_PERIOD, ASYNC_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
         }
     }
@@ -136,7 +131,7 @@ public final class Netty4IOContext implements IOContext {
 
     @Override
     public TcpTransport newTransport() {
-        if (group.isShutdown() || group.isShuttingDown() || group.isTerminated()) {
+        if (closed || group.isShutdown() || group.isShuttingDown() || group.isTerminated()) {
             throw new IllegalStateException("Cannot create a Transport from a shutdown IO context");
         }
 
@@ -153,6 +148,95 @@ public final class Netty4IOContext implements IOContext {
         return transport;
     }
 
+    //----- Internal IO selection and shared context support
+
+    static String selectIOType(TransportOptions options) {
+        if (options.allowNativeIO()) {
+            for (String nativeID : options.nativeIOPreference()) {
+                if (EpollSupport.NAME.equalsIgnoreCase(nativeID)) {
+                    if (EpollSupport.isAvailable(options)) {
+                        LOG.trace("Netty Transports will be using Epoll mode");
+                        return EpollSupport.NAME;
+                    }
+                } else if (IOUringSupport.NAME.equalsIgnoreCase(nativeID)) {
+                    if (IOUringSupport.isAvailable(options)) {
+                        LOG.trace("Netty Transports will be using IO-Uring mode");
+                        return IOUringSupport.NAME;
+                    }
+                } else if (KQueueSupport.NAME.equalsIgnoreCase(nativeID)) {
+                    if (KQueueSupport.isAvailable(options)) {
+                        LOG.trace("Netty Transports will be using KQueue mode");
+                        return KQueueSupport.NAME;
+                    }
+                } else {
+                    throw new IllegalArgumentException(
+                        String.format("Provided preferred native transport type name: %s, is not supported.", nativeID));
+                }
+            }
+        }
+
+        LOG.trace("Netty Transports will be using NIO mode");
+        return NIO;
+    }
+
+    static EventLoopGroup createGroup(String ioType, int threads, ThreadFactory threadFactory) {
+        switch (ioType) {
+            case EpollSupport.NAME:
+                return EpollSupport.createGroup(threads, threadFactory);
+            case IOUringSupport.NAME:
+                return IOUringSupport.createGroup(threads, threadFactory);
+            case KQueueSupport.NAME:
+                return KQueueSupport.createGroup(threads, threadFactory);
+            default:
+                return new NioEventLoopGroup(threads, threadFactory);
+        }
+    }
+
+    static Class<? extends Channel> selectChannelClass(String ioType) {
+        switch (ioType) {
+            case EpollSupport.NAME:
+                return EpollSupport.getChannelClass();
+            case IOUringSupport.NAME:
+                return IOUringSupport.getChannelClass();
+            case KQueueSupport.NAME:
+                return KQueueSupport.getChannelClass();
+            default:
+                return NioSocketChannel.class;
+        }
+    }
+
+    private void shutdownShared() {
+        if (!closed) {
+            closed = true;
+            periodicTasks.forEach(task -> task.cancel(false));
+            periodicTasks.clear();
+        }
+    }
+
+    /*
+     * Scheduled work is not run once a shared context is shutdown as the event loop
+     * lives on and would otherwise execute timeouts for a connection that is gone.
+     */
+    private Runnable guarded(Runnable command) {
+        return () -> {
+            if (!closed) {
+                command.run();
+            }
+        };
+    }
+
+    private <V> Callable<V> guarded(Callable<V> task) {
+        return () -> closed ? null : task.call();
+    }
+
+    private <T extends java.util.concurrent.Future<?>> T trackPeriodic(T future) {
+        periodicTasks.add(future);
+        if (closed) {
+            future.cancel(false);
+        }
+        return future;
+    }
+
     public class NettyIOScheduler implements Scheduler, Executor {
 
         @Override
@@ -162,27 +246,43 @@ public final class Netty4IOContext implements IOContext {
 
         @Override
         public java.util.concurrent.Future<?> schedule(Runnable command, long delay, TimeUnit unit) {
-            return group.schedule(command, delay, unit);
+            if (shared) {
+                return timerScheduler.schedule(guarded(command), delay, unit);
+            } else {
+                return group.schedule(command, delay, unit);
+            }
         }
 
         @Override
         public <V> java.util.concurrent.Future<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
-            return group.schedule(task, delay, unit);
+            if (shared) {
+                return timerScheduler.schedule(guarded(task), delay, unit);
+            } else {
+                return group.schedule(task, delay, unit);
+            }
         }
 
         @Override
         public java.util.concurrent.Future<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
-            return group.scheduleAtFixedRate(command, initialDelay, period, unit);
+            if (shared) {
+                return trackPeriodic(timerScheduler.scheduleAtFixedRate(guarded(command), initialDelay, period, unit));
+            } else {
+                return group.scheduleAtFixedRate(command, initialDelay, period, unit);
+            }
         }
 
         @Override
         public java.util.concurrent.Future<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
-            return group.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+            if (shared) {
+                return trackPeriodic(timerScheduler.scheduleWithFixedDelay(guarded(command), initialDelay, delay, unit));
+            } else {
+                return group.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+            }
         }
 
         @Override
         public boolean isShutdown() {
-            return group.isShutdown();
+            return closed || group.isShutdown();
         }
     }
 }
@@ -27,10 +27,12 @@ import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBuffer;
 import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.netty.Netty4ToProtonBufferAdapter;
 import org.apache.qpid.protonj2.client.SslOptions;
 import org.apache.qpid.protonj2.client.TransportOptions;
+import org.apache.qpid.protonj2.client.transport.SslContextCache;
 import org.apache.qpid.protonj2.client.transport.Transport;
 import org.apache.qpid.protonj2.client.transport.TransportListener;
 import org.apache.qpid.protonj2.client.util.IOExceptionSupport;
@@ -39,6 +41,7 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -74,6 +77,7 @@ public class TcpTransport implements Transport {
     protected String host;
     protected int port;
     protected TransportListener listener;
+    protected volatile long handshakeStartTime;
     protected Netty4ProtonBufferAllocator nettyAllocator;
 
     /**
@@ -325,6 +329,11 @@ public class TcpTransport implements Transport {
                     nettyBuf = ((Netty4ToProtonBufferAdapter)output).unwrapAndRelease();
                 } else if (output.unwrap() instanceof ByteBuf) {
                     nettyBuf = (ByteBuf) ReferenceCountUtil.retain(output.unwrap());
+                } else if (ioBuffer.isReadOnly() && output.hasReadbleArray() && !isPooled(output)) {
+                    // Read-only contents cannot change so the bytes can be written without a copy, pooled
+                    // arrays are excluded as they return to the pool once the buffer is closed below.
+                    nettyBuf = Unpooled.wrappedBuffer(
+                        output.getReadableArray(), output.getReadableArrayOffset(), output.getReadableBytes());
                 } else {
                     nettyBuf = channel.alloc().ioBuffer(output.getReadableBytes());
                     if (output.hasReadbleArray()) {
@@ -349,6 +358,10 @@ public class TcpTransport implements Transport {
         return this;
     }
 
+    private static boolean isPooled(ProtonBufferComponent component) {
+        return component.unwrap() instanceof ProtonByteArrayBuffer && ((ProtonByteArrayBuffer) component.unwrap()).isPooled();
+    }
+
     //----- Internal implementation details, can be overridden as needed -----//
 
     protected void addAdditionalHandlers(ChannelPipeline pipeline) {
@@ -446,6 +459,7 @@ public class TcpTransport implements Transport {
                 throw IOExceptionSupport.create(ex);
             }
 
+            handshakeStartTime = System.currentTimeMillis();
             channel.pipeline().addLast("ssl", sslHandler);
         }
 
@@ -484,6 +498,7 @@ public class TcpTransport implements Transport {
                     public void operationComplete(Future<Channel> future) throws Exception {
                         if (future.isSuccess()) {
                             LOG.trace("SSL Handshake has completed: {}", channel);
+                            SslContextCache.handshakeCompleted(sslHandler.engine(), handshakeStartTime);
                             handleConnected(channel);
                         } else {
                             LOG.trace("SSL Handshake has failed: {}", channel);
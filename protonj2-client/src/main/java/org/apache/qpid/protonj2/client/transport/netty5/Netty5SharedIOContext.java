@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.transport.netty5;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.SslOptions;
+import org.apache.qpid.protonj2.client.TransportOptions;
+import org.apache.qpid.protonj2.client.transport.IOContext;
+import org.apache.qpid.protonj2.client.transport.SharedIOContext;
+import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty5.channel.EventLoopGroup;
+
+/**
+ * Shared IO context that creates event loop groups on demand for each native IO type that
+ * the contexts it creates select and hands out event loops from those groups in turn.  The
+ * timed work of all the contexts, idle timeout checks and operation timeouts, is tracked by
+ * a single {@link HashedWheelTimer} and run on the owning context's event loop when due.
+ */
+public final class Netty5SharedIOContext implements SharedIOContext {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Netty5SharedIOContext.class);
+
+    private static final int SHUTDOWN_TIMEOUT = 50;
+    private static final int ASYNC_SHUTDOWN_TIMEOUT = 100;
+    private static final int ASYNC_SHUTDOWN_QUIET_PERIOD = 10;
+
+    private final Map<String, EventLoopGroup> groups = new HashMap<>();
+    private final ThreadFactory threadFactory;
+    private final HashedWheelTimer timer;
+    private final int ioThreads;
+
+    private boolean shutdown;
+
+    public Netty5SharedIOContext(int ioThreads, String ioThreadName) {
+        if (ioThreads <= 0) {
+            throw new IllegalArgumentException("The number of shared IO threads must be greater than zero");
+        }
+
+        this.ioThreads = ioThreads;
+        this.threadFactory = new TrackableThreadFactory(ioThreadName, true);
+        this.timer = new HashedWheelTimer(new TrackableThreadFactory(ioThreadName + " Timer", true),
+            HashedWheelTimer.DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS, HashedWheelTimer.DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    @Override
+    public synchronized IOContext newIOContext(TransportOptions options, SslOptions sslOptions) {
+        Objects.requireNonNull(options, "Transport Options cannot be null");
+        Objects.requireNonNull(sslOptions, "Transport SSL Options cannot be null");
+
+        if (shutdown) {
+            throw new IllegalStateException("Cannot create a new IO context from a shutdown shared IO context");
+        }
+
+        final String ioType = Netty5IOContext.selectIOType(options);
+        final EventLoopGroup group =
+            groups.computeIfAbsent(ioType, type -> Netty5IOContext.createGroup(type, ioThreads, threadFactory));
+
+        return new Netty5IOContext(options, sslOptions, group.next(), Netty5IOContext.selectChannelClass(ioType), timer);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        timer.shutdown();
+
+        groups.values().forEach(group -> {
+            if (!group.isShutdown()) {
+                group.shutdownGracefully(0, SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+        });
+
+        groups.values().forEach(group -> {
+            try {
+                if (!group.awaitTermination(2 * SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    LOG.trace("Shared IO Event Loop shutdown failed to complete in allotted time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Override
+    public synchronized void shutdownAsync() {
+        shutdown = true;
+        timer.shutdown();
+
+        groups.values().forEach(group -> {
+            if (!group.isShutdown()) {
+                group.shutdownGracefully(ASYNC_SHUTDOWN_QUIET_PERIOD, ASYNC_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+}
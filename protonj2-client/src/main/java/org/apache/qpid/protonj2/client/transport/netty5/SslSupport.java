@@ -36,6 +36,7 @@ import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509ExtendedKeyManager;
 
 import org.apache.qpid.protonj2.client.SslOptions;
+import org.apache.qpid.protonj2.client.transport.SslContextCache;
 import org.apache.qpid.protonj2.client.transport.X509AliasKeyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +57,9 @@ public final class SslSupport {
 
     private static final Logger LOG = LoggerFactory.getLogger(SslSupport.class);
 
+    private static final String JDK_CONTEXT_PROVIDER = "jdk";
+    private static final String OPENSSL_CONTEXT_PROVIDER = "netty5-openssl";
+
     /**
      * Determines if Netty OpenSSL support is available and applicable based on the configuration
      * in the given TransportOptions instance.
@@ -92,7 +96,8 @@ public final class SslSupport {
      *
      * If the given options contain an SSLContext override, this will be used directly
      * when creating the handler. If they do not, an SSLContext will first be created
-     * using the other option values.
+     * using the other option values, or taken from the {@link SslContextCache} when
+     * the options allow the context to be cached.
      *
      * @param allocator
      *		  The Netty Buffer Allocator to use when Netty resources need to be created.
@@ -111,12 +116,22 @@ public final class SslSupport {
         final SSLEngine sslEngine;
 
         if (isOpenSSLPossible(options)) {
-            SslContext sslContext = createOpenSslContext(options);
+            final SslContext sslContext;
+            if (options.cacheSslContext()) {
+                sslContext = SslContextCache.getOrCreate(OPENSSL_CONTEXT_PROVIDER, options, SslSupport::createOpenSslContext);
+            } else {
+                sslContext = createOpenSslContext(options);
+            }
+
             sslEngine = createOpenSslEngine(allocator, host, port, sslContext, options);
         } else {
             SSLContext sslContext = options.sslContextOverride();
             if (sslContext == null) {
-                sslContext = createJdkSslContext(options);
+                if (options.cacheSslContext()) {
+                    sslContext = SslContextCache.getOrCreate(JDK_CONTEXT_PROVIDER, options, SslSupport::createJdkSslContext);
+                } else {
+                    sslContext = createJdkSslContext(options);
+                }
             }
 
             sslEngine = createJdkSslEngine(host, port, sslContext, options);
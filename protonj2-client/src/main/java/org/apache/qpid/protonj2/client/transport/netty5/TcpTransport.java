@@ -27,11 +27,14 @@ import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBuffer;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBufferAllocator;
 import org.apache.qpid.protonj2.buffer.netty.Netty5ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.netty.Netty5ToProtonBufferAdapter;
 import org.apache.qpid.protonj2.buffer.netty.ProtonBufferToNetty5Adapter;
 import org.apache.qpid.protonj2.client.SslOptions;
 import org.apache.qpid.protonj2.client.TransportOptions;
+import org.apache.qpid.protonj2.client.transport.SslContextCache;
 import org.apache.qpid.protonj2.client.transport.Transport;
 import org.apache.qpid.protonj2.client.transport.TransportListener;
 import org.apache.qpid.protonj2.client.util.IOExceptionSupport;
@@ -71,6 +74,7 @@ public class TcpTransport implements Transport {
     protected String host;
     protected int port;
     protected TransportListener listener;
+    protected volatile long handshakeStartTime;
     protected Netty5ProtonBufferAllocator nettyAllocator;
 
     /**
@@ -287,6 +291,11 @@ public class TcpTransport implements Transport {
                     nettyBuf = ((Netty5ToProtonBufferAdapter)output).unwrapAndRelease();
                 } else if (output.unwrap() instanceof Buffer) {
                     nettyBuf = ((Buffer) output.unwrap()).copy(true);
+                } else if (ioBuffer.isReadOnly() && output.hasReadbleArray() && !isPooled(output)) {
+                    // Read-only contents cannot change so the bytes can be written without a copy, pooled
+                    // arrays are excluded as they return to the pool once the buffer is closed below.
+                    nettyBuf = new ProtonBufferToNetty5Adapter(ProtonByteArrayBufferAllocator.wrapped(
+                        output.getReadableArray(), output.getReadableArrayOffset(), output.getReadableBytes()).convertToReadOnly());
                 } else {
                     nettyBuf = channel.bufferAllocator().allocate(output.getReadableBytes());
                     if (output.hasReadbleArray()) {
@@ -311,6 +320,10 @@ public class TcpTransport implements Transport {
         return this;
     }
 
+    private static boolean isPooled(ProtonBufferComponent component) {
+        return component.unwrap() instanceof ProtonByteArrayBuffer && ((ProtonByteArrayBuffer) component.unwrap()).isPooled();
+    }
+
     @SuppressWarnings("unused")
     private TcpTransport writeOutputBufferAsWrappedNettyBuffer(final ProtonBuffer buffer, boolean flush, Runnable onComplete) {
         Future<Void> writeFuture = null;
@@ -430,6 +443,7 @@ public class TcpTransport implements Transport {
                 throw IOExceptionSupport.create(ex);
             }
 
+            handshakeStartTime = System.currentTimeMillis();
             channel.pipeline().addLast("ssl", sslHandler);
         }
 
@@ -468,6 +482,7 @@ public class TcpTransport implements Transport {
                     public void operationComplete(Future<? extends Channel> future) throws Exception {
                         if (future.isSuccess()) {
                             LOG.trace("SSL Handshake has completed: {}", channel);
+                            SslContextCache.handshakeCompleted(sslHandler.engine(), handshakeStartTime);
                             handleConnected(channel);
                         } else {
                             LOG.trace("SSL Handshake has failed: {}", channel);
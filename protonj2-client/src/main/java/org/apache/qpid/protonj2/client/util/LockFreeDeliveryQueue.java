@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.impl.ClientDelivery;
+
+/**
+ * Lock-free first in / first out {@link Delivery} Queue.
+ * <p>
+ * Deliveries are held in a bounded array ring sized from the receiver credit window in which
+ * each slot carries a sequence number that tells producers and consumers whether the slot is
+ * free or holds a published delivery, allowing any number of threads to offer and poll without
+ * locking. The queue cannot refuse a delivery as the IO thread must never block, so should the
+ * ring fill (for instance when credit is granted beyond the configured window) the remaining
+ * deliveries spill into an unbounded overflow queue which is consumed once the ring is drained.
+ * Threads waiting in {@link #dequeue(long)} register themselves and park, a producer unparks
+ * one registered waiter after each enqueue.
+ */
+public final class LockFreeDeliveryQueue implements DeliveryQueue {
+
+    private static final AtomicIntegerFieldUpdater<LockFreeDeliveryQueue> STATE_FIELD_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(LockFreeDeliveryQueue.class, "state");
+    private static final AtomicLongFieldUpdater<LockFreeDeliveryQueue> HEAD_FIELD_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(LockFreeDeliveryQueue.class, "head");
+    private static final AtomicLongFieldUpdater<LockFreeDeliveryQueue> TAIL_FIELD_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(LockFreeDeliveryQueue.class, "tail");
+
+    private static final int MIN_RING_CAPACITY = 16;
+    private static final int MAX_RING_CAPACITY = 1 << 16;
+
+    private static final int CLOSED = 0;
+    private static final int STOPPED = 1;
+    private static final int RUNNING = 2;
+
+    private volatile int state = STOPPED;
+    private volatile long head;
+    private volatile long tail;
+
+    private final int mask;
+    private final AtomicReferenceArray<ClientDelivery> ring;
+    private final AtomicLongArray sequences;
+
+    private final ConcurrentLinkedDeque<ClientDelivery> front = new ConcurrentLinkedDeque<>();
+    private final Queue<ClientDelivery> overflow = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new lock-free first in / first out message queue with the given queue depth
+     *
+     * @param queueDepth
+     * 		The Queue depth used to size the bounded portion of this Message Queue.
+     */
+    public LockFreeDeliveryQueue(int queueDepth) {
+        final int capacity = Math.min(MAX_RING_CAPACITY, Math.max(MIN_RING_CAPACITY, queueDepth));
+        final int ringSize = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+
+        this.mask = ringSize - 1;
+        this.ring = new AtomicReferenceArray<>(ringSize);
+        this.sequences = new AtomicLongArray(ringSize);
+
+        for (int i = 0; i < ringSize; ++i) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public void enqueueFirst(ClientDelivery envelope) {
+        front.addFirst(envelope);
+        signalWaiter();
+    }
+
+    @Override
+    public void enqueue(ClientDelivery envelope) {
+        // Once deliveries have spilled into the overflow queue later arrivals must follow them
+        // there until it drains or they would be handed out ahead of the earlier deliveries.
+        if (!overflow.isEmpty() || !offerToRing(envelope)) {
+            overflow.add(envelope);
+        }
+
+        signalWaiter();
+    }
+
+    @Override
+    public ClientDelivery dequeue(long timeout) throws InterruptedException {
+        final long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+        final Thread current = Thread.currentThread();
+
+        while (true) {
+            if (!isRunning()) {
+                return null;
+            }
+
+            final ClientDelivery delivery = poll();
+            if (delivery != null || timeout == 0) {
+                return delivery;
+            }
+
+            // Register before checking again so that a producer which enqueues after the check
+            // is guaranteed to see this thread as a waiter and unpark it.
+            waiters.add(current);
+            try {
+                if (isRunning() && isEmpty()) {
+                    if (timeout < 0) {
+                        LockSupport.park(this);
+                    } else {
+                        final long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return isRunning() ? poll() : null;
+                        }
+
+                        LockSupport.parkNanos(this, remaining);
+                    }
+                }
+            } finally {
+                waiters.remove(current);
+            }
+
+            if (Thread.interrupted()) {
+                // Pass on any wake up this thread may have consumed so the delivery isn't stranded.
+                if (!isEmpty()) {
+                    signalWaiter();
+                }
+
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public ClientDelivery dequeueNoWait() {
+        if (!isRunning()) {
+            return null;
+        }
+
+        return poll();
+    }
+
+    @Override
+    public void start() {
+        if (STATE_FIELD_UPDATER.compareAndSet(this, STOPPED, RUNNING)) {
+            signalAllWaiters();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (STATE_FIELD_UPDATER.compareAndSet(this, RUNNING, STOPPED)) {
+            signalAllWaiters();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (STATE_FIELD_UPDATER.getAndSet(this, CLOSED) > CLOSED) {
+            signalAllWaiters();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return state == RUNNING;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return state == CLOSED;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return front.isEmpty() && tail == head && overflow.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        final long ringSize = Math.max(0, tail - head);
+        final int frontSize = front.isEmpty() ? 0 : front.size();
+        final int overflowSize = overflow.isEmpty() ? 0 : overflow.size();
+
+        return (int) Math.min(Integer.MAX_VALUE, ringSize + frontSize + overflowSize);
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LockFreeDeliveryQueue { size = " + size() + " }";
+    }
+
+    //----- Internal implementation
+
+    private ClientDelivery poll() {
+        ClientDelivery delivery = front.isEmpty() ? null : front.pollFirst();
+
+        if (delivery == null) {
+            delivery = pollFromRing();
+        }
+
+        if (delivery == null) {
+            delivery = overflow.poll();
+        }
+
+        return delivery;
+    }
+
+    private boolean offerToRing(ClientDelivery delivery) {
+        long position = tail;
+
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (TAIL_FIELD_UPDATER.compareAndSet(this, position, position + 1)) {
+                    ring.set(index, delivery);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;  // Ring is full
+            }
+
+            position = tail;
+        }
+    }
+
+    private ClientDelivery pollFromRing() {
+        long position = head;
+
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (HEAD_FIELD_UPDATER.compareAndSet(this, position, position + 1)) {
+                    final ClientDelivery delivery = ring.get(index);
+                    ring.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return delivery;
+                }
+            } else if (difference < 0) {
+                return null;  // Ring is empty
+            }
+
+            position = head;
+        }
+    }
+
+    private void signalWaiter() {
+        final Thread waiter = waiters.poll();
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    private void signalAllWaiters() {
+        waiters.forEach(LockSupport::unpark);
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.qpid.protonj2.client;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.apache.qpid.protonj2.buffer.impl.ProtonPooledBufferAllocator;
 import org.junit.jupiter.api.Test;
 
 public class ConnectionOptionsTest {
@@ -30,6 +33,8 @@ public class ConnectionOptionsTest {
 
         assertNull(options.password());
         assertNull(options.user());
+        assertEquals(ConnectionOptions.DEFAULT_OUTPUT_BATCH_SIZE, options.outputBatchSize());
+        assertNull(options.bufferAllocator());
     }
 
     @Test
@@ -38,11 +43,25 @@ public class ConnectionOptionsTest {
 
         options.user("test");
         options.password("test-pass");
+        options.outputBatchSize(1024);
+        options.bufferAllocator(new ProtonPooledBufferAllocator());
 
         ConnectionOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertEquals(options.user(), copy.user());
         assertEquals(options.password(), copy.password());
+        assertEquals(options.outputBatchSize(), copy.outputBatchSize());
+        assertSame(options.bufferAllocator(), copy.bufferAllocator());
+    }
+
+    @Test
+    void testOutputBatchSizeValidation() {
+        ConnectionOptions options = new ConnectionOptions();
+
+        assertThrows(IllegalArgumentException.class, () -> options.outputBatchSize(-1));
+
+        options.outputBatchSize(0);
+        assertEquals(0, options.outputBatchSize());
     }
 }
@@ -20,8 +20,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 
 public class ReceiverOptionsTest {
@@ -48,4 +51,47 @@ public class ReceiverOptionsTest {
         assertEquals(options.reconnectLocations(), copy.reconnectLocations());
         assertEquals(options.reconnectEnabled(), copy.reconnectEnabled());
     }
+
+    @Test
+    void testDispositionCoalescingOptions() {
+        ReceiverOptions options = new ReceiverOptions();
+
+        assertEquals(ReceiverOptions.DEFAULT_DISPOSITION_COALESCING_LIMIT, options.dispositionCoalescingLimit());
+        assertEquals(ReceiverOptions.DEFAULT_DISPOSITION_COALESCING_DELAY, options.dispositionCoalescingDelay());
+
+        options.dispositionCoalescingLimit(64);
+        options.dispositionCoalescingDelay(1, TimeUnit.SECONDS);
+
+        ReceiverOptions copy = options.clone();
+
+        assertNotSame(copy, options);
+        assertEquals(64, copy.dispositionCoalescingLimit());
+        assertEquals(1000, copy.dispositionCoalescingDelay());
+
+        assertThrows(IllegalArgumentException.class, () -> options.dispositionCoalescingLimit(-1));
+        assertThrows(IllegalArgumentException.class, () -> options.dispositionCoalescingDelay(-1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testDeliveryQueueTypeOption() {
+        ReceiverOptions options = new ReceiverOptions();
+
+        assertEquals(ReceiverOptions.DEFAULT_DELIVERY_QUEUE_TYPE, options.deliveryQueueType());
+
+        options.deliveryQueueType(DeliveryQueueType.LOCK_FREE);
+
+        assertEquals(DeliveryQueueType.LOCK_FREE, options.clone().deliveryQueueType());
+        assertThrows(IllegalArgumentException.class, () -> options.deliveryQueueType(null));
+    }
+
+    @Test
+    void testLazyMessageDecodingOption() {
+        ReceiverOptions options = new ReceiverOptions();
+
+        assertFalse(options.lazyMessageDecoding());
+
+        options.lazyMessageDecoding(true);
+
+        assertTrue(options.clone().lazyMessageDecoding());
+    }
 }
@@ -20,8 +20,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.qpid.protonj2.engine.sasl.client.ScramCredentialsCache;
 import org.junit.jupiter.api.Test;
 
 class SaslOptionsTest {
@@ -33,6 +36,7 @@ class SaslOptionsTest {
         assertNotNull(options.allowedMechanisms());
         assertTrue(options.allowedMechanisms().isEmpty());
         assertTrue(options.saslEnabled());
+        assertNull(options.scramCredentialsCache());
     }
 
     @Test
@@ -42,12 +46,14 @@ class SaslOptionsTest {
         options.addAllowedMechanism("PLAIN");
         options.addAllowedMechanism("ANONYMOUS");
         options.saslEnabled(false);
+        options.scramCredentialsCache(new ScramCredentialsCache());
 
         SaslOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertEquals(options.allowedMechanisms(), copy.allowedMechanisms());
         assertEquals(options.saslEnabled(), copy.saslEnabled());
+        assertSame(options.scramCredentialsCache(), copy.scramCredentialsCache());
     }
 
     @Test
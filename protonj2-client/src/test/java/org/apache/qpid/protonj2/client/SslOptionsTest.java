@@ -96,6 +96,7 @@ public class SslOptionsTest extends ImperativeClientTestCase {
         assertNull(options.trustStorePassword());
         assertNull(options.keyAlias());
         assertNull(options.sslContextOverride());
+        assertTrue(options.cacheSslContext());
     }
 
     @Test
@@ -119,6 +120,7 @@ public class SslOptionsTest extends ImperativeClientTestCase {
         assertArrayEquals(DISABLED_PROTOCOLS,options.disabledProtocols());
         assertArrayEquals(ENABLED_CIPHERS,options.enabledCipherSuites());
         assertArrayEquals(DISABLED_CIPHERS,options.disabledCipherSuites());
+        assertFalse(options.cacheSslContext());
     }
 
     @Test
@@ -202,6 +204,7 @@ public class SslOptionsTest extends ImperativeClientTestCase {
         options.enabledCipherSuites(ENABLED_CIPHERS);
         options.disabledProtocols(DISABLED_PROTOCOLS);
         options.disabledCipherSuites(DISABLED_CIPHERS);
+        options.cacheSslContext(false);
 
         return options;
     }
@@ -37,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
@@ -44,6 +46,7 @@ import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
 import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Footer;
 import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
@@ -810,4 +813,133 @@ class ClientMessageTest {
         assertFalse(message.hasAnnotation("test"));
         assertFalse(message.hasAnnotations());
     }
+
+    @Test
+    public void testLazilyDecodedMessageReadsSectionsOnDemand() throws ClientException {
+        ClientMessage<Object> message = ClientMessage.create();
+
+        message.durable(true).deliveryCount(2).to("queue").messageId("ID:1");
+        message.annotation("x-opt-test", "annotation").property("test", "property").property("empty", null);
+        message.addBodySection(new Data(new byte[] { 1, 2, 3 })).addBodySection(new Data(new byte[] { 4, 5 }));
+        message.footer("footer", 1);
+
+        final Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", true);
+
+        final AtomicInteger annotationsConsumed = new AtomicInteger();
+        final ProtonBuffer payload = ClientMessageSupport.encodeMessage(message, deliveryAnnotations);
+        final Message<?> received = ClientMessageSupport.decodeMessageLazily(payload, (DeliveryAnnotations annotations) -> {
+            assertEquals(true, annotations.getValue().values().iterator().next());
+            annotationsConsumed.incrementAndGet();
+        });
+
+        assertEquals(1, annotationsConsumed.get());
+        assertEquals("property", received.property("test"));
+        assertTrue(received.hasProperty("empty"));
+        assertNull(received.property("empty"));
+        assertFalse(received.hasProperty("missing"));
+        assertEquals("annotation", received.annotation("x-opt-test"));
+        assertFalse(received.hasAnnotation("missing"));
+        assertEquals("queue", received.to());
+        assertEquals("ID:1", received.messageId());
+        assertTrue(received.durable());
+        assertEquals(2, received.deliveryCount());
+        assertEquals(1, received.footer("footer"));
+        assertEquals(2, received.toAdvancedMessage().bodySections().size());
+    }
+
+    @Test
+    public void testLazilyDecodedMessageWritesUntouchedSectionsAsReceived() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create(new AmqpValue<>("body"));
+
+        message.durable(true).subject("subject").property("test", "property");
+
+        final ProtonBuffer payload = ClientMessageSupport.encodeMessage(message, null);
+        final ProtonBuffer received = payload.copy();
+        final AdvancedMessage<?> forwarded = (AdvancedMessage<?>) ClientMessageSupport.decodeMessageLazily(received, null);
+
+        assertEquals("property", forwarded.property("test"));
+        assertEquals("subject", forwarded.subject());
+        assertEquals(payload, ClientMessageSupport.encodeMessage(forwarded, null));
+
+        forwarded.deliveryCount(1);
+        forwarded.property("added", 1);
+
+        final Message<?> decoded = ClientMessageSupport.decodeMessage(ClientMessageSupport.encodeMessage(forwarded, null), null);
+
+        assertEquals(1, decoded.deliveryCount());
+        assertTrue(decoded.durable());
+        assertEquals("subject", decoded.subject());
+        assertEquals("property", decoded.property("test"));
+        assertEquals(1, decoded.property("added"));
+        assertEquals("body", decoded.body());
+    }
+
+    @Test
+    public void testLazyDecodeFallsBackForSectionsOutOfOrder() throws ClientException {
+        final ProtonBuffer payload = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        ClientMessageSupport.encodeSection(new AmqpValue<>("body"), payload);
+        ClientMessageSupport.encodeSection(new Header().setDurable(true), payload);
+
+        final Message<?> message = ClientMessageSupport.decodeMessageLazily(payload, null);
+
+        assertNull(((ClientMessage<?>) message).encodedSections());
+        assertTrue(message.durable());
+        assertEquals("body", message.body());
+    }
+
+    @Test
+    public void testMessageFromRawTakesOwnershipOfEncoding() throws ClientException {
+        final ProtonBuffer indexed = ClientMessageSupport.encodeMessage(ClientMessage.create(new AmqpValue<>("body")), null);
+        final AdvancedMessage<String> message = AdvancedMessage.fromRaw(indexed);
+
+        assertFalse(indexed.isClosed());
+        assertEquals("body", message.body());
+
+        final ProtonBuffer outOfOrder = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        ClientMessageSupport.encodeSection(new AmqpValue<>("body"), outOfOrder);
+        ClientMessageSupport.encodeSection(new Header().setDurable(true), outOfOrder);
+
+        final AdvancedMessage<String> decoded = AdvancedMessage.fromRaw(outOfOrder);
+
+        assertTrue(outOfOrder.isClosed());
+        assertTrue(decoded.durable());
+        assertEquals("body", decoded.body());
+    }
+
+    @Test
+    public void testMessageFromRawEncodingReplacesOnlyModifiedSections() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create(new AmqpValue<>("body"));
+
+        message.durable(true).deliveryCount(1).subject("subject");
+        message.annotation("x-opt-original", "original").property("test", "property");
+
+        final Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", true);
+
+        final ProtonBuffer expected = ClientMessageSupport.encodeMessage(message, null);
+        final AdvancedMessage<String> unmodified = AdvancedMessage.fromRaw(ClientMessageSupport.encodeMessage(message, deliveryAnnotations));
+
+        // Received delivery annotations are never sent on
+        assertEquals(expected, unmodified.encode(null, ProtonBufferAllocator.defaultAllocator()));
+
+        final AdvancedMessage<String> forwarded = AdvancedMessage.fromRaw(expected.copy());
+
+        forwarded.deliveryCount(forwarded.deliveryCount() + 1);
+        forwarded.annotations(new MessageAnnotations(new LinkedHashMap<>()));
+        forwarded.annotation("x-opt-forwarded", true);
+
+        final Message<?> decoded = ClientMessageSupport.decodeMessage(
+            forwarded.encode(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator()), null);
+
+        assertEquals(2, decoded.deliveryCount());
+        assertTrue(decoded.durable());
+        assertFalse(decoded.hasAnnotation("x-opt-original"));
+        assertEquals(true, decoded.annotation("x-opt-forwarded"));
+        assertEquals("subject", decoded.subject());
+        assertEquals("property", decoded.property("test"));
+        assertEquals("body", decoded.body());
+    }
 }
@@ -150,6 +150,20 @@ public class ClientTest extends ImperativeClientTestCase {
 
     @Test
     public void testCloseAllConnectionAndWait() throws Exception {
+        doTestCloseAllConnectionAndWait(new ClientOptions());
+    }
+
+    @Test
+    public void testCloseAllConnectionAndWaitWithPerConnectionIOThreads() throws Exception {
+        doTestCloseAllConnectionAndWait(new ClientOptions().sharedIO(false));
+    }
+
+    @Test
+    public void testCloseAllConnectionAndWaitWithSingleSharedIOThread() throws Exception {
+        doTestCloseAllConnectionAndWait(new ClientOptions().sharedIOThreads(1));
+    }
+
+    private void doTestCloseAllConnectionAndWait(ClientOptions options) throws Exception {
         try (ProtonTestServer firstPeer = new ProtonTestServer();
              ProtonTestServer secondPeer = new ProtonTestServer()) {
 
@@ -164,7 +178,7 @@ public class ClientTest extends ImperativeClientTestCase {
             final URI firstURI = firstPeer.getServerURI();
             final URI secondURI = secondPeer.getServerURI();
 
-            Client container = Client.create();
+            Client container = Client.create(options);
             Connection connection1 = container.connect(firstURI.getHost(), firstURI.getPort());
             Connection connection2 = container.connect(secondURI.getHost(), secondURI.getPort());
 
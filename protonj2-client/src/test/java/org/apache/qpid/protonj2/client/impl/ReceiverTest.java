@@ -37,7 +37,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -1501,6 +1505,282 @@ public class ReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testReceiveAsyncCompletesWhenDeliveryArrives() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            final Receiver receiver = session.openReceiver("test-queue");
+            receiver.openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            final CompletionStage<Delivery> first = receiver.receiveAsync();
+            final CompletionStage<Delivery> second = receiver.receiveAsync();
+
+            peer.expectDisposition().withSettled(true).withState().accepted();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Hello World"))).now();
+
+            Delivery delivery = first.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+            assertEquals("Hello World", delivery.message().body());
+            assertFalse(second.toCompletableFuture().isDone());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+
+            try {
+                second.toCompletableFuture().get(10, TimeUnit.SECONDS);
+                fail("Pending async receive should fail when the receiver is closed");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof ClientException);
+            }
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testDeliveryListenerIsHandedQueuedAndArrivingDeliveries() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("First"))).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            final Receiver receiver = session.openReceiver("test-queue");
+            receiver.openFuture().get();
+
+            Wait.assertTrue(() -> receiver.queuedDeliveries() == 1);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withSettled(true).withState().accepted();
+            peer.expectDisposition().withSettled(true).withState().accepted();
+
+            final List<String> bodies = new ArrayList<>();
+            final CountDownLatch received = new CountDownLatch(2);
+
+            receiver.deliveryListener(delivery -> {
+                try {
+                    bodies.add((String) delivery.message().body());
+                } catch (ClientException e) {
+                    fail("Should be able to read the delivered message");
+                }
+                received.countDown();
+            });
+
+            assertEquals(0, receiver.queuedDeliveries());
+
+            try {
+                receiver.tryReceive();
+                fail("Should not be able to receive while a listener is set");
+            } catch (ClientIllegalStateException ex) {
+                // Expected
+            }
+
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(1)
+                                 .withDeliveryTag(new byte[] { 2 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Second"))).now();
+
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("First", "Second"), bodies);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPublisherGrantsCreditMatchingSubscriberDemand() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            final Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().creditWindow(0));
+            receiver.openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectFlow().withLinkCredit(2);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("First"))).queue();
+            peer.expectDisposition().withSettled(true).withState().accepted();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(1)
+                                 .withDeliveryTag(new byte[] { 2 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Second"))).queue();
+            peer.expectDisposition().withSettled(true).withState().accepted();
+
+            final List<String> bodies = new ArrayList<>();
+            final CountDownLatch received = new CountDownLatch(2);
+            final CountDownLatch completed = new CountDownLatch(1);
+
+            receiver.asPublisher().subscribe(new Flow.Subscriber<Delivery>() {
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(2);
+                }
+
+                @Override
+                public void onNext(Delivery delivery) {
+                    try {
+                        bodies.add((String) delivery.message().body());
+                    } catch (ClientException e) {
+                        fail("Should be able to read the delivered message");
+                    }
+                    received.countDown();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    fail("Subscriber should not be signalled an error");
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("First", "Second"), bodies);
+
+            try {
+                receiver.receive();
+                fail("Should not be able to receive while a subscriber is attached");
+            } catch (ClientIllegalStateException ex) {
+                // Expected
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPublisherRejectsSubscriberWhenCreditWindowConfigured() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            final Receiver receiver = session.openReceiver("test-queue");
+            receiver.openFuture().get();
+
+            final CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+            receiver.asPublisher().subscribe(new Flow.Subscriber<Delivery>() {
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                }
+
+                @Override
+                public void onNext(Delivery delivery) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    error.complete(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            assertTrue(error.get(10, TimeUnit.SECONDS) instanceof ClientIllegalStateException);
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testReceiverHandlesAbortedSplitFrameTransfer() throws Exception {
         final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -33,11 +34,14 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
@@ -609,6 +613,256 @@ public class SenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testSendAsyncFailsWhenNoCreditIssuedBeforeSendTimeout() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions();
+            options.sendTimeout(1);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            CompletionStage<Tracker> send = sender.sendAsync(Message.create("Hello World"));
+            try {
+                send.toCompletableFuture().get(10, TimeUnit.SECONDS);
+                fail("Should fail with a send timed out exception");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof ClientSendTimedOutException);
+            }
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendAsyncCompletesWhenCreditEventuallyOffered() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            CompletionStage<Tracker> send = sender.sendAsync(Message.create("Hello World"));
+
+            // The send must not complete until credit has been granted
+            Thread.sleep(20);
+            assertFalse(send.toCompletableFuture().isDone());
+
+            peer.expectTransfer().withNonNullPayload();
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(1)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).now();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Tracker tracker = send.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertNotNull(tracker);
+            assertSame(sender, tracker.sender());
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSubscriberDemandFollowsLinkCredit() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            final AtomicLong requested = new AtomicLong();
+            final CountDownLatch creditDemand = new CountDownLatch(1);
+            final Flow.Subscriber<Message<?>> subscriber = sender.asSubscriber();
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    creditDemand.countDown();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+
+            // No credit yet so no demand should have been signalled
+            Thread.sleep(20);
+            assertEquals(0, requested.get());
+
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(2)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).now();
+
+            assertTrue(creditDemand.await(10, TimeUnit.SECONDS));
+            assertEquals(2, requested.get());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withNonNullPayload();
+            peer.expectTransfer().withNonNullPayload();
+
+            subscriber.onNext(Message.create("First"));
+            subscriber.onNext(Message.create("Second"));
+            subscriber.onComplete();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            assertEquals(2, requested.get());
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSubscriberDemandWithBlockedSendsPending() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(2)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            final AtomicLong requested = new AtomicLong();
+            final CountDownLatch initialDemand = new CountDownLatch(1);
+            final CountDownLatch replenishedDemand = new CountDownLatch(1);
+            final Flow.Subscriber<Message<?>> subscriber = sender.asSubscriber();
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(long n) {
+                    if (requested.addAndGet(n) == 2) {
+                        initialDemand.countDown();
+                    } else if (requested.get() == 4) {
+                        replenishedDemand.countDown();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+
+            assertTrue(initialDemand.await(10, TimeUnit.SECONDS));
+
+            // Remote revokes the credit before the requested messages arrive so both block
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(0)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).now();
+
+            subscriber.onNext(Message.create("First"));
+            subscriber.onNext(Message.create("Second"));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withNonNullPayload();
+            peer.expectTransfer().withNonNullPayload();
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(4)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).now();
+
+            // Both blocked sends consume credit, the remaining two credits become new demand
+            assertTrue(replenishedDemand.await(10, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            subscriber.onComplete();
+
+            assertEquals(4, requested.get());
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testSendWhenCreditIsAvailable() throws Exception {
         doTestSendWhenCreditIsAvailable(false, false);
@@ -28,9 +28,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -44,6 +50,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
@@ -81,6 +88,7 @@ import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.transport.Role;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -1669,6 +1677,199 @@ class StreamReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testReadBodyChunksFromDataSectionsSplitAcrossTransfers() throws Exception {
+        final byte[] body1 = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        final byte[] body2 = new byte[] { 10, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 };
+        final Footer footers = new Footer(new HashMap<>());
+        footers.getValue().put(Symbol.valueOf("footer-key"), "test");
+        final byte[] payload = createEncodedMessage(new Data(body1), new Data(body2), footers);
+        final int split = payload.length / 2;
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(Arrays.copyOfRange(payload, 0, split)).queue();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(Arrays.copyOfRange(payload, split, payload.length)).queue();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+
+            assertNotNull(delivery);
+
+            final StreamReceiverMessage message = delivery.message();
+            assertNotNull(message);
+
+            final byte[] receivedBody = new byte[body1.length + body2.length];
+            int bytesRead = 0;
+
+            for (ProtonBuffer next = message.readBodyChunk(); next != null; next = message.readBodyChunk()) {
+                try (ProtonBuffer chunk = next) {
+                    assertTrue(chunk.isReadOnly());
+                    assertTrue(chunk.getReadableBytes() <= receivedBody.length - bytesRead);
+                    // A chunk never spans the boundary between the two Data sections
+                    assertTrue(bytesRead >= body1.length || bytesRead + chunk.getReadableBytes() <= body1.length);
+
+                    final int chunkSize = chunk.getReadableBytes();
+                    chunk.readBytes(receivedBody, bytesRead, chunkSize);
+                    bytesRead += chunkSize;
+                }
+            }
+
+            assertEquals(receivedBody.length, bytesRead);
+            assertTrue(Arrays.equals(body1, 0, body1.length, receivedBody, 0, body1.length));
+            assertTrue(Arrays.equals(body2, 0, body2.length, receivedBody, body1.length, receivedBody.length));
+
+            assertNotNull(message.footer());
+            assertEquals("test", message.footer("footer-key"));
+
+            assertThrows(ClientIllegalStateException.class, () -> message.readBodyChunk());
+            assertThrows(ClientIllegalStateException.class, () -> message.body());
+
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testTransferBodyToFileChannel(@TempDir Path tempDir) throws Exception {
+        final byte[] body = new byte[4096];
+        new Random(System.nanoTime()).nextBytes(body);
+        final byte[] payload = createEncodedMessage(new Data(body));
+        final int split = payload.length / 3;
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(Arrays.copyOfRange(payload, 0, split)).queue();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withMore(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(Arrays.copyOfRange(payload, split, split * 2)).queue();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(Arrays.copyOfRange(payload, split * 2, payload.length)).queue();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+
+            assertNotNull(delivery);
+
+            final StreamReceiverMessage message = delivery.message();
+            assertNotNull(message);
+
+            final Path bodyFile = tempDir.resolve("body.bin");
+
+            try (FileChannel channel = FileChannel.open(bodyFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                assertEquals(body.length, message.transferTo(channel));
+            }
+
+            assertArrayEquals(body, Files.readAllBytes(bodyFile));
+            assertNull(message.footer());
+
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testReadBodyChunkFailsWhenBodyIsAmqpValue() throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+
+            assertNotNull(delivery);
+
+            final StreamReceiverMessage message = delivery.message();
+            assertNotNull(message);
+
+            assertThrows(ClientException.class, () -> message.readBodyChunk());
+            assertThrows(ClientException.class, () -> message.transferTo(Channels.newChannel(new ByteArrayOutputStream())));
+
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testReadBytesFromInputStreamUsingReadByteWithSingleByteSplitTransfers() throws Exception {
         testReadBytesFromBodyInputStreamWithSplitSingleByteTransfers(1);
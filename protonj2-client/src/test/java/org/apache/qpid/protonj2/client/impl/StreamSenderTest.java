@@ -30,7 +30,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -85,6 +90,7 @@ import org.apache.qpid.protonj2.types.transport.Role;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -1474,6 +1480,136 @@ public class StreamSenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    void testWriteBodyFromFileChannelRegion(@TempDir Path parentDir) throws Exception {
+        final byte[] contents = new byte[600];
+        new Random().nextBytes(contents);
+
+        final Path file = Files.write(parentDir.resolve("body"), contents);
+
+        try (ProtonTestServer peer = new ProtonTestServer();
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSender sender = connection.openStreamSender("test-queue", new StreamSenderOptions().writeBufferSize(256));
+            StreamSenderMessage message = sender.beginMessage();
+
+            final byte[] chunk1 = Arrays.copyOfRange(contents, 44, 300);
+            final byte[] chunk2 = Arrays.copyOfRange(contents, 300, 556);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withMore(true).withPayload(new EncodedPartialDataSectionMatcher(512, chunk1));
+            peer.expectTransfer().withMore(true).withPayload(new EncodedPartialDataSectionMatcher(chunk2));
+            peer.expectTransfer().withNullPayload().withMore(false).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            message.body(channel, 44, 512);
+
+            assertEquals(0, channel.position());
+
+            message.complete();
+
+            assertNotNull(message.tracker());
+            Wait.assertTrue(() -> message.tracker().remoteSettled());
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testWriteBodyFromFileChannelFailsAndAbortsWhenFileIsTooShort(@TempDir Path parentDir) throws Exception {
+        final Path file = Files.write(parentDir.resolve("body"), new byte[] { 0, 1, 2, 3 });
+
+        try (ProtonTestServer peer = new ProtonTestServer();
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSender sender = connection.openStreamSender("test-queue");
+            StreamSenderMessage message = sender.beginMessage();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            assertThrows(ClientException.class, () -> message.body(channel, 0, 16));
+            assertTrue(message.aborted());
+            assertThrows(ClientIllegalStateException.class, () -> message.body(channel, 0, 4));
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testWriteBodyFromReadableByteChannel() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSender sender = connection.openStreamSender("test-queue");
+            StreamSenderMessage message = sender.beginMessage();
+
+            final byte[] payload = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withMore(false).withPayload(new EncodedDataMatcher(payload)).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            message.body(Channels.newChannel(new ByteArrayInputStream(payload))).complete();
+
+            Wait.assertTrue(() -> message.tracker().remoteSettled());
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     void testRawOutputStreamFromMessageWritesUnmodifiedBytes() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
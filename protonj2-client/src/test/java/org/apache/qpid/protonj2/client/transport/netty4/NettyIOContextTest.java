@@ -16,11 +16,16 @@
  */
 package org.apache.qpid.protonj2.client.transport.netty4;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.apache.qpid.protonj2.client.SslOptions;
 import org.apache.qpid.protonj2.client.TransportOptions;
 import org.apache.qpid.protonj2.client.transport.IOContext;
@@ -48,4 +53,76 @@ class NettyIOContextTest {
 
         assertTrue(context.ioScheduler().isShutdown());
     }
+
+    @Test
+    void testSharedContextCreatesContextsThatDoNotShutdownSharedThreads() {
+        Netty4SharedIOContext shared = new Netty4SharedIOContext(2, "test");
+
+        IOContext context1 = shared.newIOContext(new TransportOptions(), new SslOptions());
+        IOContext context2 = shared.newIOContext(new TransportOptions(), new SslOptions());
+
+        assertNotNull(context1.ioScheduler());
+        assertNotNull(context2.ioScheduler());
+        assertFalse(context1.ioScheduler().isShutdown());
+        assertFalse(context2.ioScheduler().isShutdown());
+
+        context1.shutdown();
+
+        assertTrue(context1.ioScheduler().isShutdown());
+        assertFalse(context2.ioScheduler().isShutdown());
+        assertThrows(IllegalStateException.class, () -> context1.newTransport());
+        assertNotNull(context2.newTransport());
+
+        shared.shutdown();
+
+        assertTrue(context2.ioScheduler().isShutdown());
+        assertThrows(IllegalStateException.class, () -> context2.newTransport());
+        assertThrows(IllegalStateException.class, () -> shared.newIOContext(new TransportOptions(), new SslOptions()));
+    }
+
+    @Test
+    void testSharedContextRequiresPositiveThreadCount() {
+        assertThrows(IllegalArgumentException.class, () -> new Netty4SharedIOContext(0, "test"));
+    }
+
+    @Test
+    void testSharedContextDoesNotRunScheduledTasksAfterContextShutdown() throws Exception {
+        Netty4SharedIOContext shared = new Netty4SharedIOContext(1, "test");
+        IOContext context = shared.newIOContext(new TransportOptions(), new SslOptions());
+
+        final CountDownLatch ran = new CountDownLatch(1);
+
+        context.ioScheduler().schedule(() -> ran.countDown(), 50, TimeUnit.MILLISECONDS);
+        context.shutdown();
+
+        assertFalse(ran.await(150, TimeUnit.MILLISECONDS));
+
+        shared.shutdown();
+    }
+
+    @Test
+    void testSharedContextRunsTimedTasksOnTheContextEventLoop() throws Exception {
+        Netty4SharedIOContext shared = new Netty4SharedIOContext(2, "test");
+        IOContext context = shared.newIOContext(new TransportOptions(), new SslOptions());
+
+        final AtomicReference<Thread> ioThread = new AtomicReference<>();
+        final AtomicReference<Thread> timedThread = new AtomicReference<>();
+        final CountDownLatch ran = new CountDownLatch(2);
+
+        context.ioScheduler().execute(() -> {
+            ioThread.set(Thread.currentThread());
+            ran.countDown();
+        });
+        context.ioScheduler().schedule(() -> {
+            timedThread.set(Thread.currentThread());
+            ran.countDown();
+        }, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertNotNull(ioThread.get());
+        assertEquals(ioThread.get(), timedThread.get());
+
+        context.shutdown();
+        shared.shutdown();
+    }
 }
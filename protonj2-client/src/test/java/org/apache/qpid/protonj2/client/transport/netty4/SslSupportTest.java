@@ -36,6 +36,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 
 import org.apache.qpid.protonj2.client.SslOptions;
+import org.apache.qpid.protonj2.client.transport.SslContextCache;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
 import org.junit.jupiter.api.Test;
 
@@ -932,6 +933,41 @@ public class SslSupportTest extends ImperativeClientTestCase {
         assertTrue(handler.engine() instanceof OpenSslEngine);
     }
 
+    @Test
+    public void testCreateSslHandlerReusesCachedContext() throws Exception {
+        SslContextCache.clear();
+
+        SslOptions options = createJksSslOptions();
+        options.allowNativeSSL(false);
+
+        final long created = SslContextCache.getContextsCreated();
+        final long hits = SslContextCache.getContextCacheHits();
+
+        assertNotNull(SslSupport.createSslHandler(null, "localhost", 5672, options));
+        assertNotNull(SslSupport.createSslHandler(null, "localhost", 5672, options.clone()));
+
+        assertEquals(created + 1, SslContextCache.getContextsCreated());
+        assertEquals(hits + 1, SslContextCache.getContextCacheHits());
+    }
+
+    @Test
+    public void testCreateSslHandlerWithContextCachingDisabled() throws Exception {
+        SslContextCache.clear();
+
+        SslOptions options = createJksSslOptions();
+        options.allowNativeSSL(false);
+        options.cacheSslContext(false);
+
+        final long created = SslContextCache.getContextsCreated();
+        final long hits = SslContextCache.getContextCacheHits();
+
+        assertNotNull(SslSupport.createSslHandler(null, "localhost", 5672, options));
+        assertNotNull(SslSupport.createSslHandler(null, "localhost", 5672, options));
+
+        assertEquals(created, SslContextCache.getContextsCreated());
+        assertEquals(hits, SslContextCache.getContextCacheHits());
+    }
+
     @Test
     public void testCreateOpenSSLEngineFailsWhenAllocatorMissing() throws Exception {
         assumeTrue(OpenSsl.isAvailable());
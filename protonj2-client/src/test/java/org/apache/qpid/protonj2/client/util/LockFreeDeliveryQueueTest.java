@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.client.impl.ClientDelivery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+@Timeout(20)
+class LockFreeDeliveryQueueTest {
+
+    @Test
+    void testDequeueNoWaitReturnsNullWhenNotStarted() {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(10);
+
+        queue.enqueue(createDelivery());
+
+        assertFalse(queue.isRunning());
+        assertNull(queue.dequeueNoWait());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void testDeliveriesAreReturnedInOrderBeyondRingCapacity() {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(1);
+        queue.start();
+
+        List<ClientDelivery> deliveries = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            ClientDelivery delivery = createDelivery();
+            deliveries.add(delivery);
+            queue.enqueue(delivery);
+        }
+
+        assertEquals(100, queue.size());
+
+        for (ClientDelivery expected : deliveries) {
+            assertSame(expected, queue.dequeueNoWait());
+        }
+
+        assertTrue(queue.isEmpty());
+        assertNull(queue.dequeueNoWait());
+    }
+
+    @Test
+    void testEnqueueFirstIsReturnedAheadOfQueuedDeliveries() {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(10);
+        queue.start();
+
+        ClientDelivery first = createDelivery();
+        ClientDelivery second = createDelivery();
+
+        queue.enqueue(second);
+        queue.enqueueFirst(first);
+
+        assertSame(first, queue.dequeueNoWait());
+        assertSame(second, queue.dequeueNoWait());
+    }
+
+    @Test
+    void testClearRemovesAllDeliveries() {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(4);
+        queue.start();
+
+        for (int i = 0; i < 10; ++i) {
+            queue.enqueue(createDelivery());
+        }
+
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testDequeueWithTimeoutReturnsNullWhenEmpty() throws Exception {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(10);
+        queue.start();
+
+        assertNull(queue.dequeue(10));
+        assertNull(queue.dequeue(0));
+    }
+
+    @Test
+    void testBlockedDequeueIsWokenByEnqueue() throws Exception {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(10);
+        queue.start();
+
+        ClientDelivery delivery = createDelivery();
+        AtomicReference<ClientDelivery> received = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread consumer = new Thread(() -> {
+            try {
+                received.set(queue.dequeue(-1));
+            } catch (InterruptedException e) {
+            }
+            done.countDown();
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        queue.enqueue(delivery);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertSame(delivery, received.get());
+    }
+
+    @Test
+    void testBlockedDequeueReturnsNullWhenStopped() throws Exception {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(10);
+        queue.start();
+
+        AtomicReference<ClientDelivery> received = new AtomicReference<>(createDelivery());
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread consumer = new Thread(() -> {
+            try {
+                received.set(queue.dequeue(-1));
+            } catch (InterruptedException e) {
+            }
+            done.countDown();
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        queue.stop();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNull(received.get());
+    }
+
+    @Test
+    void testBlockedDequeueThrowsWhenInterrupted() throws Exception {
+        LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(10);
+        queue.start();
+
+        Thread.currentThread().interrupt();
+
+        assertThrows(InterruptedException.class, () -> queue.dequeue(-1));
+    }
+
+    @Test
+    void testEveryDeliveryConsumedOnceByConcurrentConsumers() throws Exception {
+        final int consumers = 4;
+        final int count = 20_000;
+        final LockFreeDeliveryQueue queue = new LockFreeDeliveryQueue(16);
+        final ClientDelivery delivery = createDelivery();
+        final AtomicInteger consumed = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(consumers);
+
+        queue.start();
+
+        for (int i = 0; i < consumers; ++i) {
+            new Thread(() -> {
+                try {
+                    while (queue.dequeue(-1) != null) {
+                        consumed.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                }
+                done.countDown();
+            }).start();
+        }
+
+        for (int i = 0; i < count; ++i) {
+            queue.enqueue(delivery);
+        }
+
+        while (consumed.get() < count) {
+            Thread.sleep(1);
+        }
+
+        queue.stop();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(count, consumed.get());
+        assertTrue(queue.isEmpty());
+    }
+
+    private static ClientDelivery createDelivery() {
+        return Mockito.mock(ClientDelivery.class);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonDirectByteBufferAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the array backed and direct memory backed buffers for primitive access and for
+ * channel transfers, which the JDK stages through a temporary direct buffer for heap memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+public class DirectBufferImpBenchmark {
+
+    private static final int PAYLOAD_SIZE = 64 * 1024;
+
+    @Param({ "heap", "direct" })
+    public String allocatorType;
+
+    private ProtonBufferAllocator allocator;
+    private ProtonBuffer buffer;
+    private ProtonCompositeBuffer composite;
+    private Path payloadFile;
+    private FileChannel payloadChannel;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        allocator = "direct".equals(allocatorType) ?
+            ProtonDirectByteBufferAllocator.allocator() : ProtonByteArrayBufferAllocator.allocator();
+
+        final byte[] payload = new byte[PAYLOAD_SIZE];
+        new Random(System.currentTimeMillis()).nextBytes(payload);
+
+        buffer = allocator.copy(payload);
+        composite = allocator.composite(new ProtonBuffer[] {
+            allocator.copy(payload, 0, PAYLOAD_SIZE / 4),
+            allocator.copy(payload, PAYLOAD_SIZE / 4, PAYLOAD_SIZE / 4),
+            allocator.copy(payload, PAYLOAD_SIZE / 2, PAYLOAD_SIZE / 2) });
+
+        payloadFile = Files.createTempFile("direct-buffer-benchmark", ".bin");
+        payloadFile.toFile().deleteOnExit();
+        payloadChannel = FileChannel.open(payloadFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        payloadChannel.write(ByteBuffer.wrap(payload));
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws IOException {
+        payloadChannel.close();
+        Files.deleteIfExists(payloadFile);
+        buffer.close();
+        composite.close();
+    }
+
+    @Benchmark
+    public void writeAndReadPrimitives(Blackhole blackhole) {
+        buffer.clear();
+
+        for (int i = 0; i < 256; ++i) {
+            buffer.writeLong(i).writeInt(i).writeShort((short) i).writeByte((byte) i);
+        }
+
+        while (buffer.isReadable()) {
+            blackhole.consume(buffer.readLong());
+            blackhole.consume(buffer.readInt());
+            blackhole.consume(buffer.readShort());
+            blackhole.consume(buffer.readByte());
+        }
+    }
+
+    @Benchmark
+    public int indexOf() {
+        buffer.setReadOffset(0).setWriteOffset(PAYLOAD_SIZE);
+
+        return buffer.indexOf((byte) 0, PAYLOAD_SIZE / 2, PAYLOAD_SIZE / 2);
+    }
+
+    @Benchmark
+    public int transferToFileChannel() throws IOException {
+        buffer.setReadOffset(0).setWriteOffset(PAYLOAD_SIZE);
+        payloadChannel.position(0);
+
+        int written = 0;
+        while (buffer.isReadable()) {
+            written += buffer.transferTo(payloadChannel, buffer.getReadableBytes());
+        }
+
+        return written;
+    }
+
+    @Benchmark
+    public int transferCompositeToFileChannel() throws IOException {
+        composite.setReadOffset(0);
+        payloadChannel.position(0);
+
+        int written = 0;
+        while (composite.isReadable()) {
+            written += composite.transferTo(payloadChannel, composite.getReadableBytes());
+        }
+
+        return written;
+    }
+
+    @Benchmark
+    public int transferFromFileChannel() throws IOException {
+        buffer.clear();
+
+        int read = 0;
+        while (buffer.isWritable()) {
+            read += buffer.transferFrom(payloadChannel, read, buffer.getWritableBytes());
+        }
+
+        return read;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        CompositeBufferImpBenchmark.runBenchmark(DirectBufferImpBenchmark.class);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.apache.qpid.protonj2.engine.util.RingQueueBenchmark;
+import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks the client send and receive paths against a local {@link ProtonTestServer} whose
+ * unscripted traffic modes stand in for a broker, an auto accepting sink for the senders and a
+ * fire hose source for the receiver, so no real broker is needed to measure client changes.
+ * <p>
+ * The JMH score gives the messages per second of each path while latencies of the measurement
+ * iterations are recorded in a {@link Histogram} whose percentile distribution is written at the
+ * end of each trial to a {@code .hgrm} file named for the benchmark and its parameters, in the
+ * directory given by the {@value #LATENCY_OUTPUT_DIR_PROPERTY} system property or the working
+ * directory when it is not set, with values in microseconds.  For at least once delivery the send
+ * latency is the time from the send until the remote settles the delivery, measured with up to
+ * the credit window of deliveries outstanding, for at most once delivery it is the time spent in
+ * the send call.  The receive latency is the time spent waiting in the receive call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClientLoopbackBenchmark {
+
+    /**
+     * System property naming the directory that the latency distribution files are written to.
+     */
+    public static final String LATENCY_OUTPUT_DIR_PROPERTY = "protonj2.benchmark.latency.dir";
+
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.SECONDS.toNanos(30);
+    private static final double NANOS_PER_MICROSECOND = 1000.0;
+
+    @Param({ "AT_MOST_ONCE", "AT_LEAST_ONCE" })
+    public DeliveryMode deliveryMode;
+
+    @Param({ "10", "1000" })
+    public int creditWindow;
+
+    @Param({ "128", "65536" })
+    public int payloadSize;
+
+    private ProtonTestServer peer;
+    private Client client;
+    private Connection connection;
+    private Sender sender;
+    private StreamSender streamSender;
+    private Receiver receiver;
+
+    private byte[] payload;
+    private Message<byte[]> message;
+    private Path payloadFile;
+    private FileChannel payloadChannel;
+
+    private final ArrayDeque<Future<?>> unsettled = new ArrayDeque<>();
+    private final ArrayDeque<Long> unsettledSendTimes = new ArrayDeque<>();
+
+    private final Histogram iterationLatencies = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3);
+    private final Histogram trialLatencies = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3);
+
+    @Setup(Level.Trial)
+    public void init() throws Exception {
+        payload = new byte[payloadSize];
+        message = Message.create(payload);
+        payloadFile = Files.write(Files.createTempFile("loopback-benchmark", ".bin"), payload);
+        payloadChannel = FileChannel.open(payloadFile, StandardOpenOption.READ);
+
+        peer = new ProtonTestServer();
+        peer.expectSASLAnonymousConnect();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();  // Default session
+        peer.expectBegin().respond();  // Stream sender session
+
+        peer.enableAutoAcceptSink(creditWindow);
+        peer.enableFirehoseSource(payloadSize, deliveryMode == DeliveryMode.AT_MOST_ONCE);
+        peer.start();
+
+        final URI remoteURI = peer.getServerURI();
+
+        client = Client.create();
+        connection = client.connect(remoteURI.getHost(), remoteURI.getPort());
+        sender = connection.openSender("sink", new SenderOptions().deliveryMode(deliveryMode));
+        receiver = connection.openReceiver("source", new ReceiverOptions().deliveryMode(deliveryMode).creditWindow(creditWindow));
+        streamSender = connection.openStreamSender("stream-sink", new StreamSenderOptions().deliveryMode(deliveryMode));
+
+        sender.openFuture().get(10, TimeUnit.SECONDS);
+        receiver.openFuture().get(10, TimeUnit.SECONDS);
+        streamSender.openFuture().get(10, TimeUnit.SECONDS);
+
+        peer.waitForScriptToComplete(10, TimeUnit.SECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown(BenchmarkParams params) throws Exception {
+        try {
+            awaitSettlements(0);
+
+            writeLatencyDistribution(params);
+
+            peer.expectClose().respond();
+            connection.close();
+        } finally {
+            client.close();
+            peer.close();
+            payloadChannel.close();
+            Files.deleteIfExists(payloadFile);
+        }
+    }
+
+    private void writeLatencyDistribution(BenchmarkParams params) throws Exception {
+        final StringBuilder name = new StringBuilder(params.getBenchmark());
+        for (String key : params.getParamsKeys()) {
+            name.append('-').append(key).append('-').append(params.getParam(key));
+        }
+
+        final Path output = Paths.get(System.getProperty(LATENCY_OUTPUT_DIR_PROPERTY, ""), name + ".hgrm");
+
+        try (PrintStream stream = new PrintStream(Files.newOutputStream(output), false, "UTF-8")) {
+            trialLatencies.outputPercentileDistribution(stream, NANOS_PER_MICROSECOND);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        iterationLatencies.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void recordIteration(IterationParams params) throws Exception {
+        // Settle everything sent in this iteration so latencies are not carried into the next.
+        awaitSettlements(0);
+
+        if (params.getType() == IterationType.MEASUREMENT) {
+            trialLatencies.add(iterationLatencies);
+        }
+    }
+
+    @Benchmark
+    public void send() throws Exception {
+        final long start = System.nanoTime();
+        final Tracker tracker = sender.send(message);
+
+        recordSend(start, tracker.settlementFuture());
+    }
+
+    @Benchmark
+    public void streamSend() throws Exception {
+        final long start = System.nanoTime();
+        final StreamSenderMessage streamMessage = streamSender.beginMessage();
+
+        try (OutputStream output = streamMessage.body()) {
+            output.write(payload);
+        }
+
+        recordSend(start, streamMessage.tracker().settlementFuture());
+    }
+
+    @Benchmark
+    public void streamSendFromFile() throws Exception {
+        final long start = System.nanoTime();
+        final StreamSenderMessage streamMessage = streamSender.beginMessage();
+
+        streamMessage.body(payloadChannel, 0, payloadSize).complete();
+
+        recordSend(start, streamMessage.tracker().settlementFuture());
+    }
+
+    @Benchmark
+    public Object receive() throws Exception {
+        final long start = System.nanoTime();
+        final Delivery delivery = receiver.receive();
+        final Object body = delivery.message().body();
+
+        iterationLatencies.recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE_LATENCY));
+
+        return body;
+    }
+
+    private void recordSend(long start, Future<?> settlement) throws Exception {
+        if (deliveryMode == DeliveryMode.AT_MOST_ONCE) {
+            iterationLatencies.recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE_LATENCY));
+        } else {
+            unsettled.add(settlement);
+            unsettledSendTimes.add(start);
+            awaitSettlements(creditWindow);
+        }
+    }
+
+    private void awaitSettlements(int maxOutstanding) throws Exception {
+        while (unsettled.size() > maxOutstanding) {
+            unsettled.poll().get(30, TimeUnit.SECONDS);
+            iterationLatencies.recordValue(Math.min(System.nanoTime() - unsettledSendTimes.poll(), HIGHEST_TRACKABLE_LATENCY));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RingQueueBenchmark.runBenchmark(ClientLoopbackBenchmark.class);
+    }
+}
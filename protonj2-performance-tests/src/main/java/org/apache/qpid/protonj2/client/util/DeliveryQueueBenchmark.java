@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.DeliveryQueueType;
+import org.apache.qpid.protonj2.client.impl.ClientDelivery;
+import org.apache.qpid.protonj2.client.impl.ClientReceiver;
+import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.engine.util.RingQueueBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks the {@link DeliveryQueue} implementations with a single producer standing in for
+ * the connection IO thread and 1, 4 or 16 consuming application threads. Throughput mode gives
+ * the rate of enqueues and dequeues while sample time mode reports the dequeue latency percentiles.
+ */
+@State(Scope.Group)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DeliveryQueueBenchmark {
+
+    public static final int QUEUE_DEPTH = 1024;
+    public static final long DEQUEUE_TIMEOUT = 10;
+
+    @Param({ "FIFO", "LOCK_FREE" })
+    public DeliveryQueueType queueType;
+
+    private DeliveryQueue queue;
+    private ClientDelivery delivery;
+
+    @Setup(Level.Iteration)
+    public void init() throws Exception {
+        queue = queueType == DeliveryQueueType.LOCK_FREE ?
+            new LockFreeDeliveryQueue(QUEUE_DEPTH) : new FifoDeliveryQueue(QUEUE_DEPTH);
+        queue.start();
+        delivery = createDelivery();
+    }
+
+    @TearDown(Level.Iteration)
+    public void shutdown() {
+        queue.stop();
+        queue.clear();
+    }
+
+    @Benchmark
+    @Group("consumers1")
+    @GroupThreads(1)
+    public void produceForOneConsumer() {
+        produce();
+    }
+
+    @Benchmark
+    @Group("consumers1")
+    @GroupThreads(1)
+    public void consumeWithOneConsumer(Blackhole blackHole) throws InterruptedException {
+        blackHole.consume(queue.dequeue(DEQUEUE_TIMEOUT));
+    }
+
+    @Benchmark
+    @Group("consumers4")
+    @GroupThreads(1)
+    public void produceForFourConsumers() {
+        produce();
+    }
+
+    @Benchmark
+    @Group("consumers4")
+    @GroupThreads(4)
+    public void consumeWithFourConsumers(Blackhole blackHole) throws InterruptedException {
+        blackHole.consume(queue.dequeue(DEQUEUE_TIMEOUT));
+    }
+
+    @Benchmark
+    @Group("consumers16")
+    @GroupThreads(1)
+    public void produceForSixteenConsumers() {
+        produce();
+    }
+
+    @Benchmark
+    @Group("consumers16")
+    @GroupThreads(16)
+    public void consumeWithSixteenConsumers(Blackhole blackHole) throws InterruptedException {
+        blackHole.consume(queue.dequeue(DEQUEUE_TIMEOUT));
+    }
+
+    private void produce() {
+        // Keep the backlog bounded as a receiver credit window would
+        if (queue.size() < QUEUE_DEPTH) {
+            queue.enqueue(delivery);
+        } else {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static ClientDelivery createDelivery() throws Exception {
+        final IncomingDelivery incoming = (IncomingDelivery) Proxy.newProxyInstance(
+            DeliveryQueueBenchmark.class.getClassLoader(), new Class<?>[] { IncomingDelivery.class }, (proxy, method, args) -> null);
+
+        final Constructor<ClientDelivery> constructor =
+            ClientDelivery.class.getDeclaredConstructor(ClientReceiver.class, IncomingDelivery.class);
+        constructor.setAccessible(true);
+
+        return constructor.newInstance(null, incoming);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RingQueueBenchmark.runBenchmark(DeliveryQueueBenchmark.class);
+    }
+}
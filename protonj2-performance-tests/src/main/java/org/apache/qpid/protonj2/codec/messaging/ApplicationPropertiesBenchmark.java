@@ -18,6 +18,7 @@ package org.apache.qpid.protonj2.codec.messaging;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
@@ -34,6 +35,7 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
 
     private Blackhole blackhole;
     private ApplicationProperties properties;
+    private ApplicationProperties mixedProperties;
 
     @Setup
     public void init(Blackhole blackhole) {
@@ -48,6 +50,15 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         properties.getValue().put("test1", UnsignedByte.valueOf((byte) 128));
         properties.getValue().put("test2", UnsignedShort.valueOf((short) 128));
         properties.getValue().put("test3", UnsignedInteger.valueOf((byte) 128));
+
+        // Alternating value types defeat any cached per type encoder so each value is a fresh lookup
+        mixedProperties = new ApplicationProperties(new LinkedHashMap<String, Object>());
+        for (int i = 0; i < 5; ++i) {
+            mixedProperties.getValue().put("string" + i, "value" + i);
+            mixedProperties.getValue().put("long" + i, Long.valueOf(i));
+            mixedProperties.getValue().put("boolean" + i, Boolean.valueOf(i % 2 == 0));
+            mixedProperties.getValue().put("int" + i, Integer.valueOf(i));
+        }
     }
 
     @Benchmark
@@ -57,6 +68,18 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public ProtonBuffer encodeMixedTypes() {
+        buffer.clear();
+        encoder.writeObject(buffer, encoderState, mixedProperties);
+        return buffer;
+    }
+
+    @Benchmark
+    public int encodedSizeMixedTypes() {
+        return encoder.getEncodedSize(encoderState, mixedProperties);
+    }
+
     @Benchmark
     public ProtonBuffer decode() throws IOException {
         buffer.setReadOffset(0);
@@ -19,6 +19,8 @@ package org.apache.qpid.protonj2.codec.primitives;
 import java.io.IOException;
 import java.util.ArrayList;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Setup;
@@ -29,6 +31,9 @@ public class ListOfIntBenchmark extends CodecBenchmarkBase {
 
     private static final int LIST_SIZE = 10;
     private ArrayList<Object> listOfInts;
+    private ArrayList<Object> listOfMixed;
+    private int[] arrayOfInts;
+    private ProtonBuffer arrayBuffer;
     private Blackhole blackhole;
 
     @Setup
@@ -44,6 +49,21 @@ public class ListOfIntBenchmark extends CodecBenchmarkBase {
         for (int i = 0; i < LIST_SIZE; i++) {
             listOfInts.add(i);
         }
+
+        // Alternating entry types force an encoder lookup for every element
+        this.listOfMixed = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            listOfMixed.add(i % 2 == 0 ? Integer.valueOf(i) : Long.valueOf(i));
+        }
+
+        // The same values as a primitive array for comparison with the boxed list encoding
+        this.arrayOfInts = new int[LIST_SIZE];
+        for (int i = 0; i < LIST_SIZE; i++) {
+            arrayOfInts[i] = i;
+        }
+
+        this.arrayBuffer = ProtonBufferAllocator.defaultAllocator().allocate(bufferSize());
+        encoder.writeArray(arrayBuffer, encoderState, arrayOfInts);
     }
 
     @Benchmark
@@ -52,12 +72,36 @@ public class ListOfIntBenchmark extends CodecBenchmarkBase {
         encoder.writeList(buffer, encoderState, listOfInts);
     }
 
+    @Benchmark
+    public void encodeMixed() {
+        buffer.clear();
+        encoder.writeList(buffer, encoderState, listOfMixed);
+    }
+
+    @Benchmark
+    public void encodeAsObject() {
+        buffer.clear();
+        encoder.writeObject(buffer, encoderState, listOfInts);
+    }
+
     @Benchmark
     public void decode() throws IOException {
         buffer.setReadOffset(0);
         blackhole.consume(decoder.readList(buffer, decoderState));
     }
 
+    @Benchmark
+    public void encodeIntArray() {
+        buffer.clear();
+        encoder.writeArray(buffer, encoderState, arrayOfInts);
+    }
+
+    @Benchmark
+    public void decodeIntArray() throws IOException {
+        arrayBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readIntArray(arrayBuffer, decoderState));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(ListOfIntBenchmark.class);
     }
@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.primitives;
 import java.io.IOException;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Setup;
@@ -34,7 +35,13 @@ public class StringBenchmark extends CodecBenchmarkBase {
         + "0123456789012345678901234567890123456789012345678901234567890123456789012345678901234567890123456789"
         + "0123456789012345678901234567890123456789012345678901234567890123456789012345678901234567890123456789";
 
+    private static final String NON_ASCII_PAYLOAD =
+          "\u00c5ngstr\u00f6m-\u00fcber-\u00e9t\u00e9-\u4e16\u754c-0123456789012345678901234567890123456789"
+        + "\u00c5ngstr\u00f6m-\u00fcber-\u00e9t\u00e9-\u4e16\u754c-0123456789012345678901234567890123456789";
+
     private Blackhole blackhole;
+    private ProtonBuffer largeStringBuffer;
+    private ProtonBuffer nonAsciiStringBuffer;
     private String string1;
     private String string2;
     private String string3;
@@ -45,6 +52,11 @@ public class StringBenchmark extends CodecBenchmarkBase {
         super.init();
         initStrings();
         encode();
+
+        largeStringBuffer = ProtonBufferAllocator.defaultAllocator().allocate(1024);
+        encoder.writeString(largeStringBuffer, encoderState, PAYLOAD);
+        nonAsciiStringBuffer = ProtonBufferAllocator.defaultAllocator().allocate(1024);
+        encoder.writeString(nonAsciiStringBuffer, encoderState, NON_ASCII_PAYLOAD);
     }
 
     private void initStrings() {
@@ -78,6 +90,25 @@ public class StringBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public ProtonBuffer encodeNonAsciiString() {
+        buffer.clear();
+        encoder.writeString(buffer, encoderState, NON_ASCII_PAYLOAD);
+        return buffer;
+    }
+
+    @Benchmark
+    public String decodeLargeString() throws IOException {
+        largeStringBuffer.setReadOffset(0);
+        return decoder.readString(largeStringBuffer, decoderState);
+    }
+
+    @Benchmark
+    public String decodeNonAsciiString() throws IOException {
+        nonAsciiStringBuffer.setReadOffset(0);
+        return decoder.readString(nonAsciiStringBuffer, decoderState);
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(StringBenchmark.class);
     }
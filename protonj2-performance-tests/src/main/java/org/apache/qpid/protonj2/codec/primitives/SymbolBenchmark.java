@@ -17,7 +17,13 @@
 package org.apache.qpid.protonj2.codec.primitives;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -32,11 +38,21 @@ public class SymbolBenchmark extends CodecBenchmarkBase {
     private Symbol symbol3;
     private Blackhole blackhole;
 
+    private static final int UNIQUE_SYMBOL_COUNT = 64 * 1024;
+
+    private ProtonBuffer[] uniqueSymbolBuffers;
+    private ProtonBuffer wellKnownSymbolBuffer;
+    private int uniqueIndex;
+
+    // Reproduces the previous unbounded interning map as a baseline for the lookup benchmarks
+    private final Map<ProtonBuffer, Symbol> unboundedBaseline = new ConcurrentHashMap<>(2048);
+
     @Setup
     public void init(Blackhole blackhole) {
         this.blackhole = blackhole;
         super.init();
         initSymbols();
+        initLookupBuffers();
         encode();
     }
 
@@ -46,6 +62,18 @@ public class SymbolBenchmark extends CodecBenchmarkBase {
         symbol3 = Symbol.valueOf("Symbol-3");
     }
 
+    private void initLookupBuffers() {
+        uniqueSymbolBuffers = new ProtonBuffer[UNIQUE_SYMBOL_COUNT];
+        for (int i = 0; i < UNIQUE_SYMBOL_COUNT; ++i) {
+            uniqueSymbolBuffers[i] = ProtonBufferAllocator.defaultAllocator().copy(
+                ("x-opt-unique-" + i).getBytes(StandardCharsets.US_ASCII)).convertToReadOnly();
+        }
+
+        wellKnownSymbolBuffer = ProtonBufferAllocator.defaultAllocator().copy(
+            "Symbol-1".getBytes(StandardCharsets.US_ASCII)).convertToReadOnly();
+        unboundedBaseline.put(wellKnownSymbolBuffer, symbol1);
+    }
+
     @Benchmark
     public void encode() {
         buffer.clear();
@@ -62,6 +90,39 @@ public class SymbolBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readSymbol(buffer, decoderState));
     }
 
+    @Benchmark
+    public void lookupWellKnownSymbol() {
+        blackhole.consume(Symbol.getSymbol(wellKnownSymbolBuffer));
+    }
+
+    @Benchmark
+    public void lookupWellKnownSymbolUnboundedBaseline() {
+        blackhole.consume(unboundedBaseline.get(wellKnownSymbolBuffer));
+    }
+
+    @Benchmark
+    public void lookupUniqueSymbols() {
+        final ProtonBuffer symbolBuffer = uniqueSymbolBuffers[uniqueIndex++ & (UNIQUE_SYMBOL_COUNT - 1)];
+        blackhole.consume(Symbol.getSymbol(symbolBuffer, true));
+    }
+
+    @Benchmark
+    public void lookupUniqueSymbolsUnboundedBaseline() {
+        final ProtonBuffer symbolBuffer = uniqueSymbolBuffers[uniqueIndex++ & (UNIQUE_SYMBOL_COUNT - 1)];
+        Symbol symbol = unboundedBaseline.get(symbolBuffer);
+        if (symbol == null) {
+            symbol = Symbol.getSymbol(symbolBuffer, true);
+            unboundedBaseline.putIfAbsent(symbolBuffer, symbol);
+        }
+        blackhole.consume(symbol);
+    }
+
+    @Benchmark
+    public void uniqueSymbolToString() {
+        final ProtonBuffer symbolBuffer = uniqueSymbolBuffers[uniqueIndex++ & (UNIQUE_SYMBOL_COUNT - 1)];
+        blackhole.consume(ProtonBufferUtils.toString(symbolBuffer, StandardCharsets.US_ASCII));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(SymbolBenchmark.class);
     }
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.engine.impl.ProtonDeliveryTagGenerator;
+import org.apache.qpid.protonj2.engine.util.RingQueueBenchmark;
+import org.apache.qpid.protonj2.types.messaging.Accepted;
+import org.apache.qpid.protonj2.types.messaging.Source;
+import org.apache.qpid.protonj2.types.messaging.Target;
+import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks a pair of {@link Engine} instances connected back to back in memory, one sending
+ * messages over one or more links in a session and the other receiving them, accepting and
+ * settling unsettled deliveries and replenishing credit once half of the window is used.  Each
+ * operation is one message sent so the score is messages per second, the bytes counter gives
+ * the payload bytes per second and running with the GC profiler (-prof gc) reports the per
+ * message allocation rate through gc.alloc.rate.norm.
+ * <p>
+ * Frames written by either engine are queued and handed to the other engine when the sender
+ * runs out of credit or the queued output exceeds {@link #IO_BUFFER_LIMIT} bytes, standing in
+ * for the socket buffers between two peers.  Payloads larger than {@link #MAX_FRAME_SIZE} are
+ * split across multiple Transfer frames.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EngineTransferBenchmark {
+
+    public static final int MAX_FRAME_SIZE = 16384;
+    public static final int IO_BUFFER_LIMIT = 1024 * 1024;
+
+    @Param({ "true", "false" })
+    public boolean presettled;
+
+    @Param({ "128", "4096", "262144" })
+    public int payloadSize;
+
+    @Param({ "1", "16" })
+    public int links;
+
+    @Param({ "10", "1000" })
+    public int credit;
+
+    private Engine sendingEngine;
+    private Engine receivingEngine;
+    private Sender[] senders;
+    private int nextSender;
+    private ProtonBuffer payload;
+
+    private final EnginePipe toReceiver = new EnginePipe();
+    private final EnginePipe toSender = new EnginePipe();
+
+    /**
+     * Counts the payload bytes sent which JMH reports as a rate alongside the message rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TransferCounters {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void init() {
+        payload = ProtonBufferAllocator.defaultAllocator().allocate(payloadSize);
+        for (int i = 0; i < payloadSize; ++i) {
+            payload.writeByte((byte) i);
+        }
+        payload.convertToReadOnly();
+
+        sendingEngine = EngineFactory.PROTON.createNonSaslEngine();
+        receivingEngine = EngineFactory.PROTON.createNonSaslEngine();
+
+        toReceiver.connect(sendingEngine, receivingEngine);
+        toSender.connect(receivingEngine, sendingEngine);
+
+        final Connection receivingConnection = receivingEngine.start();
+
+        receivingConnection.openHandler(connection -> connection.setMaxFrameSize(MAX_FRAME_SIZE).open());
+        receivingConnection.sessionOpenHandler(session -> session.open());
+        receivingConnection.receiverOpenHandler(receiver -> {
+            receiver.setSource(receiver.getRemoteSource().copy());
+            receiver.setTarget(receiver.<Target>getRemoteTarget().copy());
+            receiver.deliveryReadHandler(this::deliveryRead);
+            receiver.open();
+            receiver.addCredit(credit);
+        });
+
+        final Connection connection = sendingEngine.start().setMaxFrameSize(MAX_FRAME_SIZE).open();
+        final Session session = connection.session().open();
+
+        senders = new Sender[links];
+        for (int i = 0; i < links; ++i) {
+            senders[i] = session.sender("sender-" + i);
+            senders[i].setSource(new Source());
+            senders[i].setTarget(new Target());
+            if (presettled) {
+                senders[i].setSenderSettleMode(SenderSettleMode.SETTLED);
+                senders[i].setDeliveryTagGenerator(ProtonDeliveryTagGenerator.BUILTIN.EMPTY.createGenerator());
+            } else {
+                senders[i].setSenderSettleMode(SenderSettleMode.UNSETTLED);
+                senders[i].setDeliveryTagGenerator(ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator());
+                senders[i].deliveryStateUpdatedHandler(delivery -> {
+                    if (delivery.isRemotelySettled()) {
+                        delivery.settle();
+                    }
+                });
+            }
+            senders[i].open();
+        }
+
+        pump();
+
+        for (Sender sender : senders) {
+            if (!sender.isSendable()) {
+                throw new IllegalStateException("Sender was not granted credit during setup: " + sender.getName());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pump();
+
+        sendingEngine.shutdown();
+        receivingEngine.shutdown();
+        payload.close();
+    }
+
+    @Benchmark
+    public void transfer(TransferCounters counters) {
+        final Sender sender = senders[nextSender];
+
+        if (++nextSender == senders.length) {
+            nextSender = 0;
+        }
+
+        while (!sender.isSendable()) {
+            pump();
+        }
+
+        final OutgoingDelivery delivery = sender.next();
+        if (presettled) {
+            delivery.disposition(null, true);
+        }
+
+        try (ProtonBuffer buffer = payload.copy(true)) {
+            delivery.streamBytes(buffer, true);
+            while (buffer.isReadable()) {
+                pump();
+                delivery.streamBytes(buffer, true);
+            }
+        }
+
+        if (toReceiver.queuedBytes >= IO_BUFFER_LIMIT) {
+            pump();
+        }
+
+        counters.bytes += payloadSize;
+    }
+
+    private void deliveryRead(IncomingDelivery delivery) {
+        final ProtonBuffer received = delivery.readAll();
+        if (received != null) {
+            received.close();
+        }
+
+        if (!delivery.isPartial()) {
+            if (delivery.isRemotelySettled()) {
+                delivery.settle();
+            } else {
+                delivery.disposition(Accepted.getInstance(), true);
+            }
+
+            final Receiver receiver = delivery.getLink();
+            if (receiver.getCredit() <= credit / 2) {
+                receiver.addCredit(credit - receiver.getCredit());
+            }
+        }
+    }
+
+    private void pump() {
+        while (toReceiver.drain() | toSender.drain()) {
+            // Keep going until neither engine has anything more to say
+        }
+    }
+
+    /*
+     * One direction of the in-memory connection, output of one engine is queued with its
+     * write completion until drained into the input of the other.
+     */
+    private static final class EnginePipe {
+
+        private static final Runnable NO_COMPLETION = () -> {};
+
+        private final ArrayDeque<ProtonBuffer> buffers = new ArrayDeque<>();
+        private final ArrayDeque<Runnable> completions = new ArrayDeque<>();
+
+        private Engine target;
+        private long queuedBytes;
+
+        void connect(Engine source, Engine target) {
+            this.target = target;
+
+            source.outputHandler((buffer, ioComplete) -> {
+                queuedBytes += buffer.getReadableBytes();
+                buffers.add(buffer);
+                completions.add(ioComplete != null ? ioComplete : NO_COMPLETION);
+            });
+        }
+
+        boolean drain() {
+            if (buffers.isEmpty()) {
+                return false;
+            }
+
+            ProtonBuffer buffer;
+            while ((buffer = buffers.poll()) != null) {
+                queuedBytes -= buffer.getReadableBytes();
+                try (ProtonBuffer input = buffer) {
+                    target.ingest(input);
+                }
+                completions.poll().run();
+            }
+
+            return true;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RingQueueBenchmark.runBenchmark(EngineTransferBenchmark.class);
+    }
+}
@@ -50,6 +50,7 @@ public class AMQPTestDriver implements Consumer<ByteBuffer> {
     private final String driverName;
     private final FrameDecoder frameParser;
     private final FrameEncoder frameEncoder;
+    private final DeliveryTrafficHandler traffic;
 
     private Open localOpen;
     private Open remoteOpen;
@@ -114,6 +115,7 @@ public class AMQPTestDriver implements Consumer<ByteBuffer> {
         // Configure test driver resources
         this.frameParser = new FrameDecoder(this);
         this.frameEncoder = new FrameEncoder(this);
+        this.traffic = new DeliveryTrafficHandler(this);
     }
 
     /**
@@ -123,6 +125,13 @@ public class AMQPTestDriver implements Consumer<ByteBuffer> {
         return sessions;
     }
 
+    /**
+     * @return the unscripted delivery traffic handler for this driver.
+     */
+    public DeliveryTrafficHandler traffic() {
+        return traffic;
+    }
+
     /**
      * @return the assigned name of this AMQP test driver
      */
@@ -223,6 +232,10 @@ public class AMQPTestDriver implements Consumer<ByteBuffer> {
                 frameParser.ingest(buffer);
                 LOG.trace("{} ingestion completed cycle, remaining bytes in buffer: {}", driverName, buffer.remaining());
             }
+
+            if (traffic.isEnabled() && failureCause == null) {
+                traffic.flush();
+            }
         } catch (AssertionError e) {
             signalFailure(e);
         }
@@ -329,6 +342,10 @@ public class AMQPTestDriver implements Consumer<ByteBuffer> {
                 break;
         }
 
+        if (traffic.isEnabled() && traffic.handlePerformative(amqp, payload, channel)) {
+            return;
+        }
+
         synchronized (script) {
             final ScriptedElement scriptEntry = script.poll();
             if (scriptEntry == null) {
@@ -0,0 +1,580 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.test.driver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.test.driver.codec.Codec;
+import org.apache.qpid.protonj2.test.driver.codec.messaging.Accepted;
+import org.apache.qpid.protonj2.test.driver.codec.messaging.Data;
+import org.apache.qpid.protonj2.test.driver.codec.messaging.Target;
+import org.apache.qpid.protonj2.test.driver.codec.primitives.Binary;
+import org.apache.qpid.protonj2.test.driver.codec.primitives.UnsignedInteger;
+import org.apache.qpid.protonj2.test.driver.codec.primitives.UnsignedShort;
+import org.apache.qpid.protonj2.test.driver.codec.transport.Attach;
+import org.apache.qpid.protonj2.test.driver.codec.transport.Detach;
+import org.apache.qpid.protonj2.test.driver.codec.transport.Disposition;
+import org.apache.qpid.protonj2.test.driver.codec.transport.Flow;
+import org.apache.qpid.protonj2.test.driver.codec.transport.PerformativeDescribedType;
+import org.apache.qpid.protonj2.test.driver.codec.transport.Role;
+import org.apache.qpid.protonj2.test.driver.codec.transport.Transfer;
+
+/**
+ * Unscripted handler of link traffic for a test driver that allows the driver to act as
+ * an auto accepting message sink for links the remote opens as senders and or a fire hose
+ * message source for links the remote opens as receivers.
+ * <p>
+ * Once enabled the handler answers the remote link Attach and Detach of the links it
+ * manages and processes the Transfer, Flow and Disposition performatives for those links
+ * without any matching against the scripted expectations, which makes it suitable for driving
+ * high volumes of messages from or to the peer under test.  Connection and session level
+ * performatives remain scripted so a test should script the Open and Begin exchanges and
+ * any final End or Close handling as normal, Coordinator links are always left to the script.
+ * <p>
+ * The sink grants each link the configured credit window and tops the credit back up once
+ * half of it has been used.  Unsettled deliveries are accepted and settled, with contiguous
+ * deliveries processed from the same read coalesced into a single Disposition.  The source
+ * sends copies of the configured encoded message for as long as the remote grants credit and
+ * its session incoming window allows, splitting deliveries that exceed the remote max frame
+ * size across multiple Transfer frames.
+ * <p>
+ * The handler is only ever invoked from the thread processing the driver input and is not
+ * thread safe beyond enabling the modes and reading the statistics it gathers.
+ */
+public class DeliveryTrafficHandler {
+
+    private static final int TRANSFER_FRAME_OVERHEAD = 256;
+
+    private final AMQPTestDriver driver;
+    private final Map<UnsignedShort, SessionTraffic> sessions = new HashMap<>();
+
+    private volatile boolean sinkEnabled;
+    private volatile int sinkCreditWindow;
+
+    private volatile boolean sourceEnabled;
+    private volatile byte[] sourceMessage;
+    private volatile boolean sourcePresettled;
+
+    private volatile long deliveriesReceived;
+    private volatile long bytesReceived;
+    private volatile long deliveriesSent;
+    private volatile long dispositionsReceived;
+
+    DeliveryTrafficHandler(AMQPTestDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Enables the auto accepting sink for any sender links the remote attaches after this call.
+     *
+     * @param creditWindow
+     * 		The link credit the sink grants and replenishes for each sender link.
+     *
+     * @return this traffic handler instance.
+     */
+    public DeliveryTrafficHandler enableSink(int creditWindow) {
+        if (creditWindow <= 0) {
+            throw new IllegalArgumentException("Sink credit window must be greater than zero");
+        }
+
+        this.sinkCreditWindow = creditWindow;
+        this.sinkEnabled = true;
+
+        return this;
+    }
+
+    /**
+     * Enables the fire hose source for any receiver links the remote attaches after this call.
+     *
+     * @param encodedMessage
+     * 		The encoded message sections that are sent as the payload of every delivery.
+     * @param presettled
+     * 		Should the deliveries be sent already settled.
+     *
+     * @return this traffic handler instance.
+     */
+    public DeliveryTrafficHandler enableSource(byte[] encodedMessage, boolean presettled) {
+        if (encodedMessage == null || encodedMessage.length == 0) {
+            throw new IllegalArgumentException("Source message payload cannot be null or empty");
+        }
+
+        this.sourceMessage = encodedMessage;
+        this.sourcePresettled = presettled;
+        this.sourceEnabled = true;
+
+        return this;
+    }
+
+    /**
+     * Enables the fire hose source for any receiver links the remote attaches after this call
+     * using a message with a single Data section body of the given size.
+     *
+     * @param bodySize
+     * 		The size of the Data section body of the messages sent.
+     * @param presettled
+     * 		Should the deliveries be sent already settled.
+     *
+     * @return this traffic handler instance.
+     */
+    public DeliveryTrafficHandler enableSource(int bodySize, boolean presettled) {
+        final byte[] body = new byte[bodySize];
+        for (int i = 0; i < bodySize; ++i) {
+            body[i] = (byte) i;
+        }
+
+        final Codec codec = Codec.Factory.create();
+
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream(bodySize + 16)) {
+            codec.putDescribedType(new Data(new Binary(body)));
+            codec.encode(output);
+
+            return enableSource(output.toByteArray(), presettled);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return sinkEnabled || sourceEnabled;
+    }
+
+    public boolean isSinkEnabled() {
+        return sinkEnabled;
+    }
+
+    public boolean isSourceEnabled() {
+        return sourceEnabled;
+    }
+
+    /**
+     * @return the number of complete deliveries the sink has received.
+     */
+    public long getDeliveriesReceived() {
+        return deliveriesReceived;
+    }
+
+    /**
+     * @return the number of delivery payload bytes the sink has received.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * @return the number of complete deliveries the source has sent.
+     */
+    public long getDeliveriesSent() {
+        return deliveriesSent;
+    }
+
+    /**
+     * @return the number of Disposition frames received for links managed by this handler.
+     */
+    public long getDispositionsReceived() {
+        return dispositionsReceived;
+    }
+
+    //----- Driver integration
+
+    /**
+     * Offers the incoming performative to this handler which either consumes it or leaves it
+     * to be processed by the test script.
+     *
+     * @return true if the performative was handled and should not be passed to the script.
+     */
+    boolean handlePerformative(PerformativeDescribedType performative, ByteBuffer payload, int channel) {
+        switch (performative.getPerformativeType()) {
+            case ATTACH:
+                return handleAttach((Attach) performative, channel);
+            case DETACH:
+                return handleDetach((Detach) performative, channel);
+            case TRANSFER:
+                return handleTransfer((Transfer) performative, payload, channel);
+            case FLOW:
+                return handleFlow((Flow) performative, channel);
+            case DISPOSITION:
+                return handleDisposition(channel);
+            case END:
+                sessions.remove(UnsignedShort.valueOf(channel));
+                return false;
+            case HEARTBEAT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Called once all frames in an incoming buffer have been processed to write any pending
+     * settlements and credit replenishment as a batch.
+     */
+    void flush() {
+        if (!sessions.isEmpty()) {
+            sessions.values().forEach(SessionTraffic::flush);
+        }
+    }
+
+    //----- Performative handling
+
+    private boolean handleAttach(Attach attach, int channel) {
+        final boolean sink = attach.isSender();
+
+        if ((sink && !sinkEnabled) || (!sink && !sourceEnabled) || !(attach.getTarget() instanceof Target || attach.getTarget() == null)) {
+            return false;
+        }
+
+        final SessionTracker session = driver.sessions().getSessionFromRemoteChannel(UnsignedShort.valueOf(channel));
+        if (session == null) {
+            throw new AssertionError(String.format(
+                "Received Attach on channel [%s] that has no matching Session for that remote channel. ", channel));
+        }
+
+        session.handleRemoteAttach(attach);
+
+        final Attach response = new Attach();
+
+        response.setName(attach.getName());
+        response.setHandle(session.findFreeLocalHandle());
+        response.setRole(sink ? Role.RECEIVER : Role.SENDER);
+        response.setSenderSettleMode(attach.getSenderSettleMode());
+        response.setReceiverSettleMode(attach.getReceiverSettleMode());
+        response.setSource(attach.getSource());
+        response.setTarget((Target) attach.getTarget());
+        if (!sink) {
+            response.setInitialDeliveryCount(UnsignedInteger.ZERO);
+        }
+
+        session.handleLocalAttach(response);
+        driver.sendAMQPFrame(session.getLocalChannel().intValue(), response, null);
+
+        final SessionTraffic traffic = sessions.computeIfAbsent(UnsignedShort.valueOf(channel), remoteChannel -> new SessionTraffic(session));
+        final LinkTraffic link = new LinkTraffic(sink, response.getHandle());
+
+        traffic.links.put(attach.getHandle(), link);
+
+        if (sink) {
+            link.credit = sinkCreditWindow;
+            traffic.sendFlow(link);
+        }
+
+        return true;
+    }
+
+    private boolean handleDetach(Detach detach, int channel) {
+        final SessionTraffic traffic = sessions.get(UnsignedShort.valueOf(channel));
+        final LinkTraffic link = traffic != null ? traffic.links.remove(detach.getHandle()) : null;
+
+        if (link == null) {
+            return false;
+        }
+
+        traffic.flush();
+        traffic.session.handleRemoteDetach(detach);
+
+        final Detach response = new Detach();
+
+        response.setHandle(link.localHandle);
+        response.setClosed(detach.getClosed());
+
+        traffic.session.handleLocalDetach(response);
+        driver.sendAMQPFrame(traffic.session.getLocalChannel().intValue(), response, null);
+
+        return true;
+    }
+
+    private boolean handleTransfer(Transfer transfer, ByteBuffer payload, int channel) {
+        final SessionTraffic traffic = sessions.get(UnsignedShort.valueOf(channel));
+        final LinkTraffic link = traffic != null ? traffic.links.get(transfer.getHandle()) : null;
+
+        if (link == null) {
+            return false;
+        } else if (!link.sink) {
+            throw new AssertionError("Received inbound Transfer addressed to a local Sender link");
+        }
+
+        traffic.nextIncomingId++;
+        traffic.framesSinceFlow++;
+
+        if (!link.inProgress) {
+            if (transfer.getDeliveryId() == null) {
+                throw new AssertionError("First Transfer of a new delivery did not carry a delivery id: " + transfer);
+            }
+
+            link.inProgress = true;
+            link.deliveryId = transfer.getDeliveryId().longValue();
+            link.settled = false;
+        }
+
+        if (Boolean.TRUE.equals(transfer.getSettled())) {
+            link.settled = true;
+        }
+
+        if (payload != null) {
+            bytesReceived += payload.remaining();
+        }
+
+        if (Boolean.TRUE.equals(transfer.getAborted()) || !Boolean.TRUE.equals(transfer.getMore())) {
+            link.inProgress = false;
+            link.deliveryCount++;
+            link.credit--;
+
+            if (!Boolean.TRUE.equals(transfer.getAborted())) {
+                deliveriesReceived++;
+
+                if (!link.settled) {
+                    traffic.accept(link.deliveryId);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean handleFlow(Flow flow, int channel) {
+        final SessionTraffic traffic = sessions.get(UnsignedShort.valueOf(channel));
+
+        if (traffic == null) {
+            return false;
+        }
+
+        final LinkTraffic link;
+
+        if (flow.getHandle() != null) {
+            link = traffic.links.get(flow.getHandle());
+            if (link == null) {
+                return false;
+            }
+        } else {
+            link = null;
+        }
+
+        if (flow.getNextIncomingId() != null) {
+            traffic.remoteIncomingWindow = flow.getNextIncomingId().longValue() + flow.getIncomingWindow().longValue() - traffic.nextOutgoingId;
+        } else {
+            traffic.remoteIncomingWindow = flow.getIncomingWindow().longValue();
+        }
+
+        if (link != null && !link.sink) {
+            final long remoteDeliveryCount = flow.getDeliveryCount() == null ? 0 : flow.getDeliveryCount().longValue();
+            final long remoteCredit = flow.getLinkCredit() == null ? 0 : flow.getLinkCredit().longValue();
+
+            link.credit = (remoteDeliveryCount + remoteCredit - link.deliveryCount) & 0xFFFFFFFFL;
+        }
+
+        traffic.sendDeliveries();
+
+        return true;
+    }
+
+    private boolean handleDisposition(int channel) {
+        final SessionTraffic traffic = sessions.get(UnsignedShort.valueOf(channel));
+
+        if (traffic == null) {
+            return false;
+        }
+
+        dispositionsReceived++;
+
+        return true;
+    }
+
+    //----- Internal session and link state tracking
+
+    private final class SessionTraffic {
+
+        private final SessionTracker session;
+        private final int localChannel;
+        private final Map<UnsignedInteger, LinkTraffic> links = new LinkedHashMap<>();
+
+        private long nextIncomingId;
+        private long nextOutgoingId;
+        private long nextDeliveryId;
+        private long remoteIncomingWindow;
+        private long framesSinceFlow;
+
+        private long pendingFirst = -1;
+        private long pendingLast = -1;
+
+        SessionTraffic(SessionTracker session) {
+            this.session = session;
+            this.localChannel = session.getLocalChannel().intValue();
+            this.nextIncomingId = session.getNextIncomingId() != null ? session.getNextIncomingId().longValue() : 0;
+            this.nextOutgoingId = session.getLocalBegin().getNextOutgoingId().longValue();
+            this.remoteIncomingWindow = session.getRemoteBegin().getIncomingWindow().longValue();
+        }
+
+        void accept(long deliveryId) {
+            if (pendingFirst >= 0 && deliveryId == pendingLast + 1) {
+                pendingLast = deliveryId;
+            } else {
+                flushDisposition();
+                pendingFirst = pendingLast = deliveryId;
+            }
+        }
+
+        void flush() {
+            flushDisposition();
+
+            boolean flowSent = false;
+
+            for (LinkTraffic link : links.values()) {
+                if (link.sink && link.credit <= sinkCreditWindow / 2) {
+                    link.credit = sinkCreditWindow;
+                    sendFlow(link);
+                    flowSent = true;
+                }
+            }
+
+            if (!flowSent && framesSinceFlow > 0 && framesSinceFlow >= session.getLocalBegin().getIncomingWindow().longValue() / 2) {
+                sendFlow(null);
+            }
+        }
+
+        void flushDisposition() {
+            if (pendingFirst >= 0) {
+                final Disposition disposition = new Disposition();
+
+                disposition.setRole(Role.RECEIVER.getValue());
+                disposition.setFirst(UnsignedInteger.valueOf(pendingFirst));
+                if (pendingLast != pendingFirst) {
+                    disposition.setLast(UnsignedInteger.valueOf(pendingLast));
+                }
+                disposition.setSettled(true);
+                disposition.setState(Accepted.getInstance());
+
+                pendingFirst = pendingLast = -1;
+
+                driver.sendAMQPFrame(localChannel, disposition, null);
+            }
+        }
+
+        void sendFlow(LinkTraffic link) {
+            final Flow flow = new Flow();
+
+            flow.setNextIncomingId(UnsignedInteger.valueOf(nextIncomingId & 0xFFFFFFFFL));
+            flow.setIncomingWindow(session.getLocalBegin().getIncomingWindow());
+            flow.setNextOutgoingId(UnsignedInteger.valueOf(nextOutgoingId & 0xFFFFFFFFL));
+            flow.setOutgoingWindow(session.getLocalBegin().getOutgoingWindow());
+
+            if (link != null) {
+                flow.setHandle(link.localHandle);
+                flow.setDeliveryCount(UnsignedInteger.valueOf(link.deliveryCount & 0xFFFFFFFFL));
+                flow.setLinkCredit(UnsignedInteger.valueOf(link.credit));
+            }
+
+            framesSinceFlow = 0;
+
+            driver.sendAMQPFrame(localChannel, flow, null);
+        }
+
+        void sendDeliveries() {
+            boolean progress = true;
+
+            // Round robin over the source links one delivery at a time so that each
+            // link gets a fair share of the remote session incoming window.
+            while (progress && remoteIncomingWindow > 0) {
+                progress = false;
+                for (LinkTraffic link : links.values()) {
+                    if (!link.sink && (link.inProgress || link.credit > 0) && remoteIncomingWindow > 0) {
+                        sendDelivery(link);
+                        progress = true;
+                    }
+                }
+            }
+        }
+
+        private void sendDelivery(LinkTraffic link) {
+            final byte[] message = sourceMessage;
+            final int maxPayload = maxFramePayload();
+
+            if (!link.inProgress) {
+                link.inProgress = true;
+                link.deliveryId = nextDeliveryId++;
+                link.offset = 0;
+            }
+
+            while (remoteIncomingWindow > 0) {
+                final int chunk = Math.min(message.length - link.offset, maxPayload);
+                final boolean more = link.offset + chunk < message.length;
+                final Transfer transfer = new Transfer();
+
+                transfer.setHandle(link.localHandle);
+                if (link.offset == 0) {
+                    transfer.setDeliveryId(UnsignedInteger.valueOf(link.deliveryId & 0xFFFFFFFFL));
+                    transfer.setDeliveryTag(new Binary(deliveryTag(link.deliveryId)));
+                    transfer.setMessageFormat(UnsignedInteger.ZERO);
+                    transfer.setSettled(sourcePresettled);
+                }
+                transfer.setMore(more);
+
+                driver.sendAMQPFrame(localChannel, transfer, ByteBuffer.wrap(message, link.offset, chunk));
+
+                nextOutgoingId++;
+                remoteIncomingWindow--;
+                link.offset += chunk;
+
+                if (!more) {
+                    link.inProgress = false;
+                    link.deliveryCount++;
+                    link.credit--;
+                    deliveriesSent++;
+                    break;
+                }
+            }
+        }
+
+        private int maxFramePayload() {
+            long maxFrameSize = driver.getOutboundMaxFrameSize();
+
+            if (driver.getRemoteOpen() != null && driver.getRemoteOpen().getMaxFrameSize() != null) {
+                maxFrameSize = Math.min(maxFrameSize, driver.getRemoteOpen().getMaxFrameSize().longValue());
+            }
+
+            return (int) Math.min(Integer.MAX_VALUE, maxFrameSize - TRANSFER_FRAME_OVERHEAD);
+        }
+    }
+
+    private static byte[] deliveryTag(long deliveryId) {
+        return new byte[] {
+            (byte) (deliveryId >>> 56), (byte) (deliveryId >>> 48), (byte) (deliveryId >>> 40), (byte) (deliveryId >>> 32),
+            (byte) (deliveryId >>> 24), (byte) (deliveryId >>> 16), (byte) (deliveryId >>> 8), (byte) deliveryId };
+    }
+
+    private static final class LinkTraffic {
+
+        private final boolean sink;
+        private final UnsignedInteger localHandle;
+
+        private long deliveryCount;
+        private long credit;
+        private long deliveryId;
+        private boolean inProgress;
+        private boolean settled;
+        private int offset;
+
+        LinkTraffic(boolean sink, UnsignedInteger localHandle) {
+            this.sink = sink;
+            this.localHandle = localHandle;
+        }
+    }
+}
@@ -117,6 +117,40 @@ public abstract class ProtonTestPeer extends ScriptWriter implements AutoCloseab
         return getDriver().getSaslPerformativeCount();
     }
 
+    /**
+     * Enables the unscripted auto accepting message sink which answers the attach of any sender
+     * link the remote opens, grants it the given credit window and accepts and settles all the
+     * deliveries sent on it without matching them against the scripted expectations.
+     *
+     * @param creditWindow
+     * 		The link credit granted to each sender link.
+     *
+     * @return the {@link DeliveryTrafficHandler} that tracks the received deliveries.
+     *
+     * @see DeliveryTrafficHandler
+     */
+    public DeliveryTrafficHandler enableAutoAcceptSink(int creditWindow) {
+        return getDriver().traffic().enableSink(creditWindow);
+    }
+
+    /**
+     * Enables the unscripted fire hose message source which answers the attach of any receiver
+     * link the remote opens and sends it messages for as long as it grants credit without any
+     * scripted expectations of the remote flow or disposition frames.
+     *
+     * @param bodySize
+     * 		The size of the Data section body of each message sent.
+     * @param presettled
+     * 		Should the deliveries be sent already settled.
+     *
+     * @return the {@link DeliveryTrafficHandler} that tracks the sent deliveries.
+     *
+     * @see DeliveryTrafficHandler
+     */
+    public DeliveryTrafficHandler enableFirehoseSource(int bodySize, boolean presettled) {
+        return getDriver().traffic().enableSource(bodySize, presettled);
+    }
+
     /**
      * Drops the connection to the connected client immediately after the last handler that was
      * registered before this scripted action is queued. Depending on the test peer this action
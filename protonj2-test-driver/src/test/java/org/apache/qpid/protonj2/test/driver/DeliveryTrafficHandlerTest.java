@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.test.driver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.test.driver.codec.transport.AMQPHeader;
+import org.apache.qpid.protonj2.test.driver.utils.TestPeerTestsBase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Tests for the unscripted sink and source modes of the test driver.
+ */
+@Timeout(20)
+class DeliveryTrafficHandlerTest extends TestPeerTestsBase {
+
+    @Test
+    public void testEnableSinkWithInvalidCreditWindow() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            assertThrows(IllegalArgumentException.class, () -> peer.enableAutoAcceptSink(0));
+        }
+    }
+
+    @Test
+    public void testSinkGrantsCreditAndAcceptsUnsettledDeliveries() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer();
+             ProtonTestClient client = new ProtonTestClient()) {
+
+            peer.expectAMQPHeader().respondWithAMQPHeader();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+
+            final DeliveryTrafficHandler sink = peer.enableAutoAcceptSink(10);
+
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            client.connect(remoteURI.getHost(), remoteURI.getPort());
+            client.expectAMQPHeader();
+            client.expectOpen();
+            client.expectBegin();
+            client.expectAttach().ofReceiver();
+            client.expectFlow().withLinkCredit(10).withDeliveryCount(0);
+            client.remoteHeader(AMQPHeader.getAMQPHeader()).now();
+            client.remoteOpen().now();
+            client.remoteBegin().now();
+            client.remoteAttach().ofSender().now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            client.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+            client.remoteTransfer().withDeliveryId(0).withPayload(new byte[] {0, 1, 2}).now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertEquals(1, sink.getDeliveriesReceived());
+            assertEquals(3, sink.getBytesReceived());
+
+            // A presettled delivery is counted but produces no disposition
+            client.expectDetach().withClosed(true);
+            client.remoteTransfer().withDeliveryId(1).withSettled(true).withPayload(new byte[] {0}).now();
+            client.remoteDetach().withClosed(true).now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertEquals(2, sink.getDeliveriesReceived());
+
+            client.expectEnd();
+            peer.expectEnd().respond();
+            client.remoteEnd().now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSinkReplenishesCreditOnceHalfTheWindowIsUsed() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer();
+             ProtonTestClient client = new ProtonTestClient()) {
+
+            peer.expectAMQPHeader().respondWithAMQPHeader();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+
+            final DeliveryTrafficHandler sink = peer.enableAutoAcceptSink(2);
+
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            client.connect(remoteURI.getHost(), remoteURI.getPort());
+            client.expectAMQPHeader();
+            client.expectOpen();
+            client.expectBegin();
+            client.expectAttach().ofReceiver();
+            client.expectFlow().withLinkCredit(2).withDeliveryCount(0);
+            client.remoteHeader(AMQPHeader.getAMQPHeader()).now();
+            client.remoteOpen().now();
+            client.remoteBegin().now();
+            client.remoteAttach().ofSender().withSenderSettleModeSettled().now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            client.expectFlow().withLinkCredit(2).withDeliveryCount(1);
+            client.remoteTransfer().withDeliveryId(0).withSettled(true).withPayload(new byte[] {0}).now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertEquals(1, sink.getDeliveriesReceived());
+        }
+    }
+
+    @Test
+    public void testSourceSendsDeliveriesWhileCreditIsAvailable() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer();
+             ProtonTestClient client = new ProtonTestClient()) {
+
+            peer.expectAMQPHeader().respondWithAMQPHeader();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+
+            final DeliveryTrafficHandler source = peer.enableFirehoseSource(32, false);
+
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            client.connect(remoteURI.getHost(), remoteURI.getPort());
+            client.expectAMQPHeader();
+            client.expectOpen();
+            client.expectBegin();
+            client.expectAttach().ofSender();
+            client.remoteHeader(AMQPHeader.getAMQPHeader()).now();
+            client.remoteOpen().now();
+            client.remoteBegin().now();
+            client.remoteAttach().ofReceiver().now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            client.expectTransfer().withDeliveryId(0).withSettled(false).withNonNullPayload();
+            client.expectTransfer().withDeliveryId(1).withSettled(false).withNonNullPayload();
+            client.remoteFlow().withDeliveryCount(0).withLinkCredit(2).now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertEquals(2, source.getDeliveriesSent());
+
+            client.remoteDisposition().withFirst(0).withLast(1).withSettled(true).withState().accepted().now();
+            client.expectTransfer().withDeliveryId(2).withNonNullPayload();
+            client.remoteFlow().withDeliveryCount(2).withLinkCredit(1).now();
+            client.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertEquals(3, source.getDeliveriesSent());
+            assertEquals(1, source.getDispositionsReceived());
+        }
+    }
+}
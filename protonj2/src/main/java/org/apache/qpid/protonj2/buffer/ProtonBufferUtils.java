@@ -16,9 +16,12 @@
  */
 package org.apache.qpid.protonj2.buffer;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.Cleaner;
 import java.lang.ref.Cleaner.Cleanable;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.util.Objects;
 
@@ -34,6 +37,14 @@ public abstract class ProtonBufferUtils {
      */
     public static final int MAX_BUFFER_CAPACITY = Integer.MAX_VALUE - 8;
 
+    /*
+     * View of a byte array as eight byte words used to test eight ASCII bytes in one step, the
+     * byte order does not matter as every byte of the word is checked.
+     */
+    private static final VarHandle LONG_ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
     /*
      * Cleaner used by buffer implementations to close out wrapped or otherwise
      * managed buffer resources when the buffer is no longer reachable and can be
@@ -104,7 +115,19 @@ public abstract class ProtonBufferUtils {
      * @return a {@link String} that is a view of the given buffer's readable bytes.
      */
     public static String toString(ProtonBuffer buffer, Charset charset) {
-        byte[] copy = new byte[buffer.getReadableBytes()];
+        final int length = buffer.getReadableBytes();
+
+        // Decode straight from the backing array when the readable bytes are all in one
+        if (length > 0 && !buffer.isComposite()) {
+            try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+                final ProtonBufferComponent component = accessor.firstReadable();
+                if (component != null && component.hasReadbleArray() && component.getReadableBytes() == length) {
+                    return new String(component.getReadableArray(), component.getReadableArrayOffset(), length, charset);
+                }
+            }
+        }
+
+        byte[] copy = new byte[length];
         buffer.copyInto(buffer.getReadOffset(), copy, 0, copy.length);
         return new String(copy, 0, copy.length, charset);
     }
@@ -526,6 +549,38 @@ public abstract class ProtonBufferUtils {
                (long) (array[offset++] & 0xFF) << 0;
     }
 
+    /**
+     * Finds the first byte in the given region of the array that is not a seven bit ASCII value.
+     * The bytes are tested eight at a time as a single long word with any remainder tested one
+     * byte at a time.
+     *
+     * @param array
+     * 		The array to be scanned
+     * @param offset
+     * 		The offset into the array to start scanning from.
+     * @param length
+     * 		The number of bytes to scan.
+     *
+     * @return the index relative to the offset of the first non-ASCII byte or the length if all are ASCII.
+     */
+    public static int indexOfNonAscii(byte[] array, int offset, int length) {
+        int index = 0;
+
+        for (final int limit = length - Long.BYTES; index <= limit; index += Long.BYTES) {
+            if (((long) LONG_ARRAY_VIEW.get(array, offset + index) & NON_ASCII_MASK) != 0) {
+                break;
+            }
+        }
+
+        for (; index < length; ++index) {
+            if (array[offset + index] < 0) {
+                return index;
+            }
+        }
+
+        return length;
+    }
+
     /**
      * Reads a four byte floating point value from the given array from the provided offset.
      *
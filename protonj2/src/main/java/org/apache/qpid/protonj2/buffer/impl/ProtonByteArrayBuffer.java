@@ -86,6 +86,11 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
     private boolean readOnly;
     private boolean closed;
 
+    /**
+     * The pooled array that backs this buffer when it was created by a pooling allocator.
+     */
+    private ProtonPooledMemory pooled;
+
     /**
      * Creates a new {@link ProtonByteArrayBuffer} instance that uses default configuration values for
      * initial capacity and the maximum allowed capacity to which the underlying byte array will
@@ -206,6 +211,14 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         this.implicitGrowthLimit = implicitGrowthLimit;
     }
 
+    // For use by the pooled allocator, the pooled array has already been acquired for this buffer
+    ProtonByteArrayBuffer(ProtonPooledMemory pooled, int capacity) {
+        this.pooled = pooled;
+        this.array = pooled.array();
+        this.readCapacity = capacity;
+        this.writeCapacity = capacity;
+    }
+
     // For use in transfer to quickly setup the new facade around the array
     private ProtonByteArrayBuffer(byte[] backingArray, int arrayOffset, boolean readOnly) {
         this.array = backingArray;
@@ -231,6 +244,13 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         return false;
     }
 
+    /**
+     * @return true if the backing array of this buffer is returned to an allocator pool once the buffer is closed.
+     */
+    public boolean isPooled() {
+        return pooled != null;
+    }
+
     @Override
     public boolean isComposite() {
         return false;
@@ -323,6 +343,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         }
 
         ProtonByteArrayBuffer front = new ProtonByteArrayBuffer(array, arrayOffset, splitOffset, DEFAULT_MAXIMUM_CAPACITY);
+        front.pooled = retainPooled();
         front.writeOffset = Math.min(writeOffset, splitOffset);
         front.readOffset = Math.min(readOffset, splitOffset);
         if (isReadOnly()) {
@@ -511,6 +532,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
 
         if (readOnly && isReadOnly()) {
             result = new ProtonByteArrayBuffer(array, offset(offset), length, implicitGrowthLimit);
+            result.pooled = retainPooled();
             result.writeOffset = length;
         } else {
             checkGet(offset, length);
@@ -637,7 +659,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         if (writeCapacity == CLOSED_MARKER) {
             throw ProtonBufferUtils.genericBufferIsReadOnly(this);
         }
-        if (getWritableBytes() > size) {
+        if (getWritableBytes() >= size) {
             return this;
         }
         if (allowCompaction && getWritableBytes() + getReadOffset() >= size) {
@@ -651,6 +673,10 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
                 "The buffer cannot grow to a size greater than " + DEFAULT_MAXIMUM_CAPACITY + ", requested size was " + newSize);
         }
 
+        if (pooled != null) {
+            return growPooled((int) newSize);
+        }
+
         byte[] newArray = new byte[(int) newSize];
         copyInto(0, newArray, 0, capacity());
 
@@ -821,7 +847,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
 
     @Override
     public int getReadableArrayOffset() {
-        return arrayOffset;
+        return arrayOffset + readOffset;
     }
 
     @Override
@@ -933,11 +959,18 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         readOffset = 0;
         writeOffset = 0;
         array = null;
+
+        if (pooled != null) {
+            final ProtonPooledMemory released = pooled;
+            pooled = null;
+            released.release();
+        }
     }
 
     @Override
     protected ProtonBuffer transferTheResource() {
         ProtonByteArrayBuffer transfer = new ProtonByteArrayBuffer(array, arrayOffset, readOnly);
+        transfer.pooled = retainPooled();
 
         // Match transfer state to this buffer
         transfer.readCapacity = readCapacity;
@@ -955,6 +988,34 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
 
     //----- Private ProtonBuffer APIs
 
+    private ProtonPooledMemory retainPooled() {
+        return pooled != null ? pooled.retain() : null;
+    }
+
+    private ProtonBuffer growPooled(int newSize) {
+        // The unused tail of an array that no other buffer shares can be claimed in place
+        if (pooled.isExclusive() && arrayOffset + newSize <= array.length) {
+            this.readCapacity = newSize;
+            this.writeCapacity = readOnly ? CLOSED_MARKER : newSize;
+            return this;
+        }
+
+        final ProtonPooledMemory grown = pooled.allocator().acquire(newSize);
+        final byte[] newArray = grown != null ? grown.array() : new byte[newSize];
+
+        copyInto(0, newArray, 0, capacity());
+
+        pooled.release();
+
+        this.pooled = grown;
+        this.array = newArray;
+        this.arrayOffset = 0;
+        this.readCapacity = newSize;
+        this.writeCapacity = readOnly ? CLOSED_MARKER : newSize;
+
+        return this;
+    }
+
     private int offset(int index) {
        return index + arrayOffset;
     }
@@ -0,0 +1,1170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.NoSuchElementException;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferClosedException;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.ProtonBufferIterator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
+import org.apache.qpid.protonj2.resource.SharedResource;
+
+/**
+ * A buffer implementation backed by a direct {@link ByteBuffer} which keeps the buffer contents
+ * outside of the Java heap.  Channel reads and writes operate on the direct memory itself so the
+ * JDK does not need to stage the bytes in a temporary direct buffer as it does for heap buffers.
+ */
+public final class ProtonDirectByteBuffer extends SharedResource<ProtonBuffer> implements ProtonBuffer, ProtonBufferComponent, ProtonBufferComponentAccessor {
+
+    /**
+     * The default initial capacity used for the underlying direct memory.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The default maximum capacity that this buffer can grow to.
+     */
+    public static final int DEFAULT_MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final int CLOSED_MARKER = -1;
+
+    /**
+     * The direct memory that backs this buffer, only absolute operations are used on it.
+     */
+    private ByteBuffer memory;
+
+    /**
+     * The offset into the backing memory where this buffers index 0 begins.
+     */
+    private int memoryOffset;
+
+    /**
+     * Tracks the readable capacity of this buffer which is the size of the region of the
+     * backing memory that this buffer can access.
+     */
+    private int readCapacity;
+
+    /**
+     * Tracks the write capacity for buffers that are both readable and writable and is
+     * set to the closed state for a buffer than has been made read only.
+     */
+    private int writeCapacity;
+
+    /**
+     * The maximum value that the buffer can grow automatically before write operations
+     * that would expand capacity will throw exceptions.
+     */
+    private int implicitGrowthLimit = DEFAULT_MAXIMUM_CAPACITY;
+
+    private int readOffset;
+    private int writeOffset;
+
+    private boolean readOnly;
+    private boolean closed;
+
+    /**
+     * The pooled memory that backs this buffer when it was created by a pooling allocator.
+     */
+    private ProtonPooledMemory pooled;
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} instance that uses default configuration values for
+     * initial capacity and the maximum allowed capacity to which the underlying memory will grow
+     * before errors will be thrown from operations that would expand the storage.
+     */
+    public ProtonDirectByteBuffer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} with the given initial capacity and uses the default
+     * value for the maximum capacity restriction.
+     *
+     * @param initialCapacity
+     * 		The initial size of the backing memory.
+     *
+     * @throws IllegalArgumentException if the given value is less than zero.
+     */
+    public ProtonDirectByteBuffer(int initialCapacity) {
+        this(initialCapacity, DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} with the given initial capacity and the given maximum
+     * capacity restriction.
+     *
+     * @param initialCapacity
+     * 		The initial size of the backing memory.
+     * @param implicitGrowthLimit
+     * 		The maximum size the backing memory is allowed to grow.
+     *
+     * @throws IllegalArgumentException if the given value is less than zero or greater than the maximum.
+     */
+    public ProtonDirectByteBuffer(int initialCapacity, int implicitGrowthLimit) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be < 0");
+        }
+
+        if (initialCapacity > implicitGrowthLimit) {
+            throw new IllegalArgumentException("Initial capacity cannot exceed maximum capacity.");
+        }
+
+        this.memory = ByteBuffer.allocateDirect(initialCapacity);
+        this.readCapacity = initialCapacity;
+        this.writeCapacity = initialCapacity;
+        this.implicitGrowthLimit = implicitGrowthLimit;
+    }
+
+    /**
+     * Create a new proton buffer instance that wraps the remaining bytes of the given direct
+     * {@link ByteBuffer}, the position and limit of the given buffer are not modified by this
+     * buffer and the remaining bytes are initially readable.  A read-only {@link ByteBuffer}
+     * results in a read-only proton buffer.
+     *
+     * @param backingBuffer
+     * 		The direct {@link ByteBuffer} whose remaining bytes back this buffer.
+     *
+     * @throws IllegalArgumentException if the given buffer is not a direct buffer.
+     */
+    public ProtonDirectByteBuffer(ByteBuffer backingBuffer) {
+        if (!backingBuffer.isDirect()) {
+            throw new IllegalArgumentException("The backing buffer must be a direct ByteBuffer");
+        }
+
+        this.memory = backingBuffer.slice();
+        this.readCapacity = memory.capacity();
+        this.writeCapacity = memory.capacity();
+        this.writeOffset = memory.capacity();
+
+        if (memory.isReadOnly()) {
+            convertToReadOnly();
+        }
+    }
+
+    // For use by the pooled allocator, the pooled memory has already been acquired for this buffer
+    ProtonDirectByteBuffer(ProtonPooledMemory pooled, int capacity) {
+        this.pooled = pooled;
+        this.memory = pooled.memory();
+        this.readCapacity = capacity;
+        this.writeCapacity = capacity;
+    }
+
+    // For use in split and copy to create a new view of a region of the memory
+    private ProtonDirectByteBuffer(ByteBuffer memory, int memoryOffset, int capacity, int implicitGrowthLimit) {
+        this.memory = memory;
+        this.memoryOffset = memoryOffset;
+        this.readCapacity = capacity;
+        this.writeCapacity = capacity;
+        this.implicitGrowthLimit = implicitGrowthLimit;
+    }
+
+    // For use in transfer to quickly setup the new facade around the memory
+    private ProtonDirectByteBuffer(ByteBuffer memory, int memoryOffset, boolean readOnly) {
+        this.memory = memory;
+        this.memoryOffset = memoryOffset;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public ProtonBuffer unwrap() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "ProtonDirectByteBuffer" +
+               "{ read:" + readOffset +
+               ", write: " + writeOffset +
+               ", capacity: " + readCapacity + "}";
+    }
+
+    @Override
+    public boolean isDirect() {
+        return true;
+    }
+
+    /**
+     * @return true if the backing memory of this buffer is returned to an allocator pool once the buffer is closed.
+     */
+    public boolean isPooled() {
+        return pooled != null;
+    }
+
+    @Override
+    public boolean isComposite() {
+        return false;
+    }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public int readableComponentCount() {
+        return isReadable() ? 1 : 0;
+    }
+
+    @Override
+    public int writableComponentCount() {
+        return isWritable() ? 1 : 0;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    @Override
+    public ProtonDirectByteBuffer convertToReadOnly() {
+        readOnly = true;
+        writeCapacity = CLOSED_MARKER;
+        return this;
+    }
+
+    @Override
+    public int capacity() {
+        return Math.max(0, readCapacity);
+    }
+
+    @Override
+    public int getReadableBytes() {
+        return writeOffset - readOffset;
+    }
+
+    @Override
+    public int getWritableBytes() {
+        return Math.max(0, writeCapacity - writeOffset);
+    }
+
+    @Override
+    public int getReadOffset() {
+        return readOffset;
+    }
+
+    @Override
+    public int getWriteOffset() {
+        return writeOffset;
+    }
+
+    @Override
+    public ProtonBuffer setWriteOffset(int value) {
+        checkWrite(value, 0, false);
+        writeOffset = value;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setReadOffset(int value) {
+        checkRead(value, 0);
+        readOffset = value;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer fill(byte value) {
+        checkSet(0, 1);
+
+        final long pattern = (value & 0xFFL) * 0x101010101010101L;
+        final int end = offset(readCapacity);
+
+        int index = memoryOffset;
+
+        for (; index + Long.BYTES <= end; index += Long.BYTES) {
+            memory.putLong(index, pattern);
+        }
+        for (; index < end; ++index) {
+            memory.put(index, value);
+        }
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer split(int splitOffset) {
+        ProtonBufferUtils.checkIsNotNegative(splitOffset, "The split offset cannot be negative");
+
+        if (capacity() < splitOffset) {
+            throw new IllegalArgumentException(
+                "The split offset cannot be greater than the buffer capacity, " +
+                "but the split offset was " + splitOffset + ", and capacity is " + capacity() + '.');
+        }
+        if (isClosed()) {
+            throw new ProtonBufferClosedException("Cannot split a closed buffer");
+        }
+
+        ProtonDirectByteBuffer front = new ProtonDirectByteBuffer(memory, memoryOffset, splitOffset, DEFAULT_MAXIMUM_CAPACITY);
+        front.pooled = retainPooled();
+        front.writeOffset = Math.min(writeOffset, splitOffset);
+        front.readOffset = Math.min(readOffset, splitOffset);
+        if (isReadOnly()) {
+            front.convertToReadOnly();
+        }
+
+        // This buffer realigned to house only the tail of the split
+        memoryOffset += splitOffset;
+        readCapacity -= splitOffset;
+        writeCapacity = isReadOnly() ? CLOSED_MARKER : readCapacity;
+        writeOffset = Math.max(writeOffset, splitOffset) - splitOffset;
+        readOffset = Math.max(readOffset, splitOffset) - splitOffset;
+
+        return front;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ProtonBuffer && ProtonBufferUtils.equals(this, (ProtonBuffer) o);
+    }
+
+    @Override
+    public int hashCode() {
+        return ProtonBufferUtils.hashCode(this);
+    }
+
+    //----- Indexed Get operations
+
+    @Override
+    public byte getByte(int index) {
+        checkGet(index, Byte.BYTES);
+        return memory.get(offset(index));
+    }
+
+    @Override
+    public char getChar(int index) {
+        checkGet(index, Character.BYTES);
+        return memory.getChar(offset(index));
+    }
+
+    @Override
+    public short getShort(int index) {
+        checkGet(index, Short.BYTES);
+        return memory.getShort(offset(index));
+    }
+
+    @Override
+    public int getInt(int index) {
+        checkGet(index, Integer.BYTES);
+        return memory.getInt(offset(index));
+    }
+
+    @Override
+    public long getLong(int index) {
+        checkGet(index, Long.BYTES);
+        return memory.getLong(offset(index));
+    }
+
+    //----- Offset based read operations
+
+    @Override
+    public byte readByte() {
+        checkRead(readOffset, Byte.BYTES);
+        final byte result = memory.get(offset(readOffset));
+        readOffset += Byte.BYTES;
+        return result;
+    }
+
+    @Override
+    public char readChar() {
+        checkRead(readOffset, Character.BYTES);
+        final char result = memory.getChar(offset(readOffset));
+        readOffset += Character.BYTES;
+        return result;
+    }
+
+    @Override
+    public short readShort() {
+        checkRead(readOffset, Short.BYTES);
+        final short result = memory.getShort(offset(readOffset));
+        readOffset += Short.BYTES;
+        return result;
+    }
+
+    @Override
+    public int readInt() {
+        checkRead(readOffset, Integer.BYTES);
+        final int result = memory.getInt(offset(readOffset));
+        readOffset += Integer.BYTES;
+        return result;
+    }
+
+    @Override
+    public long readLong() {
+        checkRead(readOffset, Long.BYTES);
+        final long result = memory.getLong(offset(readOffset));
+        readOffset += Long.BYTES;
+        return result;
+    }
+
+    //----- Indexed Set operations
+
+    @Override
+    public ProtonBuffer setByte(int index, byte value) {
+        checkSet(index, Byte.BYTES);
+        memory.put(offset(index), value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setChar(int index, char value) {
+        checkSet(index, Character.BYTES);
+        memory.putChar(offset(index), value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setShort(int index, short value) {
+        checkSet(index, Short.BYTES);
+        memory.putShort(offset(index), value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setInt(int index, int value) {
+        checkSet(index, Integer.BYTES);
+        memory.putInt(offset(index), value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setLong(int index, long value) {
+        checkSet(index, Long.BYTES);
+        memory.putLong(offset(index), value);
+        return this;
+    }
+
+    //----- Offset based Write operations
+
+    @Override
+    public ProtonBuffer writeByte(byte value) {
+        checkWrite(writeOffset, Byte.BYTES, true);
+        memory.put(offset(writeOffset++), value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeChar(char value) {
+        checkWrite(writeOffset, Character.BYTES, true);
+        memory.putChar(offset(writeOffset), value);
+        writeOffset += Character.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeShort(short value) {
+        checkWrite(writeOffset, Short.BYTES, true);
+        memory.putShort(offset(writeOffset), value);
+        writeOffset += Short.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeInt(int value) {
+        checkWrite(writeOffset, Integer.BYTES, true);
+        memory.putInt(offset(writeOffset), value);
+        writeOffset += Integer.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeLong(long value) {
+        checkWrite(writeOffset, Long.BYTES, true);
+        memory.putLong(offset(writeOffset), value);
+        writeOffset += Long.BYTES;
+        return this;
+    }
+
+    //----- Buffer Copy and Compaction API
+
+    @Override
+    public ProtonBuffer copy(int offset, int length, boolean readOnly) throws IllegalArgumentException {
+        ProtonBufferUtils.checkLength(length);
+
+        final ProtonDirectByteBuffer result;
+
+        if (readOnly && isReadOnly()) {
+            checkGet(offset, length);
+            result = new ProtonDirectByteBuffer(memory, offset(offset), length, implicitGrowthLimit);
+            result.pooled = retainPooled();
+            result.writeOffset = length;
+        } else {
+            checkGet(offset, length);
+            result = new ProtonDirectByteBuffer(length, Math.max(length, implicitGrowthLimit));
+            result.region(0, length).put(region(offset(offset), length));
+            result.writeOffset = length;
+        }
+
+        if (readOnly) {
+            result.convertToReadOnly();
+        }
+
+        return result;
+    }
+
+    @Override
+    public void copyInto(int offset, byte[] destination, int destOffset, int length) {
+        checkCopyIntoArgs(offset, length, destOffset, destination.length);
+        region(offset(offset), length).get(destination, destOffset, length);
+    }
+
+    @Override
+    public void copyInto(int offset, ByteBuffer destination, int destOffset, int length) {
+        if (destination.isReadOnly()) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+        checkCopyIntoArgs(offset, length, destOffset, destination.capacity());
+
+        final ByteBuffer target = destination.duplicate();
+        target.clear().position(destOffset);
+        target.put(region(offset(offset), length));
+    }
+
+    @Override
+    public void copyInto(int offset, ProtonBuffer destination, int destOffset, int length) {
+        ProtonBufferUtils.checkIsClosed(destination);
+        ProtonBufferUtils.checkIsReadOnly(destination);
+
+        checkCopyIntoArgs(offset, length, destOffset, destination.capacity());
+
+        final int originalReadOffset = destination.getReadOffset();
+        final int originalWriteOffset = destination.getWriteOffset();
+        destination.setReadOffset(0);
+        destination.setWriteOffset(destOffset);
+        try {
+            destination.writeBytes(region(offset(offset), length));
+        } finally {
+            destination.setReadOffset(originalReadOffset);
+            destination.setWriteOffset(originalWriteOffset);
+        }
+    }
+
+    @Override
+    public ProtonBuffer writeBytes(byte[] source, int offset, int length) {
+        checkWrite(writeOffset, length, true);
+        region(offset(writeOffset), length).put(source, offset, length);
+        writeOffset += length;
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeBytes(ByteBuffer source) {
+        final int length = source.remaining();
+        checkWrite(writeOffset, length, true);
+        region(offset(writeOffset), length).put(source);
+        writeOffset += length;
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeBytes(ProtonBuffer source) {
+        final int length = source.getReadableBytes();
+        checkWrite(writeOffset, length, true);
+        source.readBytes(region(offset(writeOffset), length));
+        writeOffset += length;
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer readBytes(ByteBuffer destination) {
+        final int byteCount = destination.remaining();
+        checkCopyIntoArgs(readOffset, byteCount, destination.position(), destination.capacity());
+        destination.put(region(offset(readOffset), byteCount));
+        readOffset += byteCount;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer readBytes(byte[] destination, int offset, int length) {
+        checkCopyIntoArgs(readOffset, length, offset, destination.length);
+        region(offset(readOffset), length).get(destination, offset, length);
+        readOffset += length;
+
+        return this;
+    }
+
+    //----- Buffer size management API
+
+    @Override
+    public int implicitGrowthLimit() {
+        return implicitGrowthLimit;
+    }
+
+    @Override
+    public ProtonBuffer implicitGrowthLimit(int limit) {
+        ProtonBufferUtils.checkImplicitGrowthLimit(limit, capacity());
+        this.implicitGrowthLimit = limit;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer ensureWritable(int size, int minimumGrowth, boolean allowCompaction) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (isClosed()) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Cannot ensure writable for a negative size: " + size + '.');
+        }
+        if (minimumGrowth < 0) {
+            throw new IllegalArgumentException("The minimum growth cannot be negative: " + minimumGrowth + '.');
+        }
+        if (writeCapacity == CLOSED_MARKER) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+        if (getWritableBytes() >= size) {
+            return this;
+        }
+        if (allowCompaction && getWritableBytes() + getReadOffset() >= size) {
+            return compact();
+        }
+
+        final long newSize = capacity() + (long) Math.max(size - getWritableBytes(), minimumGrowth);
+        ProtonBufferUtils.checkIsNotNegative(newSize, "The buffer cannot be resized to a negative value");
+        if (newSize > DEFAULT_MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(
+                "The buffer cannot grow to a size greater than " + DEFAULT_MAXIMUM_CAPACITY + ", requested size was " + newSize);
+        }
+
+        if (pooled != null) {
+            return growPooled((int) newSize);
+        }
+
+        final ByteBuffer newMemory = ByteBuffer.allocateDirect((int) newSize);
+        newMemory.duplicate().put(region(memoryOffset, capacity()));
+
+        this.memory = newMemory;
+        this.memoryOffset = 0;
+        this.readCapacity = newMemory.capacity();
+        this.writeCapacity = readOnly ? CLOSED_MARKER : newMemory.capacity();
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer compact() {
+        if (isClosed()) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+        if (isReadOnly()) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+
+        if (readOffset != 0) {
+            final ByteBuffer readable = region(memoryOffset, writeOffset);
+            readable.position(readOffset);
+            readable.compact();
+            writeOffset -= readOffset;
+            readOffset = 0;
+        }
+
+        return this;
+    }
+
+    //----- Buffer IO interoperability handlers
+
+    @Override
+    public int transferTo(WritableByteChannel channel, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkIsNotNegative(length, "TransferTo length cannot be negative: " + length);
+
+        final int writableBytes = Math.min(getReadableBytes(), length);
+
+        checkGet(readOffset, writableBytes);
+
+        if (writableBytes == 0) {
+            return 0;
+        }
+
+        final int actualWrite = channel.write(region(offset(readOffset), writableBytes));
+        readOffset += actualWrite;
+
+        return actualWrite;
+    }
+
+    @Override
+    public int transferFrom(ReadableByteChannel channel, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkIsReadOnly(this);
+
+        length = Math.min(getWritableBytes(), length);
+
+        if (length == 0) {
+            return 0;
+        }
+
+        checkSet(getWriteOffset(), length);
+        final int bytesRead = channel.read(region(offset(writeOffset), length));
+        if (bytesRead != -1) {
+            writeOffset += bytesRead;
+        }
+
+        return bytesRead;
+    }
+
+    @Override
+    public int transferFrom(FileChannel channel, long position, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkIsReadOnly(this);
+
+        length = Math.min(getWritableBytes(), length);
+
+        if (length == 0) {
+            return 0;
+        }
+
+        checkSet(getWriteOffset(), length);
+        final int bytesRead = channel.read(region(offset(writeOffset), length), position);
+        if (bytesRead != -1) {
+            writeOffset += bytesRead;
+        }
+
+        return bytesRead;
+    }
+
+    //----- Buff component access
+
+    @Override
+    public ProtonBufferComponentAccessor componentAccessor() {
+        if (isClosed()) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+
+        return (ProtonBufferComponentAccessor) acquire();
+    }
+
+    @Override
+    public ProtonBufferComponent first() {
+        return this;
+    }
+
+    @Override
+    public ProtonBufferComponent next() {
+        return null; // There is never a next.
+    }
+
+    //----- Buffer iteration API
+
+    @Override
+    public ProtonBufferIterator bufferIterator() {
+        return bufferIterator(getReadOffset(), getReadableBytes());
+    }
+
+    @Override
+    public ProtonBufferIterator bufferIterator(int offset, int length) {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkArgumentIsNotNegative(offset, "offset");
+        ProtonBufferUtils.checkArgumentIsNotNegative(length, "length");
+
+        checkGet(offset, length);
+
+        return new ProtonDirectByteBufferIterator(memory, memoryOffset, offset, length);
+    }
+
+    @Override
+    public ProtonBufferIterator bufferReverseIterator(int offset, int length) {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkArgumentIsNotNegative(offset, "offset");
+        ProtonBufferUtils.checkArgumentIsNotNegative(length, "length");
+
+        if (offset >= capacity()) {
+            throw new IndexOutOfBoundsException(
+                "Read offset must be within the bounds of the buffer: offset = " + offset + ", capacity = " + capacity());
+        }
+
+        if (offset - length < -1) {
+            throw new IndexOutOfBoundsException(
+                "Cannot read past start of buffer: offset = " + offset + ", length = " + length);
+        }
+
+        return new ProtonDirectByteBufferReverseIterator(memory, memoryOffset, offset, length);
+    }
+
+    //----- Buffer component API
+
+    @Override
+    public boolean hasReadbleArray() {
+        return false;
+    }
+
+    @Override
+    public ProtonDirectByteBuffer advanceReadOffset(int amount) {
+        return (ProtonDirectByteBuffer) ProtonBuffer.super.advanceReadOffset(amount);
+    }
+
+    @Override
+    public byte[] getReadableArray() {
+        throw new UnsupportedOperationException("This buffer is not backed by an array");
+    }
+
+    @Override
+    public int getReadableArrayOffset() {
+        throw new UnsupportedOperationException("This buffer is not backed by an array");
+    }
+
+    @Override
+    public int getReadableArrayLength() {
+        return 0;
+    }
+
+    @Override
+    public ByteBuffer getReadableBuffer() {
+        return region(offset(readOffset), getReadableBytes()).asReadOnlyBuffer();
+    }
+
+    @Override
+    public ProtonDirectByteBuffer advanceWriteOffset(int amount) {
+        return (ProtonDirectByteBuffer) ProtonBuffer.super.advanceWriteOffset(amount);
+    }
+
+    @Override
+    public boolean hasWritableArray() {
+        return false;
+    }
+
+    @Override
+    public byte[] getWritableArray() {
+        throw new UnsupportedOperationException("This buffer is not backed by an array");
+    }
+
+    @Override
+    public int getWritableArrayOffset() {
+        throw new UnsupportedOperationException("This buffer is not backed by an array");
+    }
+
+    @Override
+    public int getWritableArrayLength() {
+        return 0;
+    }
+
+    @Override
+    public ByteBuffer getWritableBuffer() {
+        if (writeCapacity < 0) {
+            return ByteBuffer.allocateDirect(0);
+        } else {
+            return region(offset(writeOffset), getWritableBytes());
+        }
+    }
+
+    @Override
+    public long getNativeAddress() {
+        return 0;
+    }
+
+    @Override
+    public long getNativeReadAddress() {
+        return 0;
+    }
+
+    @Override
+    public long getNativeWriteAddress() {
+        return 0;
+    }
+
+    //----- Buffer search API
+
+    @Override
+    public int indexOf(byte needle, int offset, int length) {
+        ProtonBufferUtils.checkIsClosed(this);
+
+        checkIndexOfBounds(offset, length);
+
+        final int end = offset + length;
+
+        if (length > 7) {
+            final long pattern = (needle & 0xFFL) * 0x101010101010101L;
+            final int stopAfter = offset + (length >>> 3) * Long.BYTES;
+
+            for (; offset < stopAfter; offset += Long.BYTES) {
+                final long word = memory.getLong(offset(offset));
+
+                // Hackers delight chapter six describes this algorithm
+                long input = word ^ pattern;
+                long tmp = (input & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL;
+                tmp = ~(tmp | input | 0x7F7F7F7F7F7F7F7FL);
+
+                final int index = Long.numberOfLeadingZeros(tmp) >>> 3;
+
+                if (index < Long.BYTES) {
+                    return offset + index;
+                }
+            }
+        }
+
+        for (; offset < end; offset++) {
+            if (memory.get(offset(offset)) == needle) {
+                return offset;
+            }
+        }
+
+        return -1;
+    }
+
+    //----- Sharable resource API implementation
+
+    @Override
+    protected void releaseResourceOwnership() {
+        closed = true;
+        readOnly = false;
+        writeCapacity = CLOSED_MARKER;
+        readCapacity = CLOSED_MARKER;
+        readOffset = 0;
+        writeOffset = 0;
+        memory = null;
+
+        if (pooled != null) {
+            final ProtonPooledMemory released = pooled;
+            pooled = null;
+            released.release();
+        }
+    }
+
+    @Override
+    protected ProtonBuffer transferTheResource() {
+        ProtonDirectByteBuffer transfer = new ProtonDirectByteBuffer(memory, memoryOffset, readOnly);
+        transfer.pooled = retainPooled();
+
+        // Match transfer state to this buffer
+        transfer.readCapacity = readCapacity;
+        transfer.writeCapacity = writeCapacity;
+        transfer.implicitGrowthLimit = implicitGrowthLimit;
+        transfer.readOffset = readOffset;
+        transfer.writeOffset = writeOffset;
+
+        return transfer;
+    }
+
+    @Override
+    protected RuntimeException resourceIsClosedException() {
+        return ProtonBufferUtils.genericBufferIsClosed(this);
+    }
+
+    //----- Private ProtonBuffer APIs
+
+    private ProtonPooledMemory retainPooled() {
+        return pooled != null ? pooled.retain() : null;
+    }
+
+    private ProtonBuffer growPooled(int newSize) {
+        // The unused tail of memory that no other buffer shares can be claimed in place
+        if (pooled.isExclusive() && memoryOffset + newSize <= memory.capacity()) {
+            this.readCapacity = newSize;
+            this.writeCapacity = readOnly ? CLOSED_MARKER : newSize;
+            return this;
+        }
+
+        final ProtonPooledMemory grown = pooled.allocator().acquire(newSize);
+        final ByteBuffer newMemory = grown != null ? grown.memory() : ByteBuffer.allocateDirect(newSize);
+
+        newMemory.duplicate().put(region(memoryOffset, capacity()));
+
+        pooled.release();
+
+        this.pooled = grown;
+        this.memory = newMemory;
+        this.memoryOffset = 0;
+        this.readCapacity = newSize;
+        this.writeCapacity = readOnly ? CLOSED_MARKER : newSize;
+
+        return this;
+    }
+
+    /*
+     * Creates a view of the given region of the backing memory whose position is zero and whose
+     * limit and capacity are the length of the region, the view shares the backing memory.
+     */
+    private ByteBuffer region(int memoryIndex, int length) {
+        final ByteBuffer region = memory.duplicate();
+        region.limit(memoryIndex + length).position(memoryIndex);
+        return region.slice();
+    }
+
+    private int offset(int index) {
+       return index + memoryOffset;
+    }
+
+    private void checkWrite(int index, int size, boolean allowExpansion) {
+        if (index < readOffset || writeCapacity < (index + size)) {
+            expandOrThrowError(index, size, allowExpansion);
+        }
+    }
+
+    private void checkRead(int index, int size) {
+        if (index < 0 || writeOffset < index + size || closed) {
+            if (closed) {
+                throw ProtonBufferUtils.genericBufferIsClosed(this);
+            } else {
+                throw ProtonBufferUtils.genericOutOfBounds(this, index);
+            }
+        }
+    }
+
+    private void checkGet(int index, int size) {
+        if (index < 0 || readCapacity < index + size) {
+            if (closed) {
+                throw ProtonBufferUtils.genericBufferIsClosed(this);
+            } else {
+                throw ProtonBufferUtils.genericOutOfBounds(this, index);
+            }
+        }
+    }
+
+    private void checkSet(int index, int size) {
+        if (index < 0 || writeCapacity < index + size) {
+            expandOrThrowError(index, size, false);
+        }
+    }
+
+    private void checkIndexOfBounds(int index, int size) {
+        if (index < readOffset || writeOffset < index + size) {
+            throw new IndexOutOfBoundsException(
+                "Search range [read " + index + " length " + size  +
+                "] is out of bounds: [read " + readOffset + " length " + getReadableBytes() + "].");
+        }
+    }
+
+    private void expandOrThrowError(int index, int size, boolean mayExpand) {
+        if (readCapacity == CLOSED_MARKER) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+
+        if (readOnly) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+
+        int capacity = capacity();
+        if (mayExpand && index >= 0 && index <= capacity && writeOffset + size <= implicitGrowthLimit) {
+            int minimumGrowth = Math.min(Math.max(capacity * 2, size), implicitGrowthLimit) - capacity;
+            ensureWritable(size, minimumGrowth, false);
+            checkSet(index, size); // Verify writing is now possible, without recursing.
+            return;
+        }
+
+        throw ProtonBufferUtils.genericOutOfBounds(this, index);
+    }
+
+    private void checkCopyIntoArgs(int srcPos, int length, int destPos, int destLength) {
+        if (readCapacity == CLOSED_MARKER) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+        if (srcPos < 0) {
+            throw new IndexOutOfBoundsException("The srcPos cannot be negative: " + srcPos + '.');
+        }
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("The length value cannot be negative " + length + ".");
+        }
+        if (readCapacity < srcPos + length) {
+            throw new IndexOutOfBoundsException("The srcPos + length is beyond the end of the buffer: " +
+                    "srcPos = " + srcPos + ", length = " + length + '.');
+        }
+        if (destPos < 0) {
+            throw new IndexOutOfBoundsException("The destPos cannot be negative: " + destPos + '.');
+        }
+        if (destLength < destPos + length) {
+            throw new IndexOutOfBoundsException("The destPos + length is beyond the end of the destination: " +
+                    "destPos = " + destPos + ", length = " + length + '.');
+        }
+    }
+
+    private static final class ProtonDirectByteBufferIterator implements ProtonBufferIterator {
+
+        private final ByteBuffer memory;
+        private final int memoryOffset;
+        private final int endPos;
+
+        private int current;
+
+        public ProtonDirectByteBufferIterator(ByteBuffer memory, int memoryOffset, int offset, int length) {
+            this.memory = memory;
+            this.memoryOffset = memoryOffset;
+            this.current = offset;
+            this.endPos = offset + length; // End position is exclusive
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != endPos;
+        }
+
+        @Override
+        public byte next() {
+            if (current == endPos) {
+                throw new NoSuchElementException("Buffer iteration complete, no additional bytes available");
+            }
+
+            return memory.get(memoryOffset + current++);
+        }
+
+        @Override
+        public int remaining() {
+            return endPos - current;
+        }
+
+        @Override
+        public int offset() {
+            return current;
+        }
+    }
+
+    private static final class ProtonDirectByteBufferReverseIterator implements ProtonBufferIterator {
+
+        private final ByteBuffer memory;
+        private final int memoryOffset;
+        private final int endPos;
+
+        private int current;
+
+        public ProtonDirectByteBufferReverseIterator(ByteBuffer memory, int memoryOffset, int offset, int length) {
+            this.memory = memory;
+            this.memoryOffset = memoryOffset;
+            this.current = offset;
+            this.endPos = offset - length; // End position is exclusive
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != endPos;
+        }
+
+        @Override
+        public byte next() {
+            if (current == endPos) {
+                throw new NoSuchElementException("Buffer iteration complete, no additional bytes available");
+            }
+
+            return memory.get(memoryOffset + current--);
+        }
+
+        @Override
+        public int remaining() {
+            return Math.abs(endPos - current);
+        }
+
+        @Override
+        public int offset() {
+            return current;
+        }
+    }
+}
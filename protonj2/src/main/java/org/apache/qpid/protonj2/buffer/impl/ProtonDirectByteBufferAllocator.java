@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.nio.ByteBuffer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+
+/**
+ * A Proton built in buffer allocator that allocates buffers backed by direct memory, heap buffers
+ * are still allocated when explicitly requested.
+ */
+public final class ProtonDirectByteBufferAllocator implements ProtonBufferAllocator {
+
+    /**
+     * A default instance of the {@link ProtonDirectByteBufferAllocator} that uses default configurations.
+     */
+    private static final ProtonBufferAllocator DEFAULT = ProtonBufferUtils.unclosable(new ProtonDirectByteBufferAllocator());
+
+    private boolean closed;
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * @return a shared instance of the direct buffer allocator that cannot be closed.
+     */
+    public static final ProtonBufferAllocator allocator() {
+        return DEFAULT;
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity) {
+        checkClosed();
+        return new ProtonDirectByteBuffer(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocate() {
+        checkClosed();
+        return new ProtonDirectByteBuffer();
+    }
+
+    @Override
+    public ProtonBuffer allocate(int initialCapacity) {
+        checkClosed();
+        return new ProtonDirectByteBuffer(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer() {
+        checkClosed();
+        return new ProtonByteArrayBuffer();
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer(int initialCapacity) {
+        checkClosed();
+        return new ProtonByteArrayBuffer(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer copy(byte[] array, int offset, int length) {
+        checkClosed();
+        return new ProtonDirectByteBuffer(length).writeBytes(array, offset, length);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite() {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer buffer) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffer);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer[] buffers) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffers);
+    }
+
+    /**
+     * Wraps the remaining bytes of the given direct {@link ByteBuffer} without copying them, the
+     * wrapped bytes are readable from the returned buffer.  The caller should not share the
+     * wrapped memory with any other application code.
+     *
+     * @param buffer The direct {@link ByteBuffer} that should be wrapped
+     *
+     * @return A {@link ProtonBuffer} that wraps the given buffer bytes.
+     *
+     * @throws IllegalArgumentException if the given buffer is not a direct buffer.
+     */
+    public static ProtonBuffer wrapped(ByteBuffer buffer) {
+        return new ProtonDirectByteBuffer(buffer);
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new IllegalStateException("This allocator instance is closed");
+        }
+    }
+}
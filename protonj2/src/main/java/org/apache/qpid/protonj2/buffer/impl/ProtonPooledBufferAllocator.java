@@ -0,0 +1,501 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+
+/**
+ * A Proton built in buffer allocator that pools the memory backing the buffers it creates so
+ * that steady state framing does not allocate new memory for each frame. By default the pool
+ * hands out heap byte array buffers, a direct variant that pools the memory of direct buffers
+ * can be created for use with transports that perform their IO from direct memory.
+ * <p>
+ * Requested capacities are rounded up to a power of two size class, each size class has a
+ * shared arena of free arrays and each thread keeps a small cache per size class in front of
+ * the arenas so that the common case of a buffer being allocated and closed on the same thread
+ * involves no contention. An array is reference counted by all the buffers that share it (for
+ * instance split or read-only views) and returns to the pool once the last of them is closed,
+ * buffers must therefore be closed to be recycled. Capacities above the maximum pooled capacity
+ * are served by unpooled buffers.
+ * <p>
+ * Threads that stop allocating from the pool can return their cached arrays to the shared
+ * arenas by calling {@link #trimThreadCache()}, closing the allocator discards all pooled
+ * memory including the contents of every thread cache.
+ * <p>
+ * Leak detection can be enabled by configuring a sampling interval, every Nth allocation then
+ * records where it was made and a warning is logged if the buffer is garbage collected without
+ * having been closed. The default interval is read from the {@value #LEAK_DETECTION_INTERVAL_PROPERTY}
+ * system property and detection is disabled when it is not set.
+ */
+public final class ProtonPooledBufferAllocator implements ProtonBufferAllocator {
+
+    private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(ProtonPooledBufferAllocator.class);
+
+    /**
+     * System property used to configure the default leak detection sampling interval.
+     */
+    public static final String LEAK_DETECTION_INTERVAL_PROPERTY = "org.apache.qpid.protonj2.buffer.leakDetectionInterval";
+
+    /**
+     * The default maximum capacity of buffers whose backing arrays are pooled.
+     */
+    public static final int DEFAULT_MAX_POOLED_CAPACITY = 1024 * 1024;
+
+    /**
+     * The default maximum number of arrays each thread caches for a single size class.
+     */
+    public static final int DEFAULT_THREAD_CACHE_SIZE = 32;
+
+    /**
+     * The default leak detection sampling interval, zero disables leak detection.
+     */
+    public static final int DEFAULT_LEAK_DETECTION_INTERVAL = Integer.getInteger(LEAK_DETECTION_INTERVAL_PROPERTY, 0);
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 6;
+    private static final int MIN_SIZE_CLASS_CAPACITY = 1 << MIN_SIZE_CLASS_SHIFT;
+    private static final int MAX_THREAD_CACHED_BYTES = 256 * 1024;
+    private static final int MAX_ARENA_BYTES = 8 * 1024 * 1024;
+    private static final int MAX_ARENA_ENTRIES = 1024;
+
+    private final int maxPooledCapacity;
+    private final int leakDetectionInterval;
+    private final SizeClassArena[] arenas;
+    private final ThreadLocal<ThreadCache> threadCaches;
+    private final Queue<WeakReference<ThreadCache>> registeredCaches = new ConcurrentLinkedQueue<>();
+    private final boolean direct;
+    private final AtomicInteger allocations = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a new pooled allocator using the default configuration values.
+     */
+    public ProtonPooledBufferAllocator() {
+        this(DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_THREAD_CACHE_SIZE, DEFAULT_LEAK_DETECTION_INTERVAL, false);
+    }
+
+    /**
+     * Creates a new pooled allocator using the default configuration values.
+     *
+     * @param direct
+     *      Should the allocator pool direct memory instead of heap byte arrays.
+     */
+    public ProtonPooledBufferAllocator(boolean direct) {
+        this(DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_THREAD_CACHE_SIZE, DEFAULT_LEAK_DETECTION_INTERVAL, direct);
+    }
+
+    /**
+     * Creates a new pooled allocator with the given configuration.
+     *
+     * @param maxPooledCapacity
+     *      The largest capacity whose backing array is pooled, rounded up to a power of two.
+     * @param threadCacheSize
+     *      The maximum number of arrays each thread caches for a single size class (zero disables caching).
+     * @param leakDetectionInterval
+     *      Track every Nth allocation for leaks, zero disables leak detection and one tracks every allocation.
+     *
+     * @throws IllegalArgumentException if any of the given values are invalid.
+     */
+    public ProtonPooledBufferAllocator(int maxPooledCapacity, int threadCacheSize, int leakDetectionInterval) {
+        this(maxPooledCapacity, threadCacheSize, leakDetectionInterval, false);
+    }
+
+    /**
+     * Creates a new pooled allocator with the given configuration.
+     *
+     * @param maxPooledCapacity
+     *      The largest capacity whose backing memory is pooled, rounded up to a power of two.
+     * @param threadCacheSize
+     *      The maximum number of blocks each thread caches for a single size class (zero disables caching).
+     * @param leakDetectionInterval
+     *      Track every Nth allocation for leaks, zero disables leak detection and one tracks every allocation.
+     * @param direct
+     *      Should the allocator pool direct memory instead of heap byte arrays.
+     *
+     * @throws IllegalArgumentException if any of the given values are invalid.
+     */
+    public ProtonPooledBufferAllocator(int maxPooledCapacity, int threadCacheSize, int leakDetectionInterval, boolean direct) {
+        if (maxPooledCapacity < MIN_SIZE_CLASS_CAPACITY || maxPooledCapacity > (1 << 30)) {
+            throw new IllegalArgumentException(
+                "Max pooled capacity must be in the range [" + MIN_SIZE_CLASS_CAPACITY + ", " + (1 << 30) + "]");
+        }
+        if (threadCacheSize < 0) {
+            throw new IllegalArgumentException("Thread cache size cannot be negative");
+        }
+        if (leakDetectionInterval < 0) {
+            throw new IllegalArgumentException("Leak detection interval cannot be negative");
+        }
+
+        final int sizeClasses = sizeClassOf(maxPooledCapacity) + 1;
+
+        this.maxPooledCapacity = sizeClassCapacity(sizeClasses - 1);
+        this.leakDetectionInterval = leakDetectionInterval;
+        this.direct = direct;
+        this.arenas = new SizeClassArena[sizeClasses];
+
+        for (int i = 0; i < sizeClasses; ++i) {
+            arenas[i] = new SizeClassArena(Math.max(2, Math.min(MAX_ARENA_ENTRIES, MAX_ARENA_BYTES / sizeClassCapacity(i))));
+        }
+
+        this.threadCaches = ThreadLocal.withInitial(() -> registerCache(new ThreadCache(sizeClasses, threadCacheSize)));
+    }
+
+    /**
+     * @return true if this allocator pools direct memory and false if it pools heap byte arrays.
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * @return the largest buffer capacity whose backing array is pooled by this allocator.
+     */
+    public int getMaxPooledCapacity() {
+        return maxPooledCapacity;
+    }
+
+    /**
+     * @return the interval at which allocations are tracked for leaks, zero if leak detection is disabled.
+     */
+    public int getLeakDetectionInterval() {
+        return leakDetectionInterval;
+    }
+
+    /**
+     * Returns the arrays cached by the calling thread to the shared arenas and discards the
+     * thread's cache, a thread that allocates from the pool again creates a new empty cache.
+     * Threads that are done using the allocator (for instance an IO thread that is shutting
+     * down) should call this so that their cached memory can be used by other threads.
+     */
+    public void trimThreadCache() {
+        final ThreadCache cache = threadCaches.get();
+
+        threadCaches.remove();
+        cache.drain(closed ? null : arenas);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        WeakReference<ThreadCache> reference;
+        while ((reference = registeredCaches.poll()) != null) {
+            final ThreadCache cache = reference.get();
+            if (cache != null) {
+                cache.drain(null);
+            }
+        }
+
+        for (SizeClassArena arena : arenas) {
+            arena.clear();
+        }
+
+        threadCaches.remove();
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity) {
+        return allocate(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocate() {
+        return allocate(ProtonByteArrayBuffer.DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public ProtonBuffer allocate(int initialCapacity) {
+        checkClosed();
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be < 0");
+        }
+
+        final ProtonPooledMemory pooled = acquire(initialCapacity);
+        if (direct) {
+            return pooled == null ? new ProtonDirectByteBuffer(initialCapacity) : new ProtonDirectByteBuffer(pooled, initialCapacity);
+        } else {
+            return pooled == null ? new ProtonByteArrayBuffer(initialCapacity) : new ProtonByteArrayBuffer(pooled, initialCapacity);
+        }
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer() {
+        return allocateHeapBuffer(ProtonByteArrayBuffer.DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer(int initialCapacity) {
+        if (direct) {
+            checkClosed();
+            return new ProtonByteArrayBuffer(initialCapacity);
+        } else {
+            return allocate(initialCapacity);
+        }
+    }
+
+    @Override
+    public ProtonBuffer copy(byte[] array, int offset, int length) {
+        return allocate(length).writeBytes(array, offset, length);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite() {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer buffer) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffer);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer[] buffers) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffers);
+    }
+
+    //----- Pool management used by the pooled arrays and their buffers
+
+    /*
+     * Returns pooled memory able to hold the given capacity or null if the capacity exceeds
+     * the maximum pooled capacity or the allocator has been closed.
+     */
+    ProtonPooledMemory acquire(int capacity) {
+        if (capacity > maxPooledCapacity || closed) {
+            return null;
+        }
+
+        final int sizeClass = sizeClassOf(capacity);
+        final ThreadCache cache = threadCaches.get();
+
+        ProtonPooledMemory pooled = cache.poll(sizeClass);
+        if (pooled == null) {
+            pooled = arenas[sizeClass].poll();
+            if (pooled == null) {
+                pooled = new ProtonPooledMemory(this, sizeClass, sizeClassCapacity(sizeClass), direct);
+            }
+        }
+
+        return pooled.acquired(trackForLeaks(pooled));
+    }
+
+    void recycle(ProtonPooledMemory pooled) {
+        if (!closed && !threadCaches.get().offer(pooled)) {
+            arenas[pooled.sizeClass()].offer(pooled);
+        }
+    }
+
+    private LeakTracker trackForLeaks(ProtonPooledMemory pooled) {
+        if (leakDetectionInterval == 0 || allocations.incrementAndGet() % leakDetectionInterval != 0) {
+            return null;
+        }
+
+        final LeakTracker tracker = new LeakTracker(pooled.capacity());
+        tracker.register(pooled);
+
+        return tracker;
+    }
+
+    private ThreadCache registerCache(ThreadCache cache) {
+        registeredCaches.removeIf(reference -> reference.get() == null);
+        registeredCaches.offer(new WeakReference<>(cache));
+
+        return cache;
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new IllegalStateException("This allocator instance is closed");
+        }
+    }
+
+    private static int sizeClassOf(int capacity) {
+        if (capacity <= MIN_SIZE_CLASS_CAPACITY) {
+            return 0;
+        } else {
+            return (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_SIZE_CLASS_SHIFT;
+        }
+    }
+
+    private static int sizeClassCapacity(int sizeClass) {
+        return MIN_SIZE_CLASS_CAPACITY << sizeClass;
+    }
+
+    //----- Internal pool structures
+
+    /*
+     * Shared bounded store of free arrays for a single size class.
+     */
+    private static final class SizeClassArena {
+
+        private final Queue<ProtonPooledMemory> free = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int capacity;
+
+        SizeClassArena(int capacity) {
+            this.capacity = capacity;
+        }
+
+        ProtonPooledMemory poll() {
+            final ProtonPooledMemory pooled = free.poll();
+            if (pooled != null) {
+                size.decrementAndGet();
+            }
+
+            return pooled;
+        }
+
+        void offer(ProtonPooledMemory pooled) {
+            if (size.incrementAndGet() <= capacity) {
+                free.offer(pooled);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+
+        void clear() {
+            while (poll() != null) {
+            }
+        }
+    }
+
+    /*
+     * Per thread stacks of free arrays, one per size class, accessed only by the owning thread.
+     */
+    private static final class ThreadCache {
+
+        private final ProtonPooledMemory[][] stacks;
+        private final int[] depths;
+
+        ThreadCache(int sizeClasses, int threadCacheSize) {
+            this.stacks = new ProtonPooledMemory[sizeClasses][];
+            this.depths = new int[sizeClasses];
+
+            for (int i = 0; i < sizeClasses; ++i) {
+                final int limit = Math.min(threadCacheSize, Math.max(1, MAX_THREAD_CACHED_BYTES / sizeClassCapacity(i)));
+                stacks[i] = new ProtonPooledMemory[threadCacheSize == 0 ? 0 : limit];
+            }
+        }
+
+        ProtonPooledMemory poll(int sizeClass) {
+            final int depth = depths[sizeClass];
+            if (depth == 0) {
+                return null;
+            }
+
+            final ProtonPooledMemory[] stack = stacks[sizeClass];
+            final ProtonPooledMemory pooled = stack[depth - 1];
+
+            stack[depth - 1] = null;
+            depths[sizeClass] = depth - 1;
+
+            return pooled;
+        }
+
+        boolean offer(ProtonPooledMemory pooled) {
+            final int sizeClass = pooled.sizeClass();
+            final ProtonPooledMemory[] stack = stacks[sizeClass];
+            final int depth = depths[sizeClass];
+
+            if (depth == stack.length) {
+                return false;
+            }
+
+            stack[depth] = pooled;
+            depths[sizeClass] = depth + 1;
+
+            return true;
+        }
+
+        /*
+         * Empties the cache handing the cached arrays to the given arenas or dropping them if
+         * no arenas are given. Closing the allocator drains the caches of other threads, that
+         * races with the owner only in ways that make a poll of the cache miss.
+         */
+        void drain(SizeClassArena[] arenas) {
+            for (int i = 0; i < stacks.length; ++i) {
+                final ProtonPooledMemory[] stack = stacks[i];
+
+                if (arenas != null) {
+                    for (int j = depths[i] - 1; j >= 0; --j) {
+                        if (stack[j] != null) {
+                            arenas[i].offer(stack[j]);
+                        }
+                    }
+                }
+
+                depths[i] = 0;
+                Arrays.fill(stack, null);
+            }
+        }
+    }
+
+    /*
+     * Tracks a sampled allocation and reports it if the array becomes unreachable without
+     * having been released back to the pool.
+     */
+    static final class LeakTracker implements Runnable {
+
+        private final int capacity;
+        private final Throwable allocationSite;
+
+        private volatile boolean released;
+        private Cleaner.Cleanable cleanable;
+
+        LeakTracker(int capacity) {
+            this.capacity = capacity;
+            this.allocationSite = new Throwable("Pooled buffer allocation site");
+        }
+
+        void register(ProtonPooledMemory pooled) {
+            this.cleanable = LeakCleaner.CLEANER.register(pooled, this);
+        }
+
+        void released() {
+            released = true;
+            cleanable.clean();
+        }
+
+        @Override
+        public void run() {
+            if (!released) {
+                LOG.warn("A pooled buffer with a capacity of {} was garbage collected before being closed",
+                         capacity, allocationSite);
+            }
+        }
+    }
+
+    private static final class LeakCleaner {
+
+        private static final Cleaner CLEANER = Cleaner.create();
+
+    }
+}
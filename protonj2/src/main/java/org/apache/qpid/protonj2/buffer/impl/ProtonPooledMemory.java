@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A reference counted block of heap or direct memory that is handed out by the
+ * {@link ProtonPooledBufferAllocator} and returned to it once every buffer that shares the
+ * memory has been closed.  Heap memory is a byte array and direct memory a direct
+ * {@link ByteBuffer}, only the one matching the kind of the allocator is created.
+ */
+final class ProtonPooledMemory {
+
+    private static final AtomicIntegerFieldUpdater<ProtonPooledMemory> REFERENCES_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(ProtonPooledMemory.class, "references");
+
+    private final ProtonPooledBufferAllocator allocator;
+    private final int sizeClass;
+    private final byte[] array;
+    private final ByteBuffer memory;
+
+    private volatile int references;
+
+    private ProtonPooledBufferAllocator.LeakTracker leakTracker;
+
+    ProtonPooledMemory(ProtonPooledBufferAllocator allocator, int sizeClass, int capacity, boolean direct) {
+        this.allocator = allocator;
+        this.sizeClass = sizeClass;
+        this.array = direct ? null : new byte[capacity];
+        this.memory = direct ? ByteBuffer.allocateDirect(capacity) : null;
+    }
+
+    byte[] array() {
+        return array;
+    }
+
+    ByteBuffer memory() {
+        return memory;
+    }
+
+    int capacity() {
+        return array != null ? array.length : memory.capacity();
+    }
+
+    int sizeClass() {
+        return sizeClass;
+    }
+
+    ProtonPooledBufferAllocator allocator() {
+        return allocator;
+    }
+
+    boolean isExclusive() {
+        return references == 1;
+    }
+
+    ProtonPooledMemory acquired(ProtonPooledBufferAllocator.LeakTracker leakTracker) {
+        this.leakTracker = leakTracker;
+        this.references = 1;
+        return this;
+    }
+
+    ProtonPooledMemory retain() {
+        if (REFERENCES_UPDATER.getAndIncrement(this) <= 0) {
+            REFERENCES_UPDATER.getAndDecrement(this);
+            throw new IllegalStateException("Cannot retain pooled memory that has been released");
+        }
+
+        return this;
+    }
+
+    void release() {
+        final int remaining = REFERENCES_UPDATER.decrementAndGet(this);
+
+        if (remaining == 0) {
+            if (leakTracker != null) {
+                leakTracker.released();
+                leakTracker = null;
+            }
+
+            allocator.recycle(this);
+        } else if (remaining < 0) {
+            throw new IllegalStateException("Pooled memory released more times than it was retained");
+        }
+    }
+}
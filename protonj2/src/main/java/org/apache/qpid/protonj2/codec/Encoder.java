@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Decimal128;
 import org.apache.qpid.protonj2.types.Decimal32;
@@ -730,6 +731,30 @@ public interface Encoder {
      */
     void writeObject(ProtonBuffer buffer, EncoderState state, Object value) throws EncodeException;
 
+    /**
+     * Computes the number of bytes that {@link #writeObject(ProtonBuffer, EncoderState, Object)} would
+     * write for the provided {@link Object} without writing it.  The result can be used to allocate a
+     * buffer of exactly the size needed to hold the encoding of one or more values before encoding them.
+     * <p>
+     * The default implementation measures the value by encoding it into a scratch buffer, encoders
+     * should override it to compute the size without encoding the value.
+     *
+     * @param state
+     *      The {@link EncoderState} to use for any intermediate encoding work.
+     * @param value
+     * 		The value whose encoded size should be computed.
+     *
+     * @return the number of bytes the encoding of the given value occupies.
+     *
+     * @throws EncodeException if an error occurs while computing the encoded size.
+     */
+    default int getEncodedSize(EncoderState state, Object value) throws EncodeException {
+        try (ProtonBuffer scratch = ProtonBufferAllocator.defaultAllocator().allocate()) {
+            writeObject(scratch, state, value);
+            return scratch.getReadableBytes();
+        }
+    }
+
     /**
      * Write the given array as with the proper array type encoding to the given buffer.
      *
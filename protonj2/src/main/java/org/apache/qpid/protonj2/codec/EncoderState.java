@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 
 /**
  * Retains Encoder state information either between calls or across encode iterations.
@@ -49,4 +50,44 @@ public interface EncoderState {
      */
     ProtonBuffer encodeUTF8(ProtonBuffer buffer, CharSequence sequence) throws EncodeException;
 
+    /**
+     * Computes the number of bytes that {@link #encodeUTF8(ProtonBuffer, CharSequence)} would
+     * write for the given sequence of characters without writing them.
+     *
+     * @param sequence
+     *      A {@link CharSequence} representing the UTF-8 bytes to encode
+     *
+     * @return the number of bytes the UTF-8 encoding of the sequence occupies.
+     *
+     * @throws EncodeException if an error occurs while encoding the {@link CharSequence}
+     */
+    default int getUTF8EncodedLength(CharSequence sequence) throws EncodeException {
+        try (ProtonBuffer scratch = ProtonBufferAllocator.defaultAllocator().allocate(sequence.length())) {
+            return encodeUTF8(scratch, sequence).getReadableBytes();
+        }
+    }
+
+    /**
+     * Computes the number of bytes the given {@link TypeEncoder} writes for the given value by encoding
+     * it into a scratch buffer that is discarded afterwards.  This is the fall back used by encoders that
+     * cannot calculate their encoded size directly, implementations can reuse the scratch buffer between
+     * calls to avoid an allocation for each measurement.
+     *
+     * @param <V> The type that the encoder handles.
+     *
+     * @param encoder
+     *      The {@link TypeEncoder} whose output should be measured.
+     * @param value
+     *      The value whose encoded size is requested.
+     *
+     * @return the number of bytes the encoder writes for the given value.
+     *
+     * @throws EncodeException if an error occurs while encoding the given value.
+     */
+    default <V> int measureEncodedSize(TypeEncoder<V> encoder, V value) throws EncodeException {
+        try (ProtonBuffer scratch = ProtonBufferAllocator.defaultAllocator().allocate()) {
+            encoder.writeType(scratch, this, value);
+            return scratch.getReadableBytes();
+        }
+    }
 }
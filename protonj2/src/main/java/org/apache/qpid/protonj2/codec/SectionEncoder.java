@@ -65,6 +65,44 @@ public final class SectionEncoder {
         valueEncoder = (TypeEncoder<AmqpValue<?>>) encoder.getTypeEncoder(AmqpValue.class);
     }
 
+    /**
+     * Computes the number of bytes that writing the given section would produce without
+     * writing it, allowing a buffer of the exact size to be allocated before encoding.
+     *
+     * @param section
+     *      The section whose encoded size should be computed.
+     *
+     * @return the number of bytes the encoding of the given section occupies.
+     */
+    public int getEncodedSize(Section<?> section) {
+        try {
+            switch (section.getType()) {
+            case AmqpSequence:
+                return sequenceEncoder.getEncodedSize(encoderState, (AmqpSequence<?>) section);
+            case AmqpValue:
+                return valueEncoder.getEncodedSize(encoderState, (AmqpValue<?>) section);
+            case ApplicationProperties:
+                return apEncoder.getEncodedSize(encoderState, (ApplicationProperties) section);
+            case Data:
+                return dataEncoder.getEncodedSize(encoderState, (Data) section);
+            case DeliveryAnnotations:
+                return daEncoder.getEncodedSize(encoderState, (DeliveryAnnotations) section);
+            case Footer:
+                return footerEncoder.getEncodedSize(encoderState, (Footer) section);
+            case Header:
+                return headerEncoder.getEncodedSize(encoderState, (Header) section);
+            case MessageAnnotations:
+                return maEncoder.getEncodedSize(encoderState, (MessageAnnotations) section);
+            case Properties:
+                return propertiesEncoder.getEncodedSize(encoderState, (Properties) section);
+            default:
+                return 0;
+            }
+        } finally {
+            encoderState.reset();
+        }
+    }
+
     /**
      * Writes the given section using the cached encoder for that section types
      *
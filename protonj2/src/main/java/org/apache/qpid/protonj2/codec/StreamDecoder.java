@@ -802,6 +802,99 @@ public interface StreamDecoder {
      */
     <T> T[] readMultiple(InputStream stream, StreamDecoderState state, final Class<T> clazz) throws DecodeException;
 
+    /**
+     * Reads an encoded AMQP array of {@link Integer} values from the given {@link InputStream} and returns it
+     * as a primitive {@code int[]} whose elements are read directly from the encoding without being
+     * boxed.  A single encoded {@link Integer} value is returned as an array with one element.
+     * <p>
+     * The default implementation reads the values using {@code readMultiple} and unboxes them.
+     *
+     * @param stream
+     * 		The {@link InputStream} where the read operation takes place.
+     * @param state
+     * 		The {@link StreamDecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source or null if the encoded value was null.
+     *
+     * @throws DecodeException if the value fails to decode is not able to be decoded.
+     */
+    default int[] readIntArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final Integer[] values = readMultiple(stream, state, Integer.class);
+
+        if (values == null) {
+            return null;
+        }
+
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = values[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads an encoded AMQP array of {@link Long} values from the given {@link InputStream} and returns it
+     * as a primitive {@code long[]} whose elements are read directly from the encoding without being
+     * boxed.  A single encoded {@link Long} value is returned as an array with one element.
+     * <p>
+     * The default implementation reads the values using {@code readMultiple} and unboxes them.
+     *
+     * @param stream
+     * 		The {@link InputStream} where the read operation takes place.
+     * @param state
+     * 		The {@link StreamDecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source or null if the encoded value was null.
+     *
+     * @throws DecodeException if the value fails to decode is not able to be decoded.
+     */
+    default long[] readLongArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final Long[] values = readMultiple(stream, state, Long.class);
+
+        if (values == null) {
+            return null;
+        }
+
+        final long[] result = new long[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = values[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads an encoded AMQP array of {@link Double} values from the given {@link InputStream} and returns it
+     * as a primitive {@code double[]} whose elements are read directly from the encoding without being
+     * boxed.  A single encoded {@link Double} value is returned as an array with one element.
+     * <p>
+     * The default implementation reads the values using {@code readMultiple} and unboxes them.
+     *
+     * @param stream
+     * 		The {@link InputStream} where the read operation takes place.
+     * @param state
+     * 		The {@link StreamDecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source or null if the encoded value was null.
+     *
+     * @throws DecodeException if the value fails to decode is not able to be decoded.
+     */
+    default double[] readDoubleArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final Double[] values = readMultiple(stream, state, Double.class);
+
+        if (values == null) {
+            return null;
+        }
+
+        final double[] result = new double[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = values[i];
+        }
+
+        return result;
+    }
+
     /**
      * Reads an encoded {@link Map} value from the given {@link InputStream} assuming that the
      * next value in the byte stream is that type.  The operation fails if the next encoded type is
@@ -52,6 +52,28 @@ public interface TypeEncoder<V> {
      */
     void writeType(ProtonBuffer buffer, EncoderState state, V value) throws EncodeException;
 
+    /**
+     * Computes the number of bytes that {@link #writeType(ProtonBuffer, EncoderState, Object)}
+     * would write for the given value without writing it, allowing a caller to allocate a
+     * buffer of the exact size needed before encoding.
+     * <p>
+     * The default implementation measures the value by encoding it into a scratch buffer using
+     * {@link EncoderState#measureEncodedSize(TypeEncoder, Object)}, encoders whose encoded size
+     * can be calculated directly override this method.
+     *
+     * @param state
+     *      The current encoder state
+     * @param value
+     *      The value whose encoded size is requested.
+     *
+     * @return the number of bytes needed to encode the given value.
+     *
+     * @throws EncodeException if an error occurs while sizing the given value.
+     */
+    default int getEncodedSize(EncoderState state, V value) throws EncodeException {
+        return state.measureEncodedSize(this, value);
+    }
+
     /**
      * Write an array elements of the AMQP type to the given byte buffer.
      * <p>
@@ -228,6 +228,51 @@ public final class ProtonDecoder implements Decoder {
         }
     }
 
+    @Override
+    public int[] readIntArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final Object val = readObject(buffer, state);
+
+        if (val == null) {
+            return null;
+        } else if (val instanceof int[]) {
+            return (int[]) val;
+        } else if (val instanceof Integer) {
+            return new int[] { ((Integer) val).intValue() };
+        } else {
+            throw signalUnexpectedType(val, int[].class);
+        }
+    }
+
+    @Override
+    public long[] readLongArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final Object val = readObject(buffer, state);
+
+        if (val == null) {
+            return null;
+        } else if (val instanceof long[]) {
+            return (long[]) val;
+        } else if (val instanceof Long) {
+            return new long[] { ((Long) val).longValue() };
+        } else {
+            throw signalUnexpectedType(val, long[].class);
+        }
+    }
+
+    @Override
+    public double[] readDoubleArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final Object val = readObject(buffer, state);
+
+        if (val == null) {
+            return null;
+        } else if (val instanceof double[]) {
+            return (double[]) val;
+        } else if (val instanceof Double) {
+            return new double[] { ((Double) val).doubleValue() };
+        } else {
+            throw signalUnexpectedType(val, double[].class);
+        }
+    }
+
     @Override
     public TypeDecoder<?> readNextTypeDecoder(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final int encodingCode = readEncodingCode(buffer) & 0xff;
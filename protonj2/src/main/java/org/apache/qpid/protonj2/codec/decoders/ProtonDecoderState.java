@@ -24,9 +24,16 @@ import java.nio.charset.CoderResult;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.types.transport.Disposition;
+import org.apache.qpid.protonj2.types.transport.Flow;
+import org.apache.qpid.protonj2.types.transport.Performative;
+import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
  * State object used by the Built in Decoder implementation.
@@ -41,6 +48,18 @@ public final class ProtonDecoderState implements DecoderState {
 
     private UTF8Decoder stringDecoder;
 
+    private boolean performativeRecycling;
+
+    // Reusable performative instances handed out when recycling is enabled, each is
+    // leased until returned via recycle so that a re-entrant decode gets a new value.
+    private final Transfer recycledTransfer = new Transfer();
+    private final Flow recycledFlow = new Flow();
+    private final Disposition recycledDisposition = new Disposition();
+
+    private boolean transferLeased;
+    private boolean flowLeased;
+    private boolean dispositionLeased;
+
     /**
      * Create a new {@link DecoderState} instance that is joined forever to the given {@link Decoder}.
      *
@@ -84,10 +103,97 @@ public final class ProtonDecoderState implements DecoderState {
         return this;
     }
 
+    /**
+     * @return true if {@link Transfer}, {@link Flow} and {@link Disposition} values are decoded into reused instances.
+     */
+    public boolean isPerformativeRecycling() {
+        return performativeRecycling;
+    }
+
+    /**
+     * Controls if the {@link Transfer}, {@link Flow} and {@link Disposition} performatives decoded
+     * using this state are decoded into instances owned by this state object instead of new values.
+     * A recycled performative is only valid until it is returned via {@link #recycle(Performative)}
+     * and must not be retained by the code that consumes it, the delivery tag and delivery state
+     * values it carries are always newly decoded and can be safely retained.
+     *
+     * @param performativeRecycling
+     *      true to decode the hot path performatives into reused instances.
+     *
+     * @return this {@link ProtonDecoderState} instance.
+     */
+    public ProtonDecoderState setPerformativeRecycling(boolean performativeRecycling) {
+        this.performativeRecycling = performativeRecycling;
+        return this;
+    }
+
+    /**
+     * @return a {@link Transfer} to decode into, the recycled instance if recycling is enabled and it is not leased.
+     */
+    public Transfer nextTransfer() {
+        if (performativeRecycling && !transferLeased) {
+            transferLeased = true;
+            return recycledTransfer.reset();
+        } else {
+            return new Transfer();
+        }
+    }
+
+    /**
+     * @return a {@link Flow} to decode into, the recycled instance if recycling is enabled and it is not leased.
+     */
+    public Flow nextFlow() {
+        if (performativeRecycling && !flowLeased) {
+            flowLeased = true;
+            return recycledFlow.reset();
+        } else {
+            return new Flow();
+        }
+    }
+
+    /**
+     * @return a {@link Disposition} to decode into, the recycled instance if recycling is enabled and it is not leased.
+     */
+    public Disposition nextDisposition() {
+        if (performativeRecycling && !dispositionLeased) {
+            dispositionLeased = true;
+            return recycledDisposition.reset();
+        } else {
+            return new Disposition();
+        }
+    }
+
+    /**
+     * Returns a performative that was decoded using this state so that its instance can be reused
+     * on the next decode, values that are not owned by this state are ignored.
+     *
+     * @param performative
+     *      The performative whose processing has completed.
+     *
+     * @return this {@link ProtonDecoderState} instance.
+     */
+    public ProtonDecoderState recycle(Performative performative) {
+        if (performative == recycledTransfer) {
+            transferLeased = false;
+        } else if (performative == recycledFlow) {
+            flowLeased = false;
+        } else if (performative == recycledDisposition) {
+            dispositionLeased = false;
+        }
+
+        return this;
+    }
+
     @Override
     public String decodeUTF8(ProtonBuffer buffer, int length) throws DecodeException {
         if (stringDecoder == null) {
-            return internalDecode(buffer, length, STRING_DECODER, length > MAX_CHAR_BUFFER_CACHE_SIZE ? new char[length] : decodeCache);
+            final char[] scratch = length > MAX_CHAR_BUFFER_CACHE_SIZE ? null : decodeCache;
+            final String decoded = decodeFromArray(buffer, length, STRING_DECODER, scratch);
+            if (decoded != null) {
+                return decoded;
+            }
+
+            return internalDecode(buffer, length, STRING_DECODER, scratch != null ? scratch : new char[length]);
         } else {
             final int originalPosition = buffer.getReadOffset();
 
@@ -101,6 +207,47 @@ public final class ProtonDecoderState implements DecoderState {
         }
     }
 
+    /*
+     * When the encoded bytes are in one backing array they are scanned once for the first non-ASCII
+     * byte.  If all are ASCII the string is created straight from the array as Latin-1, which is a plain
+     * copy into a compact string, otherwise the ASCII prefix is widened into the scratch array and the
+     * UTF-8 decode continues from the first non-ASCII byte without scanning the prefix again.  Returns
+     * null when the bytes are not held in one backing array, a null scratch array is allocated on demand.
+     */
+    private static String decodeFromArray(ProtonBuffer buffer, final int length, CharsetDecoder decoder, char[] scratch) {
+        final int asciiLength;
+
+        try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+            final ProtonBufferComponent component = accessor.firstReadable();
+
+            if (component == null || !component.hasReadbleArray() || component.getReadableBytes() < length) {
+                return null;
+            }
+
+            final byte[] array = component.getReadableArray();
+            final int offset = component.getReadableArrayOffset();
+
+            asciiLength = ProtonBufferUtils.indexOfNonAscii(array, offset, length);
+
+            if (asciiLength == length) {
+                buffer.advanceReadOffset(length);
+                return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+            }
+
+            if (scratch == null) {
+                scratch = new char[length];
+            }
+
+            for (int i = 0; i < asciiLength; ++i) {
+                scratch[i] = (char) array[offset + i];
+            }
+        }
+
+        buffer.advanceReadOffset(asciiLength);
+
+        return internalDecodeUTF8(buffer, length, scratch, asciiLength, decoder);
+    }
+
     private static String internalDecode(ProtonBuffer buffer, final int length, CharsetDecoder decoder, char[] scratch) {
         final int bufferInitialPosition = buffer.getReadOffset();
 
@@ -128,7 +275,7 @@ public final class ProtonDecoderState implements DecoderState {
 
         // Create a buffer from the remaining portion of the buffer and then use the decoder to complete the work
         // remember to move the main buffer position to consume the data processed.
-        ByteBuffer byteBuffer = ByteBuffer.allocate(buffer.getReadableBytes());
+        ByteBuffer byteBuffer = ByteBuffer.allocate(length - offset);
 
         buffer.copyInto(buffer.getReadOffset(), byteBuffer, 0, length - offset);
         buffer.advanceReadOffset(length - offset);
@@ -231,6 +231,51 @@ public final class ProtonStreamDecoder implements StreamDecoder {
         }
     }
 
+    @Override
+    public int[] readIntArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final Object val = readObject(stream, state);
+
+        if (val == null) {
+            return null;
+        } else if (val instanceof int[]) {
+            return (int[]) val;
+        } else if (val instanceof Integer) {
+            return new int[] { ((Integer) val).intValue() };
+        } else {
+            throw signalUnexpectedType(val, int[].class);
+        }
+    }
+
+    @Override
+    public long[] readLongArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final Object val = readObject(stream, state);
+
+        if (val == null) {
+            return null;
+        } else if (val instanceof long[]) {
+            return (long[]) val;
+        } else if (val instanceof Long) {
+            return new long[] { ((Long) val).longValue() };
+        } else {
+            throw signalUnexpectedType(val, long[].class);
+        }
+    }
+
+    @Override
+    public double[] readDoubleArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final Object val = readObject(stream, state);
+
+        if (val == null) {
+            return null;
+        } else if (val instanceof double[]) {
+            return (double[]) val;
+        } else if (val instanceof Double) {
+            return new double[] { ((Double) val).doubleValue() };
+        } else {
+            throw signalUnexpectedType(val, double[].class);
+        }
+    }
+
     @Override
     public StreamTypeDecoder<?> readNextTypeDecoder(InputStream stream, StreamDecoderState state) throws DecodeException {
         final byte encodingCode = ProtonStreamUtils.readEncodingCode(stream);
@@ -28,6 +28,7 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedListTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -61,7 +62,7 @@ public final class FlowTypeDecoder extends AbstractDescribedListTypeDecoder<Flow
     public Flow readValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final TypeDecoder<?> decoder = state.getDecoder().readNextTypeDecoder(buffer, state);
 
-        return readFlow(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+        return readFlow(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), newFlow(state));
     }
 
     @Override
@@ -70,15 +71,21 @@ public final class FlowTypeDecoder extends AbstractDescribedListTypeDecoder<Flow
 
         final Flow[] result = new Flow[count];
         for (int i = 0; i < count; ++i) {
-            result[i] = readFlow(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+            result[i] = readFlow(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), new Flow());
         }
 
         return result;
     }
 
-    private Flow readFlow(ProtonBuffer buffer, Decoder decoder, DecoderState state, ListTypeDecoder listDecoder) throws DecodeException {
-        final Flow flow = new Flow();
+    private static Flow newFlow(DecoderState state) {
+        if (state instanceof ProtonDecoderState) {
+            return ((ProtonDecoderState) state).nextFlow();
+        } else {
+            return new Flow();
+        }
+    }
 
+    private Flow readFlow(ProtonBuffer buffer, Decoder decoder, DecoderState state, ListTypeDecoder listDecoder, Flow flow) throws DecodeException {
         @SuppressWarnings("unused")
         final int size = listDecoder.readSize(buffer, state);
         final int count = listDecoder.readCount(buffer, state);
@@ -63,6 +63,28 @@ public abstract class AbstractDescribedListTypeEncoder<V> extends AbstractDescri
      */
     public abstract void writeElement(V source, int index, ProtonBuffer buffer, Encoder encoder, EncoderState state);
 
+    /**
+     * Computes the number of bytes that the element identified with the given index is
+     * encoded to by {@link #writeElement(Object, int, ProtonBuffer, Encoder, EncoderState)}.
+     * <p>
+     * Encoders that do not override this method return a negative value and the encoded
+     * size of their type is then measured by encoding the value into a scratch buffer.
+     *
+     * @param source
+     *      the source of the list elements to size
+     * @param index
+     *      the element index that needs to be sized
+     * @param encoder
+     *      the current Encoder value to use.
+     * @param state
+     *      the current EncoderState value to use.
+     *
+     * @return the encoded size of the element or a negative value if it cannot be computed.
+     */
+    public int getElementEncodedSize(V source, int index, Encoder encoder, EncoderState state) {
+        return -1;
+    }
+
     /**
      * Gets the number of elements that will result when this type is encoded
      * into an AMQP List type.
@@ -110,6 +132,60 @@ public abstract class AbstractDescribedListTypeEncoder<V> extends AbstractDescri
         }
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, V value) {
+        final Encoder encoder = state.getEncoder();
+        final int count = getElementCount(value);
+
+        if (count < getMinElementCount()) {
+            throw new EncodeException("Incomplete Type cannot be encoded");
+        }
+
+        int elementsSize = 0;
+
+        for (int i = 0; i < count; ++i) {
+            final int elementSize = getElementEncodedSize(value, i, encoder, state);
+
+            if (elementSize < 0) {
+                return state.measureEncodedSize(this, value);
+            }
+
+            elementsSize += elementSize;
+        }
+
+        final int descriptorSize = Byte.BYTES + (getDescriptorCode().byteValue() == 0 ? Byte.BYTES : Byte.BYTES + Byte.BYTES);
+
+        switch (getListEncoding(value)) {
+            case EncodingCodes.LIST8:
+                return descriptorSize + Byte.BYTES + Byte.BYTES + Byte.BYTES + elementsSize;
+            case EncodingCodes.LIST32:
+                return descriptorSize + Byte.BYTES + Integer.BYTES + Integer.BYTES + elementsSize;
+            default:
+                return descriptorSize + Byte.BYTES;
+        }
+    }
+
+    /**
+     * Computes the encoded size of an unsigned integer element written with one of the
+     * {@link Encoder#writeUnsignedInteger(ProtonBuffer, EncoderState, long)} methods.
+     *
+     * @param value
+     *      the unsigned integer value that will be written
+     *
+     * @return the number of bytes the given unsigned integer value is encoded to.
+     */
+    protected static int getUnsignedIntegerEncodedSize(long value) {
+        final int intValue = (int) value;
+
+        if (intValue == 0) {
+            return Byte.BYTES;
+        } else if (intValue > 0 && intValue <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Integer.BYTES;
+        }
+    }
+
     private void writeSmallType(ProtonBuffer buffer, Encoder encoder, EncoderState state, V value, int elementCount) {
         final int startIndex = buffer.getWriteOffset();
 
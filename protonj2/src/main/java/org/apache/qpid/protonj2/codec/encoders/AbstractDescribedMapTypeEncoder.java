@@ -86,6 +86,48 @@ public abstract class AbstractDescribedMapTypeEncoder<K, V, M> extends AbstractD
      */
     public abstract void writeMapEntries(ProtonBuffer buffer, Encoder encoder, EncoderState state, M value);
 
+    /**
+     * Computes the number of bytes that the Map entries are encoded to by
+     * {@link #writeMapEntries(ProtonBuffer, Encoder, EncoderState, Object)}.
+     * <p>
+     * Encoders that do not override this method return a negative value and the encoded
+     * size of their type is then measured by encoding the value into a scratch buffer.
+     *
+     * @param encoder
+     *      the current encoder.
+     * @param state
+     *      the current encoder state.
+     * @param value
+     * 		the value whose Map entries are to be sized.
+     *
+     * @return the encoded size of the Map entries or a negative value if it cannot be computed.
+     */
+    public int getMapEntriesEncodedSize(Encoder encoder, EncoderState state, M value) {
+        return -1;
+    }
+
+    @Override
+    public int getEncodedSize(EncoderState state, M value) {
+        final int descriptorSize = Byte.BYTES + (getDescriptorCode().byteValue() == 0 ? Byte.BYTES : Byte.BYTES + Byte.BYTES);
+
+        if (!hasMap(value)) {
+            return descriptorSize + Byte.BYTES;
+        }
+
+        final int entriesSize = getMapEntriesEncodedSize(state.getEncoder(), state, value);
+
+        if (entriesSize < 0) {
+            return state.measureEncodedSize(this, value);
+        }
+
+        switch (getMapEncoding(value)) {
+            case EncodingCodes.MAP8:
+                return descriptorSize + Byte.BYTES + Byte.BYTES + Byte.BYTES + entriesSize;
+            default:
+                return descriptorSize + Byte.BYTES + Integer.BYTES + Integer.BYTES + entriesSize;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, M value) {
         final Encoder encoder = state.getEncoder();
@@ -103,6 +103,17 @@ public final class ProtonEncoder implements Encoder {
     private ProtonEncoderState singleThreadedState;
 
     private final Map<Class<?>, TypeEncoder<?>> typeEncoders = new HashMap<>();
+
+    // Resolves each class to its encoder once, including the deduced encoders for implementations of
+    // the List and Map interfaces and for arrays, after which lookups are a ClassValue read that is
+    // safe to perform from any thread.  A null value means the type cannot be encoded by class alone.
+    private final ClassValue<TypeEncoder<?>> encoderCache = new ClassValue<TypeEncoder<?>>() {
+
+        @Override
+        protected TypeEncoder<?> computeValue(Class<?> typeClass) {
+            return resolveTypeEncoder(typeClass);
+        }
+    };
     {
         typeEncoders.put(arrayEncoder.getTypeClass(), arrayEncoder);
         typeEncoders.put(binaryEncoder.getTypeClass(), binaryEncoder);
@@ -654,7 +665,7 @@ public final class ProtonEncoder implements Encoder {
     @Override
     public void writeObject(ProtonBuffer buffer, EncoderState state, Object value) throws EncodeException {
         if (value != null) {
-            TypeEncoder encoder = typeEncoders.get(value.getClass());
+            TypeEncoder encoder = encoderCache.get(value.getClass());
 
             if (encoder == null) {
                 writeUnregisteredType(buffer, state, value);
@@ -666,6 +677,23 @@ public final class ProtonEncoder implements Encoder {
         }
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public int getEncodedSize(EncoderState state, Object value) throws EncodeException {
+        if (value != null) {
+            TypeEncoder encoder = getTypeEncoder(value.getClass(), value);
+
+            if (encoder == null) {
+                throw new IllegalArgumentException(
+                    "Do not know how to write Objects of class " + value.getClass().getName());
+            }
+
+            return encoder.getEncodedSize(state, value);
+        } else {
+            return Byte.BYTES;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void writeUnregisteredType(ProtonBuffer buffer, EncoderState state, Object value) {
         if (value.getClass().isArray()) {
@@ -709,6 +737,7 @@ public final class ProtonEncoder implements Encoder {
     @Override
     public <V> ProtonEncoder registerDescribedTypeEncoder(DescribedTypeEncoder<V> encoder) {
         typeEncoders.put(encoder.getTypeClass(), encoder.encoderRegistered(this));
+        encoderCache.remove(encoder.getTypeClass());
         return this;
     }
 
@@ -738,41 +767,31 @@ public final class ProtonEncoder implements Encoder {
      * @return a {@link TypeEncoder} if a match to the given query is found or null of non can be deduced.
      */
     public TypeEncoder<?> getTypeEncoder(Class<?> typeClass, Object instance) {
-        TypeEncoder<?> encoder = typeEncoders.get(typeClass);
+        final TypeEncoder<?> encoder = encoderCache.get(typeClass);
 
-        if (encoder == null) {
-            encoder = deduceTypeEncoder(typeClass, instance);
+        // For instances of a specific DescribedType that we don't know about the generic
+        // described type encoder will work.  We don't use that though for class lookups
+        // as we don't want to allow arrays of polymorphic types.
+        if (encoder == null && instance instanceof DescribedType) {
+            return unknownTypeEncoder;
         }
 
         return encoder;
     }
 
-    private TypeEncoder<?> deduceTypeEncoder(Class<?> typeClass, Object instance) {
-        TypeEncoder<?> encoder = typeEncoders.get(typeClass);
-
-        if (typeClass.isArray()) {
-            encoder = arrayEncoder;
-        } else {
-            if (List.class.isAssignableFrom(typeClass)) {
-                encoder = listEncoder;
-            } else if (Map.class.isAssignableFrom(typeClass)) {
-                encoder = mapEncoder;
-            } else if (DescribedType.class.isAssignableFrom(typeClass)) {
-                // For instances of a specific DescribedType that we don't know about the
-                // generic described type encoder will work.  We don't use that though for
-                // class lookups as we don't want to allow arrays of polymorphic types.
-                if (encoder == null && instance != null) {
-                    if (encoder == null) {
-                        return unknownTypeEncoder;
-                    }
-                }
-            }
-        }
-
-        // Ensure that next time we find the encoder immediately and don't need to
-        // go through this process again.
-        typeEncoders.put(typeClass, encoder);
+    private TypeEncoder<?> resolveTypeEncoder(Class<?> typeClass) {
+        final TypeEncoder<?> encoder = typeEncoders.get(typeClass);
 
-        return encoder;
+        if (encoder != null) {
+            return encoder;
+        } else if (typeClass.isArray()) {
+            return arrayEncoder;
+        } else if (List.class.isAssignableFrom(typeClass)) {
+            return listEncoder;
+        } else if (Map.class.isAssignableFrom(typeClass)) {
+            return mapEncoder;
+        } else {
+            return null;
+        }
     }
 }
@@ -17,14 +17,26 @@
 package org.apache.qpid.protonj2.codec.encoders;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.codec.TypeEncoder;
 
 /**
  * State object used by the Built in Encoder implementation.
  */
 public final class ProtonEncoderState implements EncoderState {
 
+    // Scratch buffers that grew beyond this while measuring are released rather than retained
+    private static final int MAX_RETAINED_SCRATCH_CAPACITY = 64 * 1024;
+
+    // Encoder states are at times shared between threads that only encode primitive or section
+    // types which carry no intermediate state, the scratch buffer is kept per thread to keep that
+    // sharing safe when those types measure the elements they contain.
+    private static final ThreadLocal<ProtonBuffer> SCRATCH_BUFFER = new ThreadLocal<>();
+
     private final ProtonEncoder encoder;
 
     private UTF8Encoder utf8Encoder;
@@ -82,6 +94,59 @@ public final class ProtonEncoderState implements EncoderState {
         return buffer;
     }
 
+    @Override
+    public int getUTF8EncodedLength(CharSequence sequence) {
+        if (utf8Encoder == null) {
+            return calculateUTF8Length(0, sequence);
+        }
+
+        final ProtonBuffer scratch = scratchBuffer();
+        final int startIndex = scratch.getWriteOffset();
+
+        try {
+            utf8Encoder.encodeUTF8(scratch, sequence);
+            return scratch.getWriteOffset() - startIndex;
+        } finally {
+            rewindScratchBuffer(scratch, startIndex);
+        }
+    }
+
+    @Override
+    public <V> int measureEncodedSize(TypeEncoder<V> encoder, V value) {
+        final ProtonBuffer scratch = scratchBuffer();
+
+        // Measurements can nest when a type being measured measures its own elements, each one
+        // writes after the bytes of the outer measurement and then rewinds to where it started.
+        final int startIndex = scratch.getWriteOffset();
+
+        try {
+            encoder.writeType(scratch, this, value);
+            return scratch.getWriteOffset() - startIndex;
+        } finally {
+            rewindScratchBuffer(scratch, startIndex);
+        }
+    }
+
+    private static ProtonBuffer scratchBuffer() {
+        ProtonBuffer scratch = SCRATCH_BUFFER.get();
+
+        if (scratch == null) {
+            scratch = ProtonBufferAllocator.defaultAllocator().allocate();
+            SCRATCH_BUFFER.set(scratch);
+        }
+
+        return scratch;
+    }
+
+    private static void rewindScratchBuffer(ProtonBuffer scratch, int startIndex) {
+        scratch.setWriteOffset(startIndex);
+
+        if (startIndex == 0 && scratch.capacity() > MAX_RETAINED_SCRATCH_CAPACITY) {
+            SCRATCH_BUFFER.remove();
+            scratch.close();
+        }
+    }
+
     private static void encodeUTF8Sequence(ProtonBuffer buffer, CharSequence sequence) {
         final int length = sequence.length();
 
@@ -92,6 +157,9 @@ public final class ProtonEncoderState implements EncoderState {
         // Assume ASCII and just reserve what we need for that case.
         buffer.ensureWritable(length);
 
+        index = writeAsciiToArrayUnrolled(buffer, sequence, length);
+        position += index;
+
         // ASCII Optimized path U+0000..U+007F
         for (; index < length && (ch = sequence.charAt(index)) < 0x80; ++index) {
             buffer.setByte(position++, (byte) ch);
@@ -105,6 +173,61 @@ public final class ProtonEncoderState implements EncoderState {
         buffer.setWriteOffset(position);
     }
 
+    /*
+     * Writes the leading ASCII characters of the sequence straight into the backing array of the
+     * buffer when it has one that can hold the whole sequence.  The loop is unrolled by eight, the
+     * characters of each group are read individually from the sequence and OR'ed into a single test
+     * before any of them are stored, a CharSequence offers no wider view to test them as one word.
+     * Returns the number of characters written which the caller must account for when updating the
+     * buffer write offset.
+     */
+    private static int writeAsciiToArrayUnrolled(ProtonBuffer buffer, CharSequence sequence, int length) {
+        try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+            final ProtonBufferComponent component = accessor.firstWritable();
+
+            if (component == null || !component.hasWritableArray() || component.getWritableBytes() < length) {
+                return 0;
+            }
+
+            final byte[] array = component.getWritableArray();
+            final int offset = component.getWritableArrayOffset();
+
+            int index = 0;
+
+            for (final int limit = length - Long.BYTES; index <= limit; index += Long.BYTES) {
+                final char c0 = sequence.charAt(index);
+                final char c1 = sequence.charAt(index + 1);
+                final char c2 = sequence.charAt(index + 2);
+                final char c3 = sequence.charAt(index + 3);
+                final char c4 = sequence.charAt(index + 4);
+                final char c5 = sequence.charAt(index + 5);
+                final char c6 = sequence.charAt(index + 6);
+                final char c7 = sequence.charAt(index + 7);
+
+                if (((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) & 0xFF80) != 0) {
+                    break;
+                }
+
+                final int position = offset + index;
+
+                array[position] = (byte) c0;
+                array[position + 1] = (byte) c1;
+                array[position + 2] = (byte) c2;
+                array[position + 3] = (byte) c3;
+                array[position + 4] = (byte) c4;
+                array[position + 5] = (byte) c5;
+                array[position + 6] = (byte) c6;
+                array[position + 7] = (byte) c7;
+            }
+
+            for (char ch; index < length && (ch = sequence.charAt(index)) < 0x80; ++index) {
+                array[offset + index] = (byte) ch;
+            }
+
+            return index;
+        }
+    }
+
     private static int extendedEncodeUTF8Sequence(ProtonBuffer buffer, CharSequence value, int index, int position) {
         // Size buffer to what we know we will need to complete this encode.
         buffer.ensureWritable(calculateUTF8Length(index, value));
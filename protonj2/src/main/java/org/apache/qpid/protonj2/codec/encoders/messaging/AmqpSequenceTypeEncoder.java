@@ -52,6 +52,11 @@ public final class AmqpSequenceTypeEncoder extends AbstractDescribedTypeEncoder<
         return AmqpSequence.DESCRIPTOR_SYMBOL;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, AmqpSequence value) {
+        return SEQUENCE_PREAMBLE.length + state.getEncoder().getEncodedSize(state, value.getValue());
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, AmqpSequence value) {
         buffer.writeBytes(SEQUENCE_PREAMBLE);
@@ -50,6 +50,11 @@ public final class AmqpValueTypeEncoder extends AbstractDescribedTypeEncoder<Amq
         return AmqpValue.DESCRIPTOR_SYMBOL;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, AmqpValue value) {
+        return VALUE_PREAMBLE.length + state.getEncoder().getEncodedSize(state, value.getValue());
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, AmqpValue value) {
         buffer.writeBytes(VALUE_PREAMBLE);
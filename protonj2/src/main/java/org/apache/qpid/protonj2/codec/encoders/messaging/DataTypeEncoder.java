@@ -48,6 +48,17 @@ public final class DataTypeEncoder extends AbstractDescribedTypeEncoder<Data> {
         return Data.DESCRIPTOR_SYMBOL;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Data value) {
+        final int dataLength = value.getDataLength();
+
+        if (dataLength > 255) {
+            return DATA_PREAMBLE.length + Byte.BYTES + Integer.BYTES + dataLength;
+        } else {
+            return DATA_PREAMBLE.length + Byte.BYTES + Byte.BYTES + dataLength;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Data value) {
         buffer.writeBytes(DATA_PREAMBLE);
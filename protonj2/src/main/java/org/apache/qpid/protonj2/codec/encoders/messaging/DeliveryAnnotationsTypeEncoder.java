@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.codec.encoders.messaging;
 
+import java.util.Map;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
@@ -58,6 +60,18 @@ public final class DeliveryAnnotationsTypeEncoder extends AbstractDescribedMapTy
         }
     }
 
+    @Override
+    public int getMapEntriesEncodedSize(Encoder encoder, EncoderState state, DeliveryAnnotations annotations) {
+        int entriesSize = 0;
+
+        for (Map.Entry<Symbol, Object> entry : annotations.getValue().entrySet()) {
+            entriesSize += encoder.getEncodedSize(state, entry.getKey());
+            entriesSize += encoder.getEncodedSize(state, entry.getValue());
+        }
+
+        return entriesSize;
+    }
+
     @Override
     public void writeMapEntries(ProtonBuffer buffer, Encoder encoder, EncoderState state, DeliveryAnnotations annotations) {
         // Write the Map elements and then compute total size written.
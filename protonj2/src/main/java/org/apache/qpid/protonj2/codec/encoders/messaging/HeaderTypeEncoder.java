@@ -96,6 +96,23 @@ public final class HeaderTypeEncoder extends AbstractDescribedListTypeEncoder<He
         }
     }
 
+    @Override
+    public int getElementEncodedSize(Header header, int index, Encoder encoder, EncoderState state) {
+        switch (index) {
+            case 0:
+            case 3:
+                return Byte.BYTES;
+            case 1:
+                return header.hasPriority() ? Byte.BYTES + Byte.BYTES : Byte.BYTES;
+            case 2:
+                return header.hasTimeToLive() ? getUnsignedIntegerEncodedSize(header.getTimeToLive()) : Byte.BYTES;
+            case 4:
+                return header.hasDeliveryCount() ? getUnsignedIntegerEncodedSize(header.getDeliveryCount()) : Byte.BYTES;
+            default:
+                throw new IllegalArgumentException("Unknown Header value index: " + index);
+        }
+    }
+
     @Override
     public int getElementCount(Header header) {
         return header.getElementCount();
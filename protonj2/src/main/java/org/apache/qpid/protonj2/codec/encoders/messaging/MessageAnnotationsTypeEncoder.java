@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.codec.encoders.messaging;
 
+import java.util.Map;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
@@ -61,6 +63,18 @@ public final class MessageAnnotationsTypeEncoder extends AbstractDescribedMapTyp
         }
     }
 
+    @Override
+    public int getMapEntriesEncodedSize(Encoder encoder, EncoderState state, MessageAnnotations annotations) {
+        int entriesSize = 0;
+
+        for (Map.Entry<Symbol, Object> entry : annotations.getValue().entrySet()) {
+            entriesSize += SYMBOL_ENCODER.getEncodedSize(state, entry.getKey());
+            entriesSize += encoder.getEncodedSize(state, entry.getValue());
+        }
+
+        return entriesSize;
+    }
+
     @Override
     public void writeMapEntries(ProtonBuffer buffer, Encoder encoder, EncoderState state, MessageAnnotations annotations) {
         // Write the Map elements and then compute total size written.
@@ -104,6 +104,40 @@ public final class PropertiesTypeEncoder extends AbstractDescribedListTypeEncode
         }
     }
 
+    @Override
+    public int getElementEncodedSize(Properties properties, int index, Encoder encoder, EncoderState state) {
+        switch (index) {
+            case 0:
+                return encoder.getEncodedSize(state, properties.getMessageId());
+            case 1:
+                return encoder.getEncodedSize(state, properties.getUserId());
+            case 2:
+                return encoder.getEncodedSize(state, properties.getTo());
+            case 3:
+                return encoder.getEncodedSize(state, properties.getSubject());
+            case 4:
+                return encoder.getEncodedSize(state, properties.getReplyTo());
+            case 5:
+                return encoder.getEncodedSize(state, properties.getCorrelationId());
+            case 6:
+                return encoder.getEncodedSize(state, properties.getContentType());
+            case 7:
+                return encoder.getEncodedSize(state, properties.getContentEncoding());
+            case 8:
+                return properties.hasAbsoluteExpiryTime() ? Byte.BYTES + Long.BYTES : Byte.BYTES;
+            case 9:
+                return properties.hasCreationTime() ? Byte.BYTES + Long.BYTES : Byte.BYTES;
+            case 10:
+                return encoder.getEncodedSize(state, properties.getGroupId());
+            case 11:
+                return properties.hasGroupSequence() ? getUnsignedIntegerEncodedSize(properties.getGroupSequence()) : Byte.BYTES;
+            case 12:
+                return encoder.getEncodedSize(state, properties.getReplyToGroupId());
+            default:
+                throw new IllegalArgumentException("Unknown Properties value index: " + index);
+        }
+    }
+
     @Override
     public byte getListEncoding(Properties value) {
         return EncodingCodes.LIST32;
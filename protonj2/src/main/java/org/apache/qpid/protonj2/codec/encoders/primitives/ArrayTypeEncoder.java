@@ -37,6 +37,33 @@ public final class ArrayTypeEncoder implements PrimitiveTypeEncoder<Object> {
         return Object.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Object value) {
+        // Arrays of fixed width primitives can be sized without encoding them, the element
+        // limits for the eight bit array encoding match those the element encoders apply.
+        if (value instanceof int[]) {
+            return getEncodedSize(((int[]) value).length, Integer.BYTES, 63);
+        } else if (value instanceof long[]) {
+            return getEncodedSize(((long[]) value).length, Long.BYTES, 31);
+        } else if (value instanceof float[]) {
+            return getEncodedSize(((float[]) value).length, Float.BYTES, 63);
+        } else if (value instanceof double[]) {
+            return getEncodedSize(((double[]) value).length, Double.BYTES, 31);
+        } else {
+            return state.measureEncodedSize(this, value);
+        }
+    }
+
+    private static int getEncodedSize(int count, int elementSize, int array8Limit) {
+        final long elementsSize = (long) count * elementSize;
+
+        if (count < array8Limit) {
+            return (int) (Byte.BYTES + Byte.BYTES + Byte.BYTES + Byte.BYTES + elementsSize);
+        } else {
+            return (int) Math.min(Integer.MAX_VALUE, Byte.BYTES + Integer.BYTES + Integer.BYTES + Byte.BYTES + elementsSize);
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Object value) {
         if (!value.getClass().isArray()) {
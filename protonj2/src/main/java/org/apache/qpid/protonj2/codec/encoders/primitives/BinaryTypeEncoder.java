@@ -32,6 +32,17 @@ public final class BinaryTypeEncoder extends AbstractPrimitiveTypeEncoder<Binary
         return Binary.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Binary value) {
+        final int length = value.getLength();
+
+        if (length > 255) {
+            return Byte.BYTES + Integer.BYTES + length;
+        } else {
+            return Byte.BYTES + Byte.BYTES + length;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Binary value) {
         writeType(buffer, state, value.asProtonBuffer());
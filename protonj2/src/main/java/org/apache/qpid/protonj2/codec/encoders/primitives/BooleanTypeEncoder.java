@@ -31,6 +31,11 @@ public final class BooleanTypeEncoder extends AbstractPrimitiveTypeEncoder<Boole
         return Boolean.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Boolean value) {
+        return Byte.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Boolean value) {
         buffer.writeByte(value == Boolean.TRUE ? EncodingCodes.BOOLEAN_TRUE : EncodingCodes.BOOLEAN_FALSE);
@@ -31,6 +31,11 @@ public final class ByteTypeEncoder extends AbstractPrimitiveTypeEncoder<Byte> {
         return Byte.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Byte value) {
+        return Byte.BYTES + Byte.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Byte value) {
         buffer.writeByte(EncodingCodes.BYTE);
@@ -31,6 +31,11 @@ public final class CharacterTypeEncoder extends AbstractPrimitiveTypeEncoder<Cha
         return Character.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Character value) {
+        return Byte.BYTES + Integer.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Character value) {
         buffer.writeByte(EncodingCodes.CHAR);
@@ -32,6 +32,11 @@ public final class Decimal128TypeEncoder extends AbstractPrimitiveTypeEncoder<De
         return Decimal128.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Decimal128 value) {
+        return Byte.BYTES + Long.BYTES + Long.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Decimal128 value) {
         buffer.writeByte(EncodingCodes.DECIMAL128);
@@ -32,6 +32,11 @@ public final class Decimal32TypeEncoder extends AbstractPrimitiveTypeEncoder<Dec
         return Decimal32.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Decimal32 value) {
+        return Byte.BYTES + Integer.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Decimal32 value) {
         buffer.writeByte(EncodingCodes.DECIMAL32);
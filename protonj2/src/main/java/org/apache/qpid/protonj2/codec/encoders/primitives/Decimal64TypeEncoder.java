@@ -32,6 +32,11 @@ public final class Decimal64TypeEncoder extends AbstractPrimitiveTypeEncoder<Dec
         return Decimal64.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Decimal64 value) {
+        return Byte.BYTES + Long.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Decimal64 value) {
         buffer.writeByte(EncodingCodes.DECIMAL64);
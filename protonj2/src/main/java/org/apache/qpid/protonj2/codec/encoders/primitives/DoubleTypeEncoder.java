@@ -31,6 +31,11 @@ public final class DoubleTypeEncoder extends AbstractPrimitiveTypeEncoder<Double
         return Double.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Double value) {
+        return Byte.BYTES + Double.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Double value) {
         buffer.writeByte(EncodingCodes.DOUBLE);
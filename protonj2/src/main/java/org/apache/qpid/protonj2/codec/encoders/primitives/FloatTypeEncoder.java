@@ -31,6 +31,11 @@ public final class FloatTypeEncoder extends AbstractPrimitiveTypeEncoder<Float>
         return Float.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Float value) {
+        return Byte.BYTES + Float.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Float value) {
         buffer.writeByte(EncodingCodes.FLOAT);
@@ -31,6 +31,17 @@ public final class IntegerTypeEncoder extends AbstractPrimitiveTypeEncoder<Integ
         return Integer.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Integer value) {
+        final int intValue = value.intValue();
+
+        if (intValue >= -128 && intValue <= 127) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Integer.BYTES;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Integer value) {
         writeType(buffer, state, value.intValue());
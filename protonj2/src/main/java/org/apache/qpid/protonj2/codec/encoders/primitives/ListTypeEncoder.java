@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec.encoders.primitives;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.EncodeException;
@@ -31,19 +32,55 @@ import org.apache.qpid.protonj2.codec.encoders.AbstractPrimitiveTypeEncoder;
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public final class ListTypeEncoder extends AbstractPrimitiveTypeEncoder<List> {
 
+    // Limits of the element count and encoded size of elements for the LIST8 and MAP8 encodings
+    static final int MAX_COMPACT_COUNT = 255;
+    static final int MAX_COMPACT_ELEMENTS_SIZE = 254;
+
     @Override
     public Class<List> getTypeClass() {
         return List.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, List value) {
+        if (value.isEmpty()) {
+            return Byte.BYTES;
+        }
+
+        final int elementsSize = getElementsSize(state, value);
+
+        if (value.size() <= MAX_COMPACT_COUNT && elementsSize <= MAX_COMPACT_ELEMENTS_SIZE) {
+            return Byte.BYTES + Byte.BYTES + Byte.BYTES + elementsSize;
+        } else {
+            return Byte.BYTES + Integer.BYTES + Integer.BYTES + elementsSize;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, List value) {
         if (value.isEmpty()) {
             buffer.writeByte(EncodingCodes.LIST0);
-        } else {
-            buffer.writeByte(EncodingCodes.LIST32);
-            writeValue(buffer, state, value);
+            return;
+        }
+
+        // Only a small list can use the compact encoding and its elements are sized no further
+        // than the compact limit so nested lists and maps are not walked in full at every level.
+        if (value.size() <= MAX_COMPACT_COUNT) {
+            final int elementsSize = getElementsSizeUpTo(state, value, MAX_COMPACT_ELEMENTS_SIZE);
+
+            if (elementsSize <= MAX_COMPACT_ELEMENTS_SIZE) {
+                buffer.ensureWritable(Byte.BYTES + Byte.BYTES + Byte.BYTES + elementsSize);
+                buffer.writeByte(EncodingCodes.LIST8);
+                buffer.writeByte((byte) (elementsSize + Byte.BYTES));
+                buffer.writeByte((byte) value.size());
+
+                writeElements(buffer, state, value);
+                return;
+            }
         }
+
+        buffer.writeByte(EncodingCodes.LIST32);
+        writeValue(buffer, state, value);
     }
 
     @Override
@@ -63,25 +100,107 @@ public final class ListTypeEncoder extends AbstractPrimitiveTypeEncoder<List> {
         // Write the count of list elements.
         buffer.writeInt(value.size());
 
+        // Write the list elements and then compute total size written.
+        writeElements(buffer, state, value);
+
+        // Move back and write the size
+        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
+    }
+
+    private static void writeElements(ProtonBuffer buffer, EncoderState state, List value) {
+        TypeEncoder encoder = null;
+        Class<?> encoderClass = null;
+
+        // Try not to lookup encoders when the types in the list all match, the check is made against
+        // the class of the last entry looked up as the encoder type class can be a super type of it.
+        for (int i = 0; i < value.size(); ++i) {
+            Object entry = value.get(i);
+
+            if (entry == null || entry.getClass() != encoderClass) {
+                encoder = lookupEncoder(state, entry);
+                encoderClass = entry != null ? entry.getClass() : null;
+            }
+
+            encoder.writeType(buffer, state, entry);
+        }
+    }
+
+    private static int getElementsSize(EncoderState state, List value) {
         TypeEncoder encoder = null;
+        Class<?> encoderClass = null;
+        int elementsSize = 0;
 
-        // Write the list elements and then compute total size written, try not to lookup
-        // encoders when the types in the list all match.
         for (int i = 0; i < value.size(); ++i) {
             Object entry = value.get(i);
 
-            if (encoder == null || !encoder.getTypeClass().equals(entry.getClass())) {
-                encoder = state.getEncoder().getTypeEncoder(entry);
+            if (entry == null || entry.getClass() != encoderClass) {
+                encoder = lookupEncoder(state, entry);
+                encoderClass = entry != null ? entry.getClass() : null;
             }
 
-            if (encoder == null) {
-                throw new EncodeException("Cannot find encoder for type " + entry);
+            elementsSize += encoder.getEncodedSize(state, entry);
+        }
+
+        return elementsSize;
+    }
+
+    private static int getElementsSizeUpTo(EncoderState state, List value, int limit) {
+        TypeEncoder encoder = null;
+        Class<?> encoderClass = null;
+        int elementsSize = 0;
+
+        for (int i = 0; i < value.size() && elementsSize <= limit; ++i) {
+            Object entry = value.get(i);
+
+            if (entry == null || entry.getClass() != encoderClass) {
+                encoder = lookupEncoder(state, entry);
+                encoderClass = entry != null ? entry.getClass() : null;
             }
 
-            encoder.writeType(buffer, state, entry);
+            elementsSize += getEncodedSizeUpTo(state, encoder, entry, limit - elementsSize);
         }
 
-        // Move back and write the size
-        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
+        return elementsSize;
+    }
+
+    /*
+     * Returns the exact encoded size of the value when it is no greater than the given limit and
+     * otherwise any size above the limit, lists and maps stop sizing their contents once over it.
+     */
+    static int getEncodedSizeUpTo(EncoderState state, TypeEncoder encoder, Object value, int limit) {
+        if (encoder instanceof ListTypeEncoder) {
+            return getListSizeUpTo(state, (List) value, limit);
+        } else if (encoder instanceof MapTypeEncoder) {
+            return MapTypeEncoder.getMapSizeUpTo(state, (Map) value, limit);
+        } else {
+            return encoder.getEncodedSize(state, value);
+        }
+    }
+
+    private static int getListSizeUpTo(EncoderState state, List value, int limit) {
+        if (value.isEmpty()) {
+            return Byte.BYTES;
+        }
+
+        final int elementsLimit = limit - Byte.BYTES - Byte.BYTES - Byte.BYTES;
+        final int elementsSize = getElementsSizeUpTo(state, value, elementsLimit);
+
+        if (elementsSize > elementsLimit) {
+            return limit + 1;
+        } else if (value.size() <= MAX_COMPACT_COUNT && elementsSize <= MAX_COMPACT_ELEMENTS_SIZE) {
+            return Byte.BYTES + Byte.BYTES + Byte.BYTES + elementsSize;
+        } else {
+            return Byte.BYTES + Integer.BYTES + Integer.BYTES + elementsSize;
+        }
+    }
+
+    private static TypeEncoder lookupEncoder(EncoderState state, Object entry) {
+        final TypeEncoder encoder = state.getEncoder().getTypeEncoder(entry);
+
+        if (encoder == null) {
+            throw new EncodeException("Cannot find encoder for type " + entry);
+        }
+
+        return encoder;
     }
 }
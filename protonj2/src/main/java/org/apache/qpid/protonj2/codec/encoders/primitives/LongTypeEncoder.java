@@ -31,6 +31,17 @@ public final class LongTypeEncoder extends AbstractPrimitiveTypeEncoder<Long> {
         return Long.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Long value) {
+        final long longValue = value.longValue();
+
+        if (longValue >= -128 && longValue <= 127) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Long.BYTES;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Long value) {
         writeType(buffer, state, value.longValue());
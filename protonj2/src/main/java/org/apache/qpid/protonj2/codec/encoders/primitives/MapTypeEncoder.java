@@ -36,8 +36,35 @@ public final class MapTypeEncoder extends AbstractPrimitiveTypeEncoder<Map> {
         return Map.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Map value) {
+        final int entriesSize = getEntriesSize(state, value);
+
+        if (value.size() * 2 <= ListTypeEncoder.MAX_COMPACT_COUNT && entriesSize <= ListTypeEncoder.MAX_COMPACT_ELEMENTS_SIZE) {
+            return Byte.BYTES + Byte.BYTES + Byte.BYTES + entriesSize;
+        } else {
+            return Byte.BYTES + Integer.BYTES + Integer.BYTES + entriesSize;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Map value) {
+        // Only a small map can use the compact encoding and its entries are sized no further
+        // than the compact limit so nested lists and maps are not walked in full at every level.
+        if (value.size() * 2 <= ListTypeEncoder.MAX_COMPACT_COUNT) {
+            final int entriesSize = getEntriesSizeUpTo(state, value, ListTypeEncoder.MAX_COMPACT_ELEMENTS_SIZE);
+
+            if (entriesSize <= ListTypeEncoder.MAX_COMPACT_ELEMENTS_SIZE) {
+                buffer.ensureWritable(Byte.BYTES + Byte.BYTES + Byte.BYTES + entriesSize);
+                buffer.writeByte(EncodingCodes.MAP8);
+                buffer.writeByte((byte) (entriesSize + Byte.BYTES));
+                buffer.writeByte((byte) (value.size() * 2));
+
+                writeEntries(buffer, state, value);
+                return;
+            }
+        }
+
         buffer.writeByte(EncodingCodes.MAP32);
         writeValue(buffer, state, value);
     }
@@ -60,23 +87,74 @@ public final class MapTypeEncoder extends AbstractPrimitiveTypeEncoder<Map> {
         buffer.writeInt(value.size() * 2);
 
         // Write the list elements and then compute total size written.
+        writeEntries(buffer, state, value);
+
+        // Move back and write the size
+        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
+    }
+
+    private static void writeEntries(ProtonBuffer buffer, EncoderState state, Map value) {
         value.forEach((key, entry) -> {
-            TypeEncoder keyEncoder = state.getEncoder().getTypeEncoder(key);
-            if (keyEncoder == null) {
-                throw new EncodeException("Cannot find encoder for type " + key);
-            }
+            lookupEncoder(state, key).writeType(buffer, state, key);
+            lookupEncoder(state, entry).writeType(buffer, state, entry);
+        });
+    }
 
-            keyEncoder.writeType(buffer, state, key);
+    private static int getEntriesSize(EncoderState state, Map value) {
+        int entriesSize = 0;
 
-            TypeEncoder valueEncoder = state.getEncoder().getTypeEncoder(entry);
-            if (valueEncoder == null) {
-                throw new EncodeException("Cannot find encoder for type " + entry);
+        for (Object object : value.entrySet()) {
+            final Map.Entry entry = (Map.Entry) object;
+
+            entriesSize += lookupEncoder(state, entry.getKey()).getEncodedSize(state, entry.getKey());
+            entriesSize += lookupEncoder(state, entry.getValue()).getEncodedSize(state, entry.getValue());
+        }
+
+        return entriesSize;
+    }
+
+    private static int getEntriesSizeUpTo(EncoderState state, Map value, int limit) {
+        int entriesSize = 0;
+
+        for (Object object : value.entrySet()) {
+            final Map.Entry entry = (Map.Entry) object;
+
+            entriesSize += ListTypeEncoder.getEncodedSizeUpTo(
+                state, lookupEncoder(state, entry.getKey()), entry.getKey(), limit - entriesSize);
+            if (entriesSize > limit) {
+                break;
             }
 
-            valueEncoder.writeType(buffer, state, entry);
-        });
+            entriesSize += ListTypeEncoder.getEncodedSizeUpTo(
+                state, lookupEncoder(state, entry.getValue()), entry.getValue(), limit - entriesSize);
+            if (entriesSize > limit) {
+                break;
+            }
+        }
 
-        // Move back and write the size
-        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
+        return entriesSize;
+    }
+
+    static int getMapSizeUpTo(EncoderState state, Map value, int limit) {
+        final int entriesLimit = limit - Byte.BYTES - Byte.BYTES - Byte.BYTES;
+        final int entriesSize = getEntriesSizeUpTo(state, value, entriesLimit);
+
+        if (entriesSize > entriesLimit) {
+            return limit + 1;
+        } else if (value.size() * 2 <= ListTypeEncoder.MAX_COMPACT_COUNT && entriesSize <= ListTypeEncoder.MAX_COMPACT_ELEMENTS_SIZE) {
+            return Byte.BYTES + Byte.BYTES + Byte.BYTES + entriesSize;
+        } else {
+            return Byte.BYTES + Integer.BYTES + Integer.BYTES + entriesSize;
+        }
+    }
+
+    private static TypeEncoder lookupEncoder(EncoderState state, Object value) {
+        final TypeEncoder encoder = state.getEncoder().getTypeEncoder(value);
+
+        if (encoder == null) {
+            throw new EncodeException("Cannot find encoder for type " + value);
+        }
+
+        return encoder;
     }
 }
@@ -31,6 +31,11 @@ public final class NullTypeEncoder extends AbstractPrimitiveTypeEncoder<Void> {
         return Void.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Void value) {
+        return Byte.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Void value) {
         buffer.writeByte(EncodingCodes.NULL);
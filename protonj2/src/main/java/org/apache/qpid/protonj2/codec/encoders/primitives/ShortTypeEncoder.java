@@ -31,6 +31,11 @@ public final class ShortTypeEncoder extends AbstractPrimitiveTypeEncoder<Short>
         return Short.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Short value) {
+        return Byte.BYTES + Short.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Short value) {
         buffer.writeByte(EncodingCodes.SHORT);
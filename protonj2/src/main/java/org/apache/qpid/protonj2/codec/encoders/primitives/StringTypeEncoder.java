@@ -31,28 +31,40 @@ public final class StringTypeEncoder extends AbstractPrimitiveTypeEncoder<String
         return String.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, String value) {
+        final int encodedLength = state.getUTF8EncodedLength(value);
+
+        if (encodedLength <= 255) {
+            return Byte.BYTES + Byte.BYTES + encodedLength;
+        } else {
+            return Byte.BYTES + Integer.BYTES + encodedLength;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, String value) {
-        // We are pessimistic and assume larger strings will encode
-        // at the max 4 bytes per character instead of calculating
-        if (value.length() > 64) {
+        // Strings with more characters than a STR8 can hold cannot fit into one so
+        // we skip computing the encoded length and fill in the size after writing.
+        if (value.length() > 255) {
             writeString(buffer, state, value);
         } else {
-            writeSmallString(buffer, state, value);
+            writeSizedString(buffer, state, value, state.getUTF8EncodedLength(value));
         }
     }
 
-    private static void writeSmallString(ProtonBuffer buffer, EncoderState state, String value) {
-        buffer.writeByte(EncodingCodes.STR8);
-        buffer.writeByte((byte) 0);
-
-        int startIndex = buffer.getWriteOffset();
+    private static void writeSizedString(ProtonBuffer buffer, EncoderState state, String value, int encodedLength) {
+        if (encodedLength <= 255) {
+            buffer.ensureWritable(Byte.BYTES + Byte.BYTES + encodedLength);
+            buffer.writeByte(EncodingCodes.STR8);
+            buffer.writeByte((byte) encodedLength);
+        } else {
+            buffer.ensureWritable(Byte.BYTES + Integer.BYTES + encodedLength);
+            buffer.writeByte(EncodingCodes.STR32);
+            buffer.writeInt(encodedLength);
+        }
 
-        // Write the full string value
         state.encodeUTF8(buffer, value);
-
-        // Move back and write the size into the size slot
-        buffer.setByte(startIndex - Byte.BYTES, (byte) (buffer.getWriteOffset() - startIndex));
     }
 
     private static void writeString(ProtonBuffer buffer, EncoderState state, String value) {
@@ -32,6 +32,17 @@ public final class SymbolTypeEncoder extends AbstractPrimitiveTypeEncoder<Symbol
         return Symbol.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Symbol value) {
+        final int symbolBytes = value.getLength();
+
+        if (symbolBytes <= 255) {
+            return Byte.BYTES + Byte.BYTES + symbolBytes;
+        } else {
+            return Byte.BYTES + Integer.BYTES + symbolBytes;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Symbol value) {
         int symbolBytes = value.getLength();
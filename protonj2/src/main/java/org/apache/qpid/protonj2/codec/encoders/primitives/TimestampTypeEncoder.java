@@ -33,6 +33,11 @@ public final class TimestampTypeEncoder extends AbstractPrimitiveTypeEncoder<Dat
         return Date.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Date value) {
+        return Byte.BYTES + Long.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Date value) {
         buffer.writeByte(EncodingCodes.TIMESTAMP);
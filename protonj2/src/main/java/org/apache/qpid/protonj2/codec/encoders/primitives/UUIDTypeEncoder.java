@@ -33,6 +33,11 @@ public final class UUIDTypeEncoder extends AbstractPrimitiveTypeEncoder<UUID> {
         return UUID.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UUID value) {
+        return Byte.BYTES + Long.BYTES + Long.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, UUID value) {
         buffer.writeByte(EncodingCodes.UUID);
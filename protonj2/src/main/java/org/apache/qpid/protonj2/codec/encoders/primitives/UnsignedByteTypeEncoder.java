@@ -32,6 +32,11 @@ public final class UnsignedByteTypeEncoder extends AbstractPrimitiveTypeEncoder<
         return UnsignedByte.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedByte value) {
+        return Byte.BYTES + Byte.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, UnsignedByte value) {
         buffer.writeByte(EncodingCodes.UBYTE);
@@ -32,6 +32,19 @@ public final class UnsignedIntegerTypeEncoder extends AbstractPrimitiveTypeEncod
         return UnsignedInteger.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedInteger value) {
+        final int intValue = value.intValue();
+
+        if (intValue == 0) {
+            return Byte.BYTES;
+        } else if (intValue > 0 && intValue <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Integer.BYTES;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, UnsignedInteger value) {
         int intValue = value.intValue();
@@ -32,6 +32,19 @@ public final class UnsignedLongTypeEncoder extends AbstractPrimitiveTypeEncoder<
         return UnsignedLong.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedLong value) {
+        final long longValue = value.longValue();
+
+        if (longValue == 0) {
+            return Byte.BYTES;
+        } else if (longValue > 0 && longValue <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Long.BYTES;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, UnsignedLong value) {
         writeType(buffer, state, value.longValue());
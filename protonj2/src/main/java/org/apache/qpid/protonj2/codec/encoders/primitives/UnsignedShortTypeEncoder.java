@@ -32,6 +32,11 @@ public final class UnsignedShortTypeEncoder extends AbstractPrimitiveTypeEncoder
         return UnsignedShort.class;
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedShort value) {
+        return Byte.BYTES + Short.BYTES;
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, UnsignedShort value) {
         buffer.writeByte(EncodingCodes.USHORT);
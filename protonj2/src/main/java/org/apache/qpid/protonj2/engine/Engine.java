@@ -152,6 +152,45 @@ public interface Engine extends Consumer<ProtonBuffer> {
         ingest(input);
     }
 
+    /**
+     * Suspends delivery of encoded frames to the configured output handler so that frames written
+     * by the engine can be aggregated into fewer output buffers.  Output remains corked until a
+     * matching number of calls to {@link #uncork()} have been made at which point any aggregated
+     * output is handed to the output handler.  The {@link #ingest(ProtonBuffer)} method corks the
+     * engine for the duration of the call, an external event loop can cork the engine around the
+     * tasks it runs to batch all output produced by each task.
+     * <p>
+     * Frames are only aggregated when the {@link EngineConfiguration#getOutputBatchSize()} is
+     * greater than zero, otherwise this method only tracks the cork depth and output is written
+     * as each frame is produced.  The default implementation does nothing, for engines that do
+     * not support output batching.
+     *
+     * @return this {@link Engine}
+     */
+    default Engine cork() {
+        return this;
+    }
+
+    /**
+     * Reverses a single call to {@link #cork()} and once the number of calls to uncork matches the
+     * number of calls to cork any output that was aggregated while corked is handed to the output
+     * handler.  Calls to this method when the engine is not corked are ignored.
+     *
+     * @return this {@link Engine}
+     *
+     * @throws EngineStateException if an error occurs while writing the aggregated output.
+     */
+    default Engine uncork() throws EngineStateException {
+        return this;
+    }
+
+    /**
+     * @return true if the engine is currently corked and may be holding back aggregated output.
+     */
+    default boolean isCorked() {
+        return false;
+    }
+
     /**
      * Prompt the engine to perform idle-timeout/heartbeat handling, and return an absolute
      * deadline in milliseconds that tick must again be called by/at, based on the provided
@@ -202,6 +241,8 @@ public interface Engine extends Consumer<ProtonBuffer> {
      * Allows the engine to manage idle timeout processing by providing it the single threaded executor
      * context where all transport work is done which ensures singled threaded access while removing the
      * need for the client library or server application to manage calls to the {@link Engine#tick} methods.
+     * Applications hosting many engines can share the timer behind the idle timeout checks by passing
+     * each engine a scheduler created from a common {@link org.apache.qpid.protonj2.engine.util.HashedWheelTimer}.
      *
      * @param scheduler
      *      The single threaded execution context where all engine work takes place.
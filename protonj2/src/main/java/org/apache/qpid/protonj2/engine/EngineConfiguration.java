@@ -42,6 +42,57 @@ public interface EngineConfiguration {
      */
     ProtonBufferAllocator getBufferAllocator();
 
+    /**
+     * Sets the limit in bytes on the size of the output buffers that the engine will aggregate
+     * frames into while output is corked, a value of zero (the default) disables output batching
+     * and each frame is handed to the output handler as it is encoded.  Frames at or above the
+     * batch size as well as those encoded without copying their payload are always written as
+     * they are.  The default implementation ignores the value, for engines that do not support
+     * output batching.
+     *
+     * @param outputBatchSize
+     *      The maximum number of bytes to aggregate into a single output buffer or zero to disable.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     *
+     * @see Engine#cork()
+     */
+    default EngineConfiguration setOutputBatchSize(int outputBatchSize) {
+        return this;
+    }
+
+    /**
+     * @return the maximum number of bytes aggregated into one output buffer, zero if disabled.
+     */
+    default int getOutputBatchSize() {
+        return 0;
+    }
+
+    /**
+     * Controls if the engine decodes incoming Transfer, Flow and Disposition performatives into
+     * reusable instances owned by the engine instead of allocating new ones for each frame, the
+     * default is disabled.  When enabled a performative read from the engine pipeline is only
+     * valid for the duration of the read event that delivers it and handlers that need to retain
+     * it must make a copy, the delivery tag and delivery state values it carries remain safe to
+     * retain.  The setting takes effect when the AMQP header is read from the remote.  The default
+     * implementation ignores the value, for engines that do not recycle performatives.
+     *
+     * @param performativeRecycling
+     *      true to decode the frequently received performatives into reused instances.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    default EngineConfiguration setPerformativeRecycling(boolean performativeRecycling) {
+        return this;
+    }
+
+    /**
+     * @return true if incoming Transfer, Flow and Disposition performatives are decoded into reused instances.
+     */
+    default boolean isPerformativeRecycling() {
+        return false;
+    }
+
     /**
      * Enables AMQP frame tracing from engine to the system output.  Depending
      * on the underlying engine composition frame tracing may not be possible
@@ -62,6 +62,10 @@ public interface IncomingDelivery {
     /**
      * Returns the current read buffer without copying it effectively consuming all currently available
      * bytes from this delivery.  If no data is available then this method returns <code>null</code>.
+     * <p>
+     * Ownership of the returned buffer passes to the caller which should close it once done with the
+     * bytes, the buffer may be a view that retains memory from the IO layer that read the incoming
+     * {@link Transfer} frames and that memory is not released back to its allocator until closed.
      *
      * @return the currently available read bytes for this delivery.
      */
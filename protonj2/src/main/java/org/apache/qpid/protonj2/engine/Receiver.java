@@ -19,7 +19,9 @@ package org.apache.qpid.protonj2.engine;
 import java.util.Collection;
 import java.util.function.Predicate;
 
+import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
+import org.apache.qpid.protonj2.types.transport.Disposition;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
@@ -79,6 +81,64 @@ public interface Receiver extends Link<Receiver> {
      */
     DeliveryState getDefaultDeliveryState();
 
+    /**
+     * Configures the maximum number of deliveries whose locally applied dispositions can be coalesced
+     * into a single ranged {@link Disposition} frame.  When enabled, dispositions applied to deliveries
+     * with contiguous delivery Ids that share the same outcome and settled state are accumulated and
+     * written as one frame once the limit is reached, when the current batch of engine output ends
+     * (see {@link Engine#cork()}), when a disposition that cannot be merged is applied or before the
+     * link, session or connection is closed.  A value of zero or one (the default) disables coalescing
+     * and a {@link Disposition} is written for each delivery as its disposition is applied.
+     * <p>
+     * Outcomes are only merged when the same {@link DeliveryState} instance is applied to each of the
+     * deliveries, the singleton outcomes such as {@link Accepted#getInstance()} always qualify.  The
+     * default implementation ignores the value, for receivers that do not support coalescing.
+     *
+     * @param limit
+     *      The maximum number of deliveries to cover with one coalesced {@link Disposition}.
+     *
+     * @return this {@link Receiver} for chaining.
+     *
+     * @throws IllegalArgumentException if the limit is negative.
+     */
+    default Receiver setDispositionCoalescingLimit(int limit) {
+        return this;
+    }
+
+    /**
+     * @return the maximum number of deliveries covered by one coalesced {@link Disposition}.
+     */
+    default int getDispositionCoalescingLimit() {
+        return 0;
+    }
+
+    /**
+     * Configures a time in milliseconds that coalesced dispositions applied outside of a batch of
+     * engine output may be held for in order to merge them with dispositions applied later.  Held
+     * dispositions are written when the delay expires, when the coalescing limit is reached or when
+     * a batch of engine output ends, whichever happens first.  Holding dispositions requires a
+     * {@link Scheduler} to write them once the delay expires and so this setting only applies when
+     * the engine was given one through {@link Engine#tickAuto(Scheduler)}.  The default implementation
+     * ignores the value, for receivers that do not support coalescing.
+     *
+     * @param delay
+     *      The time in milliseconds that coalesced dispositions can be held or zero to disable.
+     *
+     * @return this {@link Receiver} for chaining.
+     *
+     * @throws IllegalArgumentException if the delay is negative.
+     */
+    default Receiver setDispositionCoalescingDelay(long delay) {
+        return this;
+    }
+
+    /**
+     * @return the time in milliseconds that coalesced dispositions can be held before being written.
+     */
+    default long getDispositionCoalescingDelay() {
+        return 0;
+    }
+
     /**
      * For each unsettled outgoing delivery that is pending in the {@link Receiver} apply the given predicate
      * and if it matches then apply the given delivery state and settled value to it.
@@ -650,6 +650,8 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
                     }
 
                     if (isLocallyClosed() && !localCloseSent && !engine.isShutdown()) {
+                        allSessions().forEach(session -> session.getIncomingWindow().flushPendingDisposition());
+
                         Close localClose = new Close().setError(getCondition());
                         engine.fireWrite(localClose, 0);
                         localCloseSent = true;
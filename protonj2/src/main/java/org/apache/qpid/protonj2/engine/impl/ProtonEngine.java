@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
@@ -24,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.ConnectionState;
 import org.apache.qpid.protonj2.engine.Engine;
@@ -55,6 +57,8 @@ public class ProtonEngine implements Engine {
 
     private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(ProtonEngine.class);
 
+    private static final int MIN_OUTPUT_BATCH_CAPACITY = 256;
+
     private static final byte[] EMPTY_FRAME_BUFFER =
         new byte[] {0x00, 0x00, 0x00, 0x08, 0x02, 0x00, 0x00, 0x00};
 
@@ -80,6 +84,13 @@ public class ProtonEngine implements Engine {
     private long localIdleDeadline = 0;
     private long remoteIdleDeadline = 0;
 
+    // Output batching data
+    private int outputCorkDepth;
+    private ProtonBuffer outputBatch;
+    private boolean outputBatchAggregated;
+    private Runnable outputBatchComplete;
+    private final ArrayList<ProtonSessionIncomingWindow> uncorkFlushes = new ArrayList<>();
+
     // Engine event points
     private BiConsumer<ProtonBuffer, Runnable> outputHandler;
     private EventHandler<Engine> engineShutdownHandler;
@@ -144,6 +155,12 @@ public class ProtonEngine implements Engine {
     @Override
     public ProtonEngine shutdown() {
         if (state.ordinal() < EngineState.SHUTTING_DOWN.ordinal()) {
+            uncorkFlushes.clear();
+
+            try {
+                flushOutputBatch();
+            } catch (Exception ignored) {}
+
             state = EngineState.SHUTDOWN;
             writable = false;
 
@@ -261,6 +278,7 @@ public class ProtonEngine implements Engine {
             throw new EngineNotWritableException("Engine is currently not accepting new input");
         }
 
+        cork();
         try {
             final int startIndex = input.getReadOffset();
             pipeline.fireRead(input);
@@ -269,11 +287,38 @@ public class ProtonEngine implements Engine {
             }
         } catch (Exception error) {
             throw engineFailed(error);
+        } finally {
+            uncork();
         }
 
         return this;
     }
 
+    @Override
+    public ProtonEngine cork() {
+        outputCorkDepth++;
+        return this;
+    }
+
+    @Override
+    public ProtonEngine uncork() throws EngineStateException {
+        // Deferred writes are made while still corked so that they join the final batch
+        if (outputCorkDepth == 1 && !uncorkFlushes.isEmpty()) {
+            flushPendingOnUncork();
+        }
+
+        if (outputCorkDepth > 0 && --outputCorkDepth == 0) {
+            flushOutputBatch();
+        }
+
+        return this;
+    }
+
+    @Override
+    public boolean isCorked() {
+        return outputCorkDepth > 0;
+    }
+
     @Override
     public EngineStateException engineFailed(Throwable cause) {
         final EngineStateException failure;
@@ -291,6 +336,14 @@ public class ProtonEngine implements Engine {
 
             failure = ProtonExceptionSupport.createFailedException(cause);
 
+            uncorkFlushes.clear();
+
+            // Output aggregated before the failure would have been written had the engine
+            // not been corked so it is handed off now before failure processing begins.
+            try {
+                flushOutputBatch();
+            } catch (Exception ignored) {}
+
             try {
                 pipeline.fireFailed((EngineFailedException) failure);
             } catch (Exception ignored) {}
@@ -428,17 +481,120 @@ public class ProtonEngine implements Engine {
 
     void dispatchWriteToEventHandler(ProtonBuffer buffer, Runnable ioComplete) {
         if (outputHandler != null) {
-            outputSequence++;
-            try {
-                outputHandler.accept(buffer, ioComplete);
-            } catch (Throwable error) {
-                throw engineFailed(error);
+            final int outputBatchSize = configuration.getOutputBatchSize();
+
+            // Composite frames carry payload views the encoder avoided copying, those along with
+            // any frame that would fill a batch on its own are written through as is.
+            if (outputCorkDepth > 0 && outputBatchSize > 0 &&
+                buffer.getReadableBytes() < outputBatchSize && !ProtonCompositeBuffer.isComposite(buffer)) {
+
+                batchOutput(buffer, ioComplete, outputBatchSize);
+            } else {
+                flushOutputBatch();
+                writeToOutputHandler(buffer, ioComplete);
             }
         } else {
             throw engineFailed(new IllegalStateException("No output handler configured"));
         }
     }
 
+    Scheduler autoTickScheduler() {
+        return idleTimeoutExecutor;
+    }
+
+    void flushOnUncork(ProtonSessionIncomingWindow window) {
+        uncorkFlushes.add(window);
+    }
+
+    //----- Output batching implementation
+
+    private void flushPendingOnUncork() {
+        try {
+            for (int i = 0; i < uncorkFlushes.size(); ++i) {
+                uncorkFlushes.get(i).handleEngineUncorked();
+            }
+        } catch (Exception error) {
+            throw engineFailed(error);
+        } finally {
+            uncorkFlushes.clear();
+        }
+    }
+
+    private void batchOutput(ProtonBuffer buffer, Runnable ioComplete, int outputBatchSize) {
+        final int frameSize = buffer.getReadableBytes();
+
+        if (outputBatch != null && outputBatch.getReadableBytes() + frameSize > outputBatchSize) {
+            flushOutputBatch();
+        }
+
+        if (outputBatch == null) {
+            // A lone frame is held as is and only copied once another frame joins the batch
+            outputBatch = buffer;
+            outputBatchAggregated = false;
+        } else {
+            if (!outputBatchAggregated) {
+                final ProtonBuffer firstFrame = outputBatch;
+                final int initialCapacity = Math.min(outputBatchSize,
+                    Math.max(MIN_OUTPUT_BATCH_CAPACITY, (firstFrame.getReadableBytes() + frameSize) * 2));
+
+                outputBatch = configuration.getBufferAllocator().outputBuffer(initialCapacity);
+                outputBatchAggregated = true;
+
+                try (firstFrame) {
+                    outputBatch.writeBytes(firstFrame);
+                }
+            }
+
+            if (outputBatch.getWritableBytes() < frameSize) {
+                final int growth = Math.min(outputBatch.capacity(), outputBatchSize - outputBatch.capacity());
+                outputBatch.ensureWritable(frameSize, Math.max(0, growth), false);
+            }
+
+            try (buffer) {
+                outputBatch.writeBytes(buffer);
+            }
+        }
+
+        if (ioComplete != null) {
+            final Runnable previous = outputBatchComplete;
+
+            if (previous == null) {
+                outputBatchComplete = ioComplete;
+            } else {
+                outputBatchComplete = () -> {
+                    previous.run();
+                    ioComplete.run();
+                };
+            }
+        }
+    }
+
+    private void flushOutputBatch() {
+        if (outputBatch != null) {
+            final ProtonBuffer output = outputBatch;
+            final Runnable ioComplete = outputBatchComplete;
+
+            outputBatch = null;
+            outputBatchComplete = null;
+            outputBatchAggregated = false;
+
+            if (outputHandler != null) {
+                writeToOutputHandler(output, ioComplete);
+            } else {
+                output.close();
+            }
+        }
+    }
+
+    private void writeToOutputHandler(ProtonBuffer buffer, Runnable ioComplete) {
+        outputSequence++;
+        try {
+            outputHandler.accept(buffer, ioComplete);
+        } catch (Throwable error) {
+            throw engineFailed(error);
+        }
+    }
+
     //----- Idle Timeout processing methods and inner classes
 
     private void performReadCheck(long currentTime) {
@@ -35,6 +35,9 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
 
     private ProtonBufferAllocator allocator = ProtonBufferAllocator.defaultAllocator();
 
+    private int outputBatchSize;
+    private boolean performativeRecycling;
+
     private long effectiveMaxInboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
     private long effectiveMaxOutboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
 
@@ -53,6 +56,32 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
         return this;
     }
 
+    @Override
+    public ProtonEngineConfiguration setOutputBatchSize(int outputBatchSize) {
+        if (outputBatchSize < 0) {
+            throw new IllegalArgumentException("Output batch size cannot be negative: " + outputBatchSize);
+        }
+
+        this.outputBatchSize = outputBatchSize;
+        return this;
+    }
+
+    @Override
+    public int getOutputBatchSize() {
+        return outputBatchSize;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setPerformativeRecycling(boolean performativeRecycling) {
+        this.performativeRecycling = performativeRecycling;
+        return this;
+    }
+
+    @Override
+    public boolean isPerformativeRecycling() {
+        return performativeRecycling;
+    }
+
     @Override
     public EngineConfiguration setTraceFrames(boolean traceFrames) {
         // If the frame logging handler wasn't added or was removed for less overhead then
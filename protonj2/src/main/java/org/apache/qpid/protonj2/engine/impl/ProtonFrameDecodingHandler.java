@@ -22,6 +22,7 @@ import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.EmptyEnvelope;
 import org.apache.qpid.protonj2.engine.EngineHandler;
@@ -66,6 +67,7 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
 
     private Decoder decoder;
     private DecoderState decoderState;
+    private ProtonDecoderState recyclingState;
     private FrameParserStage stage = new HeaderParsingStage();
     private ProtonEngine engine;
     private ProtonEngineConfiguration configuration;
@@ -221,6 +223,9 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
                 } else {
                     decoder = CodecFactory.getDecoder();
                     decoderState = decoder.newDecoderState();
+                    if (configuration.isPerformativeRecycling() && decoderState instanceof ProtonDecoderState) {
+                        recyclingState = ((ProtonDecoderState) decoderState).setPerformativeRecycling(true);
+                    }
                     // Once we've read an AMQP header we no longer care if any SASL work
                     // occurs as that would be erroneous behavior which this handler doesn't
                     // deal with.
@@ -361,15 +366,16 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
                 int startReadIndex = input.getReadOffset();
                 val = decoder.readObject(input, decoderState);
 
-                // Copy the payload portion of the incoming bytes for now as the incoming may be
-                // from a wrapped pooled buffer and for now we have no way of retaining or otherwise
-                // ensuring that the buffer remains ours.  Since we might want to store received
-                // data at a client level and decode later we could end up losing the data to reuse
-                // if it was pooled.
+                // The IO layer hands the engine read-only views of its (possibly pooled) read
+                // buffers, a read-only copy of a read-only buffer is a view that retains the
+                // underlying memory instead of copying it so the payload stays valid after the
+                // IO layer closes its read buffer.  The delivery that receives the payload owns
+                // the view and closes it once the bytes are read, aborted or handed off via a
+                // readAll call which releases the retained memory.  A writable input cannot be
+                // safely shared and so its payload bytes are copied.
                 if (input.isReadable()) {
                     int payloadSize = frameBodySize - (input.getReadOffset() - startReadIndex);
                     if (payloadSize > 0) {
-                        // Payload is now only a view of the bytes from the input that comprise it.
                         payload = input.copy(input.getReadOffset(), payloadSize, true);
                         input.advanceReadOffset(payloadSize);
                     }
@@ -384,7 +390,16 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
                 Performative performative = (Performative) val;
                 IncomingAMQPEnvelope frame = framePool.take(performative, channel, payload);
                 transitionToFrameSizeParsingStage();
-                context.fireRead(frame);
+                if (recyclingState == null) {
+                    context.fireRead(frame);
+                } else {
+                    // A recycled performative is only valid for the read event that delivered it
+                    try {
+                        context.fireRead(frame);
+                    } finally {
+                        recyclingState.recycle(performative);
+                    }
+                }
             } else if (type == SASL_FRAME_TYPE) {
                 SaslPerformative performative = (SaslPerformative) val;
                 SASLEnvelope saslFrame = new SASLEnvelope(performative);
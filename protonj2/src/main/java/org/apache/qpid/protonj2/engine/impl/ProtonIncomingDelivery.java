@@ -206,10 +206,9 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             int bytesRead = Math.min(payload.getReadableBytes(), buffer.getWritableBytes());
             payload.copyInto(payload.getReadOffset(), buffer, buffer.getWriteOffset(), bytesRead);
             payload.advanceReadOffset(bytesRead);
+            buffer.advanceWriteOffset(bytesRead);
 
-            if (complete && !payload.isReadable()) {
-                payload = null;
-            }
+            releasePayloadIfConsumed();
 
             bytesRead = claimedBytes -= bytesRead;
             if (claimedBytes < 0) {
@@ -226,9 +225,8 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             int bytesRead = payload.getReadableBytes();
             payload.readBytes(array, offset, length);
             bytesRead -= payload.getReadableBytes();
-            if (complete && !payload.isReadable()) {
-                payload = null;
-            }
+
+            releasePayloadIfConsumed();
 
             bytesRead = claimedBytes -= bytesRead;
             if (bytesRead < 0) {
@@ -346,6 +344,21 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
         return this;
     }
 
+    /*
+     * The payload can be a view that retains memory from the IO layer (e.g. a pooled socket
+     * read buffer) so once every byte has been read it is closed to release that memory now
+     * rather than waiting on further transfers or for the delivery to be collected.
+     */
+    private void releasePayloadIfConsumed() {
+        if (!payload.isReadable()) {
+            try {
+                payload.close();
+            } finally {
+                payload = null;
+            }
+        }
+    }
+
     ProtonIncomingDelivery appendTransferPayload(ProtonBuffer buffer) {
         transferCount++;
 
@@ -772,6 +772,10 @@ public abstract class ProtonLink<L extends Link<L>> extends ProtonEndpoint<L> im
             if ((session.isLocallyOpen() && session.wasLocalBeginSent()) &&
                 (connection.isLocallyOpen() && connection.wasLocalOpenSent()) && !engine.isShutdown()) {
 
+                if (isReceiver()) {
+                    session.getIncomingWindow().flushPendingDisposition();
+                }
+
                 Detach detach = new Detach();
                 detach.setHandle(localAttach.getHandle());
                 detach.setClosed(closed);
@@ -57,6 +57,8 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         new UnsettledMap<ProtonIncomingDelivery>(ProtonIncomingDelivery::getDeliveryIdInt);
 
     private DeliveryState defaultDeliveryState;
+    private int dispositionCoalescingLimit;
+    private long dispositionCoalescingDelay;
     private LinkCreditState drainStateSnapshot;
 
     /**
@@ -84,6 +86,36 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         return defaultDeliveryState;
     }
 
+    @Override
+    public ProtonReceiver setDispositionCoalescingLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Disposition coalescing limit cannot be negative");
+        }
+
+        this.dispositionCoalescingLimit = limit;
+        return this;
+    }
+
+    @Override
+    public int getDispositionCoalescingLimit() {
+        return dispositionCoalescingLimit;
+    }
+
+    @Override
+    public ProtonReceiver setDispositionCoalescingDelay(long delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Disposition coalescing delay cannot be negative");
+        }
+
+        this.dispositionCoalescingDelay = delay;
+        return this;
+    }
+
+    @Override
+    public long getDispositionCoalescingDelay() {
+        return dispositionCoalescingDelay;
+    }
+
     @Override
     public Role getRole() {
         return Role.RECEIVER;
@@ -180,18 +212,24 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
 
         List<UnsignedInteger> toRemove = settle ? new ArrayList<>() : Collections.EMPTY_LIST;
 
-        unsettled.forEach((deliveryId, delivery) -> {
-            if (filter.test(delivery)) {
-                if (disposition != null) {
-                    delivery.localState(disposition);
-                }
-                if (settle) {
-                    delivery.locallySettled();
-                    toRemove.add(deliveryId);
+        // Corked so that the dispositions written here can be coalesced when enabled
+        engine.cork();
+        try {
+            unsettled.forEach((deliveryId, delivery) -> {
+                if (filter.test(delivery)) {
+                    if (disposition != null) {
+                        delivery.localState(disposition);
+                    }
+                    if (settle) {
+                        delivery.locallySettled();
+                        toRemove.add(deliveryId);
+                    }
+                    sessionWindow.processDisposition(this, delivery);
                 }
-                sessionWindow.processDisposition(this, delivery);
-            }
-        });
+            });
+        } finally {
+            engine.uncork();
+        }
 
         if (!toRemove.isEmpty()) {
             toRemove.forEach(deliveryId -> unsettled.remove(deliveryId));
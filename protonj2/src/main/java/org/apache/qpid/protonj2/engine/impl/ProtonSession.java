@@ -476,6 +476,8 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
             fireEngineShutdown();
         } catch (Throwable ignore) {}
 
+        incomingWindow.handleEngineShutdown();
+
         allLinks().forEach(link -> link.handleEngineShutdown(protonEngine));
     }
 
@@ -749,6 +751,7 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     }
 
     private void fireSessionEnd() {
+        incomingWindow.flushPendingDisposition();
         connection.getEngine().fireWrite(new End().setError(getCondition()), localChannel);
         localEndSent = true;
         connection.freeLocalChannel(localChannel);
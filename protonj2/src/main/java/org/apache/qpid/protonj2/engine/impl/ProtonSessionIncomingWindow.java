@@ -16,7 +16,11 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.engine.Scheduler;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.SequenceNumber;
 import org.apache.qpid.protonj2.engine.util.UnsettledMap;
@@ -220,6 +224,14 @@ public class ProtonSessionIncomingWindow {
 
     private final Disposition cachedDisposition = new Disposition();
 
+    // Ranged disposition accumulated from receivers that opted into disposition coalescing
+    private final Disposition pendingDisposition = new Disposition();
+    private boolean dispositionPending;
+    private boolean flushDispositionOnUncork;
+    private int pendingDispositionCount;
+    private int pendingDispositionLastId;
+    private Future<?> pendingDispositionTimeout;
+
     void processDisposition(ProtonReceiver receiver, ProtonIncomingDelivery delivery) {
         if (!delivery.isRemotelySettled()) {
             // Would only be tracked if not already remotely settled.
@@ -227,13 +239,114 @@ public class ProtonSessionIncomingWindow {
                 unsettled.remove((int) delivery.getDeliveryId());
             }
 
-            cachedDisposition.reset();
-            cachedDisposition.setFirst(delivery.getDeliveryId());
-            cachedDisposition.setRole(Role.RECEIVER);
-            cachedDisposition.setSettled(delivery.isSettled());
-            cachedDisposition.setState(delivery.getState());
+            if (dispositionPending && !canCoalesceDisposition(delivery)) {
+                flushPendingDisposition();
+            }
+
+            final int coalescingLimit = receiver.getDispositionCoalescingLimit();
+
+            if (coalescingLimit > 1 && (engine.isCorked() || isDelayedFlushPossible(receiver))) {
+                coalesceDisposition(receiver, delivery, coalescingLimit);
+            } else {
+                flushPendingDisposition();
+
+                cachedDisposition.reset();
+                cachedDisposition.setFirst(delivery.getDeliveryId());
+                cachedDisposition.setRole(Role.RECEIVER);
+                cachedDisposition.setSettled(delivery.isSettled());
+                cachedDisposition.setState(delivery.getState());
+
+                engine.fireWrite(cachedDisposition, session.getLocalChannel());
+            }
+        }
+    }
+
+    /**
+     * Writes any ranged disposition that has been accumulated, called before frames that must
+     * follow all previously applied dispositions are written (Detach, End and Close).
+     */
+    void flushPendingDisposition() {
+        if (dispositionPending) {
+            dispositionPending = false;
+
+            if (pendingDispositionTimeout != null) {
+                pendingDispositionTimeout.cancel(false);
+                pendingDispositionTimeout = null;
+            }
+
+            if (!engine.isShutdown() && !engine.isFailed()) {
+                if (pendingDispositionCount > 1) {
+                    pendingDisposition.setLast(Integer.toUnsignedLong(pendingDispositionLastId));
+                }
+
+                engine.fireWrite(pendingDisposition, session.getLocalChannel());
+            }
+        }
+    }
+
+    void handleEngineUncorked() {
+        final boolean flushNeeded = flushDispositionOnUncork;
+
+        flushDispositionOnUncork = false;
+
+        if (flushNeeded) {
+            flushPendingDisposition();
+        }
+    }
+
+    void handleEngineShutdown() {
+        dispositionPending = false;
+
+        if (pendingDispositionTimeout != null) {
+            pendingDispositionTimeout.cancel(false);
+            pendingDispositionTimeout = null;
+        }
+    }
+
+    private boolean isDelayedFlushPossible(ProtonReceiver receiver) {
+        return receiver.getDispositionCoalescingDelay() > 0 && engine.autoTickScheduler() != null;
+    }
+
+    private boolean canCoalesceDisposition(ProtonIncomingDelivery delivery) {
+        // Only identical outcome instances are merged as the delivery state types don't define equality
+        return pendingDispositionLastId + 1 == (int) delivery.getDeliveryId() &&
+               pendingDisposition.getSettled() == delivery.isSettled() &&
+               pendingDisposition.getState() == delivery.getState();
+    }
+
+    private void coalesceDisposition(ProtonReceiver receiver, ProtonIncomingDelivery delivery, int coalescingLimit) {
+        if (dispositionPending) {
+            pendingDispositionCount++;
+        } else {
+            pendingDisposition.reset();
+            pendingDisposition.setFirst(delivery.getDeliveryId());
+            pendingDisposition.setRole(Role.RECEIVER);
+            pendingDisposition.setSettled(delivery.isSettled());
+            pendingDisposition.setState(delivery.getState());
+
+            pendingDispositionCount = 1;
+            dispositionPending = true;
+
+            if (isDelayedFlushPossible(receiver)) {
+                final Scheduler scheduler = engine.autoTickScheduler();
+
+                pendingDispositionTimeout = scheduler.schedule(() -> {
+                    pendingDispositionTimeout = null;
+                    flushPendingDisposition();
+                }, receiver.getDispositionCoalescingDelay(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        // The end of the current batch of output always writes what has been coalesced
+        if (engine.isCorked() && !flushDispositionOnUncork) {
+            flushDispositionOnUncork = true;
+            engine.flushOnUncork(this);
+        }
+
+        pendingDispositionLastId = (int) delivery.getDeliveryId();
 
-            engine.fireWrite(cachedDisposition, session.getLocalChannel());
+        if (pendingDispositionCount >= coalescingLimit) {
+            flushPendingDisposition();
         }
     }
 
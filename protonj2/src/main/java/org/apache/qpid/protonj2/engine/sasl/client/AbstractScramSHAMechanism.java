@@ -29,6 +29,8 @@ import javax.security.sasl.SaslException;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramCredentialsCache.Key;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramCredentialsCache.ScramKeys;
 
 abstract class AbstractScramSHAMechanism extends AbstractMechanism {
 
@@ -38,6 +40,7 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
     private final String clientNonce;
     private final String digestName;
     private final String hmacName;
+    private final ScramCredentialsCache credentialsCache;
 
     private String serverNonce;
     private byte[] salt;
@@ -45,6 +48,7 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
     private String clientFirstMessageBare;
 
     private byte[] serverSignature;
+    private Key cachedKeysKey;
 
     private enum State {
         INITIAL,
@@ -55,10 +59,18 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
 
     private State state = State.INITIAL;
 
-    AbstractScramSHAMechanism(final String digestName, final String hmacName, final String clientNonce) {
+    AbstractScramSHAMechanism(final String digestName, final String hmacName, final String clientNonce, final ScramCredentialsCache credentialsCache) {
         this.digestName = digestName;
         this.hmacName = hmacName;
         this.clientNonce = clientNonce;
+        this.credentialsCache = credentialsCache;
+    }
+
+    /**
+     * @return the {@link ScramCredentialsCache} used by this mechanism or null if none was configured.
+     */
+    public ScramCredentialsCache getCredentialsCache() {
+        return credentialsCache;
     }
 
     @Override
@@ -150,7 +162,30 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
             }
 
             byte[] passwordBytes = saslPrep(new String(credentials.password())).getBytes(StandardCharsets.UTF_8);
-            byte[] saltedPassword = generateSaltedPassword(passwordBytes);
+            ScramKeys keys = null;
+
+            if (credentialsCache != null) {
+                cachedKeysKey = new Key(hmacName, credentials.username(), salt, iterationCount,
+                                        credentialsCache.computePasswordVerifier(hmacName, passwordBytes, salt));
+                keys = credentialsCache.get(cachedKeysKey);
+            }
+
+            if (keys == null) {
+                byte[] saltedPassword = generateSaltedPassword(passwordBytes);
+                byte[] clientKey = computeHmac(saltedPassword, "Client Key");
+                byte[] storedKey = MessageDigest.getInstance(digestName).digest(clientKey);
+                byte[] serverKey = computeHmac(saltedPassword, "Server Key");
+
+                Arrays.fill(saltedPassword, (byte) 0);
+
+                keys = new ScramKeys(clientKey, storedKey, serverKey);
+
+                if (credentialsCache != null) {
+                    credentialsCache.put(cachedKeysKey, keys);
+                }
+            }
+
+            Arrays.fill(passwordBytes, (byte) 0);
 
             String clientFinalMessageWithoutProof =
                     "c=" + Base64.getEncoder().encodeToString(GS2_HEADER.getBytes(StandardCharsets.US_ASCII))
@@ -159,24 +194,20 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
             String authMessage = clientFirstMessageBare
                     + "," + serverFirstMessage + "," + clientFinalMessageWithoutProof;
 
-            byte[] clientKey = computeHmac(saltedPassword, "Client Key");
-            byte[] storedKey = MessageDigest.getInstance(digestName).digest(clientKey);
+            byte[] clientSignature = computeHmac(keys.storedKey, authMessage);
 
-            byte[] clientSignature = computeHmac(storedKey, authMessage);
-
-            byte[] clientProof = clientKey.clone();
+            byte[] clientProof = keys.clientKey.clone();
             for (int i = 0; i < clientProof.length; i++) {
                 clientProof[i] ^= clientSignature[i];
             }
 
-            byte[] serverKey = computeHmac(saltedPassword, "Server Key");
-            serverSignature = computeHmac(serverKey, authMessage);
+            serverSignature = computeHmac(keys.serverKey, authMessage);
 
             String finalMessageWithProof = clientFinalMessageWithoutProof
                     + ",p=" + Base64.getEncoder().encodeToString(clientProof);
 
             return finalMessageWithProof.getBytes();
-        } catch (NoSuchAlgorithmException e) {
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw new SaslException(e.getMessage(), e);
         }
     }
@@ -192,13 +223,21 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
         byte[] serverSignature = Base64.getDecoder().decode(parts[0].substring(2));
 
         if (!Arrays.equals(this.serverSignature, serverSignature)) {
+            if (cachedKeysKey != null) {
+                credentialsCache.remove(cachedKeysKey);
+            }
+
             throw new SaslException("Server signature did not match");
         }
     }
 
     private byte[] computeHmac(final byte[] key, final String string) throws SaslException {
+        return computeHmac(key, string.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private byte[] computeHmac(final byte[] key, final byte[] data) throws SaslException {
         Mac mac = createHmac(key);
-        mac.update(string.getBytes(StandardCharsets.US_ASCII));
+        mac.update(data);
         return mac.doFinal();
     }
 
@@ -39,6 +39,7 @@ public class SaslMechanismSelector {
     private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(SaslMechanismSelector.class);
 
     private final Set<Symbol> allowedMechanisms;
+    private final ScramCredentialsCache credentialsCache;
 
     /**
      * Creates a new {@link Mechanism} selector that will choose a match from all supported {@link Mechanism} types.
@@ -53,9 +54,8 @@ public class SaslMechanismSelector {
      * @param allowed
      *      A {@link Collection} of SASL mechanism names that are allowed to be used when selecting a matching mechanism.
      */
-    @SuppressWarnings("unchecked")
     public SaslMechanismSelector(Collection<String> allowed) {
-        this.allowedMechanisms = allowed != null ? StringUtils.toSymbolSet(allowed) : Collections.EMPTY_SET;
+        this(allowed != null ? StringUtils.toSymbolSet(allowed) : null, null);
     }
 
     /**
@@ -64,9 +64,23 @@ public class SaslMechanismSelector {
      * @param allowed
      *      A {@link Set} of SASL mechanism names that are allowed to be used when selecting a matching mechanism.
      */
-    @SuppressWarnings("unchecked")
     public SaslMechanismSelector(Set<Symbol> allowed) {
+        this(allowed, null);
+    }
+
+    /**
+     * Creates a new {@link Mechanism} selector configured with the given set of allowed {@link Mechanism} names
+     * whose SCRAM-SHA mechanisms share the given {@link ScramCredentialsCache}.
+     *
+     * @param allowed
+     *      A {@link Set} of SASL mechanism names that are allowed to be used when selecting a matching mechanism.
+     * @param credentialsCache
+     *      The {@link ScramCredentialsCache} used by the selected SCRAM-SHA mechanisms (can be null).
+     */
+    @SuppressWarnings("unchecked")
+    public SaslMechanismSelector(Set<Symbol> allowed, ScramCredentialsCache credentialsCache) {
         this.allowedMechanisms = allowed != null ? allowed : Collections.EMPTY_SET;
+        this.credentialsCache = credentialsCache;
     }
 
     /**
@@ -76,6 +90,13 @@ public class SaslMechanismSelector {
         return Collections.unmodifiableSet(allowedMechanisms);
     }
 
+    /**
+     * @return the {@link ScramCredentialsCache} given to created SCRAM-SHA mechanisms or null if none was configured.
+     */
+    public ScramCredentialsCache getCredentialsCache() {
+        return credentialsCache;
+    }
+
     /**
      * Given a list of SASL mechanism names select a match from the supported types using the
      * configured allowed list and the given credentials.
@@ -132,7 +153,7 @@ public class SaslMechanismSelector {
      * @return a new {@link Mechanism} instance or null the offered mechanism is unsupported.
      */
     protected Mechanism createMechanism(Symbol name, SaslCredentialsProvider credentials) {
-        return SaslMechanisms.valueOf(name).createMechanism();
+        return SaslMechanisms.valueOf(name).createMechanism(credentialsCache);
     }
 
     /**
@@ -49,6 +49,11 @@ public enum SaslMechanisms {
         public Mechanism createMechanism() {
             return new ScramSHA512Mechanism();
         }
+
+        @Override
+        public Mechanism createMechanism(ScramCredentialsCache credentialsCache) {
+            return new ScramSHA512Mechanism(credentialsCache);
+        }
     },
     SCRAM_SHA_256 {
 
@@ -61,6 +66,11 @@ public enum SaslMechanisms {
         public Mechanism createMechanism() {
             return new ScramSHA256Mechanism();
         }
+
+        @Override
+        public Mechanism createMechanism(ScramCredentialsCache credentialsCache) {
+            return new ScramSHA256Mechanism(credentialsCache);
+        }
     },
     SCRAM_SHA_1 {
 
@@ -73,6 +83,11 @@ public enum SaslMechanisms {
         public Mechanism createMechanism() {
             return new ScramSHA1Mechanism();
         }
+
+        @Override
+        public Mechanism createMechanism(ScramCredentialsCache credentialsCache) {
+            return new ScramSHA1Mechanism(credentialsCache);
+        }
     },
     CRAM_MD5 {
 
@@ -139,6 +154,20 @@ public enum SaslMechanisms {
      */
     public abstract Mechanism createMechanism();
 
+    /**
+     * Creates the object that implements the SASL Mechanism represented by this enumeration using the
+     * given {@link ScramCredentialsCache} if the mechanism is one of the SCRAM-SHA mechanisms, other
+     * mechanisms ignore the cache.
+     *
+     * @param credentialsCache
+     * 		The {@link ScramCredentialsCache} that the created mechanism should use (can be null).
+     *
+     * @return a new SASL {@link Mechanism} type that will be used for authentication.
+     */
+    public Mechanism createMechanism(ScramCredentialsCache credentialsCache) {
+        return createMechanism();
+    }
+
     /**
      * Returns the matching {@link SaslMechanisms} enumeration value for the given
      * {@link Symbol} key.
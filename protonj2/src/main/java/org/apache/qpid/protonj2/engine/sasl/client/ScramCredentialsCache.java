@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.sasl.client;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Bounded cache of the keys the SCRAM-SHA mechanisms derive from the salted password of a user so
+ * that repeated authentications with the same credentials, as happens when many connections are
+ * opened or reconnected at once, do not each pay for the iterated hashing of the password.
+ * <p>
+ * Entries are keyed by the mechanism HMAC algorithm, the user name, the salt and iteration count
+ * given by the server and a verifier derived from the password so that a changed password never
+ * matches a cached entry.  The verifier is a keyed digest of the password using a secret that is
+ * randomly generated for each cache instance, so a verifier cannot be used to test guesses of the
+ * password without that secret.  Only the client and server keys are retained, the salted password is
+ * discarded once the keys are computed.  When the configured number of entries is exceeded the
+ * least recently used entry is evicted.  A single cache instance can safely be shared between the
+ * mechanisms of many connections.
+ */
+public final class ScramCredentialsCache {
+
+    /**
+     * The default maximum number of entries that a cache will hold.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 32;
+
+    private static final int VERIFIER_SECRET_SIZE = 32;
+
+    private final int maxEntries;
+    private final Map<Key, ScramKeys> entries;
+    private final byte[] verifierSecret = new byte[VERIFIER_SECRET_SIZE];
+
+    /**
+     * Creates a new cache that holds up to {@link #DEFAULT_MAX_ENTRIES} entries.
+     */
+    public ScramCredentialsCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a new cache that holds up to the given number of entries.
+     *
+     * @param maxEntries
+     *      The maximum number of entries the cache will hold before evicting the least recently used.
+     */
+    @SuppressWarnings("serial")
+    public ScramCredentialsCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache must allow at least one entry");
+        }
+
+        this.maxEntries = maxEntries;
+        new SecureRandom().nextBytes(verifierSecret);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ScramKeys> eldest) {
+                return size() > ScramCredentialsCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return the maximum number of entries this cache will hold.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return the number of entries currently held in this cache.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Computes the password verifier for a cache {@link Key} using the given HMAC algorithm keyed
+     * with the secret of this cache instance.
+     */
+    byte[] computePasswordVerifier(String hmacName, byte[] passwordBytes, byte[] salt) throws NoSuchAlgorithmException, InvalidKeyException {
+        final Mac mac = Mac.getInstance(hmacName);
+        mac.init(new SecretKeySpec(verifierSecret, hmacName));
+        mac.update(salt);
+        mac.update(passwordBytes);
+        return mac.doFinal();
+    }
+
+    synchronized ScramKeys get(Key key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(Key key, ScramKeys keys) {
+        entries.put(key, keys);
+    }
+
+    synchronized void remove(Key key) {
+        entries.remove(key);
+    }
+
+    /**
+     * The keys derived from a salted password, the arrays are never modified once created.
+     */
+    static final class ScramKeys {
+
+        final byte[] clientKey;
+        final byte[] storedKey;
+        final byte[] serverKey;
+
+        ScramKeys(byte[] clientKey, byte[] storedKey, byte[] serverKey) {
+            this.clientKey = clientKey;
+            this.storedKey = storedKey;
+            this.serverKey = serverKey;
+        }
+    }
+
+    /**
+     * Identifies the inputs a salted password was computed from.
+     */
+    static final class Key {
+
+        private final String hmacName;
+        private final String username;
+        private final byte[] salt;
+        private final int iterationCount;
+        private final byte[] passwordVerifier;
+        private final int hashCode;
+
+        Key(String hmacName, String username, byte[] salt, int iterationCount, byte[] passwordVerifier) {
+            this.hmacName = hmacName;
+            this.username = username;
+            this.salt = salt;
+            this.iterationCount = iterationCount;
+            this.passwordVerifier = passwordVerifier;
+            this.hashCode = Objects.hash(hmacName, username, iterationCount) * 31 + Arrays.hashCode(salt);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof Key)) {
+                return false;
+            }
+
+            final Key key = (Key) other;
+
+            return iterationCount == key.iterationCount &&
+                   hmacName.equals(key.hmacName) &&
+                   username.equals(key.username) &&
+                   Arrays.equals(salt, key.salt) &&
+                   MessageDigest.isEqual(passwordVerifier, key.passwordVerifier);
+        }
+    }
+}
@@ -37,12 +37,28 @@ public class ScramSHA1Mechanism extends AbstractScramSHAMechanism {
      * Creates an instance of the {@link ScramSHA1Mechanism} with a generated client Nonce.
      */
     public ScramSHA1Mechanism() {
-        this(UUID.randomUUID().toString());
+        this(UUID.randomUUID().toString(), null);
+    }
+
+    /**
+     * Creates an instance of the {@link ScramSHA1Mechanism} with a generated client Nonce which uses the
+     * given cache to avoid recomputing the salted password of previously seen credentials.
+     *
+     * @param credentialsCache
+     *      The {@link ScramCredentialsCache} to use, or null to always compute the salted password.
+     */
+    public ScramSHA1Mechanism(ScramCredentialsCache credentialsCache) {
+        this(UUID.randomUUID().toString(), credentialsCache);
     }
 
     /** For unit testing */
     ScramSHA1Mechanism(String clientNonce) {
-        super(SHA_1, HMAC_SHA_1, clientNonce);
+        this(clientNonce, null);
+    }
+
+    /** For unit testing */
+    ScramSHA1Mechanism(String clientNonce, ScramCredentialsCache credentialsCache) {
+        super(SHA_1, HMAC_SHA_1, clientNonce, credentialsCache);
     }
 
     @Override
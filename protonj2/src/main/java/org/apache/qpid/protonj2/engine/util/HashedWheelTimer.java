@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.engine.Engine;
+import org.apache.qpid.protonj2.engine.Scheduler;
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+
+/**
+ * A hashed timing wheel that can be shared by any number of {@link Engine} instances and the
+ * code that drives them.  Scheduling and cancelling a task are constant time operations which
+ * makes the wheel suited to the large numbers of idle timeout checks and operation timeouts
+ * that many connections create, the trade off being that a task runs on the first tick of the
+ * wheel at or after its deadline and so is accurate only to the configured tick duration.
+ * <p>
+ * The wheel itself never runs the scheduled tasks, a single timer thread advances the wheel and
+ * hands each expired task to the {@link Executor} of the {@link Scheduler} it was scheduled from.
+ * The {@link Scheduler} instances returned from {@link #newScheduler(Executor)} can be given to
+ * {@link Engine#tickAuto(Scheduler)} so long as the executor they wrap provides the single
+ * threaded access to the engine that the method requires.
+ */
+public final class HashedWheelTimer {
+
+    private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(HashedWheelTimer.class);
+
+    /**
+     * The default duration of one tick of the wheel in milliseconds.
+     */
+    public static final long DEFAULT_TICK_DURATION = 10;
+
+    /**
+     * The default number of buckets in the wheel.
+     */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    // Bounds the work done in a single tick when a burst of new timeouts arrives
+    private static final int MAX_TIMEOUT_TRANSFERS_PER_TICK = 100_000;
+
+    private final WheelBucket[] wheel;
+    private final int mask;
+    private final long tickDuration;
+    private final long startTime;
+    private final Thread worker;
+
+    private final Queue<WheelTimeout<?>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout<?>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean shutdown;
+
+    // Only accessed from the worker thread
+    private long tick;
+
+    /**
+     * Creates a new timer using the default tick duration and wheel size whose timer thread
+     * is a daemon thread with the given name.
+     *
+     * @param threadName
+     *      The name to assign to the timer thread.
+     */
+    public HashedWheelTimer(String threadName) {
+        this(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        }, DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Creates a new timer with the given tick duration and wheel size.
+     *
+     * @param threadFactory
+     *      The {@link ThreadFactory} used to create the timer thread.
+     * @param tickDuration
+     *      The duration between ticks of the wheel.
+     * @param unit
+     *      The time unit of the tick duration.
+     * @param ticksPerWheel
+     *      The number of buckets in the wheel which is rounded up to a power of two.
+     */
+    public HashedWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        Objects.requireNonNull(threadFactory, "Thread factory cannot be null");
+        Objects.requireNonNull(unit, "Tick duration time unit cannot be null");
+
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than zero: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("Ticks per wheel must be in the range (0, 2^30]: " + ticksPerWheel);
+        }
+
+        final int wheelSize = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+
+        this.wheel = new WheelBucket[wheelSize];
+        for (int i = 0; i < wheelSize; ++i) {
+            wheel[i] = new WheelBucket();
+        }
+
+        this.mask = wheelSize - 1;
+        this.tickDuration = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        this.startTime = System.nanoTime();
+        this.worker = threadFactory.newThread(new Worker());
+        this.worker.start();
+    }
+
+    /**
+     * Creates a {@link Scheduler} whose delayed and periodic tasks are tracked by this timer and
+     * executed on the given {@link Executor} once due.  Tasks submitted through the scheduler's
+     * execute method are handed directly to the executor.  If the executor is itself a
+     * {@link Scheduler} or an {@link ExecutorService} its shutdown state is reflected in the
+     * returned scheduler.
+     *
+     * @param executor
+     *      The executor that runs the tasks scheduled from the returned {@link Scheduler}.
+     *
+     * @return a new {@link Scheduler} that schedules its tasks on this timer.
+     */
+    public Scheduler newScheduler(Executor executor) {
+        return new WheelScheduler(Objects.requireNonNull(executor, "Executor cannot be null"));
+    }
+
+    /**
+     * @return true if the timer has been shutdown.
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Stops the timer thread, any task that has not yet expired is cancelled and no new
+     * tasks can be scheduled.
+     */
+    public void shutdown() {
+        if (!shutdown) {
+            shutdown = true;
+            worker.interrupt();
+        }
+    }
+
+    //----- Internal timer implementation
+
+    private <V> WheelTimeout<V> schedule(WheelTimeout<V> timeout, long delay, TimeUnit unit) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Cannot schedule new tasks on a shutdown timer");
+        }
+
+        timeout.deadline = deadlineFor(unit.toNanos(Math.max(0, delay)));
+
+        if (delay <= 0) {
+            timeout.dispatch();
+        } else {
+            pendingTimeouts.add(timeout);
+        }
+
+        return timeout;
+    }
+
+    private long deadlineFor(long delayNanos) {
+        final long deadline = System.nanoTime() - startTime + delayNanos;
+
+        // Guard against an overflow from very large delays
+        return delayNanos > 0 && deadline < 0 ? Long.MAX_VALUE : deadline;
+    }
+
+    private void reschedule(WheelTimeout<?> timeout) {
+        if (shutdown) {
+            timeout.cancel(false);
+        } else {
+            pendingTimeouts.add(timeout);
+        }
+    }
+
+    private final class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            while (!shutdown) {
+                final long deadline = waitForNextTick();
+                if (deadline > 0) {
+                    processCancelledTimeouts();
+                    transferTimeoutsToBuckets();
+                    wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                    tick++;
+                }
+            }
+
+            for (WheelBucket bucket : wheel) {
+                bucket.cancelTimeouts();
+            }
+
+            WheelTimeout<?> timeout;
+            while ((timeout = pendingTimeouts.poll()) != null) {
+                timeout.cancel(false);
+            }
+
+            cancelledTimeouts.clear();
+        }
+
+        private long waitForNextTick() {
+            final long deadline = tickDuration * (tick + 1);
+
+            for (;;) {
+                final long currentTime = System.nanoTime() - startTime;
+                final long sleepTimeMs = (deadline - currentTime + 999_999) / 1_000_000;
+
+                if (sleepTimeMs <= 0) {
+                    return currentTime;
+                }
+
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException ie) {
+                    if (shutdown) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+
+        private void processCancelledTimeouts() {
+            WheelTimeout<?> timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+
+        private void transferTimeoutsToBuckets() {
+            for (int i = 0; i < MAX_TIMEOUT_TRANSFERS_PER_TICK; ++i) {
+                final WheelTimeout<?> timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                } else if (timeout.isCancelled()) {
+                    continue;
+                }
+
+                final long calculated = timeout.deadline / tickDuration;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+                // Ensure that a timeout whose deadline has already passed lands in the current bucket
+                final long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+    }
+
+    /*
+     * A bucket in the wheel holding a doubly linked list of timeouts which allows for
+     * constant time insertion and removal of cancelled timeouts.
+     */
+    private static final class WheelBucket {
+
+        private WheelTimeout<?> head;
+        private WheelTimeout<?> tail;
+
+        void add(WheelTimeout<?> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts(long deadline) {
+            WheelTimeout<?> timeout = head;
+
+            while (timeout != null) {
+                final WheelTimeout<?> next = timeout.next;
+
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.dispatch();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+
+                timeout = next;
+            }
+        }
+
+        void remove(WheelTimeout<?> timeout) {
+            final WheelTimeout<?> next = timeout.next;
+
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                if (timeout == tail) {
+                    tail = null;
+                    head = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void cancelTimeouts() {
+            while (head != null) {
+                final WheelTimeout<?> timeout = head;
+                remove(timeout);
+                timeout.cancel(false);
+            }
+        }
+    }
+
+    /*
+     * Scheduled task that is tracked in the wheel until it expires and is then run on the
+     * executor of the scheduler it was created from.  A period of zero indicates a one shot
+     * task, a positive period a fixed rate and a negative period a fixed delay.
+     */
+    private final class WheelTimeout<V> extends FutureTask<V> {
+
+        private final Executor executor;
+        private final long period;
+
+        // Updated by the scheduling thread before publication and then only by the worker
+        private long deadline;
+        private long remainingRounds;
+
+        // Wheel bucket linkage only accessed from the worker thread
+        private WheelBucket bucket;
+        private WheelTimeout<?> next;
+        private WheelTimeout<?> prev;
+
+        WheelTimeout(Executor executor, Callable<V> task) {
+            super(task);
+
+            this.executor = executor;
+            this.period = 0;
+        }
+
+        WheelTimeout(Executor executor, Runnable task, long period) {
+            super(task, null);
+
+            this.executor = executor;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                if (period > 0) {
+                    deadline += period;
+                } else {
+                    deadline = deadlineFor(-period);
+                }
+
+                reschedule(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && !shutdown) {
+                cancelledTimeouts.add(this);
+            }
+
+            return cancelled;
+        }
+
+        void dispatch() {
+            if (!isCancelled()) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException rejected) {
+                    LOG.trace("Executor rejected expired timer task, task will be cancelled: ", rejected);
+                    cancel(false);
+                }
+            }
+        }
+    }
+
+    private final class WheelScheduler implements Scheduler {
+
+        private final Executor executor;
+
+        WheelScheduler(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            if (shutdown) {
+                return true;
+            } else if (executor instanceof Scheduler) {
+                return ((Scheduler) executor).isShutdown();
+            } else if (executor instanceof ExecutorService) {
+                return ((ExecutorService) executor).isShutdown();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            executor.execute(Objects.requireNonNull(command, "Command cannot be null"));
+        }
+
+        @Override
+        public Future<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            Objects.requireNonNull(command, "Command cannot be null");
+            Objects.requireNonNull(unit, "Time unit cannot be null");
+
+            return HashedWheelTimer.this.schedule(new WheelTimeout<>(executor, command, 0), delay, unit);
+        }
+
+        @Override
+        public <V> Future<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
+            Objects.requireNonNull(task, "Task cannot be null");
+            Objects.requireNonNull(unit, "Time unit cannot be null");
+
+            return HashedWheelTimer.this.schedule(new WheelTimeout<>(executor, task), delay, unit);
+        }
+
+        @Override
+        public Future<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            Objects.requireNonNull(command, "Command cannot be null");
+            Objects.requireNonNull(unit, "Time unit cannot be null");
+
+            if (period <= 0) {
+                throw new IllegalArgumentException("Period must be greater than zero: " + period);
+            }
+
+            return HashedWheelTimer.this.schedule(new WheelTimeout<>(executor, command, unit.toNanos(period)), initialDelay, unit);
+        }
+
+        @Override
+        public Future<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            Objects.requireNonNull(command, "Command cannot be null");
+            Objects.requireNonNull(unit, "Time unit cannot be null");
+
+            if (delay <= 0) {
+                throw new IllegalArgumentException("Delay must be greater than zero: " + delay);
+            }
+
+            return HashedWheelTimer.this.schedule(new WheelTimeout<>(executor, command, -unit.toNanos(delay)), initialDelay, unit);
+        }
+    }
+}
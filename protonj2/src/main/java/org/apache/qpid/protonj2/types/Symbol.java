@@ -20,6 +20,8 @@ import static java.nio.charset.StandardCharsets.US_ASCII;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
@@ -28,20 +30,68 @@ import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
  * Class that represents an AMQP Symbol value.  The creation of a Symbol object
  * occurs during a lookup operation which cannot find an already stored version
  * of the string or byte buffer view of the Symbol's ASCII bytes.
+ * <p>
+ * Symbols of up to 64 bytes are interned in two tiers. New symbols are held in a bounded
+ * cache that evicts entries that have not recently been looked up, symbols that are looked
+ * up frequently while cached, in practice the well known constants used by the codec and the
+ * application, are promoted to a hot set of configurable size that is never evicted. Per
+ * message values such as unique symbols decoded from annotations are therefore never pinned
+ * no matter how early they are created. The sizes
+ * are read from the {@value #SYMBOL_CACHE_CAPACITY_PROPERTY} and {@value #SYMBOL_HOT_SET_CAPACITY_PROPERTY}
+ * system properties. As a symbol can be evicted and later recreated, symbols must always be
+ * compared using {@link #equals(Object)}.
  */
 public final class Symbol implements Comparable<Symbol> {
 
-    private static final Map<ProtonBuffer, Symbol> bufferToSymbols = new ConcurrentHashMap<>(2048);
-    private static final Map<String, Symbol> stringToSymbols = new ConcurrentHashMap<>(2048);
+    /**
+     * System property used to configure the number of entries held in each of the bounded symbol caches.
+     */
+    public static final String SYMBOL_CACHE_CAPACITY_PROPERTY = "org.apache.qpid.protonj2.types.symbolCacheCapacity";
+
+    /**
+     * System property used to configure the number of symbols pinned in the hot set.
+     */
+    public static final String SYMBOL_HOT_SET_CAPACITY_PROPERTY = "org.apache.qpid.protonj2.types.symbolHotSetCapacity";
+
+    /**
+     * The default number of entries held in each of the bounded symbol caches.
+     */
+    public static final int DEFAULT_SYMBOL_CACHE_CAPACITY = 4096;
+
+    /**
+     * The default number of symbols pinned in the hot set.
+     */
+    public static final int DEFAULT_SYMBOL_HOT_SET_CAPACITY = 512;
+
+    private static final int SYMBOL_CACHE_CAPACITY =
+        Math.max(0, Integer.getInteger(SYMBOL_CACHE_CAPACITY_PROPERTY, DEFAULT_SYMBOL_CACHE_CAPACITY));
+    private static final int SYMBOL_HOT_SET_CAPACITY =
+        Math.max(0, Integer.getInteger(SYMBOL_HOT_SET_CAPACITY_PROPERTY, DEFAULT_SYMBOL_HOT_SET_CAPACITY));
+
+    private static final Map<ProtonBuffer, Symbol> hotBufferToSymbols = new ConcurrentHashMap<>(SYMBOL_HOT_SET_CAPACITY);
+    private static final Map<String, Symbol> hotStringToSymbols = new ConcurrentHashMap<>(SYMBOL_HOT_SET_CAPACITY);
+    private static final AtomicInteger hotSetSize = new AtomicInteger();
+    private static final LongAdder hotSetHits = new LongAdder();
+
+    private static final SymbolCache<ProtonBuffer> bufferToSymbols = new SymbolCache<>(SYMBOL_CACHE_CAPACITY);
+    private static final SymbolCache<String> stringToSymbols = new SymbolCache<>(SYMBOL_CACHE_CAPACITY);
 
     private static final Symbol EMPTY_SYMBOL = new Symbol();
 
     private static final int MAX_CACHED_SYMBOL_SIZE = 64;
 
+    /*
+     * Number of lookups served from the bounded caches after which a symbol is promoted to the hot set
+     */
+    static final int HOT_SET_PROMOTION_LOOKUPS = 16;
+
     private String symbolString;
     private final ProtonBuffer underlying;
     private final int hashCode;
 
+    // Approximate count of bounded cache lookups, updates lost to races only delay a promotion
+    private int lookups;
+
     private Symbol() {
         this.underlying = ProtonBufferAllocator.defaultAllocator().allocate(0).convertToReadOnly();
         this.hashCode = 31;
@@ -78,8 +128,12 @@ public final class Symbol implements Comparable<Symbol> {
             symbolString = underlying.toString(US_ASCII);
 
             if (underlying.getReadableBytes() <= MAX_CACHED_SYMBOL_SIZE) {
-                final Symbol existing;
-                if ((existing = stringToSymbols.putIfAbsent(symbolString, this)) != null) {
+                Symbol existing = hotStringToSymbols.get(symbolString);
+                if (existing == null) {
+                    existing = stringToSymbols.putIfAbsent(symbolString, this);
+                }
+
+                if (existing != null && existing.symbolString != null) {
                     symbolString = existing.symbolString;
                 }
             }
@@ -163,8 +217,16 @@ public final class Symbol implements Comparable<Symbol> {
             return EMPTY_SYMBOL;
         }
 
-        Symbol symbol = bufferToSymbols.get(symbolBuffer);
-        if (symbol == null) {
+        Symbol symbol = hotBufferToSymbols.get(symbolBuffer);
+        if (symbol != null) {
+            hotSetHits.increment();
+            return symbol;
+        }
+
+        symbol = bufferToSymbols.get(symbolBuffer);
+        if (symbol != null) {
+            promoteIfFrequent(symbol);
+        } else {
             if (copyOnCreate) {
                 // Copy to a known heap based buffer to avoid issue with life-cycle of pooled buffer types.
                 int symbolSize = symbolBuffer.getReadableBytes();
@@ -204,17 +266,78 @@ public final class Symbol implements Comparable<Symbol> {
             return EMPTY_SYMBOL;
         }
 
-        Symbol symbol = stringToSymbols.get(stringValue);
-        if (symbol == null) {
+        Symbol symbol = hotStringToSymbols.get(stringValue);
+        if (symbol != null) {
+            hotSetHits.increment();
+            return symbol;
+        }
+
+        symbol = stringToSymbols.get(stringValue);
+        if (symbol != null) {
+            promoteIfFrequent(symbol);
+        } else {
             symbol = getSymbol(ProtonBufferAllocator.defaultAllocator().copy(stringValue.getBytes(US_ASCII)));
 
             // Don't cache overly large symbols to prevent holding large
             // amount of memory in the symbol cache.
             if (symbol.underlying.getReadableBytes() <= MAX_CACHED_SYMBOL_SIZE) {
-                stringToSymbols.put(stringValue, symbol);
+                final Symbol existing = stringToSymbols.putIfAbsent(stringValue, symbol);
+                if (existing != null) {
+                    symbol = existing;
+                }
             }
         }
 
         return symbol;
     }
+
+    /**
+     * @return the number of symbol lookups that were served from the hot set or the bounded caches.
+     */
+    public static long getCacheHits() {
+        return hotSetHits.sum() + bufferToSymbols.hits() + stringToSymbols.hits();
+    }
+
+    /**
+     * @return the number of symbol lookups that missed the bounded caches.
+     */
+    public static long getCacheMisses() {
+        return bufferToSymbols.misses() + stringToSymbols.misses();
+    }
+
+    /**
+     * @return the number of symbols that have been evicted from the bounded caches.
+     */
+    public static long getCacheEvictions() {
+        return bufferToSymbols.evictions() + stringToSymbols.evictions();
+    }
+
+    /**
+     * @return the number of symbols currently pinned in the hot set.
+     */
+    public static int getHotSetSize() {
+        return hotSetSize.get();
+    }
+
+    /*
+     * Counts a lookup of a symbol served from the bounded caches and pins the symbol in the hot
+     * set once it has been looked up often enough and there is still room. A symbol that another
+     * thread pinned first is left in the bounded caches and ages out of them.
+     */
+    private static void promoteIfFrequent(Symbol symbol) {
+        if (++symbol.lookups != HOT_SET_PROMOTION_LOOKUPS || hotSetSize.get() >= SYMBOL_HOT_SET_CAPACITY) {
+            return;
+        }
+
+        if (hotSetSize.incrementAndGet() > SYMBOL_HOT_SET_CAPACITY) {
+            hotSetSize.decrementAndGet();
+            return;
+        }
+
+        if (hotBufferToSymbols.putIfAbsent(symbol.underlying, symbol) != null) {
+            hotSetSize.decrementAndGet();
+        } else {
+            hotStringToSymbols.putIfAbsent(symbol.toString(), symbol);
+        }
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.types;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded concurrent cache used to intern {@link Symbol} instances.
+ * <p>
+ * Lookups are served from a {@link ConcurrentHashMap} without locking and mark the entry
+ * as recently referenced. Inserts are spread by key hash over a set of lock protected
+ * stripes, each owning a fixed size ring of entries that is swept by a CLOCK hand once
+ * full. The hand gives referenced entries a second chance and evicts the first entry that
+ * has not been referenced since the hand last passed it, approximating LRU without any
+ * bookkeeping on the read path.
+ *
+ * @param <K> The key type used to look up cached symbols.
+ */
+final class SymbolCache<K> {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 16;
+
+    private final ConcurrentHashMap<K, Entry<K>> entries;
+    private final Stripe<K>[] stripes;
+    private final int stripeMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    SymbolCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Symbol cache capacity cannot be negative");
+        }
+
+        int stripeCount = Math.max(1, Math.min(MAX_STRIPES, Integer.highestOneBit(capacity / MIN_STRIPE_CAPACITY)));
+        if (capacity == 0) {
+            stripeCount = 1;
+        }
+
+        final int stripeCapacity = (capacity + stripeCount - 1) / stripeCount;
+
+        this.entries = new ConcurrentHashMap<>(Math.min(capacity, 2048));
+        this.stripes = new Stripe[stripeCount];
+        this.stripeMask = stripeCount - 1;
+
+        for (int i = 0; i < stripeCount; ++i) {
+            stripes[i] = new Stripe<>(stripeCapacity);
+        }
+    }
+
+    /**
+     * @param key
+     *      The key whose cached symbol should be returned.
+     *
+     * @return the cached symbol for the given key or null if not present.
+     */
+    Symbol get(K key) {
+        final Entry<K> entry = entries.get(key);
+
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.symbol;
+        } else {
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Adds the given symbol to the cache unless the key is already mapped, evicting an
+     * entry from the target stripe if it is full.
+     *
+     * @param key
+     *      The key that the symbol should be cached under.
+     * @param symbol
+     *      The symbol to cache.
+     *
+     * @return the symbol already cached under the given key or null if the given symbol was added.
+     */
+    Symbol putIfAbsent(K key, Symbol symbol) {
+        final Stripe<K> stripe = stripes[spread(key.hashCode()) & stripeMask];
+
+        if (stripe.ring.length == 0) {
+            return null;
+        }
+
+        stripe.lock.lock();
+        try {
+            final Entry<K> existing = entries.get(key);
+            if (existing != null) {
+                return existing.symbol;
+            }
+
+            final Entry<K> entry = new Entry<>(key, symbol);
+
+            if (stripe.size < stripe.ring.length) {
+                stripe.ring[stripe.size++] = entry;
+            } else {
+                while (true) {
+                    final Entry<K> candidate = stripe.ring[stripe.hand];
+
+                    if (candidate.referenced) {
+                        candidate.referenced = false;
+                        stripe.hand = (stripe.hand + 1) % stripe.ring.length;
+                    } else {
+                        entries.remove(candidate.key, candidate);
+                        stripe.ring[stripe.hand] = entry;
+                        stripe.hand = (stripe.hand + 1) % stripe.ring.length;
+                        evictions.increment();
+                        break;
+                    }
+                }
+            }
+
+            entries.put(key, entry);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        return null;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe<K> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Entry<K>[] ring;
+
+        private int size;
+        private int hand;
+
+        @SuppressWarnings("unchecked")
+        Stripe(int capacity) {
+            this.ring = new Entry[capacity];
+        }
+    }
+
+    private static final class Entry<K> {
+
+        private final K key;
+        private final Symbol symbol;
+
+        private volatile boolean referenced;
+
+        Entry(K key, Symbol symbol) {
+            this.key = key;
+            this.symbol = symbol;
+        }
+    }
+}
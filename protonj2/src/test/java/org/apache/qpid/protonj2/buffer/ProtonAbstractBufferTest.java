@@ -1896,6 +1896,19 @@ public abstract class ProtonAbstractBufferTest {
         }
     }
 
+    @Test
+    public void testEnsureWritableMustNotCompactWhenWritableBytesAreEnough() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator(); ProtonBuffer buf = allocator.allocate(16)) {
+            buf.writeLong(42);
+            buf.readInt();
+            buf.ensureWritable(8, 8, true);
+            assertEquals(16, buf.capacity());
+            assertEquals(4, buf.getReadOffset());
+            assertEquals(8, buf.getWriteOffset());
+            assertEquals(42, buf.readInt());
+        }
+    }
+
     @Test
     public void testEnsureWritableWithLargeMinimumGrowthMustGrowByAtLeastThatMuch() {
         try (ProtonBufferAllocator allocator = createTestCaseAllocator(); ProtonBuffer buf = allocator.allocate(16)) {
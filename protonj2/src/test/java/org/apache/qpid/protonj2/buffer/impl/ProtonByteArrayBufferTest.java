@@ -18,12 +18,14 @@
 package org.apache.qpid.protonj2.buffer.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -53,4 +55,43 @@ public class ProtonByteArrayBufferTest extends ProtonAbstractBufferTest {
             }
         }
     }
+
+    @Test
+    public void testReadableArrayOffsetTracksReadOffset() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(16)) {
+
+            buffer.writeLong(Long.MAX_VALUE);
+            buffer.readByte();
+            buffer.readByte();
+
+            try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+                final ProtonBufferComponent component = accessor.firstReadable();
+
+                assertTrue(component.hasReadbleArray());
+                assertEquals(2, component.getReadableArrayOffset());
+                assertEquals(6, component.getReadableArrayLength());
+                assertEquals(buffer.getByte(2), component.getReadableArray()[component.getReadableArrayOffset()]);
+            }
+        }
+    }
+
+    @Test
+    public void testIndexOfNonAscii() {
+        final byte[] array = new byte[37];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = (byte) ('a' + (i % 26));
+        }
+
+        assertEquals(array.length, ProtonBufferUtils.indexOfNonAscii(array, 0, array.length));
+        assertEquals(0, ProtonBufferUtils.indexOfNonAscii(array, 3, 0));
+
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = (byte) 0xC3;
+            assertEquals(i, ProtonBufferUtils.indexOfNonAscii(array, 0, array.length));
+            assertEquals(i >= 5 ? i - 5 : array.length - 5, ProtonBufferUtils.indexOfNonAscii(array, 5, array.length - 5));
+            assertEquals(i < 30 ? i : 30, ProtonBufferUtils.indexOfNonAscii(array, 0, 30));
+            array[i] = (byte) 'a';
+        }
+    }
 }
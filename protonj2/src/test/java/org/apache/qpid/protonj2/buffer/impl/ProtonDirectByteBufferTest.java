@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.ProtonBufferReadOnlyException;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test the direct memory backed proton buffer
+ */
+public class ProtonDirectByteBufferTest extends ProtonAbstractBufferTest {
+
+    @Override
+    public ProtonBufferAllocator createTestCaseAllocator() {
+        return new ProtonDirectByteBufferAllocator();
+    }
+
+    @Test
+    public void testBufferIsDirectAndNotArrayBacked() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(16)) {
+
+            assertTrue(buffer.isDirect());
+
+            buffer.writeLong(Long.MAX_VALUE);
+
+            try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+                for (ProtonBufferComponent component : accessor.components()) {
+                    assertFalse(component.hasReadbleArray());
+                    assertFalse(component.hasWritableArray());
+                    assertTrue(component.getReadableBuffer().isDirect());
+                    assertTrue(component.getWritableBuffer().isDirect());
+                    assertEquals(0, component.getNativeAddress());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAllocateHeapBufferIsNotDirect() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocateHeapBuffer(16)) {
+
+            assertFalse(buffer.isDirect());
+        }
+    }
+
+    @Test
+    public void testWrappedDirectByteBufferSharesMemory() {
+        final ByteBuffer memory = ByteBuffer.allocateDirect(Long.BYTES);
+        memory.putLong(0, 42);
+
+        try (ProtonBuffer buffer = ProtonDirectByteBufferAllocator.wrapped(memory)) {
+            assertEquals(Long.BYTES, buffer.getReadableBytes());
+            assertEquals(42, buffer.getLong(0));
+
+            buffer.setLong(0, 43);
+
+            assertEquals(43, memory.getLong(0));
+            assertEquals(0, memory.position());
+        }
+    }
+
+    @Test
+    public void testWrappedReadOnlyByteBufferIsReadOnly() {
+        final ByteBuffer memory = ByteBuffer.allocateDirect(Long.BYTES).asReadOnlyBuffer();
+
+        try (ProtonBuffer buffer = ProtonDirectByteBufferAllocator.wrapped(memory)) {
+            assertTrue(buffer.isReadOnly());
+            assertThrows(ProtonBufferReadOnlyException.class, () -> buffer.setLong(0, 1));
+        }
+    }
+
+    @Test
+    public void testWrapHeapByteBufferIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ProtonDirectByteBufferAllocator.wrapped(ByteBuffer.allocate(8)));
+    }
+
+    @Test
+    public void testCompositeOfDirectBuffersIsDirect() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonCompositeBuffer composite = allocator.composite(new ProtonBuffer[] {
+                 allocator.copy(new byte[] { 0, 1, 2, 3 }), allocator.copy(new byte[] { 4, 5, 6, 7 }) })) {
+
+            assertTrue(composite.isDirect());
+            assertEquals(0x0001020304050607L, composite.readLong());
+
+            composite.append(ProtonBufferAllocator.defaultAllocator().allocate(8));
+
+            assertFalse(composite.isDirect());
+        }
+    }
+
+    @Test
+    public void testTransferToAndFromFileChannel(@TempDir Path tempDir) throws Exception {
+        final byte[] payload = new byte[65535];
+        new Random(System.nanoTime()).nextBytes(payload);
+
+        final Path file = tempDir.resolve("payload.bin");
+
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer source = allocator.copy(payload);
+             ProtonBuffer target = allocator.allocate(payload.length)) {
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                while (source.isReadable()) {
+                    source.transferTo(channel, source.getReadableBytes());
+                }
+            }
+
+            assertArrayEquals(payload, Files.readAllBytes(file));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (target.getReadableBytes() < payload.length) {
+                    target.transferFrom(channel, target.getReadableBytes(), payload.length - target.getReadableBytes());
+                }
+            }
+
+            final byte[] result = new byte[payload.length];
+            target.readBytes(result, 0, result.length);
+
+            assertArrayEquals(payload, result);
+        }
+    }
+}
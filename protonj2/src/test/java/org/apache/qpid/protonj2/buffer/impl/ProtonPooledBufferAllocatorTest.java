@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the pooled byte array buffer allocator and the buffers it creates
+ */
+public class ProtonPooledBufferAllocatorTest extends ProtonAbstractBufferTest {
+
+    @Override
+    public ProtonBufferAllocator createTestCaseAllocator() {
+        return new ProtonPooledBufferAllocator();
+    }
+
+    @Test
+    public void testCreateWithInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(16, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(1024, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(1024, 1, -1));
+    }
+
+    @Test
+    public void testMaxPooledCapacityRoundedToSizeClass() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1000, 1, 0)) {
+            assertEquals(1024, allocator.getMaxPooledCapacity());
+            assertEquals(0, allocator.getLeakDetectionInterval());
+        }
+    }
+
+    @Test
+    public void testArrayIsReusedAfterBufferClosed() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator()) {
+            final ProtonByteArrayBuffer buffer1 = (ProtonByteArrayBuffer) allocator.allocate(100);
+            final byte[] array = buffer1.getReadableArray();
+
+            assertTrue(buffer1.isPooled());
+            assertEquals(100, buffer1.capacity());
+
+            buffer1.close();
+
+            try (ProtonByteArrayBuffer buffer2 = (ProtonByteArrayBuffer) allocator.allocate(120)) {
+                assertSame(array, buffer2.getReadableArray());
+                assertEquals(120, buffer2.capacity());
+            }
+        }
+    }
+
+    @Test
+    public void testArrayIsNotReusedWhileSplitViewIsOpen() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator()) {
+            final ProtonByteArrayBuffer buffer = (ProtonByteArrayBuffer) allocator.allocate(64);
+            final byte[] array = buffer.getReadableArray();
+
+            buffer.writeLong(1).writeLong(2);
+
+            final ProtonBuffer front = buffer.readSplit(8);
+
+            buffer.close();
+
+            try (ProtonByteArrayBuffer other = (ProtonByteArrayBuffer) allocator.allocate(64)) {
+                assertNotSame(array, other.getReadableArray());
+            }
+
+            assertEquals(1, front.readLong());
+
+            front.close();
+
+            try (ProtonByteArrayBuffer other = (ProtonByteArrayBuffer) allocator.allocate(64)) {
+                assertSame(array, other.getReadableArray());
+            }
+        }
+    }
+
+    @Test
+    public void testTransferredBufferKeepsArrayAlive() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator()) {
+            final ProtonByteArrayBuffer buffer = (ProtonByteArrayBuffer) allocator.allocate(64);
+            final byte[] array = buffer.getReadableArray();
+
+            buffer.writeInt(42);
+
+            final ProtonBuffer transferred = buffer.transfer();
+
+            assertTrue(buffer.isClosed());
+
+            try (ProtonByteArrayBuffer other = (ProtonByteArrayBuffer) allocator.allocate(64)) {
+                assertNotSame(array, other.getReadableArray());
+            }
+
+            assertEquals(42, transferred.readInt());
+
+            transferred.close();
+
+            try (ProtonByteArrayBuffer other = (ProtonByteArrayBuffer) allocator.allocate(64)) {
+                assertSame(array, other.getReadableArray());
+            }
+        }
+    }
+
+    @Test
+    public void testGrowthWithinSizeClassKeepsArray() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+             ProtonByteArrayBuffer buffer = (ProtonByteArrayBuffer) allocator.allocate(100)) {
+
+            final byte[] array = buffer.getReadableArray();
+
+            buffer.ensureWritable(120, 1, false);
+
+            assertSame(array, buffer.getReadableArray());
+            assertTrue(buffer.capacity() >= 120);
+        }
+    }
+
+    @Test
+    public void testGrowthBeyondSizeClassMovesToLargerPooledArray() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+             ProtonByteArrayBuffer buffer = (ProtonByteArrayBuffer) allocator.allocate(64)) {
+
+            final byte[] array = buffer.getReadableArray();
+
+            for (int i = 0; i < 64; ++i) {
+                buffer.writeLong(i);
+            }
+
+            assertNotSame(array, buffer.getReadableArray());
+            assertTrue(buffer.isPooled());
+
+            for (int i = 0; i < 64; ++i) {
+                assertEquals(i, buffer.readLong());
+            }
+
+            try (ProtonByteArrayBuffer other = (ProtonByteArrayBuffer) allocator.allocate(64)) {
+                assertSame(array, other.getReadableArray());
+            }
+        }
+    }
+
+    @Test
+    public void testTrimThreadCacheMakesArraysAvailableToOtherThreads() throws Exception {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator()) {
+            final ProtonByteArrayBuffer buffer = (ProtonByteArrayBuffer) allocator.allocate(64);
+            final byte[] array = buffer.getReadableArray();
+
+            buffer.close();
+
+            final AtomicReference<byte[]> allocated = new AtomicReference<>();
+            final Runnable allocation = () -> {
+                try (ProtonByteArrayBuffer other = (ProtonByteArrayBuffer) allocator.allocate(64)) {
+                    allocated.set(other.getReadableArray());
+                }
+            };
+
+            // Cached by this thread and so not visible to others until trimmed
+            runInOtherThread(allocation);
+            assertNotSame(array, allocated.get());
+
+            allocator.trimThreadCache();
+
+            runInOtherThread(allocation);
+            assertSame(array, allocated.get());
+        }
+    }
+
+    @Test
+    public void testCloseDiscardsThreadCaches() {
+        final ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+        final ProtonByteArrayBuffer buffer = (ProtonByteArrayBuffer) allocator.allocate(64);
+
+        buffer.close();
+        allocator.close();
+
+        assertThrows(IllegalStateException.class, () -> allocator.allocate(64));
+
+        // Trimming after close has nothing to return to the arenas
+        allocator.trimThreadCache();
+    }
+
+    @Test
+    public void testCapacityAboveMaxPooledCapacityIsNotPooled() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 4, 0);
+             ProtonByteArrayBuffer buffer = (ProtonByteArrayBuffer) allocator.allocate(2048)) {
+
+            assertFalse(buffer.isPooled());
+            assertEquals(2048, buffer.capacity());
+        }
+    }
+
+    @Test
+    public void testAllocateFromClosedAllocatorThrows() {
+        final ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+        final ProtonBuffer buffer = allocator.allocate(64);
+
+        allocator.close();
+
+        assertThrows(IllegalStateException.class, () -> allocator.allocate(64));
+
+        // Buffers outlive the allocator and can still be used and closed
+        buffer.writeInt(1);
+        buffer.close();
+    }
+
+    private static void runInOtherThread(Runnable task) throws InterruptedException {
+        final Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the pooled direct buffer allocator and the buffers it creates
+ */
+public class ProtonPooledDirectBufferAllocatorTest extends ProtonAbstractBufferTest {
+
+    @Override
+    public ProtonBufferAllocator createTestCaseAllocator() {
+        return new ProtonPooledBufferAllocator(true);
+    }
+
+    @Test
+    public void testAllocatesPooledDirectBuffers() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(true);
+             ProtonBuffer buffer = allocator.allocate(100)) {
+
+            assertTrue(allocator.isDirect());
+            assertTrue(buffer.isDirect());
+            assertTrue(((ProtonDirectByteBuffer) buffer).isPooled());
+            assertEquals(100, buffer.capacity());
+        }
+    }
+
+    @Test
+    public void testHeapBuffersAreNotPooled() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(true);
+             ProtonBuffer buffer = allocator.allocateHeapBuffer(100)) {
+
+            assertFalse(buffer.isDirect());
+            assertFalse(((ProtonByteArrayBuffer) buffer).isPooled());
+        }
+    }
+
+    @Test
+    public void testMemoryIsReusedAfterBufferClosed() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(true)) {
+            final ProtonBuffer buffer1 = allocator.allocate(64);
+
+            buffer1.writeLong(Long.MAX_VALUE);
+            buffer1.close();
+
+            // Pooled memory is not cleared so the earlier contents identify the reused block
+            try (ProtonBuffer buffer2 = allocator.allocate(64)) {
+                assertEquals(Long.MAX_VALUE, buffer2.getLong(0));
+            }
+        }
+    }
+
+    @Test
+    public void testMemoryIsNotReusedWhileSplitViewIsOpen() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(true)) {
+            final ProtonBuffer buffer = allocator.allocate(64);
+
+            buffer.writeLong(1).writeLong(2);
+
+            final ProtonBuffer front = buffer.readSplit(8);
+
+            buffer.close();
+
+            try (ProtonBuffer other = allocator.allocate(64)) {
+                other.writeLong(3);
+                assertEquals(1, front.readLong());
+            }
+
+            front.close();
+        }
+    }
+
+    @Test
+    public void testGrowthBeyondSizeClassPreservesContents() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(true);
+             ProtonBuffer buffer = allocator.allocate(64)) {
+
+            for (int i = 0; i < 64; ++i) {
+                buffer.writeLong(i);
+            }
+
+            assertTrue(((ProtonDirectByteBuffer) buffer).isPooled());
+
+            for (int i = 0; i < 64; ++i) {
+                assertEquals(i, buffer.readLong());
+            }
+        }
+    }
+
+    @Test
+    public void testCapacityAboveMaxPooledCapacityIsNotPooled() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 4, 0, true);
+             ProtonBuffer buffer = allocator.allocate(2048)) {
+
+            assertTrue(buffer.isDirect());
+            assertFalse(((ProtonDirectByteBuffer) buffer).isPooled());
+            assertEquals(2048, buffer.capacity());
+        }
+    }
+}
@@ -23,16 +23,37 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecTestSupport;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.encoders.primitives.ArrayTypeEncoder;
+import org.apache.qpid.protonj2.codec.encoders.primitives.ListTypeEncoder;
+import org.apache.qpid.protonj2.codec.encoders.primitives.MapTypeEncoder;
+import org.apache.qpid.protonj2.codec.util.NoLocalType;
+import org.apache.qpid.protonj2.codec.util.NoLocalTypeEncoder;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnknownDescribedType;
 import org.apache.qpid.protonj2.types.UnsignedByte;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.UnsignedLong;
 import org.apache.qpid.protonj2.types.UnsignedShort;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.junit.jupiter.api.Test;
 
 class ProtonEncoderTest extends CodecTestSupport {
@@ -76,6 +97,63 @@ class ProtonEncoderTest extends CodecTestSupport {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testGetEncodedSizeMatchesBytesWritten() throws IOException {
+        final Object[] values = new Object[] {
+            null, true, 1, 1024, "test", "a".repeat(300), Symbol.valueOf("symbol"), UnsignedInteger.valueOf(255),
+            UnsignedLong.valueOf(1024), new Binary(new byte[300]), Arrays.asList(1, "two", Arrays.asList(3L, 4L)),
+            Map.of("key", "value"), new int[] { 1, 2, 3 }, new Properties().setMessageId("ID:1").setTo("queue"),
+            new AmqpValue<>("body"), new Data(new byte[1024]), new ApplicationProperties(Map.of("one", 1)),
+            new Header().setDurable(true).setPriority((byte) 4).setTimeToLive(65535), new Header(),
+            new MessageAnnotations(Map.of(Symbol.valueOf("x-opt"), Arrays.asList(1, "two"))),
+            new DeliveryAnnotations(Map.of(Symbol.valueOf("x-opt"), "value")), new Footer(Map.of(Symbol.valueOf("key"), 1L))
+        };
+
+        for (Object value : values) {
+            ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+            encoder.writeObject(buffer, encoderState, value);
+
+            assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, value), "Wrong size for: " + value);
+        }
+    }
+
+    @Test
+    public void testTypeEncoderLookupDeducesCollectionsAndArrays() throws IOException {
+        assertTrue(encoder.getTypeEncoder(LinkedList.class) instanceof ListTypeEncoder);
+        assertTrue(encoder.getTypeEncoder(TreeMap.class) instanceof MapTypeEncoder);
+        assertTrue(encoder.getTypeEncoder(long[].class) instanceof ArrayTypeEncoder);
+        assertTrue(encoder.getTypeEncoder(new UnknownDescribedType(Symbol.valueOf("test"), "test")) instanceof UnknownDescribedTypeEncoder);
+        assertNull(encoder.getTypeEncoder(UnknownDescribedType.class));
+        assertNull(encoder.getTypeEncoder(Thread.class));
+
+        // Repeated lookups resolve to the same encoder
+        assertSame(encoder.getTypeEncoder(LinkedList.class), encoder.getTypeEncoder(new LinkedList<>()));
+    }
+
+    @Test
+    public void testEncoderRegisteredAfterLookupIsUsed() throws IOException {
+        assertNull(encoder.getTypeEncoder(NoLocalType.class));
+
+        final NoLocalTypeEncoder noLocalEncoder = new NoLocalTypeEncoder();
+
+        encoder.registerDescribedTypeEncoder(noLocalEncoder);
+
+        assertSame(noLocalEncoder, encoder.getTypeEncoder(NoLocalType.class));
+    }
+
+    @Test
+    public void testWriteListWithNullAndMixedEntries() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final List<Object> expected = new LinkedList<>(Arrays.asList(1, null, null, "two", 3, null));
+
+        encoder.writeObject(buffer, encoderState, expected);
+
+        assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, expected));
+        assertEquals(expected, decoder.readList(buffer, decoderState));
+    }
+
     @Test
     public void testWriteBooleanObject() throws IOException {
         ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
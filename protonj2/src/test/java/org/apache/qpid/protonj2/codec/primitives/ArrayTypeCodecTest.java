@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -1505,4 +1507,72 @@ public class ArrayTypeCodecTest extends CodecTestSupport {
             assertEquals(16, typeDecoder.readSize(buffer, decoderState));
         }
     }
+
+    @Test
+    public void testReadPrimitiveArrays() throws IOException {
+        doTestReadPrimitiveArrays(false);
+    }
+
+    @Test
+    public void testReadPrimitiveArraysFromStream() throws IOException {
+        doTestReadPrimitiveArrays(true);
+    }
+
+    private void doTestReadPrimitiveArrays(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final int[] ints = createPayloadArrayInts(100);
+        final long[] longs = new long[] { Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE };
+        final double[] doubles = new double[] { Double.MIN_VALUE, -1.5, 0.0, 1.5, Double.MAX_VALUE };
+
+        encoder.writeArray(buffer, encoderState, ints);
+        encoder.writeArray(buffer, encoderState, longs);
+        encoder.writeArray(buffer, encoderState, doubles);
+        encoder.writeInteger(buffer, encoderState, 42);
+        encoder.writeNull(buffer, encoderState);
+
+        if (fromStream) {
+            InputStream stream = new ProtonBufferInputStream(buffer);
+
+            assertArrayEquals(ints, streamDecoder.readIntArray(stream, streamDecoderState));
+            assertArrayEquals(longs, streamDecoder.readLongArray(stream, streamDecoderState));
+            assertArrayEquals(doubles, streamDecoder.readDoubleArray(stream, streamDecoderState));
+            assertArrayEquals(new int[] { 42 }, streamDecoder.readIntArray(stream, streamDecoderState));
+            assertNull(streamDecoder.readLongArray(stream, streamDecoderState));
+        } else {
+            assertArrayEquals(ints, decoder.readIntArray(buffer, decoderState));
+            assertArrayEquals(longs, decoder.readLongArray(buffer, decoderState));
+            assertArrayEquals(doubles, decoder.readDoubleArray(buffer, decoderState));
+            assertArrayEquals(new int[] { 42 }, decoder.readIntArray(buffer, decoderState));
+            assertNull(decoder.readLongArray(buffer, decoderState));
+        }
+    }
+
+    @Test
+    public void testReadPrimitiveArrayOfWrongTypeFails() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeArray(buffer, encoderState, new int[] { 1, 2, 3 });
+
+        assertThrows(ClassCastException.class, () -> decoder.readLongArray(buffer, decoderState));
+    }
+
+    @Test
+    public void testEncodedSizeOfPrimitiveArrays() throws IOException {
+        for (int count : new int[] { 0, 1, 30, 31, 62, 63, 384 }) {
+            final int[] ints = new int[count];
+            final long[] longs = new long[count];
+            final float[] floats = new float[count];
+            final double[] doubles = new double[count];
+
+            for (Object array : new Object[] { ints, longs, floats, doubles }) {
+                ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+                encoder.writeObject(buffer, encoderState, array);
+
+                assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, array),
+                             "Wrong size for " + array.getClass().getSimpleName() + " of length " + count);
+            }
+        }
+    }
 }
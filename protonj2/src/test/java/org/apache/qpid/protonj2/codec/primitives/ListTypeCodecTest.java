@@ -398,6 +398,60 @@ public class ListTypeCodecTest extends CodecTestSupport {
         assertEquals(EncodingCodes.LIST0, buffer.readByte());
     }
 
+    @Test
+    public void testEncodeSmallListIsList8() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        List<Object> list = new ArrayList<>();
+        list.add("one");
+        list.add(2);
+        list.add(Symbol.valueOf("three"));
+
+        encoder.writeList(buffer, encoderState, list);
+
+        assertEquals(encoder.getEncodedSize(encoderState, list), buffer.getReadableBytes());
+        assertEquals(EncodingCodes.LIST8, buffer.getByte(0));
+        assertEquals(list, decoder.readList(buffer, decoderState));
+    }
+
+    @Test
+    public void testEncodeNestedListsChooseEncodingAtEachLevel() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        List<Object> inner = new ArrayList<>();
+        inner.add(1);
+        inner.add("two");
+
+        List<Object> large = new ArrayList<>(Collections.nCopies(100, "data"));
+
+        List<Object> list = new ArrayList<>();
+        list.add(inner);
+        list.add(large);
+
+        encoder.writeList(buffer, encoderState, list);
+
+        assertEquals(encoder.getEncodedSize(encoderState, list), buffer.getReadableBytes());
+        assertEquals(EncodingCodes.LIST32, buffer.getByte(0));
+        assertEquals(EncodingCodes.LIST8, buffer.getByte(9));
+        assertEquals(list, decoder.readList(buffer, decoderState));
+    }
+
+    @Test
+    public void testEncodeListLargerThanList8CanHoldIsList32() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 256; ++i) {
+            list.add(i);
+        }
+
+        encoder.writeList(buffer, encoderState, list);
+
+        assertEquals(encoder.getEncodedSize(encoderState, list), buffer.getReadableBytes());
+        assertEquals(EncodingCodes.LIST32, buffer.getByte(0));
+        assertEquals(list, decoder.readList(buffer, decoderState));
+    }
+
     @Test
     public void testDecodeFailsEarlyOnInvalidLengthList8() throws Exception {
         ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(16).implicitGrowthLimit(16);
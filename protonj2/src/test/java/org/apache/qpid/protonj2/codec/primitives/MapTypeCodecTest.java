@@ -54,6 +54,21 @@ import org.mockito.Mockito;
 
 public class MapTypeCodecTest extends CodecTestSupport {
 
+    @Test
+    public void testEncodeSmallMapIsMap8() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("one", 1);
+        map.put("two", "2");
+
+        encoder.writeMap(buffer, encoderState, map);
+
+        assertEquals(encoder.getEncodedSize(encoderState, map), buffer.getReadableBytes());
+        assertEquals(EncodingCodes.MAP8, buffer.getByte(0));
+        assertEquals(map, decoder.readMap(buffer, decoderState));
+    }
+
     @Test
     public void testDecoderThrowsWhenAskedToReadWrongTypeAsThisType() throws Exception {
         testDecoderThrowsWhenAskedToReadWrongTypeAsThisType(false);
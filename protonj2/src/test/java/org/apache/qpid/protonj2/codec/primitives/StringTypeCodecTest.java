@@ -123,6 +123,31 @@ public class StringTypeCodecTest extends CodecTestSupport {
         doTestEncodeDecode(LARGE_STRING_VALUE, false);
     }
 
+    @Test
+    public void testEncodeStringOf255BytesIsStr8() throws IOException {
+        doTestEncodedStringUsesEncoding("a".repeat(255), EncodingCodes.STR8);
+    }
+
+    @Test
+    public void testEncodeStringOf256BytesIsStr32() throws IOException {
+        doTestEncodedStringUsesEncoding("a".repeat(256), EncodingCodes.STR32);
+    }
+
+    @Test
+    public void testEncodeMultiByteStringOfFewCharactersButMoreThan255BytesIsStr32() throws IOException {
+        doTestEncodedStringUsesEncoding("\u20AC".repeat(90), EncodingCodes.STR32);
+    }
+
+    private void doTestEncodedStringUsesEncoding(String value, byte encoding) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeString(buffer, encoderState, value);
+
+        assertEquals(encoder.getEncodedSize(encoderState, value), buffer.getReadableBytes());
+        assertEquals(encoding, buffer.getByte(0));
+        assertEquals(value, decoder.readString(buffer, decoderState));
+    }
+
     @Test
     public void testEncodeEmptyString() throws IOException {
         doTestEncodeDecode("", false);
@@ -316,6 +341,73 @@ public class StringTypeCodecTest extends CodecTestSupport {
         }
     }
 
+    @Test
+    public void testDecodeNonAsciiStringFollowedByOtherValues() throws IOException {
+        testDecodeNonAsciiStringFollowedByOtherValues(false);
+    }
+
+    @Test
+    public void testDecodeNonAsciiStringFollowedByOtherValuesFS() throws IOException {
+        testDecodeNonAsciiStringFollowedByOtherValues(true);
+    }
+
+    private void testDecodeNonAsciiStringFollowedByOtherValues(boolean fromStream) throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final String nonAscii = "h\u00e9llo w\u00f6rld \u4e16\u754c";
+        final String ascii = "ascii-only-string-longer-than-eight-bytes";
+
+        // Decoding starts from a non-zero offset into the backing array
+        buffer.writeByte((byte) 0);
+        encoder.writeString(buffer, encoderState, ascii);
+        encoder.writeString(buffer, encoderState, nonAscii);
+        encoder.writeString(buffer, encoderState, ascii);
+        encoder.writeInteger(buffer, encoderState, 42);
+        buffer.readByte();
+
+        if (fromStream) {
+            final InputStream stream = new ProtonBufferInputStream(buffer);
+
+            assertEquals(ascii, streamDecoder.readString(stream, streamDecoderState));
+            assertEquals(nonAscii, streamDecoder.readString(stream, streamDecoderState));
+            assertEquals(ascii, streamDecoder.readString(stream, streamDecoderState));
+            assertEquals(42, streamDecoder.readInteger(stream, streamDecoderState));
+        } else {
+            assertEquals(ascii, decoder.readString(buffer, decoderState));
+            assertEquals(nonAscii, decoder.readString(buffer, decoderState));
+            assertEquals(ascii, decoder.readString(buffer, decoderState));
+            assertEquals(42, decoder.readInteger(buffer, decoderState));
+        }
+
+        assertEquals(0, buffer.getReadableBytes());
+    }
+
+    @Test
+    public void testDecodeStringsWithNonAsciiAfterAsciiPrefix() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        final StringBuilder prefix = new StringBuilder();
+
+        for (int i = 0; i < 40; ++i) {
+            final String value = prefix + "\u00e9\u4e16" + prefix;
+
+            encoder.writeString(buffer, encoderState, value);
+
+            assertEquals(value, decoder.readString(buffer, decoderState));
+            assertEquals(0, buffer.getReadableBytes());
+
+            prefix.append((char) ('a' + (i % 26)));
+        }
+
+        // Larger than the cached decode scratch array
+        final ProtonBuffer largeBuffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        final String large = "a".repeat(4096) + "\u00e9" + "b".repeat(16);
+
+        encoder.writeString(largeBuffer, encoderState, large);
+
+        assertEquals(large, decoder.readString(largeBuffer, decoderState));
+        assertEquals(0, largeBuffer.getReadableBytes());
+    }
+
     @Test
     public void testEncodedSizeExceedsRemainingDetectedStr32() throws IOException {
         testEncodedSizeExceedsRemainingDetectedStr32(false);
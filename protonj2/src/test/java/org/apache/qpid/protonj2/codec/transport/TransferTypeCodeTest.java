@@ -19,6 +19,8 @@ package org.apache.qpid.protonj2.codec.transport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -35,6 +37,7 @@ import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.transport.TransferTypeDecoder;
 import org.apache.qpid.protonj2.codec.encoders.transport.TransferTypeEncoder;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
@@ -119,6 +122,48 @@ public class TransferTypeCodeTest extends CodecTestSupport {
         assertFalse(result.getBatchable());
     }
 
+    @Test
+    public void testDecodeIntoRecycledTransfer() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        ProtonDecoderState state = ((ProtonDecoderState) decoder.newDecoderState()).setPerformativeRecycling(true);
+
+        Transfer input = new Transfer();
+
+        input.setHandle(1);
+        input.setDeliveryId(2);
+        input.setDeliveryTag(new byte[] {0});
+        input.setSettled(true);
+
+        encoder.writeObject(buffer, encoderState, input);
+        input.reset().setHandle(3);
+        encoder.writeObject(buffer, encoderState, input);
+        encoder.writeObject(buffer, encoderState, input);
+
+        final Transfer first = (Transfer) decoder.readObject(buffer, state);
+
+        assertEquals(1, first.getHandle());
+        assertEquals(2, first.getDeliveryId());
+        assertTrue(first.getSettled());
+
+        // Still leased so the next decode must not overwrite it
+        final Transfer second = (Transfer) decoder.readObject(buffer, state);
+
+        assertNotSame(first, second);
+        assertEquals(1, first.getHandle());
+        assertEquals(3, second.getHandle());
+
+        state.recycle(second);
+        state.recycle(first);
+
+        final Transfer third = (Transfer) decoder.readObject(buffer, state);
+
+        assertSame(first, third);
+        assertEquals(3, third.getHandle());
+        assertFalse(third.hasDeliveryId());
+        assertFalse(third.hasDeliveryTag());
+        assertFalse(third.hasSettled());
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         doTestSkipValue(false);
@@ -27,11 +27,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.security.sasl.SaslException;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.Connection;
@@ -41,6 +44,7 @@ import org.apache.qpid.protonj2.engine.EngineFactory;
 import org.apache.qpid.protonj2.engine.EngineState;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
 import org.apache.qpid.protonj2.engine.SASLEnvelope;
+import org.apache.qpid.protonj2.engine.Sender;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineNotStartedException;
@@ -1378,4 +1382,158 @@ public class ProtonEngineTest extends ProtonEngineTestSupport {
 
         peer.waitForScriptToComplete();
     }
+
+    @Test
+    public void testOutputBatchingDisabledByDefault() {
+        final AtomicInteger writes = new AtomicInteger();
+
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createCountingTestPeer(engine, writes);
+
+        assertEquals(0, engine.configuration().getOutputBatchSize());
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+
+        engine.start();
+        engine.cork();
+
+        assertTrue(engine.isCorked());
+
+        Connection connection = engine.connection().open();
+        connection.session().open();
+
+        assertEquals(3, writes.get());
+
+        engine.uncork();
+
+        assertFalse(engine.isCorked());
+        assertEquals(3, writes.get());
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
+    @Test
+    public void testCorkedOutputIsBatchedUntilUncorked() {
+        final AtomicInteger writes = new AtomicInteger();
+
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setOutputBatchSize(4096);
+        ProtonTestConnector peer = createCountingTestPeer(engine, writes);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+
+        engine.start();
+        engine.cork();
+        engine.cork();
+
+        Connection connection = engine.connection().open();
+        Session session = connection.session().open();
+        Sender sender = session.sender("test").open();
+
+        engine.uncork();
+
+        assertTrue(engine.isCorked());
+        assertEquals(0, writes.get());
+
+        engine.uncork();
+
+        assertFalse(engine.isCorked());
+        assertEquals(1, writes.get());
+
+        // Not corked so not batched
+        peer.expectDetach().respond();
+
+        sender.close();
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(2, writes.get());
+        assertNull(failure);
+    }
+
+    @Test
+    public void testFramesAtOrAboveBatchSizeAreNotBatched() {
+        final AtomicInteger writes = new AtomicInteger();
+
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setOutputBatchSize(16);
+        ProtonTestConnector peer = createCountingTestPeer(engine, writes);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+
+        engine.start();
+        engine.cork();
+
+        // Header fits in the batch but the Open frame does not and forces the header out first
+        engine.connection().setContainerId("test").open();
+
+        assertEquals(2, writes.get());
+
+        engine.uncork();
+
+        assertEquals(2, writes.get());
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
+    @Test
+    public void testPerformativeRecyclingDisabledByDefault() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+
+        assertFalse(engine.configuration().isPerformativeRecycling());
+
+        engine.configuration().setPerformativeRecycling(true);
+
+        assertTrue(engine.configuration().isPerformativeRecycling());
+    }
+
+    @Test
+    public void testOutputBatchSizeCannotBeNegative() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+
+        assertThrows(IllegalArgumentException.class, () -> engine.configuration().setOutputBatchSize(-1));
+    }
+
+    @Test
+    public void testUncorkWhenNotCorkedIsIgnored() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+
+        assertFalse(engine.isCorked());
+        engine.uncork();
+        assertFalse(engine.isCorked());
+        engine.cork();
+        assertTrue(engine.isCorked());
+        engine.uncork();
+        assertFalse(engine.isCorked());
+    }
+
+    private ProtonTestConnector createCountingTestPeer(Engine engine, AtomicInteger writes) {
+        ProtonTestConnector peer = new ProtonTestConnector(buffer -> {
+            try (ProtonBuffer copy = ProtonBufferAllocator.defaultAllocator().allocate(buffer.remaining())) {
+                copy.writeBytes(buffer);
+                engine.accept(copy.convertToReadOnly());
+            }
+        });
+        engine.outputConsumer(buffer -> {
+            writes.incrementAndGet();
+            ByteBuffer byteBuffer = ByteBuffer.allocate(buffer.getReadableBytes());
+            buffer.readBytes(byteBuffer);
+            peer.accept(byteBuffer.flip());
+        });
+
+        return peer;
+    }
 }
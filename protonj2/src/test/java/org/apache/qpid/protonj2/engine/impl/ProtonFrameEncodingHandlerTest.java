@@ -16,7 +16,9 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -196,6 +198,112 @@ class ProtonFrameEncodingHandlerTest {
         assertEquals(transfer.getMore(), decodedTransfer.getMore());
     }
 
+    @Test
+    void testEncodeTransferWithLargeReadOnlyPayloadComposesPayloadWithoutCopy() {
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+        handler.engineStarting(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setDeliveryTag(new byte[] {0});
+
+        final byte[] payload = new byte[4096];
+
+        random.nextBytes(payload);
+
+        final ProtonBuffer payloadBuffer = ProtonBufferAllocator.defaultAllocator().copy(payload).convertToReadOnly();
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, payloadBuffer);
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        ProtonBuffer output = argument.getValue();
+
+        assertNotNull(output);
+        assertTrue(output.isComposite());
+        assertTrue(output.isReadOnly());
+        assertEquals(2, output.componentCount());
+        assertFalse(payloadBuffer.isReadable());
+
+        final int bufferSize = output.getReadableBytes();
+
+        assertEquals(bufferSize, output.readInt());
+        assertEquals(FRAME_DOFF_SIZE, output.readByte());
+        assertEquals(AMQP_FRAME_TYPE, output.readByte());
+        assertEquals(32, output.readShort());
+
+        final Transfer decodedTransfer = decode(output);
+        assertEquals(transfer.getHandle(), decodedTransfer.getHandle());
+        assertEquals(transfer.getDeliveryId(), decodedTransfer.getDeliveryId());
+        assertEquals(transfer.getDeliveryTag(), decodedTransfer.getDeliveryTag());
+        assertEquals(transfer.getMore(), decodedTransfer.getMore());
+
+        final byte[] written = new byte[output.getReadableBytes()];
+        output.readBytes(written, 0, written.length);
+
+        assertArrayEquals(payload, written);
+    }
+
+    @Test
+    void testEncodeTransferWithReadOnlyPayloadLargerThanFrameSplitsPayloadAcrossFrames() {
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+        handler.engineStarting(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setDeliveryTag(new byte[] {0});
+
+        final byte[] payload = new byte[(int) (configuration.getOutboundMaxFrameSize() * 2)];
+        final AtomicBoolean toLargeHandlerCalled = new AtomicBoolean();
+
+        random.nextBytes(payload);
+
+        final ProtonBuffer payloadBuffer = ProtonBufferAllocator.defaultAllocator().copy(payload).convertToReadOnly();
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, payloadBuffer);
+        frame.setPayloadToLargeHandler((performative) -> {
+            transfer.setMore(true);
+            toLargeHandlerCalled.set(true);
+        });
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        ProtonBuffer output = argument.getValue();
+
+        assertTrue(toLargeHandlerCalled.get());
+        assertNotNull(output);
+        assertTrue(output.isComposite());
+        assertEquals(configuration.getOutboundMaxFrameSize(), output.getReadableBytes());
+
+        final int bufferSize = output.getReadableBytes();
+
+        assertEquals(bufferSize, output.readInt());
+        assertEquals(FRAME_DOFF_SIZE, output.readByte());
+        assertEquals(AMQP_FRAME_TYPE, output.readByte());
+        assertEquals(32, output.readShort());
+
+        final Transfer decodedTransfer = decode(output);
+        assertTrue(decodedTransfer.getMore());
+
+        final int payloadWritten = output.getReadableBytes();
+
+        assertEquals(payload.length - payloadWritten, payloadBuffer.getReadableBytes());
+
+        for (int i = 0; i < payloadWritten; ++i) {
+            assertEquals(payload[i], output.readByte());
+        }
+    }
+
     @Test
     void testOutgoingFrameIsReleasedAfterWriteFinishes() {
         ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -267,6 +268,72 @@ public class ProtonIncomingDeliveryTest extends ProtonEngineTestSupport {
         Mockito.verifyNoMoreInteractions(receiver);
     }
 
+    @Test
+    public void testPayloadClosedOnceFullyReadIntoArray() throws Exception {
+        final ProtonReceiver receiver = createMockReceiver();
+        final ProtonIncomingDelivery delivery = new ProtonIncomingDelivery(
+            receiver, 1, new DeliveryTag.ProtonDeliveryTag(new byte[] {0}));
+
+        final ProtonBuffer payload = createProtonBuffer(1024);
+
+        delivery.appendTransferPayload(payload);
+
+        byte[] target = new byte[512];
+
+        delivery.readBytes(target, 0, target.length);
+        assertFalse(payload.isClosed());
+        assertEquals(512, delivery.available());
+
+        delivery.readBytes(target, 0, target.length);
+        assertTrue(payload.isClosed());
+        assertEquals(0, delivery.available());
+        assertNull(delivery.readAll());
+    }
+
+    @Test
+    public void testPayloadClosedOnceFullyReadIntoBuffer() throws Exception {
+        final ProtonReceiver receiver = createMockReceiver();
+        final ProtonIncomingDelivery delivery = new ProtonIncomingDelivery(
+            receiver, 1, new DeliveryTag.ProtonDeliveryTag(new byte[] {0}));
+
+        final ProtonBuffer payload = createProtonBuffer(1024);
+
+        delivery.appendTransferPayload(payload);
+
+        final ProtonBuffer target = ProtonBufferAllocator.defaultAllocator().allocate(1024);
+
+        delivery.readBytes(target);
+
+        assertTrue(payload.isClosed());
+        assertEquals(0, delivery.available());
+        assertEquals(1024, target.getReadableBytes());
+        assertEquals(65, target.getByte(1023));
+    }
+
+    @Test
+    public void testPayloadViewOfReadOnlyBufferOutlivesTheSourceBuffer() throws Exception {
+        final byte[] data = "test-data".getBytes(StandardCharsets.UTF_8);
+
+        final ProtonReceiver receiver = createMockReceiver();
+        final ProtonIncomingDelivery delivery = new ProtonIncomingDelivery(
+            receiver, 1, new DeliveryTag.ProtonDeliveryTag(new byte[] {0}));
+
+        // Simulates the IO layer read buffer which is closed once the engine has processed it
+        final ProtonBuffer source = ProtonBufferAllocator.defaultAllocator().copy(data).convertToReadOnly();
+        final ProtonBuffer view = source.copy(source.getReadOffset(), source.getReadableBytes(), true);
+
+        source.close();
+
+        delivery.appendTransferPayload(view);
+
+        byte[] target = new byte[data.length];
+
+        delivery.readBytes(target, 0, target.length);
+
+        assertTrue(view.isClosed());
+        assertArrayEquals(data, target);
+    }
+
     private ProtonBuffer createProtonBuffer(int available) {
         byte[] array = new byte[available];
         Arrays.fill(array, (byte) 65);
@@ -53,6 +53,7 @@ import org.apache.qpid.protonj2.engine.EngineFactory;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.engine.LinkState;
 import org.apache.qpid.protonj2.engine.Receiver;
+import org.apache.qpid.protonj2.engine.Scheduler;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineShutdownException;
@@ -80,6 +81,7 @@ import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
 
 /**
  * Test the {@link ProtonReceiver}
@@ -1953,9 +1955,19 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
         doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(Integer.MAX_VALUE);
     }
 
+    @Test
+    public void testReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfersWithPerformativeRecycling() throws Exception {
+        doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(0, true);
+    }
+
     private void doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(int firstDeliveryId) throws Exception {
+        doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(firstDeliveryId, false);
+    }
+
+    private void doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(int firstDeliveryId, boolean recycling) throws Exception {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
         engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setPerformativeRecycling(recycling);
         ProtonTestConnector peer = createTestPeer(engine);
 
         peer.expectAMQPHeader().respondWithAMQPHeader();
@@ -4654,4 +4666,191 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
         peer.waitForScriptToComplete();
         assertNull(failure);
     }
+
+    @Test
+    public void testBulkDispositionNotCoalescedByDefault() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final Receiver receiver = openReceiverWithTransfers(engine, peer, 3, 0);
+
+        assertEquals(0, receiver.getDispositionCoalescingLimit());
+
+        peer.expectDisposition().withFirst(0).withLast(nullValue()).withSettled(true).withState().accepted();
+        peer.expectDisposition().withFirst(1).withLast(nullValue()).withSettled(true).withState().accepted();
+        peer.expectDisposition().withFirst(2).withLast(nullValue()).withSettled(true).withState().accepted();
+        peer.expectDetach().respond();
+
+        receiver.disposition((delivery) -> true, Accepted.getInstance(), true);
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testBulkDispositionCoalescedIntoRangedDisposition() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final Receiver receiver = openReceiverWithTransfers(engine, peer, 3, 10);
+
+        peer.expectDisposition().withFirst(0).withLast(2).withSettled(true).withState().accepted();
+        peer.expectDetach().respond();
+
+        receiver.disposition((delivery) -> true, Accepted.getInstance(), true);
+
+        assertFalse(receiver.hasUnsettled());
+
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testCoalescedDispositionsWrittenWhenLimitReached() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final Receiver receiver = openReceiverWithTransfers(engine, peer, 5, 2);
+
+        peer.expectDisposition().withFirst(0).withLast(1).withSettled(true).withState().accepted();
+        peer.expectDisposition().withFirst(2).withLast(3).withSettled(true).withState().accepted();
+        peer.expectDisposition().withFirst(4).withLast(nullValue()).withSettled(true).withState().accepted();
+        peer.expectDetach().respond();
+
+        receiver.disposition((delivery) -> true, Accepted.getInstance(), true);
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testCoalescedDispositionsSplitOnDifferingOutcomes() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final Receiver receiver = openReceiverWithTransfers(engine, peer, 4, 10);
+        final ArrayList<IncomingDelivery> deliveries = new ArrayList<>(receiver.unsettled());
+
+        peer.expectDisposition().withFirst(0).withLast(1).withSettled(true).withState().accepted();
+        peer.expectDisposition().withFirst(2).withLast(nullValue()).withSettled(true).withState().released();
+        peer.expectDisposition().withFirst(3).withLast(nullValue()).withSettled(false).withState().accepted();
+        peer.expectDetach().respond();
+
+        engine.cork();
+        deliveries.get(0).disposition(Accepted.getInstance(), true);
+        deliveries.get(1).disposition(Accepted.getInstance(), true);
+        deliveries.get(2).disposition(Released.getInstance(), true);
+        deliveries.get(3).disposition(Accepted.getInstance(), false);
+        engine.uncork();
+
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testPendingCoalescedDispositionWrittenBeforeDetach() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final Receiver receiver = openReceiverWithTransfers(engine, peer, 2, 10);
+
+        peer.expectDisposition().withFirst(0).withLast(1).withSettled(true).withState().accepted();
+        peer.expectDetach().respond();
+
+        engine.cork();
+        receiver.unsettled().forEach((delivery) -> delivery.disposition(Accepted.getInstance(), true));
+        receiver.close();
+        engine.uncork();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testDelayedCoalescedDispositionWrittenWhenBatchEnds() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final Receiver receiver = openReceiverWithTransfers(engine, peer, 3, 10);
+        final Scheduler scheduler = Mockito.mock(Scheduler.class);
+
+        engine.tickAuto(scheduler);
+        receiver.setDispositionCoalescingDelay(TimeUnit.MINUTES.toMillis(1));
+
+        engine.cork();
+        receiver.disposition((delivery) -> true, Accepted.getInstance(), true);
+
+        Mockito.verify(scheduler).schedule(Mockito.any(Runnable.class), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+
+        peer.waitForScriptToComplete();
+        peer.expectDisposition().withFirst(0).withLast(2).withSettled(true).withState().accepted();
+
+        engine.uncork();
+
+        peer.waitForScriptToComplete();
+        peer.expectDetach().respond();
+
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testDispositionCoalescingConfigurationValidated() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+
+        Receiver receiver = engine.start().session().receiver("test");
+
+        assertThrows(IllegalArgumentException.class, () -> receiver.setDispositionCoalescingLimit(-1));
+        assertThrows(IllegalArgumentException.class, () -> receiver.setDispositionCoalescingDelay(-1));
+
+        receiver.setDispositionCoalescingLimit(100);
+        receiver.setDispositionCoalescingDelay(10);
+
+        assertEquals(100, receiver.getDispositionCoalescingLimit());
+        assertEquals(10, receiver.getDispositionCoalescingDelay());
+    }
+
+    private Receiver openReceiverWithTransfers(Engine engine, ProtonTestConnector peer, int count, int coalescingLimit) {
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(count);
+        for (int i = 0; i < count; ++i) {
+            peer.remoteTransfer().withDeliveryId(i)
+                                 .withDeliveryTag(new byte[] {(byte) i})
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(new byte[] { 1 }).queue();
+        }
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().open();
+        Receiver receiver = session.receiver("receiver");
+
+        receiver.setDispositionCoalescingLimit(coalescingLimit);
+        receiver.addCredit(count);
+        receiver.open();
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(count, receiver.unsettled().size());
+
+        return receiver;
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.engine.sasl.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import javax.security.sasl.SaslException;
@@ -48,6 +49,8 @@ public abstract class AbstractScramSHAMechanismTestBase extends MechanismTestBas
 
     protected abstract Mechanism getMechanismForTesting();
 
+    protected abstract Mechanism getMechanismForTesting(ScramCredentialsCache credentialsCache);
+
     protected abstract SaslCredentialsProvider getTestCredentials();
 
     @Test
@@ -66,6 +69,68 @@ public abstract class AbstractScramSHAMechanismTestBase extends MechanismTestBas
         mechanism.verifyCompletion();
     }
 
+    @Test
+    public void testSuccessfulAuthenticationWithCredentialsCache() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache();
+
+        for (int i = 0; i < 2; ++i) {
+            Mechanism mechanism = getMechanismForTesting(cache);
+
+            ProtonBuffer clientInitialResponse = mechanism.getInitialResponse(getTestCredentials());
+            assertEquals(expectedClientInitialResponse, clientInitialResponse);
+
+            ProtonBuffer clientFinalMessage = mechanism.getChallengeResponse(getTestCredentials(), serverFirstMessage);
+            assertEquals(expectedClientFinalMessage, clientFinalMessage);
+
+            ProtonBuffer expectedFinalChallengeResponse = ProtonBufferAllocator.defaultAllocator().copy("".getBytes());
+            assertEquals(expectedFinalChallengeResponse, mechanism.getChallengeResponse(getTestCredentials(), serverFinalMessage));
+
+            mechanism.verifyCompletion();
+
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    public void testCredentialsCacheNotUsedWhenPasswordDiffers() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache();
+        SaslCredentialsProvider credentials = getTestCredentials();
+        SaslCredentialsProvider otherCredentials = credentials(credentials.username(), credentials.password() + "-other");
+
+        Mechanism mechanism = getMechanismForTesting(cache);
+        mechanism.getInitialResponse(credentials);
+        assertEquals(expectedClientFinalMessage, mechanism.getChallengeResponse(credentials, serverFirstMessage));
+
+        mechanism = getMechanismForTesting(cache);
+        mechanism.getInitialResponse(otherCredentials);
+        assertNotEquals(expectedClientFinalMessage, mechanism.getChallengeResponse(otherCredentials, serverFirstMessage));
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testServerSignatureDifferRemovesCachedCredentials() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache();
+        Mechanism mechanism = getMechanismForTesting(cache);
+
+        mechanism.getInitialResponse(getTestCredentials());
+        mechanism.getChallengeResponse(getTestCredentials(), serverFirstMessage);
+
+        assertEquals(1, cache.size());
+
+        ProtonBuffer challenge = ProtonBufferAllocator.defaultAllocator().copy("v=badserverfinal".getBytes());
+        challenge.setWriteOffset(challenge.capacity());
+
+        try {
+            mechanism.getChallengeResponse(getTestCredentials(), challenge);
+            fail("Exception not thrown");
+        } catch (SaslException e) {
+            // PASS
+        }
+
+        assertEquals(0, cache.size());
+    }
+
     @Test
     public void testServerFirstMessageMalformed() throws Exception {
         Mechanism mechanism = getMechanismForTesting();
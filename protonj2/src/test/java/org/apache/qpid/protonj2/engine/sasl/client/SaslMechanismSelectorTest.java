@@ -18,6 +18,8 @@ package org.apache.qpid.protonj2.engine.sasl.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.apache.qpid.protonj2.types.Symbol;
 import org.junit.jupiter.api.Test;
@@ -68,4 +70,28 @@ public class SaslMechanismSelectorTest extends MechanismTestBase {
         assertNotNull(mech);
         assertEquals(ExternalMechanism.EXTERNAL, mech.getName());
     }
+
+    @Test
+    public void testSelectedScramMechanismUsesConfiguredCredentialsCache() {
+        ScramCredentialsCache cache = new ScramCredentialsCache();
+        SaslMechanismSelector selector = new SaslMechanismSelector(null, cache);
+
+        assertSame(cache, selector.getCredentialsCache());
+
+        Mechanism mech = selector.select(new Symbol[] { ScramSHA256Mechanism.SCRAM_SHA_256, PlainMechanism.PLAIN }, credentials(USERNAME, PASSWORD));
+
+        assertNotNull(mech);
+        assertEquals(ScramSHA256Mechanism.SCRAM_SHA_256, mech.getName());
+        assertSame(cache, ((ScramSHA256Mechanism) mech).getCredentialsCache());
+    }
+
+    @Test
+    public void testSelectedScramMechanismHasNoCredentialsCacheByDefault() {
+        SaslMechanismSelector selector = new SaslMechanismSelector();
+
+        Mechanism mech = selector.select(new Symbol[] { ScramSHA512Mechanism.SCRAM_SHA_512 }, credentials(USERNAME, PASSWORD));
+
+        assertNotNull(mech);
+        assertNull(((ScramSHA512Mechanism) mech).getCredentialsCache());
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.sasl.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.qpid.protonj2.engine.sasl.client.ScramCredentialsCache.Key;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramCredentialsCache.ScramKeys;
+import org.junit.jupiter.api.Test;
+
+public class ScramCredentialsCacheTest {
+
+    private static final byte[] SALT = new byte[] { 1, 2, 3, 4 };
+    private static final byte[] VERIFIER = new byte[] { 5, 6, 7, 8 };
+
+    @Test
+    public void testCreate() {
+        ScramCredentialsCache cache = new ScramCredentialsCache();
+
+        assertEquals(ScramCredentialsCache.DEFAULT_MAX_ENTRIES, cache.getMaxEntries());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCreateWithInvalidMaxEntries() {
+        assertThrows(IllegalArgumentException.class, () -> new ScramCredentialsCache(0));
+    }
+
+    @Test
+    public void testKeysMatchOnAllInputs() {
+        ScramCredentialsCache cache = new ScramCredentialsCache();
+        ScramKeys keys = createKeys();
+
+        cache.put(new Key("HmacSHA256", "user", SALT.clone(), 4096, VERIFIER.clone()), keys);
+
+        assertSame(keys, cache.get(new Key("HmacSHA256", "user", SALT.clone(), 4096, VERIFIER.clone())));
+
+        assertNull(cache.get(new Key("HmacSHA1", "user", SALT, 4096, VERIFIER)));
+        assertNull(cache.get(new Key("HmacSHA256", "other", SALT, 4096, VERIFIER)));
+        assertNull(cache.get(new Key("HmacSHA256", "user", new byte[] { 1, 2, 3 }, 4096, VERIFIER)));
+        assertNull(cache.get(new Key("HmacSHA256", "user", SALT, 8192, VERIFIER)));
+        assertNull(cache.get(new Key("HmacSHA256", "user", SALT, 4096, new byte[] { 5, 6, 7, 9 })));
+    }
+
+    @Test
+    public void testPasswordVerifierIsKeyedPerCache() throws Exception {
+        ScramCredentialsCache cache = new ScramCredentialsCache();
+        ScramCredentialsCache other = new ScramCredentialsCache();
+
+        byte[] password = "password".getBytes(StandardCharsets.UTF_8);
+        byte[] verifier = cache.computePasswordVerifier("HmacSHA256", password, SALT);
+
+        assertArrayEquals(verifier, cache.computePasswordVerifier("HmacSHA256", password, SALT));
+        assertFalse(Arrays.equals(verifier, cache.computePasswordVerifier("HmacSHA256", "other".getBytes(StandardCharsets.UTF_8), SALT)));
+        assertFalse(Arrays.equals(verifier, other.computePasswordVerifier("HmacSHA256", password, SALT)));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        ScramCredentialsCache cache = new ScramCredentialsCache(2);
+
+        Key key1 = new Key("HmacSHA256", "user1", SALT, 4096, VERIFIER);
+        Key key2 = new Key("HmacSHA256", "user2", SALT, 4096, VERIFIER);
+        Key key3 = new Key("HmacSHA256", "user3", SALT, 4096, VERIFIER);
+
+        cache.put(key1, createKeys());
+        cache.put(key2, createKeys());
+
+        assertNotNull(cache.get(key1));
+
+        cache.put(key3, createKeys());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(key1));
+        assertNull(cache.get(key2));
+        assertNotNull(cache.get(key3));
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+    }
+
+    private static ScramKeys createKeys() {
+        return new ScramKeys(new byte[] { 1 }, new byte[] { 2 }, new byte[] { 3 });
+    }
+}
@@ -64,6 +64,11 @@ public class ScramSHA1MechanismTest extends AbstractScramSHAMechanismTestBase {
         return new ScramSHA1Mechanism(CLIENT_NONCE);
     }
 
+    @Override
+    protected Mechanism getMechanismForTesting(ScramCredentialsCache credentialsCache) {
+        return new ScramSHA1Mechanism(CLIENT_NONCE, credentialsCache);
+    }
+
     @Test
     public void testGetNameMatchesValueInSaslMechanismsEnum() {
         assertEquals(SaslMechanisms.SCRAM_SHA_1.getName(), getMechanismForTesting().getName());
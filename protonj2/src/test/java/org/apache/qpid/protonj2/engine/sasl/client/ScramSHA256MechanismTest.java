@@ -64,6 +64,11 @@ public class ScramSHA256MechanismTest extends AbstractScramSHAMechanismTestBase
         return new ScramSHA256Mechanism(CLIENT_NONCE);
     }
 
+    @Override
+    protected Mechanism getMechanismForTesting(ScramCredentialsCache credentialsCache) {
+        return new ScramSHA256Mechanism(CLIENT_NONCE, credentialsCache);
+    }
+
     @Test
     public void testGetNameMatchesValueInSaslMechanismsEnum() {
         assertEquals(SaslMechanisms.SCRAM_SHA_256.getName(), getMechanismForTesting().getName());
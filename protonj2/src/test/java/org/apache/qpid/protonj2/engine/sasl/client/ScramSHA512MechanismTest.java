@@ -64,6 +64,11 @@ public class ScramSHA512MechanismTest extends AbstractScramSHAMechanismTestBase
         return new ScramSHA512Mechanism(CLIENT_NONCE);
     }
 
+    @Override
+    protected Mechanism getMechanismForTesting(ScramCredentialsCache credentialsCache) {
+        return new ScramSHA512Mechanism(CLIENT_NONCE, credentialsCache);
+    }
+
     @Test
     public void testGetNameMatchesValueInSaslMechanismsEnum() {
         assertEquals(SaslMechanisms.SCRAM_SHA_512.getName(), getMechanismForTesting().getName());
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.engine.Scheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        timer = new HashedWheelTimer(runnable -> {
+            Thread thread = new Thread(runnable, "wheel-timer-test");
+            thread.setDaemon(true);
+            return thread;
+        }, 1, TimeUnit.MILLISECONDS, 8);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCreateWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer(Thread::new, 0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer(Thread::new, 1, TimeUnit.MILLISECONDS, 0));
+        assertThrows(NullPointerException.class, () -> timer.newScheduler(null));
+    }
+
+    @Test
+    public void testScheduledTaskRunsOnSchedulerExecutor() throws Exception {
+        final Scheduler scheduler = timer.newScheduler(executor);
+        final Thread executorThread = executor.submit(() -> Thread.currentThread()).get();
+        final AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        Future<String> result = scheduler.schedule(() -> {
+            ranOn.set(Thread.currentThread());
+            return "done";
+        }, 10, TimeUnit.MILLISECONDS);
+
+        assertEquals("done", result.get(5, TimeUnit.SECONDS));
+        assertSame(executorThread, ranOn.get());
+    }
+
+    @Test
+    public void testTaskScheduledBeyondOneWheelRotationRunsAfterDeadline() throws Exception {
+        final Scheduler scheduler = timer.newScheduler(executor);
+        final long start = System.nanoTime();
+        final AtomicReference<Long> elapsed = new AtomicReference<>();
+
+        // The wheel is eight ticks of one millisecond so this spans several rotations
+        Future<?> result = scheduler.schedule(() -> elapsed.set(System.nanoTime() - start), 50, TimeUnit.MILLISECONDS);
+
+        result.get(5, TimeUnit.SECONDS);
+
+        assertTrue(elapsed.get() >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testCancelledTaskDoesNotRun() throws Exception {
+        final Scheduler scheduler = timer.newScheduler(executor);
+        final CountDownLatch ran = new CountDownLatch(1);
+
+        Future<?> cancelled = scheduler.schedule(() -> ran.countDown(), 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(cancelled.cancel(false));
+        assertTrue(cancelled.isCancelled());
+        assertFalse(ran.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testManyTasksRunOnceEach() throws Exception {
+        final Scheduler scheduler = timer.newScheduler(executor);
+        final int count = 10_000;
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(count / 2);
+
+        for (int i = 0; i < count; ++i) {
+            Future<?> task = scheduler.schedule(() -> {
+                runs.incrementAndGet();
+                done.countDown();
+            }, 1 + (i % 25), TimeUnit.MILLISECONDS);
+
+            if (i % 2 == 0) {
+                task.cancel(false);
+            }
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(count / 2, runs.get());
+    }
+
+    @Test
+    public void testFixedRateTaskRepeatsUntilCancelled() throws Exception {
+        final Scheduler scheduler = timer.newScheduler(executor);
+        final CountDownLatch repeated = new CountDownLatch(3);
+        final AtomicInteger runs = new AtomicInteger();
+
+        Future<?> periodic = scheduler.scheduleAtFixedRate(() -> {
+            runs.incrementAndGet();
+            repeated.countDown();
+        }, 1, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(repeated.await(5, TimeUnit.SECONDS));
+        assertTrue(periodic.cancel(false));
+
+        // Let any run that was already handed to the executor complete
+        executor.submit(() -> {}).get();
+        final int total = runs.get();
+
+        Thread.sleep(50);
+
+        assertEquals(total, runs.get());
+    }
+
+    @Test
+    public void testFixedDelayTaskRepeats() throws Exception {
+        final Scheduler scheduler = timer.newScheduler(executor);
+        final CountDownLatch repeated = new CountDownLatch(3);
+
+        Future<?> periodic = scheduler.scheduleWithFixedDelay(() -> repeated.countDown(), 1, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(repeated.await(5, TimeUnit.SECONDS));
+        assertTrue(periodic.cancel(false));
+    }
+
+    @Test
+    public void testPeriodicSchedulingRequiresPositivePeriod() {
+        final Scheduler scheduler = timer.newScheduler(executor);
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.scheduleAtFixedRate(() -> {}, 1, 0, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.scheduleWithFixedDelay(() -> {}, 1, -1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testShutdownCancelsPendingTasksAndRejectsNewOnes() throws Exception {
+        final Scheduler scheduler = timer.newScheduler(executor);
+
+        Future<?> pending = scheduler.schedule(() -> {}, 1, TimeUnit.HOURS);
+
+        assertFalse(scheduler.isShutdown());
+
+        timer.shutdown();
+
+        assertTrue(timer.isShutdown());
+        assertTrue(scheduler.isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> scheduler.schedule(() -> {}, 1, TimeUnit.MILLISECONDS));
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!pending.isCancelled() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    public void testSchedulerReflectsExecutorShutdown() {
+        final Scheduler scheduler = timer.newScheduler(executor);
+
+        assertFalse(scheduler.isShutdown());
+
+        executor.shutdown();
+
+        assertTrue(scheduler.isShutdown());
+    }
+}
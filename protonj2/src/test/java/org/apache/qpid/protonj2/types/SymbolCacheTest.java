@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SymbolCacheTest {
+
+    @Test
+    public void testCreateWithNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SymbolCache<String>(-1));
+    }
+
+    @Test
+    public void testPutAndGet() {
+        final SymbolCache<String> cache = new SymbolCache<>(16);
+        final Symbol symbol = Symbol.valueOf("test");
+
+        assertNull(cache.get("test"));
+        assertNull(cache.putIfAbsent("test", symbol));
+        assertSame(symbol, cache.get("test"));
+        assertSame(symbol, cache.putIfAbsent("test", Symbol.valueOf("other")));
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(0, cache.evictions());
+    }
+
+    @Test
+    public void testZeroCapacityCachesNothing() {
+        final SymbolCache<String> cache = new SymbolCache<>(0);
+
+        assertNull(cache.putIfAbsent("test", Symbol.valueOf("test")));
+        assertNull(cache.get("test"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSizeIsBoundedByCapacity() {
+        final int capacity = 256;
+        final SymbolCache<String> cache = new SymbolCache<>(capacity);
+
+        for (int i = 0; i < capacity * 10; ++i) {
+            cache.putIfAbsent("key-" + i, Symbol.valueOf("value"));
+        }
+
+        assertTrue(cache.size() <= capacity);
+        assertEquals(capacity * 10 - cache.size(), cache.evictions());
+    }
+
+    @Test
+    public void testReferencedEntryGetsSecondChance() {
+        final SymbolCache<String> cache = new SymbolCache<>(4);
+        final Symbol hot = Symbol.valueOf("hot");
+
+        cache.putIfAbsent("hot", hot);
+        cache.putIfAbsent("a", Symbol.valueOf("a"));
+        cache.putIfAbsent("b", Symbol.valueOf("b"));
+        cache.putIfAbsent("c", Symbol.valueOf("c"));
+
+        for (int i = 0; i < 16; ++i) {
+            assertNotNull(cache.get("hot"));
+            cache.putIfAbsent("cold-" + i, Symbol.valueOf("cold"));
+        }
+
+        assertSame(hot, cache.get("hot"));
+        assertEquals(4, cache.size());
+    }
+}
@@ -265,4 +265,66 @@ public class SymbolTest {
         assertFalse(Symbols.contains(null, "four"));
         assertFalse(Symbols.contains(new Symbol[0], "four"));
     }
+
+    @Test
+    public void testCacheMetricsTrackLookups() {
+        final long hits = Symbol.getCacheHits();
+
+        final Symbol symbol1 = Symbol.valueOf("Symbol-Metrics");
+        final Symbol symbol2 = Symbol.valueOf("Symbol-Metrics");
+
+        assertEquals(symbol1, symbol2);
+        assertTrue(Symbol.getCacheHits() > hits);
+        assertTrue(Symbol.getCacheMisses() > 0);
+    }
+
+    @Test
+    public void testFrequentlyLookedUpSymbolIsPromotedToHotSet() {
+        final int hotSetSize = Symbol.getHotSetSize();
+        final Symbol symbol = Symbol.valueOf("Symbol-Frequent");
+
+        for (int i = 0; i < Symbol.HOT_SET_PROMOTION_LOOKUPS; ++i) {
+            assertSame(symbol, Symbol.valueOf("Symbol-Frequent"));
+        }
+
+        assertEquals(hotSetSize + 1, Symbol.getHotSetSize());
+
+        // Churn through enough unique symbols to evict every entry of the bounded caches
+        for (int i = 0; i < Symbol.DEFAULT_SYMBOL_CACHE_CAPACITY * 4; ++i) {
+            Symbol.valueOf("Symbol-Churn-" + i);
+        }
+
+        final byte[] bytes = "Symbol-Frequent".getBytes(StandardCharsets.US_ASCII);
+
+        assertSame(symbol, Symbol.valueOf("Symbol-Frequent"));
+        assertSame(symbol, Symbol.getSymbol(ProtonBufferAllocator.defaultAllocator().copy(bytes)));
+    }
+
+    @Test
+    public void testSymbolsLookedUpOnceAreNotPromotedToHotSet() {
+        final int hotSetSize = Symbol.getHotSetSize();
+
+        for (int i = 0; i < Symbol.DEFAULT_SYMBOL_HOT_SET_CAPACITY * 2; ++i) {
+            Symbol.valueOf("Symbol-Once-" + i);
+        }
+
+        assertEquals(hotSetSize, Symbol.getHotSetSize());
+    }
+
+    @Test
+    public void testUniqueDecodedSymbolsAreBoundedAndStillEqual() {
+        final int count = Symbol.DEFAULT_SYMBOL_CACHE_CAPACITY * 4;
+
+        for (int i = 0; i < count; ++i) {
+            final byte[] bytes = ("unique-symbol-" + i).getBytes(StandardCharsets.US_ASCII);
+            final Symbol decoded = Symbol.getSymbol(ProtonBufferAllocator.defaultAllocator().copy(bytes), true);
+
+            assertEquals("unique-symbol-" + i, decoded.toString());
+        }
+
+        assertTrue(Symbol.getCacheEvictions() > 0);
+
+        final byte[] bytes = "unique-symbol-0".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Symbol.getSymbol(ProtonBufferAllocator.defaultAllocator().copy(bytes)), Symbol.valueOf("unique-symbol-0"));
+    }
 }